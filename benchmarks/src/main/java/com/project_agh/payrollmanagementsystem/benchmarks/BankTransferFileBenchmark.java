@@ -0,0 +1,118 @@
+package com.project_agh.payrollmanagementsystem.benchmarks;
+
+import com.project_agh.payrollmanagementsystem.service.impl.BankTransferWriter;
+import com.project_agh.payrollmanagementsystem.service.impl.ElixirTransferWriter;
+import com.project_agh.payrollmanagementsystem.service.impl.Iban;
+import com.project_agh.payrollmanagementsystem.service.impl.SepaTransferWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the bank transfer file of a payout run of {@value #TRANSFERS} employees, as
+ * {@code BankTransferService} does once the rows are read: every account is normalized and its
+ * IBAN checksum validated, the amount converted to grosze and the transfer written to the file
+ * ({@code elixir} or {@code sepa}), which is discarded.
+ * <p>
+ * One operation is one transfer, so {@value #TRANSFERS} divided by the score is the time of a
+ * whole file in milliseconds. The accounts are entered the way employees type them (the NRB in
+ * groups of four digits, with or without {@code PL}); accounts, names and amounts are drawn from
+ * a fixed seed.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@OperationsPerInvocation(BankTransferFileBenchmark.TRANSFERS)
+public class BankTransferFileBenchmark {
+
+    static final int TRANSFERS = 50_000;
+
+    private static final long SEED = 20260105L;
+    private static final String[] FIRST_NAMES = {"Jan", "Anna", "Piotr", "Katarzyna", "Łukasz", "Małgorzata"};
+    private static final String[] LAST_NAMES = {"Kowalski", "Nowak", "Wiśniewska", "Wójcik", "Kamińska", "Zieliński"};
+
+    @Param({"elixir", "sepa"})
+    public String format;
+
+    private String[] accounts;
+    private String[] names;
+    private BigDecimal[] amounts;
+    private BankTransferWriter.Batch batch;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        accounts = new String[TRANSFERS];
+        names = new String[TRANSFERS];
+        amounts = new BigDecimal[TRANSFERS];
+        long totalMinor = 0;
+        for (int i = 0; i < TRANSFERS; i++) {
+            accounts[i] = randomAccount(random);
+            names[i] = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            amounts[i] = BigDecimal.valueOf(random.nextLong(300_000, 1_500_000), 2);
+            totalMinor += amounts[i].unscaledValue().longValue();
+        }
+        batch = new BankTransferWriter.Batch("WYP-2025-11-20251201010000", LocalDateTime.of(2025, 12, 1, 1, 0),
+                "Firma Sp. z o.o.", "PL61109010140000071219812874", null, "PLN", LocalDate.of(2025, 12, 10),
+                "Wynagrodzenie za 2025-11", TRANSFERS, totalMinor);
+    }
+
+    @Benchmark
+    public void transferFile() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        BankTransferWriter writer = "elixir".equals(format)
+                ? new ElixirTransferWriter(out, batch)
+                : new SepaTransferWriter(out, batch);
+        for (int i = 0; i < TRANSFERS; i++) {
+            String iban = Iban.normalize(accounts[i]);
+            if (!Iban.isValid(iban)) {
+                throw new IllegalStateException("Invalid generated account " + accounts[i]);
+            }
+            writer.transfer(i, names[i], iban, amounts[i].movePointRight(2).longValueExact());
+        }
+        writer.finish();
+    }
+
+    /**
+     * A Polish account number with correct check digits, grouped like on a bank statement.
+     */
+    private static String randomAccount(SplittableRandom random) {
+        StringBuilder bban = new StringBuilder(24);
+        for (int i = 0; i < 24; i++) {
+            bban.append((char) ('0' + random.nextInt(10)));
+        }
+        // PL = 25 21, check digits = 98 - (BBAN + "PL00" as a number) mod 97
+        int check = 98 - new BigInteger(bban + "252100").mod(BigInteger.valueOf(97)).intValue();
+        String nrb = String.format("%02d", check) + bban;
+
+        StringBuilder account = new StringBuilder(random.nextBoolean() ? "PL" : "");
+        account.append(nrb, 0, 2);
+        for (int i = 2; i < nrb.length(); i += 4) {
+            account.append(' ').append(nrb, i, i + 4);
+        }
+        return account.toString();
+    }
+}
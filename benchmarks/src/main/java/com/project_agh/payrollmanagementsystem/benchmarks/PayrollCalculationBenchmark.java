@@ -0,0 +1,103 @@
+package com.project_agh.payrollmanagementsystem.benchmarks;
+
+import com.project_agh.payrollmanagementsystem.service.impl.PayrollCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes monthly payouts with the {@link PayrollCalculator} arithmetic used by the
+ * application-side payroll engine.
+ * <p>
+ * {@code payrollCalculator} follows the engine: the hours of every entry are rounded to
+ * PostgreSQL's division scale, summed and multiplied by the hourly rate.
+ * {@code plainBigDecimal} divides the summed microseconds once, which is cheaper but may differ
+ * from the {@code generuj_wyplaty_za_miesiac} procedure by a grosz; it is kept only as the cost
+ * of the arithmetic without the per-entry rounding. Each operation computes the payout of one
+ * employee with {@code entries} entries in the month; the entries and rates are drawn from a
+ * fixed seed.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@OperationsPerInvocation(PayrollCalculationBenchmark.EMPLOYEES)
+public class PayrollCalculationBenchmark {
+
+    static final int EMPLOYEES = 1000;
+
+    private static final long SEED = 20260105L;
+    private static final BigDecimal MICROS_PER_HOUR = BigDecimal.valueOf(3_600_000_000L);
+
+    @Param({"20", "60"})
+    public int entries;
+
+    private LocalTime[][] startTimes;
+    private LocalTime[][] endTimes;
+    private BigDecimal[] hourlyRates;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        startTimes = new LocalTime[EMPLOYEES][entries];
+        endTimes = new LocalTime[EMPLOYEES][entries];
+        hourlyRates = new BigDecimal[EMPLOYEES];
+        for (int e = 0; e < EMPLOYEES; e++) {
+            for (int i = 0; i < entries; i++) {
+                // Second-precision lengths that mostly do not divide an hour, as logged by the work tab
+                LocalTime start = LocalTime.ofSecondOfDay(random.nextInt(6 * 3600, 10 * 3600));
+                startTimes[e][i] = start;
+                endTimes[e][i] = start.plusSeconds(random.nextInt(1800, 36000));
+            }
+            hourlyRates[e] = BigDecimal.valueOf(random.nextLong(3000, 12000), 2);
+        }
+    }
+
+    @Benchmark
+    public void payrollCalculator(Blackhole blackhole) {
+        for (int e = 0; e < EMPLOYEES; e++) {
+            LocalTime[] starts = startTimes[e];
+            LocalTime[] ends = endTimes[e];
+            BigDecimal totalHours = BigDecimal.ZERO;
+            for (int i = 0; i < starts.length; i++) {
+                long micros = PayrollCalculator.durationMicros(starts[i], ends[i]);
+                totalHours = totalHours.add(PayrollCalculator.hours(micros));
+            }
+            blackhole.consume(PayrollCalculator.amount(totalHours, hourlyRates[e]));
+        }
+    }
+
+    @Benchmark
+    public void plainBigDecimal(Blackhole blackhole) {
+        for (int e = 0; e < EMPLOYEES; e++) {
+            LocalTime[] starts = startTimes[e];
+            LocalTime[] ends = endTimes[e];
+            long totalMicros = 0;
+            for (int i = 0; i < starts.length; i++) {
+                totalMicros += PayrollCalculator.durationMicros(starts[i], ends[i]);
+            }
+            BigDecimal totalHours = BigDecimal.valueOf(totalMicros).divide(MICROS_PER_HOUR, 16, RoundingMode.HALF_UP);
+            blackhole.consume(totalHours.multiply(hourlyRates[e]).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.project_agh.payrollmanagementsystem.benchmarks;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayslipDto;
+import com.project_agh.payrollmanagementsystem.service.impl.PayslipPdfWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders payslips and hashes them, as {@code PayslipService} does for every payout of a run
+ * before storing the PDF under its SHA-256.
+ * <p>
+ * One operation is one payslip, rendered on one thread; the payslips of a run are rendered on
+ * all processors, so a run of {@code n} payouts takes about {@code n / (score * processors)}
+ * milliseconds plus the file writes. Names and amounts are drawn from a fixed seed.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PayslipRenderBenchmark {
+
+    private static final int PAYSLIPS = 1024;
+    private static final long SEED = 20260201L;
+    private static final String[] FIRST_NAMES = {"Jan", "Anna", "Piotr", "Katarzyna", "Łukasz", "Małgorzata"};
+    private static final String[] LAST_NAMES = {"Kowalski", "Nowak", "Wiśniewska", "Wójcik", "Kamińska", "Zieliński"};
+    private static final String[] DEPARTMENTS = {"Księgowość", "Produkcja", "Sprzedaż", "IT"};
+
+    private PayslipDto[] payslips;
+    private MessageDigest digest;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void prepare() throws NoSuchAlgorithmException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        payslips = new PayslipDto[PAYSLIPS];
+        for (int i = 0; i < PAYSLIPS; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            payslips[i] = new PayslipDto(100_000 + i, i, firstName, lastName,
+                    firstName.toLowerCase() + "." + i + "@firma.pl", DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                    "Specjalista", LocalDate.of(2025, 12, 1), BigDecimal.valueOf(random.nextLong(300_000, 1_500_000), 2),
+                    "Wynagrodzenie", "Automatyczna wypłata: 2025-11");
+        }
+        digest = MessageDigest.getInstance("SHA-256");
+    }
+
+    @Benchmark
+    public byte[] renderAndHash() {
+        byte[] pdf = PayslipPdfWriter.render(payslips[next++ & (PAYSLIPS - 1)], "Firma Sp. z o.o.");
+        return digest.digest(pdf);
+    }
+}
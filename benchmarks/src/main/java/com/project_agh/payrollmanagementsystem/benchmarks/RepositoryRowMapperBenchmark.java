@@ -0,0 +1,241 @@
+package com.project_agh.payrollmanagementsystem.benchmarks;
+
+import com.project_agh.payrollmanagementsystem.entities.Payment;
+import com.project_agh.payrollmanagementsystem.entities.SalaryChangeHistory;
+import com.project_agh.payrollmanagementsystem.entities.User;
+import com.project_agh.payrollmanagementsystem.entities.WorkHours;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcPaymentRepository;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcSalaryChangeHistoryRepository;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcUserRepository;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.WorkHoursRowMapperFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Maps synthetic result sets with the row mappers of the JDBC repositories: employees, payments,
+ * work hours and salary changes.
+ * <p>
+ * Every result set has the columns of the repository's main list query
+ * ({@code JdbcUserRepository.FIND_ALL_FULL_SQL}, {@code JdbcPaymentRepository.FIND_ALL_MINE_SQL},
+ * {@code widok_godzin_pracy} and {@code JdbcSalaryChangeHistoryRepository.FIND_ALL_WITH_USERS_SQL})
+ * and its values are drawn from a fixed seed, so two runs map exactly the same rows. The score is
+ * in mapped rows per millisecond; with {@code -prof gc}, {@code gc.alloc.rate.norm} is the number
+ * of bytes allocated per mapped row.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@OperationsPerInvocation(RepositoryRowMapperBenchmark.ROWS)
+public class RepositoryRowMapperBenchmark {
+
+    static final int ROWS = 10_000;
+
+    private static final int POOL_SIZE = 1024;
+    private static final long SEED = 20260105L;
+
+    private static final String[] FIRST_NAMES = {"Jan", "Anna", "Piotr", "Katarzyna", "Tomasz", "Magdalena"};
+    private static final String[] LAST_NAMES = {"Kowalski", "Nowak", "Wiśniewska", "Wójcik", "Kamińska", "Lewandowski"};
+
+    private SyntheticTable users;
+    private SyntheticTable payments;
+    private SyntheticTable workHours;
+    private SyntheticTable salaryChanges;
+
+    private RowMapper<User> userRowMapper;
+    private RowMapper<Payment> paymentRowMapper;
+    private RowMapper<SalaryChangeHistory> salaryChangeHistoryRowMapper;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        // The mappers never touch the template; an unconfigured one is enough to construct the repositories
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        userRowMapper = new JdbcUserRepository(null, jdbcTemplate).getUserRowMapper();
+        paymentRowMapper = new JdbcPaymentRepository(jdbcTemplate, 1000).getPaymentRowMapper();
+        salaryChangeHistoryRowMapper = new JdbcSalaryChangeHistoryRepository(jdbcTemplate).getSalaryChangeHistoryRowMapper();
+
+        users = new SyntheticTable(
+                new String[]{
+                        "id_pracownik", "imie", "nazwisko", "wynagrodzenie_pln_g", "email", "telefon", "haslo_hash",
+                        "data_zatrudnienia", "data_zwolnienia", "aktywny", "konto_bankowe",
+                        "stanowisko_id", "stanowisko_nazwa", "stanowisko_opis", "rola_id", "rola_nazwa",
+                        "dzial_id", "dzial_nazwa", "dzial_opis"
+                },
+                new int[]{
+                        Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                        Types.DATE, Types.DATE, Types.BOOLEAN, Types.VARCHAR,
+                        Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.VARCHAR,
+                        Types.BIGINT, Types.VARCHAR, Types.VARCHAR
+                },
+                (random) -> {
+                    long id = random.nextLong(1, 100_000);
+                    String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String lastname = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    LocalDate hireDate = LocalDate.of(2015, 1, 1).plusDays(random.nextInt(4000));
+                    boolean retired = random.nextInt(10) == 0;
+                    return new Object[]{
+                            id, name, lastname, BigDecimal.valueOf(random.nextLong(3000, 12000), 2),
+                            name.toLowerCase() + "." + id + "@firma.pl", "+48 600 " + random.nextInt(100_000, 999_999),
+                            "$2a$10$" + Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong()),
+                            hireDate, retired ? hireDate.plusDays(random.nextInt(1, 2000)) : null, !retired,
+                            "PL" + random.nextLong(10_000_000_000L, 99_999_999_999L) + random.nextLong(1_000_000_000_000L, 9_999_999_999_999L),
+                            random.nextLong(1, 20), "Stanowisko " + random.nextInt(20), "Opis stanowiska",
+                            random.nextLong(1, 4), "ROLE_USER",
+                            random.nextLong(1, 8), "Dział " + random.nextInt(8), "Opis działu"
+                    };
+                });
+
+        payments = new SyntheticTable(
+                new String[]{
+                        "id_wyplata", "wyplata", "data", "opis",
+                        "id_pracownik", "imie", "nazwisko", "email",
+                        "id_typ_wyplaty", "typ_nazwa", "id_status_wyplaty", "status_nazwa"
+                },
+                new int[]{
+                        Types.BIGINT, Types.NUMERIC, Types.DATE, Types.VARCHAR,
+                        Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                        Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.VARCHAR
+                },
+                (random) -> {
+                    long employeeId = random.nextLong(1, 100_000);
+                    LocalDate date = LocalDate.of(2024, 1, 1).plusMonths(random.nextInt(36));
+                    return new Object[]{
+                            random.nextLong(1, 10_000_000), BigDecimal.valueOf(random.nextLong(300_000, 2_000_000), 2),
+                            date, random.nextInt(4) == 0 ? null : "Wypłata za " + date.getMonth(),
+                            employeeId, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                            LAST_NAMES[random.nextInt(LAST_NAMES.length)], "pracownik." + employeeId + "@firma.pl",
+                            random.nextLong(1, 4), "Wynagrodzenie", random.nextLong(1, 4), "Oczekująca"
+                    };
+                });
+
+        workHours = new SyntheticTable(
+                new String[]{
+                        "id_rejestracji", "id_pracownik", "data", "godzina_rozpoczecia", "godzina_zakonczenia",
+                        "id_typ_pracy", "id_projekt", "komentarz", "zatwierdzenie",
+                        "dzien_tygodnia", "okres_tygodnia", "czas_pracy", "typ_nazwa", "projekt_nazwa"
+                },
+                new int[]{
+                        Types.BIGINT, Types.BIGINT, Types.DATE, Types.TIME, Types.TIME,
+                        Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.BOOLEAN,
+                        Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+                },
+                (random) -> {
+                    LocalDate date = LocalDate.of(2026, 1, 5).plusDays(random.nextInt(365));
+                    LocalTime start = LocalTime.of(random.nextInt(6, 10), random.nextInt(60));
+                    LocalTime end = start.plusMinutes(random.nextInt(60, 600));
+                    boolean withProject = random.nextInt(3) != 0;
+                    return new Object[]{
+                            random.nextLong(1, 10_000_000), random.nextLong(1, 100_000), date, start, end,
+                            random.nextLong(1, 5), withProject ? random.nextLong(1, 50) : null,
+                            random.nextInt(5) == 0 ? null : "Zadanie " + random.nextInt(1000), random.nextBoolean(),
+                            date.getDayOfWeek().toString(), date + " - " + date.plusDays(6), "8h 0min",
+                            "Biuro", withProject ? "Projekt " + random.nextInt(50) : null
+                    };
+                });
+
+        salaryChanges = new SyntheticTable(
+                new String[]{
+                        "id_zmiany_wynagrodzenia", "id_pracownik", "stare_wynagr", "nowe_wynagr", "data", "opis",
+                        "user_name", "user_lastname", "user_email"
+                },
+                new int[]{
+                        Types.BIGINT, Types.BIGINT, Types.NUMERIC, Types.NUMERIC, Types.DATE, Types.VARCHAR,
+                        Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+                },
+                (random) -> {
+                    long employeeId = random.nextLong(1, 100_000);
+                    long oldSalary = random.nextLong(3000, 12000);
+                    return new Object[]{
+                            random.nextLong(1, 1_000_000), employeeId,
+                            BigDecimal.valueOf(oldSalary, 2), BigDecimal.valueOf(oldSalary + random.nextLong(-500, 1500), 2),
+                            LocalDate.of(2015, 1, 1).plusDays(random.nextInt(4000)), null,
+                            FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                            "pracownik." + employeeId + "@firma.pl"
+                    };
+                });
+    }
+
+    private static <T> void map(SyntheticTable table, RowMapper<T> mapper, Blackhole blackhole) throws SQLException {
+        ResultSet rs = table.newResultSet();
+        int rowNum = 0;
+        while (rs.next()) {
+            blackhole.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+
+    @Benchmark
+    public void userRowMapper(Blackhole blackhole) throws SQLException {
+        map(users, userRowMapper, blackhole);
+    }
+
+    @Benchmark
+    public void paymentRowMapper(Blackhole blackhole) throws SQLException {
+        map(payments, paymentRowMapper, blackhole);
+    }
+
+    @Benchmark
+    public void workHoursRowMapper(Blackhole blackhole) throws SQLException {
+        // JdbcWorkHoursRepository creates one mapper per query
+        RowMapper<WorkHours> mapper = WorkHoursRowMapperFactory.newRowMapper();
+        map(workHours, mapper, blackhole);
+    }
+
+    @Benchmark
+    public void salaryChangeHistoryRowMapper(Blackhole blackhole) throws SQLException {
+        map(salaryChanges, salaryChangeHistoryRowMapper, blackhole);
+    }
+
+    /**
+     * Columns of one query and a pool of rows generated from {@link #SEED}.
+     */
+    private static final class SyntheticTable {
+
+        private final String[] columns;
+        private final int[] types;
+        private final Object[][] pool;
+
+        SyntheticTable(String[] columns, int[] types, Function<SplittableRandom, Object[]> rowGenerator) {
+            this.columns = columns;
+            this.types = types;
+            SplittableRandom random = new SplittableRandom(SEED);
+            pool = new Object[POOL_SIZE][];
+            for (int i = 0; i < POOL_SIZE; i++) {
+                pool[i] = rowGenerator.apply(random);
+            }
+        }
+
+        ResultSet newResultSet() {
+            SyntheticResultSet rs = new SyntheticResultSet(pool, ROWS);
+            for (int i = 0; i < columns.length; i++) {
+                rs.addColumn(columns[i], types[i], 0, 0);
+            }
+            return rs;
+        }
+    }
+}
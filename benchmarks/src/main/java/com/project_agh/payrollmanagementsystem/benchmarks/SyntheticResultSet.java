@@ -0,0 +1,100 @@
+package com.project_agh.payrollmanagementsystem.benchmarks;
+
+import org.h2.tools.SimpleResultSet;
+import org.h2.tools.SimpleRowSource;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory {@link java.sql.ResultSet} streaming a fixed number of rows for row mapper benchmarks.
+ * <p>
+ * Rows are taken round-robin from a small pool prepared in advance, so producing a row costs
+ * no allocation and the measured time and allocation belong to the mapper. Dates and times are
+ * stored as {@code java.time} values, as the PostgreSQL driver returns them from
+ * {@code getObject(int, Class)}; the legacy {@code getDate}/{@code getTime}/{@code getTimestamp}
+ * accessors convert them like a driver would, and column labels are resolved through a hash map.
+ * </p>
+ */
+public class SyntheticResultSet extends SimpleResultSet {
+
+    private Map<String, Integer> columnIndexes;
+
+    /**
+     * Creates a result set that returns {@code rows} rows cycling through {@code pool}.
+     * Columns are added by the caller with {@link #addColumn(String, int, int, int)}.
+     *
+     * @param pool the distinct rows, in column order
+     * @param rows the number of rows to return
+     */
+    public SyntheticResultSet(Object[][] pool, int rows) {
+        super(new SimpleRowSource() {
+            private int next;
+
+            @Override
+            public Object[] readRow() {
+                return next < rows ? pool[next++ % pool.length] : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void reset() {
+                next = 0;
+            }
+        });
+    }
+
+    /**
+     * Looks the label up in a hash map like the PostgreSQL driver does; unknown labels throw.
+     */
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        if (columnIndexes == null) {
+            columnIndexes = new HashMap<>();
+            for (int i = getColumnCount(); i >= 1; i--) {
+                columnIndexes.put(getMetaData().getColumnLabel(i), i);
+            }
+        }
+        Integer index = columnIndexes.get(columnLabel);
+        if (index == null) {
+            throw new SQLException("The column name " + columnLabel + " was not found in this ResultSet.", "42703");
+        }
+        return index;
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        return type.cast(getObject(columnIndex));
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        return value == null ? null : Date.valueOf((LocalDate) value);
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        return value == null ? null : Time.valueOf((LocalTime) value);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        Object value = getObject(columnIndex);
+        if (value instanceof LocalDate date) {
+            return Timestamp.valueOf(date.atStartOfDay());
+        }
+        return value == null ? null : Timestamp.valueOf((LocalDateTime) value);
+    }
+}
@@ -0,0 +1,115 @@
+package com.project_agh.payrollmanagementsystem.benchmarks;
+
+import com.project_agh.payrollmanagementsystem.dtos.WeeklyWorkSummaryDto;
+import com.project_agh.payrollmanagementsystem.entities.WorkHours;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the weekly work summary of the dashboard's work tab from already loaded entries.
+ * <p>
+ * {@code durationLoop} is the computation the dashboard controller ran before the summary was
+ * moved to {@code JdbcWorkHoursRepository.summarizeByUserIdAndDateRange}: a {@link Duration}
+ * per entry and a stream of distinct dates. {@code nanoOfDayLoop} is the same arithmetic as the
+ * SQL aggregate ({@code TRUNC} of the minutes of every entry and the count of distinct days of
+ * the week) on primitives. Each operation summarizes the week of one employee with
+ * {@code entries} entries; the weeks are drawn from a fixed seed.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@OperationsPerInvocation(WeeklyMinutesBenchmark.WEEKS)
+public class WeeklyMinutesBenchmark {
+
+    static final int WEEKS = 1000;
+
+    private static final long SEED = 20260105L;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    @Param({"5", "15", "40"})
+    public int entries;
+
+    private LocalDate[] weekStarts;
+    private List<List<WorkHours>> weeks;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        weekStarts = new LocalDate[WEEKS];
+        weeks = new ArrayList<>(WEEKS);
+        for (int w = 0; w < WEEKS; w++) {
+            LocalDate monday = LocalDate.of(2026, 1, 5).plusWeeks(random.nextInt(52));
+            List<WorkHours> week = new ArrayList<>(entries);
+            for (int i = 0; i < entries; i++) {
+                WorkHours wh = new WorkHours();
+                wh.setDate(monday.plusDays(random.nextInt(7)));
+                // Times carry microseconds like the PostgreSQL time type; a few entries are still open
+                LocalTime start = LocalTime.ofNanoOfDay(random.nextLong(6 * 3600L, 10 * 3600L) * 1_000_000_000L
+                        + random.nextInt(1_000_000) * 1000L);
+                wh.setStartTime(start);
+                wh.setEndTime(random.nextInt(20) == 0 ? null : start.plusSeconds(random.nextInt(1800, 36000)));
+                week.add(wh);
+            }
+            weekStarts[w] = monday;
+            weeks.add(week);
+        }
+    }
+
+    @Benchmark
+    public void durationLoop(Blackhole blackhole) {
+        for (List<WorkHours> week : weeks) {
+            double minutes = 0;
+            long daysWorked = week.stream()
+                    .map(WorkHours::getDate)
+                    .distinct()
+                    .count();
+
+            for (WorkHours record : week) {
+                if (record.getStartTime() != null && record.getEndTime() != null) {
+                    minutes += Duration.between(record.getStartTime(), record.getEndTime()).toMinutes();
+                }
+            }
+            blackhole.consume(new WeeklyWorkSummaryDto((long) minutes, daysWorked));
+        }
+    }
+
+    @Benchmark
+    public void nanoOfDayLoop(Blackhole blackhole) {
+        for (int w = 0; w < WEEKS; w++) {
+            long weekStart = weekStarts[w].toEpochDay();
+            long minutes = 0;
+            int daysMask = 0;
+            for (WorkHours record : weeks.get(w)) {
+                daysMask |= 1 << (int) (record.getDate().toEpochDay() - weekStart);
+                if (record.getStartTime() != null && record.getEndTime() != null) {
+                    minutes += (record.getEndTime().toNanoOfDay() - record.getStartTime().toNanoOfDay()) / NANOS_PER_MINUTE;
+                }
+            }
+            blackhole.consume(new WeeklyWorkSummaryDto(minutes, Integer.bitCount(daysMask)));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.project_agh.payrollmanagementsystem.benchmarks;
+
+import com.project_agh.payrollmanagementsystem.entities.Project;
+import com.project_agh.payrollmanagementsystem.entities.User;
+import com.project_agh.payrollmanagementsystem.entities.WorkHours;
+import com.project_agh.payrollmanagementsystem.entities.WorkType;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.WorkHoursRowMapperFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a synthetic result set of work hours with the column-presence-aware mapper of
+ * {@link WorkHoursRowMapperFactory} and with the previous name-based mapper, which probed
+ * optional columns by catching {@link SQLException}.
+ * <p>
+ * {@code VIEW} is the shape of {@code widok_godzin_pracy} joined with the employee's names, where
+ * every optional column is present; {@code TABLE} is the bare {@code rejestracja_godzin_pracy}
+ * row, where six optional columns are missing. One operation maps {@code rows} rows; run with
+ * {@code -prof gc} to get the allocation per operation.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class WorkHoursRowMapperBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+
+    private static final String[] TABLE_COLUMNS = {
+            "id_rejestracji", "id_pracownik", "data", "godzina_rozpoczecia", "godzina_zakonczenia",
+            "id_typ_pracy", "id_projekt", "komentarz", "zatwierdzenie"
+    };
+
+    private static final String[] VIEW_COLUMNS = {
+            "id_rejestracji", "id_pracownik", "data", "godzina_rozpoczecia", "godzina_zakonczenia",
+            "id_typ_pracy", "id_projekt", "komentarz", "zatwierdzenie",
+            "dzien_tygodnia", "okres_tygodnia", "czas_pracy", "typ_nazwa", "projekt_nazwa",
+            "pracownik_imie", "pracownik_nazwisko"
+    };
+
+    private static final int[] VIEW_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.DATE, Types.TIME, Types.TIME,
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.BOOLEAN,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR
+    };
+
+    @Param({"VIEW", "TABLE"})
+    public String shape;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Object[][] pool;
+    private int columns;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        columns = shape.equals("VIEW") ? VIEW_COLUMNS.length : TABLE_COLUMNS.length;
+        pool = new Object[POOL_SIZE][];
+        LocalDate monday = LocalDate.of(2026, 1, 5);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            LocalDate date = monday.plusDays(i % 365);
+            LocalTime start = LocalTime.of(7 + i % 3, (i * 7) % 60);
+            LocalTime end = start.plusHours(4 + i % 5);
+            Object[] row = {
+                    (long) i + 1, (long) (i % 200) + 1, date, start, end,
+                    (long) (i % 4) + 1, (i % 3 == 0) ? null : (long) (i % 12) + 1, (i % 5 == 0) ? null : "Zadanie " + i, i % 2 == 0,
+                    "poniedziałek", date + " - " + date.plusDays(6), "4h 30min", "Biuro", "Projekt " + i % 12,
+                    "Jan", "Kowalski"
+            };
+            Object[] shaped = new Object[columns];
+            System.arraycopy(row, 0, shaped, 0, columns);
+            pool[i] = shaped;
+        }
+    }
+
+    private ResultSet newResultSet() {
+        SyntheticResultSet rs = new SyntheticResultSet(pool, rows);
+        for (int i = 0; i < columns; i++) {
+            rs.addColumn(VIEW_COLUMNS[i], VIEW_TYPES[i], 0, 0);
+        }
+        return rs;
+    }
+
+    private void map(RowMapper<WorkHours> mapper, Blackhole blackhole) throws SQLException {
+        ResultSet rs = newResultSet();
+        int rowNum = 0;
+        while (rs.next()) {
+            blackhole.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+
+    @Benchmark
+    public void columnLayoutMapper(Blackhole blackhole) throws SQLException {
+        map(WorkHoursRowMapperFactory.newRowMapper(), blackhole);
+    }
+
+    @Benchmark
+    public void legacyMapper(Blackhole blackhole) throws SQLException {
+        map(LEGACY_MAPPER, blackhole);
+    }
+
+    /**
+     * The mapper used by {@code JdbcWorkHoursRepository} before {@link WorkHoursRowMapperFactory},
+     * kept as the baseline.
+     */
+    private static final RowMapper<WorkHours> LEGACY_MAPPER = (rs, rowNum) -> {
+        WorkHours wh = new WorkHours();
+        wh.setId(rs.getLong("id_rejestracji"));
+        wh.setDate(rs.getDate("data").toLocalDate());
+        wh.setStartTime(rs.getTime("godzina_rozpoczecia").toLocalTime());
+        wh.setEndTime(rs.getTime("godzina_zakonczenia").toLocalTime());
+        wh.setComment(rs.getString("komentarz"));
+        wh.setApproved(rs.getBoolean("zatwierdzenie"));
+
+        try { wh.setDayOfWeek(rs.getString("dzien_tygodnia")); } catch (SQLException e) {}
+        try { wh.setWeekRange(rs.getString("okres_tygodnia")); } catch (SQLException e) {}
+        try { wh.setWorkedTime(rs.getString("czas_pracy")); } catch (SQLException e) {}
+
+        WorkType wt = new WorkType();
+        wt.setId(rs.getLong("id_typ_pracy"));
+        try { wt.setName(rs.getString("typ_nazwa")); } catch (SQLException e) {}
+        wh.setWorkType(wt);
+
+        Long projId = rs.getObject("id_projekt", Long.class);
+        if (projId != null) {
+            Project p = new Project();
+            p.setId(projId);
+            try { p.setName(rs.getString("projekt_nazwa")); } catch (SQLException e) {}
+            wh.setProject(p);
+        }
+
+        User user = new User();
+        user.setId(rs.getLong("id_pracownik"));
+        try {
+            String imie = rs.getString("pracownik_imie");
+            String nazwisko = rs.getString("pracownik_nazwisko");
+            if (imie != null) user.setName(imie);
+            if (nazwisko != null) user.setLastname(nazwisko);
+        } catch (SQLException e) {
+            try {
+                user.setName(rs.getString("imie"));
+                user.setLastname(rs.getString("nazwisko"));
+            } catch (SQLException ex) {
+            }
+        }
+        wh.setUser(user);
+
+        return wh;
+    };
+}
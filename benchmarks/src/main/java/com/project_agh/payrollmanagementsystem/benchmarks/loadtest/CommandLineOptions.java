@@ -0,0 +1,92 @@
+package com.project_agh.payrollmanagementsystem.benchmarks.loadtest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of the load-test tools, given as {@code --name=value}; a bare {@code --name} is a
+ * flag. Unknown options are rejected, so a typo does not silently fall back to a default.
+ */
+final class CommandLineOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+    private final Set<String> read = new HashSet<>();
+
+    CommandLineOptions(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+    }
+
+    String string(String name, String defaultValue) {
+        read.add(name);
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int integer(String name, int defaultValue) {
+        String value = string(name, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    long longValue(String name, long defaultValue) {
+        String value = string(name, null);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    double decimal(String name, double defaultValue) {
+        String value = string(name, null);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    boolean flag(String name) {
+        return Boolean.parseBoolean(string(name, "false"));
+    }
+
+    LocalDate date(String name, LocalDate defaultValue) {
+        String value = string(name, null);
+        return value == null ? defaultValue : LocalDate.parse(value);
+    }
+
+    /**
+     * Reads a duration given in seconds, or with an {@code ms}, {@code s} or {@code m} suffix.
+     */
+    Duration duration(String name, Duration defaultValue) {
+        String value = string(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * Fails if an option was given that none of the readers asked for.
+     */
+    void rejectUnknown() {
+        Set<String> unknown = new HashSet<>(values.keySet());
+        unknown.removeAll(read);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + unknown);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.project_agh.payrollmanagementsystem.benchmarks.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a synthetic payroll dataset ({@link SyntheticDataset}) into PostgreSQL.
+ * <p>
+ * The target database must contain the application schema (with the scripts of
+ * {@code src/main/resources/db}) and its reference data: roles, positions, departments, work
+ * types, payment types and statuses; projects are optional. The generated employees are added
+ * next to the existing data and recognized by the {@code @loadtest.local} domain of their e-mail
+ * address; {@code --reset} removes them with all their rows first. All employees share the
+ * password given by {@code --password}, hashed once.
+ * </p>
+ * <p>
+ * Rows are streamed with {@code COPY FROM STDIN}, the employees of each thread on a connection of
+ * its own. With {@code --fast} (the default, requires a superuser) the session runs with
+ * {@code session_replication_role = replica}, which skips the audit and statistics triggers and
+ * the foreign key checks during the load; the employee statistics are rebuilt afterwards.
+ * Finally the tables are analyzed. Options:
+ * </p>
+ * <pre>
+ * --db-url=jdbc:postgresql://localhost:5432/payroll  --db-user=postgres  --db-password=
+ * --seed=20260105  --employees=10000  --accountants=20  --months=36  --end=2025-12-31
+ * --password=loadtest  --threads=4  --reset  --fast=false
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    private static final int COPY_BUFFER_CHARS = 1 << 20;
+
+    private static final String EMAIL_PATTERN = "%@" + SyntheticDataset.EMAIL_DOMAIN;
+
+    private static final String COPY_EMPLOYEES_SQL =
+            "COPY pracownik (imie, nazwisko, id_stanowisko, id_rola, id_dzial, wynagrodzenie_pln_g, email, telefon, "
+                    + "haslo_hash, data_zatrudnienia, data_zwolnienia, aktywny) FROM STDIN";
+    private static final String COPY_PROJECT_MEMBERS_SQL =
+            "COPY pracownik_projekt (id_pracownik, id_projekt, rola_w_projekcie, data_przypisania) FROM STDIN";
+    private static final String COPY_WORK_HOURS_SQL =
+            "COPY rejestracja_godzin_pracy (id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia, id_typ_pracy, "
+                    + "id_projekt, komentarz, zatwierdzenie) FROM STDIN";
+    private static final String COPY_PAYOUTS_SQL =
+            "COPY historia_wyplat (id_pracownik, data, wyplata, id_status_wyplaty, opis, id_typ_wyplaty) FROM STDIN";
+
+    private static final String FIND_GENERATED_IDS_SQL =
+            "SELECT id_pracownik, email FROM pracownik WHERE email LIKE ?";
+
+    // Child tables first; tables missing from the schema are skipped
+    private static final String[] GENERATED_ROW_TABLES = {
+            "historia_wyplat", "rejestracja_godzin_pracy", "pracownik_projekt", "historia_zmian_wynagrodzen",
+            "statystyki_pracownika_tydzien", "statystyki_pracownika"};
+
+    private static final String[] ANALYZED_TABLES = {
+            "pracownik", "pracownik_projekt", "rejestracja_godzin_pracy", "historia_wyplat"};
+
+    private final String url;
+    private final String user;
+    private final String databasePassword;
+    private final int employees;
+    private final int threads;
+    private final boolean reset;
+    private final boolean fast;
+    private final String password;
+    private final SyntheticDataset dataset;
+
+    private DatasetGenerator(CommandLineOptions options) {
+        url = options.string("db-url", "jdbc:postgresql://localhost:5432/payroll");
+        user = options.string("db-user", "postgres");
+        databasePassword = options.string("db-password", "");
+        employees = options.integer("employees", SyntheticDataset.DEFAULT_EMPLOYEES);
+        threads = options.integer("threads", Math.min(4, Runtime.getRuntime().availableProcessors()));
+        reset = options.flag("reset");
+        fast = Boolean.parseBoolean(options.string("fast", "true"));
+        password = options.string("password", SyntheticDataset.DEFAULT_PASSWORD);
+        dataset = new SyntheticDataset(
+                options.longValue("seed", SyntheticDataset.DEFAULT_SEED),
+                options.date("end", SyntheticDataset.DEFAULT_END),
+                options.integer("months", SyntheticDataset.DEFAULT_MONTHS),
+                options.integer("accountants", SyntheticDataset.DEFAULT_ACCOUNTANTS));
+        options.rejectUnknown();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DatasetGenerator(new CommandLineOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        long started = System.nanoTime();
+        SyntheticDataset.References references;
+        Map<Integer, Long> ids;
+
+        try (Connection connection = connect()) {
+            if (reset) {
+                long removed = deleteGeneratedEmployees(connection);
+                System.out.println("Removed " + removed + " previously generated employees");
+            } else if (countGenerated(connection) > 0) {
+                throw new IllegalStateException("The database already contains generated employees (@"
+                        + SyntheticDataset.EMAIL_DOMAIN + "); run with --reset to replace them");
+            }
+
+            references = loadReferences(connection);
+            List<SyntheticDataset.Employee> generated = new ArrayList<>(employees);
+            for (int index = 1; index <= employees; index++) {
+                generated.add(dataset.employee(index, references));
+            }
+
+            copyEmployees(connection, generated);
+            ids = findGeneratedIds(connection);
+            if (!references.projectIds().isEmpty()) {
+                copyProjectMembers(connection, generated, ids);
+            }
+            connection.commit();
+            System.out.printf("Loaded %d employees in %d ms%n", employees, elapsedMillis(started));
+
+            long activityStarted = System.nanoTime();
+            long[] counts = copyActivity(generated, ids, references);
+            System.out.printf("Loaded %d work hour entries and %d payouts (%s - %s) in %d ms%n",
+                    counts[0], counts[1], dataset.start(), dataset.end(), elapsedMillis(activityStarted));
+
+            finish(connection);
+        }
+        System.out.printf("Dataset ready in %d s%n", TimeUnit.MILLISECONDS.toSeconds(elapsedMillis(started)));
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, databasePassword);
+        if (fast) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET session_replication_role = replica");
+            }
+        }
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private long countGenerated(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT COUNT(*) FROM pracownik WHERE email LIKE ?")) {
+            ps.setString(1, EMAIL_PATTERN);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private long deleteGeneratedEmployees(Connection connection) throws SQLException {
+        for (String table : GENERATED_ROW_TABLES) {
+            if (tableExists(connection, table)) {
+                try (PreparedStatement ps = connection.prepareStatement("DELETE FROM " + table
+                        + " WHERE id_pracownik IN (SELECT id_pracownik FROM pracownik WHERE email LIKE ?)")) {
+                    ps.setString(1, EMAIL_PATTERN);
+                    ps.executeUpdate();
+                }
+            }
+        }
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM pracownik WHERE email LIKE ?")) {
+            ps.setString(1, EMAIL_PATTERN);
+            int removed = ps.executeUpdate();
+            connection.commit();
+            return removed;
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getBoolean(1);
+            }
+        }
+    }
+
+    private SyntheticDataset.References loadReferences(Connection connection) throws SQLException {
+        Map<String, Long> roles = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id_rola, nazwa FROM rola")) {
+            while (rs.next()) {
+                roles.put(rs.getString(2).toUpperCase().replace("ROLE_", ""), rs.getLong(1));
+            }
+        }
+        Long employeeRole = roles.containsKey("EMPLOYEE") ? roles.get("EMPLOYEE") : roles.get("USER");
+        Long accountantRole = roles.get("ACCOUNTANT");
+        if (employeeRole == null || accountantRole == null) {
+            throw new IllegalStateException("Roles EMPLOYEE (or USER) and ACCOUNTANT are required, found " + roles.keySet());
+        }
+
+        List<Long> paymentStatuses = ids(connection, "SELECT id_status_wyplaty FROM status_wyplaty ORDER BY id_status_wyplaty");
+        Long pendingStatus = firstId(connection, "SELECT id_status_wyplaty FROM status_wyplaty WHERE nazwa = 'Oczekuje'");
+        Long workHoursType = firstId(connection, "SELECT id_typ_wyplaty FROM typ_wyplaty WHERE nazwa = 'Godziny Pracy'");
+        if (paymentStatuses.isEmpty() || pendingStatus == null || workHoursType == null) {
+            throw new IllegalStateException("Payment status 'Oczekuje' and payment type 'Godziny Pracy' are required");
+        }
+        // Settled payouts get the first status other than the pending one
+        long paidStatus = paymentStatuses.stream().filter(id -> !id.equals(pendingStatus)).findFirst().orElse(pendingStatus);
+
+        SyntheticDataset.References references = new SyntheticDataset.References(employeeRole, accountantRole,
+                ids(connection, "SELECT id_stanowisko FROM stanowisko ORDER BY id_stanowisko"),
+                ids(connection, "SELECT id_dzial FROM dzial ORDER BY id_dzial"),
+                ids(connection, "SELECT id_typ_pracy FROM typ_pracy ORDER BY id_typ_pracy"),
+                ids(connection, "SELECT id_projekt FROM projekt ORDER BY id_projekt"),
+                pendingStatus, paidStatus, workHoursType);
+        if (references.positionIds().isEmpty() || references.departmentIds().isEmpty()
+                || references.workTypeIds().isEmpty()) {
+            throw new IllegalStateException("Positions, departments and work types are required");
+        }
+        return references;
+    }
+
+    private static List<Long> ids(Connection connection, String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static Long firstId(Connection connection, String sql) throws SQLException {
+        List<Long> ids = ids(connection, sql);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private void copyEmployees(Connection connection, List<SyntheticDataset.Employee> generated) throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder().encode(password);
+        try (CopyWriter writer = new CopyWriter(connection, COPY_EMPLOYEES_SQL)) {
+            for (SyntheticDataset.Employee employee : generated) {
+                writer.row(employee.firstName(), employee.lastName(), employee.positionId(), employee.roleId(),
+                        employee.departmentId(), employee.hourlyRate(), employee.email(), employee.phone(), passwordHash,
+                        employee.hired(), employee.terminated(), employee.terminated() == null);
+            }
+        }
+    }
+
+    private Map<Integer, Long> findGeneratedIds(Connection connection) throws SQLException {
+        Map<Integer, Long> ids = new HashMap<>(employees * 2);
+        try (PreparedStatement ps = connection.prepareStatement(FIND_GENERATED_IDS_SQL)) {
+            ps.setString(1, EMAIL_PATTERN);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.put(SyntheticDataset.indexOf(rs.getString(2)), rs.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void copyProjectMembers(Connection connection, List<SyntheticDataset.Employee> generated,
+                                           Map<Integer, Long> ids) throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, COPY_PROJECT_MEMBERS_SQL)) {
+            for (SyntheticDataset.Employee employee : generated) {
+                if (employee.projectId() != null) {
+                    writer.row(ids.get(employee.index()), employee.projectId(), "Członek zespołu", employee.hired());
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the work hours and payouts, splitting the employees between the threads.
+     *
+     * @return the number of work hour entries and of payouts
+     */
+    private long[] copyActivity(List<SyntheticDataset.Employee> generated, Map<Integer, Long> ids,
+                                SyntheticDataset.References references) throws Exception {
+        AtomicLong workHours = new AtomicLong();
+        AtomicLong payouts = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> partitions = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                List<SyntheticDataset.Employee> partition = generated.subList(
+                        generated.size() * t / threads, generated.size() * (t + 1) / threads);
+                partitions.add(executor.submit(() -> {
+                    copyActivity(partition, ids, references, workHours, payouts);
+                    return null;
+                }));
+            }
+            for (Future<?> partition : partitions) {
+                partition.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new long[]{workHours.get(), payouts.get()};
+    }
+
+    private void copyActivity(List<SyntheticDataset.Employee> partition, Map<Integer, Long> ids,
+                              SyntheticDataset.References references, AtomicLong workHours, AtomicLong payouts)
+            throws SQLException {
+        try (Connection connection = connect()) {
+            // Payouts are few, so they are kept until the work hours COPY of the connection has ended
+            List<Object[]> payoutRows = new ArrayList<>();
+            try (CopyWriter writer = new CopyWriter(connection, COPY_WORK_HOURS_SQL)) {
+                for (SyntheticDataset.Employee employee : partition) {
+                    long id = ids.get(employee.index());
+                    dataset.activity(employee, references, new SyntheticDataset.ActivitySink() {
+                        @Override
+                        public void workHours(LocalDate date, LocalTime startTime, LocalTime endTime, long workTypeId,
+                                              Long projectId, String comment, boolean approved) {
+                            writer.row(id, date, startTime, endTime, workTypeId, projectId, comment, approved);
+                        }
+
+                        @Override
+                        public void payout(LocalDate date, BigDecimal amount, long statusId, String description,
+                                           long paymentTypeId) {
+                            payoutRows.add(new Object[]{id, date + " 06:00:00", amount, statusId, description, paymentTypeId});
+                        }
+                    });
+                }
+                workHours.addAndGet(writer.rows());
+            }
+            try (CopyWriter writer = new CopyWriter(connection, COPY_PAYOUTS_SQL)) {
+                for (Object[] row : payoutRows) {
+                    writer.row(row);
+                }
+                payouts.addAndGet(writer.rows());
+            }
+            connection.commit();
+        }
+    }
+
+    private void finish(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            // The statistics triggers did not run during the load
+            if (fast && functionExists(connection, "statystyki_pracownika_przebuduj")) {
+                long started = System.nanoTime();
+                statement.execute("SELECT statystyki_pracownika_przebuduj()");
+                System.out.printf("Rebuilt employee statistics in %d ms%n", elapsedMillis(started));
+            }
+            for (String table : ANALYZED_TABLES) {
+                statement.execute("ANALYZE " + table);
+            }
+        }
+    }
+
+    private static boolean functionExists(Connection connection, String function) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT to_regproc(?) IS NOT NULL")) {
+            ps.setString(1, function);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Writes rows to a {@code COPY FROM STDIN} in the text format, buffered.
+     */
+    private static final class CopyWriter implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 4096);
+        private long rows;
+
+        CopyWriter(Connection connection, String sql) throws SQLException {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copyIn = copyManager.copyIn(sql);
+        }
+
+        void row(Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                Object value = values[i];
+                if (value == null) {
+                    buffer.append("\\N");
+                } else if (value instanceof BigDecimal decimal) {
+                    buffer.append(decimal.toPlainString());
+                } else {
+                    // Generated values contain no tabs, newlines or backslashes
+                    buffer.append(value);
+                }
+            }
+            buffer.append('\n');
+            rows++;
+            if (buffer.length() >= COPY_BUFFER_CHARS) {
+                flush();
+            }
+        }
+
+        long rows() {
+            return rows;
+        }
+
+        private void flush() {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            buffer.setLength(0);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new IllegalStateException("COPY failed: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!copyIn.isActive()) {
+                return;
+            }
+            flush();
+            copyIn.endCopy();
+        }
+    }
+}
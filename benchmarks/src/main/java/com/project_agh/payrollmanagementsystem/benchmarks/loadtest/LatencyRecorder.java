@@ -0,0 +1,56 @@
+package com.project_agh.payrollmanagementsystem.benchmarks.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies and errors of the requests to one endpoint, recorded by one virtual user and merged
+ * for the report. Every latency is kept, so the percentiles are exact (nearest rank).
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.nanos[i], true);
+        }
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the latency below or at which the given share of the requests completed.
+     *
+     * @param percentile the share, between 0 and 100
+     * @return the latency in milliseconds, {@code 0} without requests
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(rank, 1) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
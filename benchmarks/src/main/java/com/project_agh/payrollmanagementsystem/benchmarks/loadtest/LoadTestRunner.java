@@ -0,0 +1,318 @@
+package com.project_agh.payrollmanagementsystem.benchmarks.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives a running application loaded with a {@link DatasetGenerator} dataset with concurrent
+ * virtual users and reports the latency percentiles (p50/p95/p99) and the throughput per endpoint.
+ * <p>
+ * Every virtual user runs on a virtual thread, logs in through the login form as one of the
+ * generated employees and then sends requests back to back (or with {@code --think-time} between
+ * them). Most users are employees: they open the work hours tab for a week within the dataset
+ * (55%), page their work history (20%) and log new work hours (25%), dated after the dataset so
+ * the history of the dataset stays as generated. The others ({@code --accountant-share}) are
+ * accountants: they open the salaries section (20%) and page the payment history, unfiltered
+ * (50%) or for one month (30%).
+ * </p>
+ * <p>
+ * Requests sent during {@code --warmup} are not reported. A request counts as failed on a
+ * transport error, an unexpected status or a redirect to the login page; the users log in again
+ * after the latter. Logging work hours redirects to the work hours tab even if the entry was
+ * rejected, so its errors are only visible in the application log. The options describing the
+ * dataset must be those it was generated with. Options:
+ * </p>
+ * <pre>
+ * --base-url=http://localhost:8080  --users=50  --accountant-share=0.1  --warmup=30s  --duration=120s
+ * --think-time=0ms  --seed=20260105  --employees=10000  --accountants=20  --months=36  --end=2025-12-31
+ * --password=loadtest  --work-type-id=1
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private static final int MAX_LOGIN_ATTEMPTS = 5;
+    private static final int PAGE_SIZE = 50;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final String DASHBOARD = "GET /dashboard?tab=work_hours";
+    private static final String WORK_HISTORY = "GET /dashboard/work-history";
+    private static final String CREATE_WORK_HOURS = "POST /work_hours/create";
+    private static final String SALARIES = "GET /dashboard/section/salaries";
+    private static final String PAYMENTS_PAGE = "GET /accountant/payments/page";
+    private static final String PAYMENTS_PAGE_MONTH = "GET /accountant/payments/page?dateFrom&dateTo";
+    private static final String LOGIN = "POST /login";
+
+    private final URI baseUri;
+    private final int users;
+    private final double accountantShare;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration thinkTime;
+    private final long seed;
+    private final int employees;
+    private final int accountants;
+    private final String password;
+    private final long workTypeId;
+    private final SyntheticDataset dataset;
+    private final int oldestWeekOffset;
+    private final int newestWeekOffset;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private LoadTestRunner(CommandLineOptions options) {
+        baseUri = URI.create(options.string("base-url", "http://localhost:8080"));
+        users = options.integer("users", 50);
+        accountantShare = options.decimal("accountant-share", 0.1);
+        warmup = options.duration("warmup", Duration.ofSeconds(30));
+        duration = options.duration("duration", Duration.ofSeconds(120));
+        thinkTime = options.duration("think-time", Duration.ZERO);
+        seed = options.longValue("seed", SyntheticDataset.DEFAULT_SEED);
+        employees = options.integer("employees", SyntheticDataset.DEFAULT_EMPLOYEES);
+        accountants = options.integer("accountants", SyntheticDataset.DEFAULT_ACCOUNTANTS);
+        password = options.string("password", SyntheticDataset.DEFAULT_PASSWORD);
+        workTypeId = options.longValue("work-type-id", 1);
+        dataset = new SyntheticDataset(seed, options.date("end", SyntheticDataset.DEFAULT_END),
+                options.integer("months", SyntheticDataset.DEFAULT_MONTHS), accountants);
+        options.rejectUnknown();
+
+        // The dashboard shows the week weekOffset weeks from the current one
+        LocalDate currentWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        oldestWeekOffset = (int) -ChronoUnit.WEEKS.between(
+                dataset.start().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), currentWeek);
+        newestWeekOffset = (int) Math.min(0, -ChronoUnit.WEEKS.between(
+                dataset.end().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), currentWeek));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(new CommandLineOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        int accountantUsers = Math.min((int) Math.round(users * accountantShare), accountants);
+        System.out.printf("Load test of %s: %d users (%d accountants), warmup %d s, measurement %d s%n",
+                baseUri, users, accountantUsers, warmup.toSeconds(), duration.toSeconds());
+
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        List<Future<Map<String, LatencyRecorder>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                VirtualUser virtualUser = new VirtualUser(user, user < accountantUsers, warmupEnd, end);
+                results.add(executor.submit(virtualUser::run));
+            }
+        }
+
+        Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+        for (String endpoint : List.of(DASHBOARD, WORK_HISTORY, CREATE_WORK_HOURS, SALARIES, PAYMENTS_PAGE,
+                PAYMENTS_PAGE_MONTH, LOGIN)) {
+            merged.put(endpoint, new LatencyRecorder());
+        }
+        for (Future<Map<String, LatencyRecorder>> result : results) {
+            result.get().forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+        }
+        report(merged);
+    }
+
+    private void report(Map<String, LatencyRecorder> recorders) {
+        double seconds = duration.toNanos() / 1e9;
+        LatencyRecorder total = new LatencyRecorder();
+        System.out.printf("%n%-48s %9s %7s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            if (recorder.count() > 0) {
+                printRow(entry.getKey(), recorder, seconds);
+                total.merge(recorder);
+            }
+        }
+        printRow("Total", total, seconds);
+    }
+
+    private static void printRow(String endpoint, LatencyRecorder recorder, double seconds) {
+        System.out.printf("%-48s %9d %7d %9.1f %9.1f %9.1f %9.1f%n", endpoint, recorder.count(), recorder.errors(),
+                recorder.count() / seconds, recorder.percentileMillis(50), recorder.percentileMillis(95),
+                recorder.percentileMillis(99));
+    }
+
+    /**
+     * One simulated user with its own session and random stream.
+     */
+    private final class VirtualUser {
+
+        private final boolean accountant;
+        private final long warmupEnd;
+        private final long end;
+        private final SplittableRandom random;
+        private final Map<String, LatencyRecorder> recorders = new HashMap<>();
+        private String sessionCookie;
+
+        VirtualUser(int number, boolean accountant, long warmupEnd, long end) {
+            this.accountant = accountant;
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+            this.random = new SplittableRandom(seed + number);
+        }
+
+        Map<String, LatencyRecorder> run() throws InterruptedException {
+            while (System.nanoTime() < end) {
+                if (sessionCookie == null && !logIn()) {
+                    System.err.println("Virtual user could not log in after " + MAX_LOGIN_ATTEMPTS + " attempts");
+                    return recorders;
+                }
+                if (accountant) {
+                    accountantRequest();
+                } else {
+                    employeeRequest();
+                }
+                if (!thinkTime.isZero()) {
+                    Thread.sleep(thinkTime);
+                }
+            }
+            return recorders;
+        }
+
+        /**
+         * Logs in as a random generated user of the right role; terminated employees cannot log
+         * in, so another one is tried.
+         */
+        private boolean logIn() {
+            for (int attempt = 0; attempt < MAX_LOGIN_ATTEMPTS; attempt++) {
+                int index = accountant
+                        ? 1 + random.nextInt(accountants)
+                        : accountants + 1 + random.nextInt(employees - accountants);
+                String form = form("email", SyntheticDataset.email(index), "password", password);
+                HttpResponse<Void> response = send(LOGIN, HttpRequest.newBuilder(baseUri.resolve("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form)));
+                if (response != null && response.statusCode() == 302
+                        && response.headers().firstValue("Location").orElse("").endsWith("/dashboard")) {
+                    sessionCookie = response.headers().allValues("Set-Cookie").stream()
+                            .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                            .map(cookie -> cookie.substring(0, cookie.indexOf(';') < 0 ? cookie.length() : cookie.indexOf(';')))
+                            .findFirst().orElse(null);
+                    if (sessionCookie != null) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void employeeRequest() {
+            int choice = random.nextInt(100);
+            if (choice < 55) {
+                int weekOffset = random.nextInt(oldestWeekOffset, newestWeekOffset + 1);
+                get(DASHBOARD, "/dashboard?tab=work_hours&weekOffset=" + weekOffset, 200);
+            } else if (choice < 75) {
+                get(WORK_HISTORY, "/dashboard/work-history", 200);
+            } else {
+                LocalTime start = LocalTime.of(7, 0).plusMinutes(15L * random.nextInt(11));
+                String form = form(
+                        "date", dataset.end().plusDays(1 + random.nextInt(28)).toString(),
+                        "startTime", start.toString(),
+                        "endTime", start.plusHours(8).toString(),
+                        "workTypeId", Long.toString(workTypeId),
+                        "comment", "Test obciążeniowy");
+                HttpResponse<Void> response = send(CREATE_WORK_HOURS, authenticated("/work_hours/create")
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form)), 302);
+                checkSession(response);
+            }
+        }
+
+        private void accountantRequest() {
+            int choice = random.nextInt(100);
+            if (choice < 20) {
+                get(SALARIES, "/dashboard/section/salaries", 200);
+            } else if (choice < 70) {
+                get(PAYMENTS_PAGE, "/accountant/payments/page?size=" + PAGE_SIZE, 200);
+            } else {
+                YearMonth month = YearMonth.from(dataset.start())
+                        .plusMonths(random.nextInt((int) ChronoUnit.MONTHS.between(dataset.start(), dataset.end()) + 1));
+                get(PAYMENTS_PAGE_MONTH, "/accountant/payments/page?size=" + PAGE_SIZE
+                        + "&dateFrom=" + month.atDay(1) + "&dateTo=" + month.atEndOfMonth(), 200);
+            }
+        }
+
+        private void get(String endpoint, String path, int expectedStatus) {
+            checkSession(send(endpoint, authenticated(path).GET(), expectedStatus));
+        }
+
+        private HttpRequest.Builder authenticated(String path) {
+            return HttpRequest.newBuilder(baseUri.resolve(path)).header("Cookie", sessionCookie);
+        }
+
+        /**
+         * Forgets the session when the application redirected to the login page.
+         */
+        private void checkSession(HttpResponse<Void> response) {
+            if (response == null || response.headers().firstValue("Location").orElse("").contains("/login")) {
+                sessionCookie = null;
+            }
+        }
+
+        private HttpResponse<Void> send(String endpoint, HttpRequest.Builder request) {
+            return send(endpoint, request, -1);
+        }
+
+        /**
+         * Sends a request and records its latency after the warmup.
+         *
+         * @return the response, or {@code null} on a transport error
+         */
+        private HttpResponse<Void> send(String endpoint, HttpRequest.Builder request, int expectedStatus) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = null;
+            try {
+                response = client.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                System.err.println(endpoint + " failed: " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            long finished = System.nanoTime();
+            if (start >= warmupEnd && finished <= end) {
+                boolean success = response != null
+                        && (expectedStatus < 0 || response.statusCode() == expectedStatus)
+                        && !response.headers().firstValue("Location").orElse("").contains("/login");
+                recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder())
+                        .record(finished - start, success);
+            }
+            return response;
+        }
+    }
+
+    private static String form(String... namesAndValues) {
+        StringJoiner form = new StringJoiner("&");
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            form.add(namesAndValues[i] + "=" + URLEncoder.encode(namesAndValues[i + 1], StandardCharsets.UTF_8));
+        }
+        return form.toString();
+    }
+}
@@ -0,0 +1,241 @@
+package com.project_agh.payrollmanagementsystem.benchmarks.loadtest;
+
+import com.project_agh.payrollmanagementsystem.service.impl.AutoPayoutService;
+import com.project_agh.payrollmanagementsystem.service.impl.PayrollCalculator;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic payroll data: employees, their work hours and monthly payouts.
+ * <p>
+ * Every employee is drawn from its own random stream derived from the seed and the employee's
+ * index, so the data of one employee does not depend on the number of employees or on the order
+ * in which they are generated, and the loader can split them between threads freely. Employees
+ * are identified by their index (1-based) through their e-mail address; the first
+ * {@code accountants} indices are accountants, the others regular employees.
+ * </p>
+ * <p>
+ * Work hours are logged on weekdays between hiring and termination, with about 5% of the days
+ * off; a day is one entry, or two entries around a lunch break. Entries older than two weeks
+ * before the end of the range are approved, newer ones only partly. Every month except the
+ * last one is paid the way the automatic payout does it: one 'Godziny Pracy' payout per employee
+ * with the month's description, computed by {@link PayrollCalculator} from the approved hours
+ * and dated on the first day of the next month. The latest payouts are still pending.
+ * </p>
+ */
+final class SyntheticDataset {
+
+    static final String EMAIL_DOMAIN = "loadtest.local";
+    static final long DEFAULT_SEED = 20260105L;
+    static final LocalDate DEFAULT_END = LocalDate.of(2025, 12, 31);
+    static final int DEFAULT_EMPLOYEES = 10_000;
+    static final int DEFAULT_ACCOUNTANTS = 20;
+    static final int DEFAULT_MONTHS = 36;
+    static final String DEFAULT_PASSWORD = "loadtest";
+
+    private static final long EMPLOYEE_STREAM = 0;
+    private static final long WORK_HOURS_STREAM = 1;
+
+    private static final String[] FIRST_NAMES_FEMALE = {
+            "Anna", "Maria", "Katarzyna", "Małgorzata", "Agnieszka", "Barbara", "Ewa", "Magdalena",
+            "Joanna", "Aleksandra", "Zofia", "Monika", "Natalia", "Karolina", "Julia", "Paulina"};
+    private static final String[] FIRST_NAMES_MALE = {
+            "Piotr", "Krzysztof", "Tomasz", "Andrzej", "Paweł", "Michał", "Marcin", "Jakub",
+            "Adam", "Łukasz", "Mateusz", "Marek", "Grzegorz", "Kamil", "Wojciech", "Jan"};
+    private static final String[] LAST_NAME_STEMS = {
+            "Nowak", "Kowalsk", "Wiśniewsk", "Wójcik", "Kowalczyk", "Kamińsk", "Lewandowsk", "Zielińsk",
+            "Szymańsk", "Woźniak", "Dąbrowsk", "Kozłowsk", "Jankowsk", "Mazur", "Kwiatkowsk", "Krawczyk"};
+
+    private static final String REMOTE_WORK_COMMENT = "Praca zdalna";
+
+    private final long seed;
+    private final LocalDate start;
+    private final LocalDate end;
+    private final int accountants;
+
+    /**
+     * @param seed        seed of all random streams
+     * @param end         last day of the data
+     * @param months      number of months of work hours and payouts ending with {@code end}
+     * @param accountants number of employees (from index 1) having the accountant role
+     */
+    SyntheticDataset(long seed, LocalDate end, int months, int accountants) {
+        this.seed = seed;
+        this.end = end;
+        this.start = end.plusDays(1).minusMonths(months);
+        this.accountants = accountants;
+    }
+
+    LocalDate start() {
+        return start;
+    }
+
+    LocalDate end() {
+        return end;
+    }
+
+    static String email(int index) {
+        return String.format("pracownik.%05d@%s", index, EMAIL_DOMAIN);
+    }
+
+    static int indexOf(String email) {
+        return Integer.parseInt(email.substring(email.indexOf('.') + 1, email.indexOf('@')));
+    }
+
+    static boolean isAccountant(int index, int accountants) {
+        return index <= accountants;
+    }
+
+    /**
+     * Random stream of one aspect of one employee, independent of all other streams.
+     */
+    private SplittableRandom random(int index, long stream) {
+        return new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L) ^ (stream * 0xC2B2AE3D27D4EB4FL));
+    }
+
+    /**
+     * Draws the master data of one employee.
+     *
+     * @param index      the 1-based index of the employee
+     * @param references IDs of the reference data to choose from
+     * @return the employee
+     */
+    Employee employee(int index, References references) {
+        SplittableRandom random = random(index, EMPLOYEE_STREAM);
+        boolean female = random.nextBoolean();
+        String firstName = pick(random, female ? FIRST_NAMES_FEMALE : FIRST_NAMES_MALE);
+        String stem = pick(random, LAST_NAME_STEMS);
+        String lastName = stem.endsWith("sk") ? stem + (female ? "a" : "i") : stem;
+
+        long rangeDays = ChronoUnit.DAYS.between(start, end);
+        LocalDate hired = random.nextInt(100) < 85
+                ? start.minusDays(random.nextInt(0, 2000))
+                : start.plusDays(random.nextLong(0, rangeDays * 9 / 10));
+        LocalDate terminated = null;
+        if (random.nextInt(100) < 4) {
+            LocalDate earliest = hired.isAfter(start) ? hired.plusDays(60) : start.plusDays(60);
+            if (earliest.isBefore(end)) {
+                terminated = earliest.plusDays(random.nextLong(0, ChronoUnit.DAYS.between(earliest, end)));
+            }
+        }
+
+        return new Employee(index, firstName, lastName,
+                pick(random, references.positionIds()),
+                isAccountant(index, accountants) ? references.accountantRoleId() : references.employeeRoleId(),
+                pick(random, references.departmentIds()),
+                // 30.00 - 140.00 PLN per hour in steps of 0.50
+                BigDecimal.valueOf(random.nextLong(60, 281) * 50, 2),
+                email(index),
+                String.format("5%08d", random.nextInt(100_000_000)),
+                hired, terminated,
+                references.projectIds().isEmpty() ? null : pick(random, references.projectIds()));
+    }
+
+    /**
+     * Generates the work hours and payouts of one employee, in date order.
+     *
+     * @param employee   the employee, as drawn by {@link #employee}
+     * @param references IDs of the reference data to choose from
+     * @param sink       receives the rows
+     */
+    void activity(Employee employee, References references, ActivitySink sink) {
+        SplittableRandom random = random(employee.index(), WORK_HOURS_STREAM);
+        LocalDate first = employee.hired().isAfter(start) ? employee.hired() : start;
+        LocalDate last = employee.terminated() != null && employee.terminated().isBefore(end)
+                ? employee.terminated().minusDays(1) : end;
+        LocalDate approvedUntil = end.minusDays(14);
+        YearMonth lastPaidMonth = YearMonth.from(end).minusMonths(1);
+
+        YearMonth month = YearMonth.from(first);
+        BigDecimal monthHours = BigDecimal.ZERO;
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            if (!YearMonth.from(day).equals(month)) {
+                payMonth(employee, references, month, monthHours, lastPaidMonth, sink);
+                month = YearMonth.from(day);
+                monthHours = BigDecimal.ZERO;
+            }
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY
+                    || random.nextInt(100) < 5) {
+                continue;
+            }
+            boolean approved = !day.isAfter(approvedUntil) || random.nextInt(100) < 30;
+            String comment = random.nextInt(100) < 10 ? REMOTE_WORK_COMMENT : null;
+            Long projectId = employee.projectId() != null && random.nextInt(100) < 70 ? employee.projectId() : null;
+
+            // 7:00 - 9:30 in quarters, 7 - 9 hours of work
+            LocalTime startTime = LocalTime.of(7, 0).plusMinutes(15L * random.nextInt(11));
+            int minutes = 420 + 15 * random.nextInt(9);
+            if (random.nextInt(100) < 20) {
+                int morning = 180 + 15 * random.nextInt(9);
+                LocalTime lunch = startTime.plusMinutes(morning);
+                LocalTime afternoon = lunch.plusMinutes(30);
+                monthHours = monthHours.add(entry(day, startTime, lunch, pick(random, references.workTypeIds()),
+                        projectId, comment, approved, sink));
+                monthHours = monthHours.add(entry(day, afternoon, afternoon.plusMinutes(minutes - morning),
+                        pick(random, references.workTypeIds()), projectId, comment, approved, sink));
+            } else {
+                monthHours = monthHours.add(entry(day, startTime, startTime.plusMinutes(minutes),
+                        pick(random, references.workTypeIds()), projectId, comment, approved, sink));
+            }
+        }
+        payMonth(employee, references, month, monthHours, lastPaidMonth, sink);
+    }
+
+    private static BigDecimal entry(LocalDate day, LocalTime startTime, LocalTime endTime, long workTypeId,
+                                    Long projectId, String comment, boolean approved, ActivitySink sink) {
+        sink.workHours(day, startTime, endTime, workTypeId, projectId, comment, approved);
+        return approved ? PayrollCalculator.hours(PayrollCalculator.durationMicros(startTime, endTime)) : BigDecimal.ZERO;
+    }
+
+    private static void payMonth(Employee employee, References references, YearMonth month, BigDecimal hours,
+                                 YearMonth lastPaidMonth, ActivitySink sink) {
+        if (month.isAfter(lastPaidMonth) || hours.signum() == 0) {
+            return;
+        }
+        long statusId = month.equals(lastPaidMonth) ? references.pendingStatusId() : references.paidStatusId();
+        sink.payout(month.plusMonths(1).atDay(1), PayrollCalculator.amount(hours, employee.hourlyRate()), statusId,
+                AutoPayoutService.payoutDescription(month.atDay(1)), references.workHoursPaymentTypeId());
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * IDs of the reference data present in the target database.
+     */
+    record References(long employeeRoleId, long accountantRoleId, List<Long> positionIds, List<Long> departmentIds,
+                      List<Long> workTypeIds, List<Long> projectIds, long pendingStatusId, long paidStatusId,
+                      long workHoursPaymentTypeId) {
+    }
+
+    /**
+     * Master data of one synthetic employee.
+     */
+    record Employee(int index, String firstName, String lastName, long positionId, long roleId, long departmentId,
+                    BigDecimal hourlyRate, String email, String phone, LocalDate hired, LocalDate terminated,
+                    Long projectId) {
+    }
+
+    /**
+     * Receives the generated activity of one employee.
+     */
+    interface ActivitySink {
+
+        void workHours(LocalDate date, LocalTime startTime, LocalTime endTime, long workTypeId, Long projectId,
+                       String comment, boolean approved);
+
+        void payout(LocalDate date, BigDecimal amount, long statusId, String description, long paymentTypeId);
+    }
+}
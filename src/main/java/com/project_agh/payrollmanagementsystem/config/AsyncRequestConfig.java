@@ -0,0 +1,33 @@
+package com.project_agh.payrollmanagementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configures asynchronous request processing, used by the streamed CSV/XLSX exports.
+ * <p>
+ * Without it, the servlet container ends an asynchronous request after 30 seconds, which would
+ * cut off large exports in the middle. The limit is {@code export.timeout-ms} instead.
+ * </p>
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    private final long timeoutMillis;
+
+    /**
+     * Constructs a new {@code AsyncRequestConfig}.
+     *
+     * @param timeoutMillis longest time in milliseconds an asynchronous request, such as an export, may take
+     */
+    public AsyncRequestConfig(@Value("${export.timeout-ms:3600000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeoutMillis);
+    }
+}
@@ -0,0 +1,69 @@
+package com.project_agh.payrollmanagementsystem.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the in-process caches for reference data and authenticated users.
+ * <p>
+ * Roles, positions, departments, work types, payment types and payment statuses are read on
+ * almost every dashboard render but change only a few times a year. Their {@code findAll()}
+ * results are cached by the JDBC repositories ({@code @Cacheable}) and evicted by the same
+ * repositories' create/edit/delete methods ({@code @CacheEvict}), so every write path that goes
+ * through the application invalidates the cache immediately. The time-to-live only bounds
+ * staleness after changes made directly in the database.
+ * </p>
+ * <p>
+ * The {@value #USERS} cache holds full {@code User} rows keyed by email for the authenticated
+ * user lookups done on every request. It uses a much shorter time-to-live and is evicted by every
+ * user write in the user repository.
+ * </p>
+ * <p>
+ * Statistics are recorded for every cache; with the actuator on the classpath they are published
+ * as the {@code cache.gets} metric tagged {@code result=hit|miss} and {@code cache=<name>}.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ROLES = "roles";
+    public static final String POSITIONS = "positions";
+    public static final String DEPARTMENTS = "departments";
+    public static final String WORK_TYPES = "workTypes";
+    public static final String PAYMENT_TYPES = "paymentTypes";
+    public static final String PAYMENT_STATUSES = "paymentStatuses";
+    public static final String USERS = "usersByEmail";
+
+    /**
+     * Defines the cache manager holding the reference-data and user caches.
+     *
+     * @param ttlMinutes     time after which a cached list is reloaded even without an eviction
+     * @param userTtlSeconds time after which a cached user is reloaded even without an eviction
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${reference-data.cache.ttl-minutes:60}") long ttlMinutes,
+                                     @Value("${users.cache.ttl-seconds:60}") long userTtlSeconds) {
+        // The cache names are fixed here, so a typo in a cache name fails fast
+        // instead of silently creating a new, unmonitored cache
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                ROLES, POSITIONS, DEPARTMENTS, WORK_TYPES, PAYMENT_TYPES, PAYMENT_STATUSES);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats());
+        cacheManager.registerCustomCache(USERS, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(userTtlSeconds))
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,47 @@
+package com.project_agh.payrollmanagementsystem.config;
+
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.InstrumentedJdbcTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Provides the {@link JdbcTemplate} used by all JDBC repositories, instrumented for the
+ * repository metrics and the slow-query log.
+ * <p>
+ * Replaces the template auto-configured by Spring Boot, keeping its {@code spring.jdbc.template.*}
+ * settings. Statements taking at least {@code jdbc.slow-query.threshold-ms} are written to the
+ * slow-query log; {@code 0} logs every statement. The per-method metrics are recorded by
+ * {@code RepositoryMetricsAspect}.
+ * </p>
+ */
+@Configuration
+public class JdbcInstrumentationConfig {
+
+    /**
+     * Defines the instrumented JDBC template.
+     *
+     * @param dataSource      the application's data source
+     * @param properties      the {@code spring.jdbc.template.*} settings
+     * @param slowQueryMillis duration in milliseconds from which a statement is logged as slow
+     * @return the JDBC template
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties properties,
+                                     @Value("${jdbc.slow-query.threshold-ms:500}") long slowQueryMillis) {
+        InstrumentedJdbcTemplate jdbcTemplate = new InstrumentedJdbcTemplate(dataSource, Duration.ofMillis(slowQueryMillis));
+
+        JdbcProperties.Template template = properties.getTemplate();
+        jdbcTemplate.setFetchSize(template.getFetchSize());
+        jdbcTemplate.setMaxRows(template.getMaxRows());
+        if (template.getQueryTimeout() != null) {
+            jdbcTemplate.setQueryTimeout((int) template.getQueryTimeout().getSeconds());
+        }
+        return jdbcTemplate;
+    }
+}
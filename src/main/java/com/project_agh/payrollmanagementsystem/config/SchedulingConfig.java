@@ -0,0 +1,16 @@
+package com.project_agh.payrollmanagementsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the {@code @Scheduled} background jobs, such as the monthly payout run.
+ * <p>
+ * Every application instance runs the schedulers. Jobs that must run only once per cluster take
+ * a database lock through the {@code JobLockRepository}, so the other instances skip them.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -60,6 +60,20 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Allows public access to static resources and specific endpoints
                         .requestMatchers("/images/**","/", "/login", "/css/**", "/js/**").permitAll()
+                        // Operational endpoints (metrics such as cache hit/miss counts) are for administrators only
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        // Bulk import writes work hours of any employee
+                        .requestMatchers("/admin/work_hours/import/**").hasRole("ADMIN")
+                        // Approval queue and bulk approvals
+                        .requestMatchers("/admin/work_hours/approval-queue", "/admin/work_hours/approve/**").hasRole("ADMIN")
+                        // What-if payroll simulations expose the rates of all employees
+                        .requestMatchers("/admin/payroll/simulation/**").hasRole("ADMIN")
+                        // Payment history and bulk payment operations cover the payouts of all employees
+                        .requestMatchers("/accountant/payments/**").hasRole("ACCOUNTANT")
+                        // Exports contain the payments and salaries of all employees
+                        .requestMatchers("/accountant/export/**").hasRole("ACCOUNTANT")
+                        // Transfer files contain the bank accounts of all employees
+                        .requestMatchers("/accountant/bank-transfers/**").hasRole("ACCOUNTANT")
                         // Requires authentication for all other requests
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,62 @@
+package com.project_agh.payrollmanagementsystem.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+/**
+ * Configures file uploads, used by the work hours import.
+ * <p>
+ * The servlet container's defaults (1 MB per file, 10 MB per request) are far below a monthly
+ * time clock export. The limit is {@code work-hours.import.max-file-size} instead; the request
+ * may be larger by the size of the other form fields. Uploads are written to temporary files as
+ * they arrive, so the limit does not affect memory use. These settings replace the
+ * {@code spring.servlet.multipart.*} properties.
+ * </p>
+ * <p>
+ * Uploads are parsed lazily, only when a handler reads a file, so the import is the only
+ * endpoint whose requests are parsed with this limit, and an oversized upload is reported by
+ * that handler (HTTP 413).
+ * </p>
+ */
+@Configuration
+public class UploadConfig {
+
+    /**
+     * Room left in a request for the form fields besides the file.
+     */
+    private static final DataSize FORM_FIELDS_ALLOWANCE = DataSize.ofMegabytes(1);
+
+    /**
+     * Limits of uploaded files and multipart requests.
+     *
+     * @param maxFileSize largest file accepted by the work hours import
+     * @return the multipart configuration of the dispatcher servlet
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            @Value("${work-hours.import.max-file-size:512MB}") DataSize maxFileSize) {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(DataSize.ofBytes(maxFileSize.toBytes() + FORM_FIELDS_ALLOWANCE.toBytes()));
+        factory.setFileSizeThreshold(DataSize.ofBytes(0));
+        return factory.createMultipartConfig();
+    }
+
+    /**
+     * Multipart resolver parsing uploads only when a handler reads them.
+     *
+     * @return the multipart resolver of the dispatcher servlet
+     */
+    @Bean
+    public MultipartResolver multipartResolver() {
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver();
+        resolver.setResolveLazily(true);
+        return resolver;
+    }
+}
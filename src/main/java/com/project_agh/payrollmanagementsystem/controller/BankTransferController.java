@@ -0,0 +1,105 @@
+package com.project_agh.payrollmanagementsystem.controller;
+
+import com.project_agh.payrollmanagementsystem.dtos.BankTransferRequestDto;
+import com.project_agh.payrollmanagementsystem.dtos.BankTransferSummaryDto;
+import com.project_agh.payrollmanagementsystem.service.impl.BankTransferService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Controller generating bank transfer files of the monthly payout runs for accountants.
+ * <p>
+ * The salaries tab first calls {@code /check}, which validates the bank accounts and shows the
+ * number and sum of the transfers (or the payouts that cannot be transferred), and then
+ * downloads the file from {@code /file} with the same parameters. Access is restricted to users
+ * with the {@code ROLE_ACCOUNTANT} authority.
+ * </p>
+ */
+@Controller
+@PreAuthorize("hasRole('ROLE_ACCOUNTANT')")
+@RequestMapping("/accountant/bank-transfers")
+public class BankTransferController {
+
+    private final BankTransferService bankTransferService;
+
+    /**
+     * Constructs a new {@code BankTransferController}.
+     *
+     * @param bankTransferService service generating the transfer files
+     */
+    public BankTransferController(BankTransferService bankTransferService) {
+        this.bankTransferService = bankTransferService;
+    }
+
+    /**
+     * Checks whether the transfer file of a payout run can be generated.
+     *
+     * @param request the payout run and filters
+     * @param format  {@code elixir} (default) or {@code sepa}
+     * @return the summary of the file (HTTP 200) or why it cannot be generated (HTTP 400)
+     */
+    @GetMapping("/check")
+    @ResponseBody
+    public ResponseEntity<BankTransferSummaryDto> check(@ModelAttribute BankTransferRequestDto request,
+                                                        @RequestParam(value = "format", defaultValue = "elixir") String format) {
+        BankTransferSummaryDto summary;
+        try {
+            summary = bankTransferService.check(request, BankTransferService.Format.fromName(format));
+        } catch (IllegalArgumentException e) {
+            summary = new BankTransferSummaryDto(false, e.getMessage(), 0, BigDecimal.ZERO, List.of());
+        }
+        return summary.isValid()
+                ? ResponseEntity.ok(summary)
+                : ResponseEntity.badRequest().body(summary);
+    }
+
+    /**
+     * Downloads the transfer file of a payout run.
+     * <p>
+     * The payouts are checked again first; the file is only streamed if the check passes.
+     * </p>
+     *
+     * @param request the payout run and filters
+     * @param format  {@code elixir} (default) or {@code sepa}
+     * @return the file, streamed
+     */
+    @GetMapping("/file")
+    public ResponseEntity<StreamingResponseBody> file(@ModelAttribute BankTransferRequestDto request,
+                                                      @RequestParam(value = "format", defaultValue = "elixir") String format) {
+        BankTransferService.Format fileFormat;
+        BankTransferSummaryDto summary;
+        try {
+            fileFormat = BankTransferService.Format.fromName(format);
+            summary = bankTransferService.check(request, fileFormat);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (!summary.isValid()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, summary.getMessage());
+        }
+
+        StreamingResponseBody body = out -> bankTransferService.write(request, fileFormat, summary, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("przelewy_" + request.getPeriod() + "." + fileFormat.getExtension())
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(fileFormat.getContentType()))
+                .body(body);
+    }
+}
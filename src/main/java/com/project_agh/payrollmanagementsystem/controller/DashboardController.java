@@ -3,18 +3,24 @@ package com.project_agh.payrollmanagementsystem.controller;
 import com.project_agh.payrollmanagementsystem.dtos.*;
 import com.project_agh.payrollmanagementsystem.entities.EmployeeStats;
 import com.project_agh.payrollmanagementsystem.entities.User;
-import com.project_agh.payrollmanagementsystem.entities.WorkHours;
 import com.project_agh.payrollmanagementsystem.repositories.*;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.project_agh.payrollmanagementsystem.service.impl.CurrentUserService;
+import com.project_agh.payrollmanagementsystem.service.impl.DashboardAssemblyService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Main controller responsible for rendering the application dashboard.
@@ -22,6 +28,8 @@ import java.util.List;
  * This controller aggregates data from various repositories to populate the model
  * with necessary information for different user roles (USER, ADMIN, ACCOUNTANT).
  * It handles logic for displaying statistics, forms, and management lists.
+ * Each tab ("section") is loaded separately: the page renders only the active one and
+ * the others are fetched as HTML fragments when the user opens them.
  * </p>
  */
 @Controller
@@ -39,6 +47,49 @@ public class DashboardController {
     private final PaymentStatusRepository paymentStatusRepository;
     private final SalaryChangeHistoryRepository salaryChangeHistoryRepository;
     private final PaymentRepository paymentRepository;
+    private final PayrollRepository payrollRepository;
+    private final DashboardAssemblyService dashboardAssemblyService;
+    private final CurrentUserService currentUserService;
+
+    /**
+     * Number of entries on one page of the user's work history table.
+     */
+    private static final int WORK_HISTORY_PAGE_SIZE = 50;
+
+    /**
+     * Number of payouts on one page of the accountant's list of pending payouts.
+     */
+    private static final int PAYOUTS_PAGE_SIZE = 50;
+
+    /**
+     * Maps the {@code tab} request parameter (as used in redirects) to the dashboard section containing it.
+     */
+    private static final Map<String, String> TAB_SECTIONS = Map.ofEntries(
+            Map.entry("work_hours", "work"),
+            Map.entry("salary", "my_salary"),
+            Map.entry("salaries", "salaries"),
+            Map.entry("types", "salaries"),
+            Map.entry("statuses", "salaries"),
+            Map.entry("projects", "projects"),
+            Map.entry("work_types", "projects"),
+            Map.entry("approvals", "projects"),
+            Map.entry("management", "management"),
+            Map.entry("roles", "management"),
+            Map.entry("users", "management"),
+            Map.entry("departments", "management"),
+            Map.entry("positions", "management")
+    );
+
+    /**
+     * Thymeleaf fragment rendered for each lazily loaded dashboard section.
+     */
+    private static final Map<String, String> SECTION_FRAGMENTS = Map.of(
+            "work", "fragments/tab-work :: workFragment",
+            "my_salary", "fragments/my_salary :: managementMySalary",
+            "salaries", "fragments/salaries :: managementSalaries",
+            "projects", "fragments/tab-projects :: projectsFragment",
+            "management", "fragments/tab-management :: managementFragment"
+    );
 
     /**
      * Constructs the DashboardController with all necessary repository dependencies.
@@ -56,6 +107,9 @@ public class DashboardController {
      * @param paymentStatusRepository       Repository for PaymentStatus entity operations.
      * @param salaryChangeHistoryRepository Repository for SalaryChangeHistory entity operations.
      * @param paymentRepository             Repository for Payment entity operations.
+     * @param payrollRepository             Repository providing the pending payment status.
+     * @param dashboardAssemblyService      Service loading independent dashboard lists concurrently.
+     * @param currentUserService            Service providing the authenticated user.
      */
     public DashboardController(
             UserRepository userRepository,
@@ -69,7 +123,10 @@ public class DashboardController {
             PaymentTypeRepository paymentTypeRepository,
             PaymentStatusRepository paymentStatusRepository,
             SalaryChangeHistoryRepository salaryChangeHistoryRepository,
-            PaymentRepository paymentRepository
+            PaymentRepository paymentRepository,
+            PayrollRepository payrollRepository,
+            DashboardAssemblyService dashboardAssemblyService,
+            CurrentUserService currentUserService
     ) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
@@ -83,6 +140,9 @@ public class DashboardController {
         this.paymentStatusRepository = paymentStatusRepository;
         this.salaryChangeHistoryRepository = salaryChangeHistoryRepository;
         this.paymentRepository = paymentRepository;
+        this.payrollRepository = payrollRepository;
+        this.dashboardAssemblyService = dashboardAssemblyService;
+        this.currentUserService = currentUserService;
     }
 
     /**
@@ -92,40 +152,178 @@ public class DashboardController {
      * <ul>
      * <li>Authenticates the user and redirects to login if necessary.</li>
      * <li>Loads common data forms (Password change, User info, etc.).</li>
-     * <li>Calculates statistics for the current user based on the selected week offset.</li>
-     * <li>Loads specific data based on the user's role (ADMIN or ACCOUNTANT).</li>
+     * <li>Loads the data of the tab requested via {@code tab} only. All other tabs are rendered
+     * as empty placeholders and fetched on demand from {@link #section}.</li>
      * </ul>
      *
      * @param model      The Spring UI Model used to pass attributes to the view.
      * @param weekOffset An optional integer indicating the offset from the current week (default is 0).
      * Used for pagination of weekly statistics.
      * @param tab        An optional string indicating which tab should be active on load.
+     * @param response   The HTTP response, used to report section timings.
      * @return The name of the Thymeleaf template to render ("dashboard") or a redirect string.
      */
     @GetMapping("/dashboard")
     public String dashboard(Model model,
                             @RequestParam(value = "weekOffset", defaultValue = "0") int weekOffset,
-                            @RequestParam(value = "tab", required = false) String tab) {
+                            @RequestParam(value = "tab", required = false) String tab,
+                            HttpServletResponse response) {
 
-        // Check authentication status
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
+        User user = currentUser();
+        if (user == null) {
             return "redirect:/login";
         }
 
-        // Retrieve authenticated user
-        String userEmail = auth.getName();
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found: " + userEmail));
-
         model.addAttribute("user", user);
 
-        // Add common forms to the model
+        // Add common forms to the model (profile tab, always rendered)
         model.addAttribute("passwordChangeForm", new PasswordChangeDto());
         model.addAttribute("phoneNumberChangeForm", new PhoneNumberDto());
-        model.addAttribute("newUserForm", new CreateUserDto());
         model.addAttribute("AccountChangeForm", new BankAccountDto());
 
+        // Render the requested tab server-side, the remaining ones are loaded lazily
+        String activeSection = (tab != null) ? TAB_SECTIONS.get(tab) : null;
+        if (activeSection != null && !populateSection(activeSection, model, user, weekOffset, response)) {
+            activeSection = null;
+        }
+        model.addAttribute("activeSection", activeSection);
+
+        return "dashboard";
+    }
+
+    /**
+     * Handles GET requests for a single dashboard section.
+     * <p>
+     * Used by the dashboard script to load a tab the first time it is opened. Only the data
+     * needed by that tab is queried and only its Thymeleaf fragment is rendered.
+     * </p>
+     *
+     * @param model      The Spring UI Model used to pass attributes to the fragment.
+     * @param section    The section to render (work, my_salary, salaries, projects or management).
+     * @param weekOffset An optional integer indicating the offset from the current week (default is 0).
+     * @param response   The HTTP response, used to report section timings.
+     * @return The fragment view of the requested section.
+     * @throws ResponseStatusException with 404 for unknown sections, 403 if the user's role
+     *                                 does not grant access to the section
+     */
+    @GetMapping("/dashboard/section/{section}")
+    public String section(Model model,
+                          @PathVariable("section") String section,
+                          @RequestParam(value = "weekOffset", defaultValue = "0") int weekOffset,
+                          HttpServletResponse response) {
+
+        if (!SECTION_FRAGMENTS.containsKey(section)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown dashboard section: " + section);
+        }
+
+        User user = currentUser();
+        if (user == null) {
+            return "redirect:/login";
+        }
+
+        model.addAttribute("user", user);
+        if (!populateSection(section, model, user, weekOffset, response)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        return SECTION_FRAGMENTS.get(section);
+    }
+
+    /**
+     * Handles GET requests for one page of the user's own work history.
+     * <p>
+     * The work hours tab loads its history table separately from the statistics, page by page
+     * ({@value #WORK_HISTORY_PAGE_SIZE} entries, newest first), so the dashboard never reads the
+     * employee's whole history. To request the next (older) page the client passes back the
+     * {@code data-next-after-date} and {@code data-next-after-id} of the rendered page.
+     * Rows are edited through the single edit form of the tab, whose project and work type lists
+     * are rendered once, so a page reads no reference data.
+     * </p>
+     *
+     * @param model     The Spring UI Model used to pass attributes to the fragment.
+     * @param afterDate Date of the last entry of the previous page, absent for the first page.
+     * @param afterId   ID of the last entry of the previous page, absent for the first page.
+     * @return The fragment view of the history page.
+     */
+    @GetMapping("/dashboard/work-history")
+    public String workHistory(Model model,
+                              @RequestParam(value = "afterDate", required = false)
+                              @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate afterDate,
+                              @RequestParam(value = "afterId", required = false) Long afterId) {
+
+        User user = currentUser();
+        if (user == null) {
+            return "redirect:/login";
+        }
+
+        // The edit form with the project and work type lists is rendered once by the work hours tab
+        model.addAttribute("workHistoryPage",
+                workHoursRepository.findHistoryPage(user.getId(), afterDate, afterId, WORK_HISTORY_PAGE_SIZE));
+
+        return "fragments/tab-work :: workHistoryPage";
+    }
+
+    // --- HELPER METHODS ---
+
+    /**
+     * Retrieves the currently authenticated user (served from the user cache on repeated requests).
+     *
+     * @return the authenticated {@link User}, or {@code null} if the request is anonymous
+     */
+    private User currentUser() {
+        return currentUserService.principal()
+                .map(principal -> currentUserService.currentUser()
+                        .orElseThrow(() -> new RuntimeException("Authenticated user not found: " + principal.getUsername())))
+                .orElse(null);
+    }
+
+
+    /**
+     * Adds the data of a single dashboard section to the model.
+     *
+     * @param section    the section identifier (see {@link #SECTION_FRAGMENTS})
+     * @param model      the model to populate
+     * @param user       the authenticated user
+     * @param weekOffset offset from the current week for the weekly statistics
+     * @param response   the HTTP response, used to report section timings
+     * @return {@code false} if the section is unknown or not available for the user's role
+     */
+    private boolean populateSection(String section, Model model, User user, int weekOffset, HttpServletResponse response) {
+        String role = user.getRole().getName();
+
+        switch (section) {
+            case "work" -> addWorkHoursSection(model, user, weekOffset);
+            case "my_salary" -> model.addAttribute("paymentHistoryListForMe", paymentRepository.findAllMine(user.getId()));
+            case "projects" -> {
+                if (!role.equals("ADMIN")) {
+                    return false;
+                }
+                addProjectsSection(model, response);
+            }
+            case "management" -> {
+                if (!role.equals("ADMIN")) {
+                    return false;
+                }
+                addManagementSection(model, response);
+            }
+            case "salaries" -> {
+                if (!role.equals("ACCOUNTANT")) {
+                    return false;
+                }
+                addSalariesSection(model, response);
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Work hours tab: weekly statistics and the entry and edit forms; the history table is loaded page by page
+     * from {@link #workHistory}.
+     */
+    private void addWorkHoursSection(Model model, User user, int weekOffset) {
         // Calculate date range for the selected week
         LocalDate today = LocalDate.now();
         LocalDate selectedDate = today.plusWeeks(weekOffset);
@@ -136,30 +334,11 @@ public class DashboardController {
         model.addAttribute("weekStart", startOfWeek);
         model.addAttribute("weekEnd", endOfWeek);
 
-        // Fetch work hours statistics
-        List<WorkHours> statsRecords = workHoursRepository.findByUserIdAndDateRange(user.getId(), startOfWeek, endOfWeek);
-        List<WorkHours> allHistoryRecords = workHoursRepository.findByUserId(user.getId());
-
-        model.addAttribute("myWorkHoursList", allHistoryRecords);
-
-        // Calculate weekly metrics
-        double currentWeekMinutes = 0;
-        long daysWorkedCount = statsRecords.stream()
-                .map(WorkHours::getDate)
-                .distinct()
-                .count();
-
-        for (WorkHours record : statsRecords) {
-            if (record.getStartTime() != null && record.getEndTime() != null) {
-                currentWeekMinutes += java.time.Duration.between(record.getStartTime(), record.getEndTime()).toMinutes();
-            }
-        }
+        // Weekly metrics are aggregated by the database; the history table is paged from /dashboard/work-history
+        WeeklyWorkSummaryDto weekSummary = workHoursRepository.summarizeByUserIdAndDateRange(user.getId(), startOfWeek, endOfWeek);
 
-        double currentWeekHours = currentWeekMinutes / 60.0;
-        double dailyAverage = (daysWorkedCount == 0) ? 0.0 : currentWeekHours / daysWorkedCount;
-
-        model.addAttribute("sum_per_week", String.format("%.2f h", currentWeekHours));
-        model.addAttribute("avarage_per_day", String.format("%.2f h", dailyAverage));
+        model.addAttribute("sum_per_week", String.format("%.2f h", weekSummary.getTotalHours()));
+        model.addAttribute("avarage_per_day", String.format("%.2f h", weekSummary.getAverageHoursPerDay()));
 
         // Fetch global employee stats
         EmployeeStats globalStats = employeeStatsRepository.findById(user.getId())
@@ -168,44 +347,104 @@ public class DashboardController {
         model.addAttribute("sum_hours", String.format("%.2f h", globalStats.getTotalHours()));
         model.addAttribute("avareage_per_week", String.format("%.2f h", globalStats.getAverageWeeklyHours()));
 
-        // Add standard lists and forms
         model.addAttribute("projectsList", projectRepository.findAll());
         model.addAttribute("workTypesList", workTypeRepository.findAll());
         model.addAttribute("newWorkHoursForm", new WorkHoursDto());
+    }
+
+    /**
+     * Work management tab (ADMIN): projects, work types and pending approvals.
+     */
+    private void addProjectsSection(Model model, HttpServletResponse response) {
+        addAssembled(model, response, Map.of(
+                "projectsList", projectRepository::findAll,
+                "workTypesList", workTypeRepository::findAll,
+                "allUsers", () -> userRepository.findAll(false),
+                "notApprovedUsers", userRepository::findAllNotApproved
+        ));
+        model.addAttribute("newUserInProjectForm", new ProjectUserDto());
+        model.addAttribute("newProjectForm", new ProjectDto());
+        model.addAttribute("newWorkTypeForm", new WorkTypeDto());
+    }
+
+    /**
+     * Company management tab (ADMIN): users, roles, positions and departments.
+     */
+    private void addManagementSection(Model model, HttpServletResponse response) {
+        addAssembled(model, response, Map.of(
+                "rolesList", roleRepository::findAll,
+                "positionsList", positionRepository::findAll,
+                "departmentsList", departmentRepository::findAll,
+                "allUsers", () -> userRepository.findAll(false)
+        ));
+        model.addAttribute("newUserForm", new CreateUserDto());
+        model.addAttribute("newDepartmentForm", new CreateDepartmentDto());
+        model.addAttribute("newPositionForm", new PositionDto());
+        model.addAttribute("newRoleForm", new RoleDto());
+    }
+
+    /**
+     * Payroll management tab (ACCOUNTANT): payments, salary history and payment reference data.
+     * <p>
+     * The list of payouts to process renders only the first page of pending payouts
+     * ({@value #PAYOUTS_PAGE_SIZE}, newest first); older ones are loaded page by page from
+     * {@code /accountant/payments/page} with the cursor of the rendered page.
+     * </p>
+     */
+    private void addSalariesSection(Model model, HttpServletResponse response) {
+        Long pendingStatusId = payrollRepository.findPendingStatusId();
+        addAssembled(model, response, Map.of(
+                "allUsers", () -> userRepository.findAll(false),
+                "WorkHoursList", workHoursRepository::findAll,
+                "paymentTypesList", paymentTypeRepository::findAll,
+                "paymentStatusesList", paymentStatusRepository::findAll,
+                "salaryChangeHistoryList", salaryChangeHistoryRepository::findAll,
+                "pendingPayoutsPage", () -> findPendingPayouts(pendingStatusId),
+                "departmentsList", departmentRepository::findAll
+        ));
+        if (!(model.getAttribute("pendingPayoutsPage") instanceof PaymentPageDto)) {
+            // The page failed to load; render an empty list like the other sections
+            model.addAttribute("pendingPayoutsPage", new PaymentPageDto(Collections.emptyList(), false, null, null));
+        }
+        model.addAttribute("pendingStatusId", pendingStatusId);
         model.addAttribute("newPaymentTypeForm", new PaymentTypeDto());
-        model.addAttribute("allUsers", Collections.emptyList());
-        model.addAttribute("notApprovedUsers", Collections.emptyList());
         model.addAttribute("newPaymentStatusForm", new PaymentStatusDto());
-        model.addAttribute("paymentHistoryListForMe", paymentRepository.findAllMine(user.getId()));
-
-        // Logic specifically for ADMINISTRATORS
-        if (user.getRole().getName().equals("ADMIN")) {
-            model.addAttribute("newUserInProjectForm", new ProjectUserDto());
-            model.addAttribute("rolesList", roleRepository.findAll());
-            model.addAttribute("positionsList", positionRepository.findAll());
-            model.addAttribute("departmentsList", departmentRepository.findAll());
-            model.addAttribute("allUsers", userRepository.findAll());
-            model.addAttribute("notApprovedUsers", userRepository.findAllNotApproved());
-            model.addAttribute("newDepartmentForm", new CreateDepartmentDto());
-            model.addAttribute("newPositionForm", new PositionDto());
-            model.addAttribute("newRoleForm", new RoleDto());
-            model.addAttribute("newProjectForm", new ProjectDto());
-            model.addAttribute("newWorkTypeForm", new WorkTypeDto());
-        }
+    }
 
-        // Logic specifically for ACCOUNTANTS
-        if (user.getRole().getName().equals("ACCOUNTANT")) {
-            model.addAttribute("allUsers", userRepository.findAll());
-            List<WorkHours> allUsersRecords = workHoursRepository.findAll();
-            model.addAttribute("WorkHoursList", allUsersRecords);
-            model.addAttribute("newPaymentStatusForm", new PaymentStatusDto());
-            model.addAttribute("paymentTypesList", paymentTypeRepository.findAll());
-            model.addAttribute("paymentStatusesList", paymentStatusRepository.findAll());
-            model.addAttribute("salaryChangeHistoryList", salaryChangeHistoryRepository.findAll());
-            model.addAttribute("paymentStatusesList", paymentStatusRepository.findAll());
-            model.addAttribute("paymentHistoryList", paymentRepository.findAll());
+    /**
+     * Reads the first page of payouts waiting to be processed.
+     *
+     * @param pendingStatusId ID of the pending payment status
+     * @return the newest pending payouts with the cursor of the next page
+     */
+    private PaymentPageDto findPendingPayouts(Long pendingStatusId) {
+        PaymentFilterDto filter = new PaymentFilterDto();
+        filter.setStatusId(pendingStatusId);
+        return paymentRepository.findPage(filter, PAYOUTS_PAGE_SIZE);
+    }
+
+    /**
+     * Loads independent lists concurrently (see {@link DashboardAssemblyService}) and adds them to the model.
+     * <p>
+     * Per-list timings are reported in the {@code Server-Timing} response header. A list that fails
+     * or times out is rendered empty and reported through the {@code errorMessage} attribute.
+     * </p>
+     *
+     * @param model    the model to populate
+     * @param response the HTTP response receiving the {@code Server-Timing} header
+     * @param loaders  list loaders keyed by model attribute name
+     */
+    private void addAssembled(Model model, HttpServletResponse response, Map<String, Supplier<?>> loaders) {
+        DashboardAssemblyService.Assembly assembly = dashboardAssemblyService.assemble(loaders);
+
+        for (String name : loaders.keySet()) {
+            model.addAttribute(name, assembly.values().getOrDefault(name, Collections.emptyList()));
         }
 
-        return "dashboard";
+        response.setHeader("Server-Timing", assembly.toServerTimingHeader());
+
+        if (!assembly.failures().isEmpty()) {
+            model.addAttribute("errorMessage", "Nie udało się wczytać danych: " + String.join(", ", assembly.failures()));
+        }
     }
-}
\ No newline at end of file
+}
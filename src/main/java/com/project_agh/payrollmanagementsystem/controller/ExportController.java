@@ -0,0 +1,118 @@
+package com.project_agh.payrollmanagementsystem.controller;
+
+import com.project_agh.payrollmanagementsystem.dtos.ExportFilterDto;
+import com.project_agh.payrollmanagementsystem.service.impl.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller serving CSV/XLSX exports of payroll data to accountants.
+ * <p>
+ * Every export accepts the filters of {@link ExportFilterDto} and a {@code format} parameter
+ * ({@code csv}, the default, or {@code xlsx}). The file is streamed to the client while it is
+ * read from the database (see {@link ExportService}) on an asynchronous request, so the
+ * request thread is not held and the length of the export is only limited by
+ * {@code export.timeout-ms}. Access is restricted to users with the {@code ROLE_ACCOUNTANT}
+ * authority.
+ * </p>
+ */
+@Controller
+@PreAuthorize("hasRole('ROLE_ACCOUNTANT')")
+@RequestMapping("/accountant/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Constructs a new {@code ExportController}.
+     *
+     * @param exportService service writing the exports
+     */
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Exports the payment history, filtered by period, department and payment status.
+     *
+     * @param filter the rows to include
+     * @param format {@code csv} or {@code xlsx}
+     * @return the file, streamed
+     */
+    @GetMapping("/payments")
+    public ResponseEntity<StreamingResponseBody> exportPayments(@ModelAttribute ExportFilterDto filter,
+                                                                @RequestParam(value = "format", defaultValue = "csv") String format) {
+        return export(ExportService.Dataset.PAYMENTS, filter, format);
+    }
+
+    /**
+     * Exports the salary change history, filtered by period and department.
+     *
+     * @param filter the rows to include
+     * @param format {@code csv} or {@code xlsx}
+     * @return the file, streamed
+     */
+    @GetMapping("/salary-changes")
+    public ResponseEntity<StreamingResponseBody> exportSalaryChanges(@ModelAttribute ExportFilterDto filter,
+                                                                     @RequestParam(value = "format", defaultValue = "csv") String format) {
+        return export(ExportService.Dataset.SALARY_CHANGES, filter, format);
+    }
+
+    /**
+     * Exports the work hours, filtered by period, department and approval status.
+     *
+     * @param filter the rows to include
+     * @param format {@code csv} or {@code xlsx}
+     * @return the file, streamed
+     */
+    @GetMapping("/work-hours")
+    public ResponseEntity<StreamingResponseBody> exportWorkHours(@ModelAttribute ExportFilterDto filter,
+                                                                 @RequestParam(value = "format", defaultValue = "csv") String format) {
+        return export(ExportService.Dataset.WORK_HOURS, filter, format);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(ExportService.Dataset dataset, ExportFilterDto filter, String format) {
+        ExportService.Format fileFormat;
+        try {
+            fileFormat = ExportService.Format.fromExtension(format);
+            exportService.validate(filter);
+        } catch (IllegalArgumentException e) {
+            // Rejected before streaming starts, while the status can still be set
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        StreamingResponseBody body = out -> exportService.export(dataset, filter, fileFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName(dataset, filter, fileFormat), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(fileFormat.getContentType()))
+                .body(body);
+    }
+
+    /**
+     * File name of an export, e.g. {@code wyplaty_2025-01-01_2025-12-31.xlsx}.
+     */
+    private static String fileName(ExportService.Dataset dataset, ExportFilterDto filter, ExportService.Format format) {
+        StringBuilder name = new StringBuilder(dataset.getFileName());
+        if (filter.getDateFrom() != null || filter.getDateTo() != null) {
+            name.append('_').append(filter.getDateFrom() != null ? filter.getDateFrom() : "")
+                    .append('_').append(filter.getDateTo() != null ? filter.getDateTo() : "");
+        }
+        return name.append('.').append(format.getExtension()).toString();
+    }
+}
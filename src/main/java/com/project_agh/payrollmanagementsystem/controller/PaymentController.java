@@ -1,12 +1,18 @@
 package com.project_agh.payrollmanagementsystem.controller;
 
+import com.project_agh.payrollmanagementsystem.dtos.BulkOperationResultDto;
 import com.project_agh.payrollmanagementsystem.dtos.BulkStatusUpdateDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentFilterDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentPageDto;
 import com.project_agh.payrollmanagementsystem.repositories.PaymentRepository;
+import com.project_agh.payrollmanagementsystem.service.impl.PayslipService;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -23,15 +29,42 @@ import java.util.List;
 @RequestMapping("/accountant/payments")
 public class PaymentController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final PaymentRepository paymentRepository;
+    private final PayslipService payslipService;
 
     /**
      * Constructs a new {@code PaymentController} with the necessary repository.
      *
      * @param paymentRepository the repository used for payment persistence operations
+     * @param payslipService    service removing the stored payslips of deleted payments
      */
-    public PaymentController(PaymentRepository paymentRepository) {
+    public PaymentController(PaymentRepository paymentRepository, PayslipService payslipService) {
         this.paymentRepository = paymentRepository;
+        this.payslipService = payslipService;
+    }
+
+    /**
+     * Returns one page of the payment history as JSON.
+     * <p>
+     * Backs the paged "Historia wszystkich wypłat" table. Filters are optional; to request the next
+     * page the client passes back {@code nextAfterDate} and {@code nextAfterId} of the current one
+     * as {@code afterDate} and {@code afterId}. The page size defaults to {@value #DEFAULT_PAGE_SIZE}
+     * and is capped at {@value #MAX_PAGE_SIZE}.
+     * </p>
+     *
+     * @param filter the filters, keyset cursor and page size
+     * @return the requested page
+     */
+    @GetMapping("/page")
+    @ResponseBody
+    public PaymentPageDto page(@ModelAttribute PaymentFilterDto filter) {
+        int size = (filter.getSize() == null)
+                ? DEFAULT_PAGE_SIZE
+                : Math.min(Math.max(filter.getSize(), 1), MAX_PAGE_SIZE);
+        return paymentRepository.findPage(filter, size);
     }
 
     /**
@@ -49,6 +82,7 @@ public class PaymentController {
     public String deletePayment(@RequestParam("id") Long id, RedirectAttributes redirectAttributes) {
         try {
             paymentRepository.deletePayment(id);
+            payslipService.evict(List.of(id));
             redirectAttributes.addFlashAttribute("successMessage", "Wypłata została usunięta.");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "Błąd usuwania: " + e.getMessage());
@@ -59,9 +93,8 @@ public class PaymentController {
     /**
      * Performs a bulk deletion of multiple payment records.
      * <p>
-     * This method iterates through a list of provided IDs and deletes the corresponding
-     * payments. It handles cases where no IDs are provided and catches exceptions during
-     * the deletion process.
+     * All selected payments are deleted in one atomic, set-based operation. It handles cases
+     * where no IDs are provided and reports how many of the selected payments no longer existed.
      * </p>
      *
      * @param ids                a list of unique identifiers for the payments to be deleted
@@ -76,10 +109,13 @@ public class PaymentController {
         }
 
         try {
-            for (Long id : ids) {
-                paymentRepository.deletePayment(id);
+            BulkOperationResultDto result = paymentRepository.bulkDelete(ids);
+            payslipService.evict(ids);
+            String message = "Usunięto " + result.getAffected() + " pozycji.";
+            if (result.getNotFound() > 0) {
+                message += " Nie znaleziono: " + result.getNotFound() + ".";
             }
-            redirectAttributes.addFlashAttribute("successMessage", "Usunięto " + ids.size() + " pozycji.");
+            redirectAttributes.addFlashAttribute("successMessage", message);
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "Błąd masowego usuwania: " + e.getMessage());
         }
@@ -90,7 +126,8 @@ public class PaymentController {
      * Updates the payment status for multiple records simultaneously.
      * <p>
      * This method accepts a Data Transfer Object containing a list of payment IDs and
-     * the target status ID. It updates each specified payment record to the new status.
+     * the target status ID. All specified payments are updated in one atomic, set-based operation;
+     * payments already in the target status are skipped and reported as unchanged.
      * </p>
      *
      * @param bulkDto            the DTO containing the list of payment IDs and the new status ID
@@ -105,10 +142,15 @@ public class PaymentController {
         }
 
         try {
-            for (Long id : bulkDto.getIds()) {
-                paymentRepository.updateStatus(id, bulkDto.getStatusId());
+            BulkOperationResultDto result = paymentRepository.bulkUpdateStatus(bulkDto.getIds(), bulkDto.getStatusId());
+            String message = "Zaktualizowano statusy dla " + result.getAffected() + " wypłat.";
+            if (result.getUnchanged() > 0) {
+                message += " Bez zmian: " + result.getUnchanged() + ".";
+            }
+            if (result.getNotFound() > 0) {
+                message += " Nie znaleziono: " + result.getNotFound() + ".";
             }
-            redirectAttributes.addFlashAttribute("successMessage", "Zaktualizowano statusy dla " + bulkDto.getIds().size() + " wypłat.");
+            redirectAttributes.addFlashAttribute("successMessage", message);
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "Błąd aktualizacji statusów: " + e.getMessage());
         }
@@ -0,0 +1,55 @@
+package com.project_agh.payrollmanagementsystem.controller;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayrollSimulationRequestDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollSimulationResultDto;
+import com.project_agh.payrollmanagementsystem.service.impl.PayrollSimulationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Controller for what-if simulations of the payroll, used to estimate the budget impact of rate
+ * changes before they are made in the user management.
+ * <p>
+ * Simulations only read historical data (see {@link PayrollSimulationService}).
+ * Access is restricted to users with the {@code ROLE_ADMIN} authority.
+ * </p>
+ */
+@Controller
+@RequestMapping("/admin/payroll/simulation")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class PayrollSimulationController {
+
+    private final PayrollSimulationService payrollSimulationService;
+
+    /**
+     * Constructs a new {@code PayrollSimulationController}.
+     *
+     * @param payrollSimulationService service performing the simulations
+     */
+    public PayrollSimulationController(PayrollSimulationService payrollSimulationService) {
+        this.payrollSimulationService = payrollSimulationService;
+    }
+
+    /**
+     * Runs a simulation and returns the historical and simulated totals per department.
+     *
+     * @param request the simulated months ({@code fromMonth}, {@code toMonth} as {@code yyyy-MM})
+     *                and the hypothetical rates
+     * @return the result of the simulation
+     */
+    @PostMapping
+    @ResponseBody
+    public PayrollSimulationResultDto simulate(@RequestBody PayrollSimulationRequestDto request) {
+        try {
+            return payrollSimulationService.simulate(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.project_agh.payrollmanagementsystem.controller;
+
+import com.project_agh.payrollmanagementsystem.service.impl.CurrentUserService;
+import com.project_agh.payrollmanagementsystem.service.impl.PayslipService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Controller serving employees the PDF payslips of their own payouts.
+ * <p>
+ * Payslips are served from the files stored by {@link PayslipService}, with the SHA-256 of the
+ * PDF as a strong ETag: a browser that has the payslip revalidates it with
+ * {@code If-None-Match} and gets {@code 304 Not Modified}, and {@code Range} requests (download
+ * managers, PDF viewers loading a document in parts) get {@code 206 Partial Content}. A payslip
+ * of another employee's payout is reported as not found.
+ * </p>
+ */
+@Controller
+@RequestMapping("/payslips")
+public class PayslipController {
+
+    private final PayslipService payslipService;
+    private final CurrentUserService currentUserService;
+
+    /**
+     * Constructs a new {@code PayslipController}.
+     *
+     * @param payslipService     service storing the payslips
+     * @param currentUserService service providing the authenticated employee
+     */
+    public PayslipController(PayslipService payslipService, CurrentUserService currentUserService) {
+        this.payslipService = payslipService;
+        this.currentUserService = currentUserService;
+    }
+
+    /**
+     * Returns the payslip of a payout of the authenticated employee.
+     * <p>
+     * Conditional and range requests are answered by Spring MVC from the ETag and the file
+     * resource. A range requested with an {@code If-Range} validator that no longer matches
+     * gets the whole document, as the payslip has changed since the first part was downloaded.
+     * </p>
+     *
+     * @param paymentId the ID of the payout
+     * @param ifRange   the {@code If-Range} header, if any
+     * @return the PDF
+     * @throws IOException if the stored payslip cannot be read
+     */
+    @GetMapping("/{paymentId}")
+    public ResponseEntity<?> payslip(@PathVariable("paymentId") long paymentId,
+                                     @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange)
+            throws IOException {
+        PayslipService.Payslip payslip = payslipService.find(paymentId, currentUserService.currentUserId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Nie znaleziono paska wynagrodzenia."));
+
+        String etag = "\"" + payslip.hash() + "\"";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                // Revalidated on every use, so a payslip removed with its payout is not shown from the cache
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename("pasek_wynagrodzenia_" + paymentId + ".pdf")
+                        .build()
+                        .toString());
+        if (ifRange != null && !ifRange.equals(etag)) {
+            // A byte array body is never split into ranges
+            return response.body(Files.readAllBytes(payslip.file()));
+        }
+        return response.body(new FileSystemResource(payslip.file()));
+    }
+}
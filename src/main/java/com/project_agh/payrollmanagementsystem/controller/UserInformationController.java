@@ -5,8 +5,7 @@ import com.project_agh.payrollmanagementsystem.dtos.PasswordChangeDto;
 import com.project_agh.payrollmanagementsystem.dtos.PhoneNumberDto;
 import com.project_agh.payrollmanagementsystem.entities.User;
 import com.project_agh.payrollmanagementsystem.repositories.UserRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.project_agh.payrollmanagementsystem.service.impl.CurrentUserService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -26,16 +25,20 @@ public class UserInformationController {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CurrentUserService currentUserService;
 
     /**
      * Creates a new {@code UserInformationController} with required dependencies.
      *
-     * @param userRepository  repository for accessing and modifying user data
-     * @param passwordEncoder encoder used for validating and hashing passwords
+     * @param userRepository     repository for accessing and modifying user data
+     * @param passwordEncoder    encoder used for validating and hashing passwords
+     * @param currentUserService service identifying the currently authenticated user
      */
-    public UserInformationController(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserInformationController(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                     CurrentUserService currentUserService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.currentUserService = currentUserService;
     }
 
     /**
@@ -59,9 +62,7 @@ public class UserInformationController {
     @PostMapping("/change_password")
     public String changePassword(@ModelAttribute PasswordChangeDto form, Model model) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        User user = userRepository.findByEmail(email)
+        User user = currentUserService.currentUser()
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Validate current password
@@ -77,8 +78,7 @@ public class UserInformationController {
         }
 
         // Save updated password
-        user.setPassword(passwordEncoder.encode(form.getNewPassword()));
-        userRepository.updatePassword(user.getId(), user.getPassword());
+        userRepository.updatePassword(user.getId(), passwordEncoder.encode(form.getNewPassword()));
 
         model.addAttribute("passwordSuccess", "Hasło zostało zmienione pomyślnie.");
 
@@ -88,8 +88,8 @@ public class UserInformationController {
     /**
      * Processes updating the authenticated user's phone number.
      * <p>
-     * The method retrieves the authenticated user, updates the phone number field,
-     * and persists the change using the repository.
+     * The method identifies the authenticated user from the security principal
+     * and persists the new phone number using the repository.
      * </p>
      *
      * @param form  DTO containing the new phone number
@@ -99,13 +99,7 @@ public class UserInformationController {
     @PostMapping("/change_phone_number")
     public String changePhoneNumber(@ModelAttribute PhoneNumberDto form, Model model) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        user.setPhone_number(form.getPhoneNumber());
-        userRepository.updatePhoneNumber(user.getId(), user.getPhone_number());
+        userRepository.updatePhoneNumber(currentUserService.currentUserId(), form.getPhoneNumber());
 
         return "redirect:/dashboard";
     }
@@ -113,8 +107,8 @@ public class UserInformationController {
     /**
      * Processes the update of the authenticated user's bank account details.
      * <p>
-     * Identifies the current user via the security context, updates their bank account information
-     * based on the provided form data, and persists the change to the database.
+     * Identifies the current user via the security principal and persists their new bank account
+     * information, based on the provided form data, to the database.
      * </p>
      *
      * @param form  DTO containing the new bank account number
@@ -124,13 +118,7 @@ public class UserInformationController {
     @PostMapping("/change_bank_account")
     public String changeBankAccount(@ModelAttribute BankAccountDto form, Model model) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        user.setAccount(form.getAccount());
-        userRepository.updateAccount(user.getId(), user.getAccount());
+        userRepository.updateAccount(currentUserService.currentUserId(), form.getAccount());
 
         return "redirect:/dashboard";
     }
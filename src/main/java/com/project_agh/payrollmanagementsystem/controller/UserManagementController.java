@@ -4,10 +4,9 @@ import com.project_agh.payrollmanagementsystem.dtos.CreateUserDto;
 import com.project_agh.payrollmanagementsystem.entities.User;
 import com.project_agh.payrollmanagementsystem.repositories.SalaryChangeHistoryRepository;
 import com.project_agh.payrollmanagementsystem.repositories.UserRepository;
+import com.project_agh.payrollmanagementsystem.service.impl.CurrentUserService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -52,17 +51,21 @@ public class UserManagementController {
     private final SalaryChangeHistoryRepository salaryChangeHistoryRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CurrentUserService currentUserService;
 
     /**
      * Constructs a controller with required dependencies.
      *
      * @param userRepository repository used for performing user-related database operations
      * @param passwordEncoder encoder used for hashing user passwords
+     * @param currentUserService service identifying the administrator performing the action
      */
-    public UserManagementController(SalaryChangeHistoryRepository salaryChangeHistoryRepository, UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserManagementController(SalaryChangeHistoryRepository salaryChangeHistoryRepository, UserRepository userRepository,
+                                    PasswordEncoder passwordEncoder, CurrentUserService currentUserService) {
         this.salaryChangeHistoryRepository = salaryChangeHistoryRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.currentUserService = currentUserService;
     }
 
     /**
@@ -88,13 +91,7 @@ public class UserManagementController {
             HttpServletRequest request) {
 
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-
-            User currentUser = userRepository.findByEmail(currentUsername)
-                    .orElseThrow(() -> new RuntimeException("Authenticated user not found."));
-
-            Long currentUserId = currentUser.getId();
+            Long currentUserId = currentUserService.currentUserId();
             String clientIp = request.getRemoteAddr();
 
             String hashedPassword = passwordEncoder.encode(newUserForm.getPassword());
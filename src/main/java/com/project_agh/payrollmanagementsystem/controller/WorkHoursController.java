@@ -1,16 +1,30 @@
 package com.project_agh.payrollmanagementsystem.controller;
 
+import com.project_agh.payrollmanagementsystem.dtos.ApprovalQueueFilterDto;
+import com.project_agh.payrollmanagementsystem.dtos.ApprovalResultDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursBatchResultDto;
 import com.project_agh.payrollmanagementsystem.dtos.WorkHoursDto;
-import com.project_agh.payrollmanagementsystem.entities.User;
-import com.project_agh.payrollmanagementsystem.repositories.UserRepository;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursPageDto;
 import com.project_agh.payrollmanagementsystem.repositories.WorkHoursRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.project_agh.payrollmanagementsystem.service.impl.CurrentUserService;
+import com.project_agh.payrollmanagementsystem.service.impl.WorkHoursBatchService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Controller responsible for managing employee work hours.
  * <p>
@@ -22,18 +36,25 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @Controller
 public class WorkHoursController {
 
+    private static final int DEFAULT_QUEUE_PAGE_SIZE = 50;
+    private static final int MAX_QUEUE_PAGE_SIZE = 500;
+
     private final WorkHoursRepository workHoursRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final WorkHoursBatchService workHoursBatchService;
 
     /**
      * Constructs a new {@code WorkHoursController} with the required dependencies.
      *
-     * @param workHoursRepository repository for work hours persistence operations
-     * @param userRepository      repository for user data access (used to fetch the current user)
+     * @param workHoursRepository   repository for work hours persistence operations
+     * @param currentUserService    service identifying the currently authenticated user
+     * @param workHoursBatchService service validating and inserting batch timesheet submissions
      */
-    public WorkHoursController(WorkHoursRepository workHoursRepository, UserRepository userRepository) {
+    public WorkHoursController(WorkHoursRepository workHoursRepository, CurrentUserService currentUserService,
+                               WorkHoursBatchService workHoursBatchService) {
         this.workHoursRepository = workHoursRepository;
-        this.userRepository = userRepository;
+        this.currentUserService = currentUserService;
+        this.workHoursBatchService = workHoursBatchService;
     }
 
     /**
@@ -54,11 +75,8 @@ public class WorkHoursController {
             RedirectAttributes redirectAttributes) {
 
         try {
-            // 1. Retrieve the currently authenticated user
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            String email = auth.getName();
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            // 1. Retrieve the currently authenticated user (from the principal, no database lookup)
+            Long currentUserId = currentUserService.currentUserId();
 
             // 2. Check if a project was selected
             Long projectId = workHoursDto.getProjectId();
@@ -66,7 +84,7 @@ public class WorkHoursController {
             // Logic: Use project-specific method if project ID exists, otherwise use the standard method.
             if (projectId != null) {
                 workHoursRepository.createWorkHoursWithProject(
-                        currentUser.getId(), // Use ID from logged-in user, not DTO
+                        currentUserId, // Use ID from logged-in user, not DTO
                         workHoursDto.getDate(),
                         workHoursDto.getWorkTypeId(),
                         projectId,
@@ -76,7 +94,7 @@ public class WorkHoursController {
                 );
             } else {
                 workHoursRepository.createWorkHours(
-                        currentUser.getId(),
+                        currentUserId,
                         workHoursDto.getDate(),
                         workHoursDto.getWorkTypeId(),
                         workHoursDto.getStartTime(),
@@ -102,6 +120,36 @@ public class WorkHoursController {
         return "redirect:/dashboard?tab=work_hours";
     }
 
+    /**
+     * Handles a batch timesheet submission (e.g. a whole week) sent as a JSON array of entries.
+     * <p>
+     * The entries are always assigned to the currently authenticated user. They are validated
+     * together and inserted in one transaction only if all of them are valid; otherwise nothing
+     * is stored and the response (HTTP 400) describes the problem of every invalid entry, with
+     * the entries numbered from 1. A request with more than
+     * {@value WorkHoursBatchService#MAX_BATCH_SIZE} entries is rejected with HTTP 413, any other
+     * invalid request with HTTP 400.
+     * </p>
+     *
+     * @param entries the work hour entries to log
+     * @return the per-entry results of the submission
+     */
+    @PostMapping("/work_hours/batch")
+    @ResponseBody
+    public ResponseEntity<WorkHoursBatchResultDto> createWorkHoursBatch(@RequestBody List<WorkHoursDto> entries) {
+        WorkHoursBatchResultDto result;
+        try {
+            result = workHoursBatchService.submit(currentUserService.currentUserId(), entries);
+        } catch (WorkHoursBatchService.BatchTooLargeException e) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return result.isSuccess()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.badRequest().body(result);
+    }
+
     /**
      * Handles the modification of an existing work hour entry.
      * <p>
@@ -206,4 +254,79 @@ public class WorkHoursController {
 
         return "redirect:/dashboard?tab=approvals";
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns one page of the approval queue as JSON.
+     * <p>
+     * Only entries that are not approved yet are listed, oldest first. Filters are optional; to
+     * request the next page the client passes back {@code nextAfterDate} and {@code nextAfterId}
+     * of the current one as {@code afterDate} and {@code afterId}. The page size defaults to
+     * {@value #DEFAULT_QUEUE_PAGE_SIZE} and is capped at {@value #MAX_QUEUE_PAGE_SIZE}.
+     * </p>
+     *
+     * @param filter the filters, keyset cursor and page size
+     * @return the requested page of pending entries
+     */
+    @GetMapping("/admin/work_hours/approval-queue")
+    @ResponseBody
+    public WorkHoursPageDto approvalQueue(@ModelAttribute ApprovalQueueFilterDto filter) {
+        int size = (filter.getSize() == null)
+                ? DEFAULT_QUEUE_PAGE_SIZE
+                : Math.min(Math.max(filter.getSize(), 1), MAX_QUEUE_PAGE_SIZE);
+        return workHoursRepository.findPendingPage(filter, size);
+    }
+
+    /**
+     * Approves the selected pending entries with a single set-based update.
+     *
+     * @param ids the IDs of the entries to approve
+     * @return the number of entries approved
+     */
+    @PostMapping("/admin/work_hours/approve/ids")
+    @ResponseBody
+    public ApprovalResultDto approveByIds(@RequestParam(value = "ids", required = false) List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nie wybrano żadnych wpisów.");
+        }
+        int approved = workHoursRepository.approveByIds(ids);
+        return new ApprovalResultDto("Wybrane wpisy (" + ids.size() + ")", approved);
+    }
+
+    /**
+     * Approves all pending entries of one employee, optionally limited to a date range.
+     *
+     * @param userId   the ID of the employee
+     * @param dateFrom the first day of the range (optional)
+     * @param dateTo   the last day of the range (optional)
+     * @return the number of entries approved
+     */
+    @PostMapping("/admin/work_hours/approve/employee")
+    @ResponseBody
+    public ApprovalResultDto approveByEmployee(
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "dateFrom", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate dateFrom,
+            @RequestParam(value = "dateTo", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate dateTo) {
+        int approved = workHoursRepository.approveByUserAndDateRange(userId, dateFrom, dateTo);
+        return new ApprovalResultDto("Pracownik " + userId
+                + (dateFrom != null ? " od " + dateFrom : "")
+                + (dateTo != null ? " do " + dateTo : ""), approved);
+    }
+
+    /**
+     * Approves all pending entries of a department's employees in one week (Monday to Sunday).
+     *
+     * @param departmentId the ID of the department
+     * @param week         any day of the week to approve
+     * @return the number of entries approved
+     */
+    @PostMapping("/admin/work_hours/approve/department")
+    @ResponseBody
+    public ApprovalResultDto approveByDepartment(
+            @RequestParam("departmentId") Long departmentId,
+            @RequestParam("week") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate week) {
+        LocalDate monday = week.with(DayOfWeek.MONDAY);
+        LocalDate sunday = week.with(DayOfWeek.SUNDAY);
+        int approved = workHoursRepository.approveByDepartmentAndDateRange(departmentId, monday, sunday);
+        return new ApprovalResultDto("Dział " + departmentId + ", tydzień " + monday + " – " + sunday, approved);
+    }
+}
@@ -0,0 +1,103 @@
+package com.project_agh.payrollmanagementsystem.controller;
+
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursImportProgressDto;
+import com.project_agh.payrollmanagementsystem.service.impl.WorkHoursImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * Controller for bulk imports of work hours exported by external time clocks.
+ * <p>
+ * An upload starts a background import (see {@link WorkHoursImportService}) and returns
+ * immediately with a job ID; the progress of the import is then polled by that ID. Files larger
+ * than {@code work-hours.import.max-file-size} are rejected with HTTP 413 (see
+ * {@link com.project_agh.payrollmanagementsystem.config.UploadConfig}).
+ * Access is restricted to users with the {@code ROLE_ADMIN} authority.
+ * </p>
+ */
+@Controller
+@RequestMapping("/admin/work_hours/import")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class WorkHoursImportController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkHoursImportController.class);
+
+    private final WorkHoursImportService workHoursImportService;
+    private final DataSize maxFileSize;
+
+    /**
+     * Constructs a new {@code WorkHoursImportController}.
+     *
+     * @param workHoursImportService service performing the imports
+     * @param maxFileSize            largest accepted file, reported when an upload is rejected
+     */
+    public WorkHoursImportController(WorkHoursImportService workHoursImportService,
+                                     @Value("${work-hours.import.max-file-size:512MB}") DataSize maxFileSize) {
+        this.workHoursImportService = workHoursImportService;
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Starts importing an uploaded CSV/TSV file of work hours.
+     *
+     * @param file the uploaded file (multipart field {@code file})
+     * @return HTTP 202 with the initial progress, including the job ID to poll
+     */
+    @PostMapping
+    @ResponseBody
+    public ResponseEntity<WorkHoursImportProgressDto> startImport(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nie przesłano pliku.");
+        }
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(workHoursImportService.start(file));
+        } catch (IOException e) {
+            LOG.error("Error receiving import file {}", file.getOriginalFilename(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Nie udało się odebrać pliku.", e);
+        }
+    }
+
+    /**
+     * Returns the progress of an import.
+     *
+     * @param jobId the job ID returned when the import was started
+     * @return the current progress of the import
+     */
+    @GetMapping("/{jobId}")
+    @ResponseBody
+    public WorkHoursImportProgressDto progress(@PathVariable("jobId") String jobId) {
+        return workHoursImportService.progress(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Nieznany import: " + jobId));
+    }
+
+    /**
+     * Rejects an upload larger than {@code work-hours.import.max-file-size}.
+     *
+     * @param e the exception raised while the upload was read
+     * @return HTTP 413 with the limit
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ProblemDetail> uploadTooLarge(MaxUploadSizeExceededException e) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(ProblemDetail.forStatusAndDetail(
+                HttpStatus.PAYLOAD_TOO_LARGE, "Plik jest za duży, maksymalny rozmiar importu to " + maxFileSize.toMegabytes() + " MB."));
+    }
+}
@@ -0,0 +1,57 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) describing a filtered, keyset-paginated request for the work hours
+ * approval queue.
+ * <p>
+ * The queue only ever contains entries that are not approved yet. All filter fields are optional.
+ * Pages are ordered oldest first and continue after the last row of the previous page
+ * ({@code afterDate}, {@code afterId}).
+ * </p>
+ */
+@Data
+public class ApprovalQueueFilterDto {
+
+    /**
+     * Only entries of this employee.
+     */
+    private Long userId;
+
+    /**
+     * Only entries of employees in this department.
+     */
+    private Long departmentId;
+
+    /**
+     * Only entries on or after this date.
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dateFrom;
+
+    /**
+     * Only entries on or before this date.
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dateTo;
+
+    /**
+     * The date of the last entry on the previous page (null for the first page).
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate afterDate;
+
+    /**
+     * The ID of the last entry on the previous page (null for the first page).
+     */
+    private Long afterId;
+
+    /**
+     * Requested page size.
+     */
+    private Integer size;
+}
@@ -0,0 +1,25 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of a bulk work hours approval.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalResultDto {
+
+    /**
+     * Human-readable description of what was approved (e.g. the employee and date range).
+     */
+    private String scope;
+
+    /**
+     * Number of entries switched from pending to approved. Entries that were already
+     * approved are not counted.
+     */
+    private int approved;
+}
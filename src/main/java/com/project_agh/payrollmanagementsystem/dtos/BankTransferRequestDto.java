@@ -0,0 +1,35 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Data Transfer Object (DTO) selecting the payouts of a bank transfer file.
+ * <p>
+ * A file covers the automatic payouts of one month, as created by the monthly payout run,
+ * optionally only those in one payment status.
+ * </p>
+ */
+@Data
+public class BankTransferRequestDto {
+
+    /**
+     * The paid month, e.g. {@code 2025-11}.
+     */
+    @DateTimeFormat(pattern = "yyyy-MM")
+    private YearMonth period;
+
+    /**
+     * Only payouts in this status (all statuses if null).
+     */
+    private Long statusId;
+
+    /**
+     * Requested execution date of the transfers (today if null).
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate executionDate;
+}
@@ -0,0 +1,77 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing the bank transfer file of a payout run before it is
+ * generated.
+ * <p>
+ * A file is only generated when every selected payout can be transferred. Otherwise
+ * {@code message} says why not and {@code rejected} lists the payouts with unusable bank
+ * accounts, so the accountant can have them corrected first.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankTransferSummaryDto {
+
+    /**
+     * Whether the file can be generated.
+     */
+    private boolean valid;
+
+    /**
+     * Why the file cannot be generated, or {@code null} if it can.
+     */
+    private String message;
+
+    /**
+     * Number of transfers in the file.
+     */
+    private int transfers;
+
+    /**
+     * Sum of the transfers.
+     */
+    private BigDecimal totalAmount;
+
+    /**
+     * Payouts whose bank account cannot be used (at most the first 100).
+     */
+    private List<RejectedTransfer> rejected;
+
+    /**
+     * A payout that cannot be transferred.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedTransfer {
+
+        /**
+         * ID of the payout.
+         */
+        private long paymentId;
+
+        /**
+         * First name and last name of the employee.
+         */
+        private String employee;
+
+        /**
+         * The bank account as entered by the employee.
+         */
+        private String account;
+
+        /**
+         * Why the account cannot be used.
+         */
+        private String reason;
+    }
+}
@@ -0,0 +1,45 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) summarizing the outcome of a bulk operation on payment records.
+ * <p>
+ * Every distinct requested ID ends up in exactly one of the outcome buckets, so
+ * {@code affected + unchanged + notFound == requested}.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResultDto {
+
+    /**
+     * Number of distinct IDs submitted for the operation.
+     */
+    private int requested;
+
+    /**
+     * Number of records actually modified (updated or deleted).
+     */
+    private int affected;
+
+    /**
+     * Number of records left as they were because they already had the requested state.
+     */
+    private int unchanged;
+
+    /**
+     * Number of IDs that did not match any record.
+     */
+    private int notFound;
+
+    /**
+     * The IDs that did not match any record.
+     */
+    private List<Long> notFoundIds;
+}
@@ -0,0 +1,26 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) holding one payout computed by the payroll engine before it is saved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculatedPayoutDto {
+
+    /**
+     * ID of the paid employee.
+     */
+    private Long employeeId;
+
+    /**
+     * Payout amount, rounded to the grosz like the {@code wyplata} column.
+     */
+    private BigDecimal amount;
+}
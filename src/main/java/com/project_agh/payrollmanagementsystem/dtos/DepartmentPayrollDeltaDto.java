@@ -0,0 +1,46 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) comparing a department's simulated payroll with its historical one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentPayrollDeltaDto {
+
+    /**
+     * ID of the department.
+     */
+    private Long departmentId;
+
+    /**
+     * Name of the department.
+     */
+    private String departmentName;
+
+    /**
+     * Number of the department's employees with approved work hours in the simulated range.
+     */
+    private int employees;
+
+    /**
+     * Sum of the monthly payouts at the historical rates.
+     */
+    private BigDecimal baselineTotal;
+
+    /**
+     * Sum of the monthly payouts at the scenario's rates.
+     */
+    private BigDecimal scenarioTotal;
+
+    /**
+     * Difference {@code scenarioTotal - baselineTotal}.
+     */
+    private BigDecimal delta;
+}
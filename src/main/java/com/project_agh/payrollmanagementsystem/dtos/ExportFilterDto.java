@@ -0,0 +1,44 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) describing the rows to include in a CSV/XLSX export.
+ * <p>
+ * All fields are optional; a field that does not apply to the exported data is ignored
+ * ({@code statusId} only filters payments, {@code approved} only work hours).
+ * </p>
+ */
+@Data
+public class ExportFilterDto {
+
+    /**
+     * Only rows dated on or after this date.
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dateFrom;
+
+    /**
+     * Only rows dated on or before this date.
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dateTo;
+
+    /**
+     * Only rows of employees of this department.
+     */
+    private Long departmentId;
+
+    /**
+     * Only payments in this status.
+     */
+    private Long statusId;
+
+    /**
+     * Only approved ({@code true}) or only pending ({@code false}) work hours.
+     */
+    private Boolean approved;
+}
@@ -0,0 +1,62 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) describing a filtered, keyset-paginated request for payment history.
+ * <p>
+ * All filter fields are optional. Pagination uses the position of the last row of the previous
+ * page ({@code afterDate}, {@code afterId}) instead of an offset, so every page costs the same
+ * regardless of how deep into the history it is.
+ * </p>
+ */
+@Data
+public class PaymentFilterDto {
+
+    /**
+     * Only payments of this employee.
+     */
+    private Long userId;
+
+    /**
+     * Only payments in this status.
+     */
+    private Long statusId;
+
+    /**
+     * Only payments of this type.
+     */
+    private Long typeId;
+
+    /**
+     * Only payments on or after this date.
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dateFrom;
+
+    /**
+     * Only payments on or before this date.
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dateTo;
+
+    /**
+     * The {@code data} value of the last payment on the previous page (null for the first page).
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime afterDate;
+
+    /**
+     * The ID of the last payment on the previous page (null for the first page).
+     */
+    private Long afterId;
+
+    /**
+     * Requested page size.
+     */
+    private Integer size;
+}
@@ -0,0 +1,43 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import com.project_agh.payrollmanagementsystem.entities.Payment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing one page of payment history.
+ * <p>
+ * When {@code hasNext} is true, {@code nextAfterDate} and {@code nextAfterId} identify the last
+ * row of this page and are passed back as {@link PaymentFilterDto#getAfterDate()} and
+ * {@link PaymentFilterDto#getAfterId()} to request the following page.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentPageDto {
+
+    /**
+     * The payments on this page, newest first.
+     */
+    private List<Payment> items;
+
+    /**
+     * Whether more payments follow this page.
+     */
+    private boolean hasNext;
+
+    /**
+     * Keyset cursor: {@code data} of the last payment on this page.
+     */
+    private LocalDateTime nextAfterDate;
+
+    /**
+     * Keyset cursor: ID of the last payment on this page.
+     */
+    private Long nextAfterId;
+}
@@ -0,0 +1,71 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) representing one entry of the payout run ledger ({@code przebieg_wyplat}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayoutRunDto {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /**
+     * Identifier of the run.
+     */
+    private Long id;
+
+    /**
+     * First day of the paid period.
+     */
+    private LocalDate periodStart;
+
+    /**
+     * Last day of the paid period.
+     */
+    private LocalDate periodEnd;
+
+    /**
+     * Engine of the latest attempt: {@code procedure} or {@code java}.
+     */
+    private String engine;
+
+    /**
+     * {@code RUNNING}, {@code COMPLETED} or {@code FAILED}. A run left {@code RUNNING} by a crash is resumed.
+     */
+    private String status;
+
+    /**
+     * Number of payouts created by all attempts of the run.
+     */
+    private int payoutsCreated;
+
+    /**
+     * Time the latest attempt started.
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * Time the run completed or failed, {@code null} while it is running.
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * Time the latest checkpoint was recorded.
+     */
+    private LocalDateTime lastCheckpointAt;
+
+    /**
+     * Error message of the latest failed attempt.
+     */
+    private String error;
+}
@@ -0,0 +1,46 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) summarizing one monthly payroll run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunResultDto {
+
+    /**
+     * Engine that performed the run: {@code procedure} or {@code java}.
+     */
+    private String engine;
+
+    /**
+     * First day of the paid period.
+     */
+    private LocalDate periodStart;
+
+    /**
+     * Last day of the paid period.
+     */
+    private LocalDate periodEnd;
+
+    /**
+     * Number of payouts created by the run.
+     */
+    private int payoutsCreated;
+
+    /**
+     * Number of partitions processed (always 1 for the stored procedure).
+     */
+    private int partitions;
+
+    /**
+     * Wall-clock duration of the run in milliseconds.
+     */
+    private long durationMillis;
+}
@@ -0,0 +1,44 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) describing a what-if payroll scenario.
+ * <p>
+ * Rates of employees listed in {@code employeeRates} are replaced for the whole simulated range.
+ * Other employees of departments listed in {@code departmentRaisePercent} get their historical
+ * rate raised (or lowered, for negative values) by the given percentage. Everyone else keeps
+ * their historical rate.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollSimulationRequestDto {
+
+    /**
+     * First simulated month, e.g. {@code 2025-01}.
+     */
+    private YearMonth fromMonth;
+
+    /**
+     * Last simulated month (inclusive).
+     */
+    private YearMonth toMonth;
+
+    /**
+     * Hypothetical hourly rates ({@code wynagrodzenie_pln_g}) keyed by employee ID.
+     */
+    private Map<Long, BigDecimal> employeeRates;
+
+    /**
+     * Percentage rate changes keyed by department ID, e.g. {@code 5} for a 5% raise.
+     */
+    private Map<Long, BigDecimal> departmentRaisePercent;
+}
@@ -0,0 +1,63 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) with the outcome of a payroll simulation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollSimulationResultDto {
+
+    /**
+     * First simulated month.
+     */
+    private YearMonth fromMonth;
+
+    /**
+     * Last simulated month (inclusive).
+     */
+    private YearMonth toMonth;
+
+    /**
+     * Number of employees with approved work hours in the simulated range.
+     */
+    private int employees;
+
+    /**
+     * Number of approved work hour entries read into the snapshot.
+     */
+    private long workEntries;
+
+    /**
+     * Sum of the monthly payouts at the historical rates.
+     */
+    private BigDecimal baselineTotal;
+
+    /**
+     * Sum of the monthly payouts at the scenario's rates.
+     */
+    private BigDecimal scenarioTotal;
+
+    /**
+     * Difference {@code scenarioTotal - baselineTotal}.
+     */
+    private BigDecimal delta;
+
+    /**
+     * Totals per department, ordered by department name.
+     */
+    private List<DepartmentPayrollDeltaDto> departments;
+
+    /**
+     * Wall-clock duration of the simulation in milliseconds.
+     */
+    private long durationMillis;
+}
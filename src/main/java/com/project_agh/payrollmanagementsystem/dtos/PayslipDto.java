@@ -0,0 +1,62 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) holding what is printed on the payslip of one payout.
+ * <p>
+ * The payment status is deliberately not part of it: a payslip states what was paid and to
+ * whom, so a status change does not make the stored PDF stale.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayslipDto {
+
+    /**
+     * ID of the payout.
+     */
+    private long paymentId;
+
+    /**
+     * ID of the employee the payout belongs to.
+     */
+    private long userId;
+
+    private String firstName;
+    private String lastName;
+    private String email;
+
+    /**
+     * Name of the employee's department, may be null.
+     */
+    private String department;
+
+    /**
+     * Name of the employee's position, may be null.
+     */
+    private String position;
+
+    /**
+     * Date of the payout.
+     */
+    private LocalDate date;
+
+    private BigDecimal amount;
+
+    /**
+     * Name of the payment type, may be null.
+     */
+    private String paymentType;
+
+    /**
+     * Description of the payout, may be null.
+     */
+    private String description;
+}
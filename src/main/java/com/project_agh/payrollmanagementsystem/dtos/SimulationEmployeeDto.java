@@ -0,0 +1,36 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) with the employee data needed by the payroll simulation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationEmployeeDto {
+
+    /**
+     * ID of the employee.
+     */
+    private Long employeeId;
+
+    /**
+     * ID of the employee's current department.
+     */
+    private Long departmentId;
+
+    /**
+     * Name of the employee's current department.
+     */
+    private String departmentName;
+
+    /**
+     * The employee's current hourly rate ({@code wynagrodzenie_pln_g}).
+     */
+    private BigDecimal hourlyRate;
+}
@@ -0,0 +1,45 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) summarizing an employee's work hours in a date range (typically one week).
+ * <p>
+ * Computed by the database in a single aggregate query, so the individual entries are never loaded.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyWorkSummaryDto {
+
+    /**
+     * Total worked time in whole minutes; every entry is truncated to full minutes before summing.
+     */
+    private long totalMinutes;
+
+    /**
+     * Number of distinct days with at least one entry.
+     */
+    private long daysWorked;
+
+    /**
+     * Returns the total worked time in hours.
+     *
+     * @return {@code totalMinutes / 60}
+     */
+    public double getTotalHours() {
+        return totalMinutes / 60.0;
+    }
+
+    /**
+     * Returns the average worked time per worked day in hours.
+     *
+     * @return the average, or {@code 0} if no day was worked
+     */
+    public double getAverageHoursPerDay() {
+        return daysWorked == 0 ? 0.0 : getTotalHours() / daysWorked;
+    }
+}
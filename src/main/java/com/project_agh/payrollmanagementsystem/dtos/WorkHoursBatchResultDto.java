@@ -0,0 +1,60 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of a batch timesheet submission.
+ * <p>
+ * A batch is all-or-nothing: entries are only inserted when every one of them is valid.
+ * {@code rows} holds one result per submitted entry, in submission order, so the client
+ * can point the user at the exact entries that need fixing.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkHoursBatchResultDto {
+
+    /**
+     * Whether the batch was accepted and inserted.
+     */
+    private boolean success;
+
+    /**
+     * Number of work hour entries inserted (0 when the batch was rejected).
+     */
+    private int created;
+
+    /**
+     * Per-entry results in submission order.
+     */
+    private List<RowResult> rows;
+
+    /**
+     * Result of a single entry of the batch.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+
+        /**
+         * Number of the entry in the submitted list, counted from 1 as in the error messages.
+         */
+        private int row;
+
+        /**
+         * Whether the entry passed validation.
+         */
+        private boolean valid;
+
+        /**
+         * Validation error, or {@code null} for a valid entry.
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,72 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing the progress of a work hours CSV import.
+ * <p>
+ * Returned when an import is started and when its progress is polled. Counters grow while the
+ * import is {@code RUNNING}; once it is {@code COMPLETED} or {@code FAILED} they are final.
+ * Only the first rejected rows are described in {@code errors}, the total is in {@code rejectedRows}.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkHoursImportProgressDto {
+
+    /**
+     * Identifier of the import, used to poll its progress.
+     */
+    private String jobId;
+
+    /**
+     * Name of the uploaded file.
+     */
+    private String fileName;
+
+    /**
+     * {@code RUNNING}, {@code COMPLETED} or {@code FAILED}.
+     */
+    private String status;
+
+    /**
+     * Number of data rows read so far.
+     */
+    private long processedRows;
+
+    /**
+     * Number of rows inserted so far.
+     */
+    private long importedRows;
+
+    /**
+     * Number of rows rejected so far (invalid data or a failed insert).
+     */
+    private long rejectedRows;
+
+    /**
+     * Average throughput since the start of the import, in rows per second.
+     */
+    private long rowsPerSecond;
+
+    /**
+     * Time the import started.
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * Time the import finished, or {@code null} while it is running.
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * Descriptions of the first rejected rows (with line numbers) or of the failure.
+     */
+    private List<String> errors;
+}
@@ -0,0 +1,43 @@
+package com.project_agh.payrollmanagementsystem.dtos;
+
+import com.project_agh.payrollmanagementsystem.entities.WorkHours;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing one page of work hour entries.
+ * <p>
+ * When {@code hasNext} is true, {@code nextAfterDate} and {@code nextAfterId} identify the last
+ * row of this page and are passed back as {@link ApprovalQueueFilterDto#getAfterDate()} and
+ * {@link ApprovalQueueFilterDto#getAfterId()} to request the following page.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkHoursPageDto {
+
+    /**
+     * The entries on this page.
+     */
+    private List<WorkHours> items;
+
+    /**
+     * Whether more entries follow this page.
+     */
+    private boolean hasNext;
+
+    /**
+     * Keyset cursor: date of the last entry on this page.
+     */
+    private LocalDate nextAfterDate;
+
+    /**
+     * Keyset cursor: ID of the last entry on this page.
+     */
+    private Long nextAfterId;
+}
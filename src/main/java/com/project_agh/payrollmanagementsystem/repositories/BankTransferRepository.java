@@ -0,0 +1,41 @@
+package com.project_agh.payrollmanagementsystem.repositories;
+
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Repository reading the payouts to be sent to the bank as transfers.
+ */
+@Repository
+public interface BankTransferRepository {
+
+    /**
+     * Receives the payouts of a transfer file one at a time.
+     */
+    @FunctionalInterface
+    interface TransferHandler {
+
+        /**
+         * @param paymentId ID of the payout
+         * @param firstName first name of the employee
+         * @param lastName  last name of the employee
+         * @param account   bank account of the employee as entered, may be null
+         * @param amount    amount of the payout
+         */
+        void transfer(long paymentId, String firstName, String lastName, String account, BigDecimal amount);
+    }
+
+    /**
+     * Streams the positive payouts with the given description, ordered by employee name.
+     * <p>
+     * The rows are read with a cursor, so callers should invoke this within a transaction.
+     * </p>
+     *
+     * @param description the description of the payouts of one run
+     *                    (see {@link com.project_agh.payrollmanagementsystem.service.impl.AutoPayoutService#payoutDescription})
+     * @param statusId    only payouts in this status, or {@code null} for all
+     * @param handler     receives the payouts
+     */
+    void streamTransfers(String description, Long statusId, TransferHandler handler);
+}
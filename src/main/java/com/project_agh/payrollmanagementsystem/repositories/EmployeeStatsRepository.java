@@ -2,13 +2,16 @@ package com.project_agh.payrollmanagementsystem.repositories;
 
 import com.project_agh.payrollmanagementsystem.entities.EmployeeStats;
 import org.springframework.stereotype.Repository;
+
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for retrieving aggregated statistical data regarding employee work hours.
  * <p>
  * This interface defines operations to fetch pre-calculated metrics such as total hours worked
- * and weekly averages, typically sourced from a database view or aggregation query.
+ * and weekly averages, kept up to date incrementally as work hours change, and to verify and
+ * rebuild those metrics from the raw work hours.
  * </p>
  */
 @Repository
@@ -41,4 +44,18 @@ public interface EmployeeStatsRepository {
      * @return an {@link Optional} containing the {@link EmployeeStats} if found, or empty otherwise
      */
     Optional<EmployeeStats> findById(Long id);
+
+    /**
+     * Finds employees whose maintained statistics differ from the ones computed from scratch.
+     *
+     * @return the IDs of the affected employees, empty if the statistics are consistent
+     */
+    List<Long> findInconsistentEmployeeIds();
+
+    /**
+     * Recomputes the statistics of all employees from scratch.
+     *
+     * @return the number of employees with statistics
+     */
+    int rebuild();
 }
\ No newline at end of file
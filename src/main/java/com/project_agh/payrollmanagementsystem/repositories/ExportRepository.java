@@ -0,0 +1,71 @@
+package com.project_agh.payrollmanagementsystem.repositories;
+
+import com.project_agh.payrollmanagementsystem.dtos.ExportFilterDto;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface streaming report data for the CSV/XLSX exports.
+ * <p>
+ * Rows are not collected into a list: they are read from a forward-only cursor and handed over
+ * one by one as they arrive, so exporting any number of rows takes the same amount of memory.
+ * Implementations need a transaction for that (the PostgreSQL driver only uses a cursor within
+ * one), so callers should invoke the methods within one.
+ * </p>
+ */
+@Repository
+public interface ExportRepository {
+
+    /**
+     * Receives the exported rows.
+     */
+    interface ExportRowHandler {
+
+        /**
+         * Receives the column names, once, before the first row.
+         *
+         * @param columns the names of the columns, in the order of the row values
+         */
+        void columns(List<String> columns);
+
+        /**
+         * Handles one row.
+         * <p>
+         * Values are {@code String}, {@code Long}, {@code BigDecimal}, {@code LocalDate},
+         * {@code LocalDateTime}, {@code LocalTime} or {@code null}. The array is reused for the
+         * next row, so it must not be kept.
+         * </p>
+         *
+         * @param values the values of the row
+         */
+        void row(Object[] values);
+    }
+
+    /**
+     * Streams the payment history, newest first.
+     *
+     * @param filter  period, department and payment status of the payments
+     * @param handler receives the rows
+     * @return the number of exported rows
+     */
+    long streamPayments(ExportFilterDto filter, ExportRowHandler handler);
+
+    /**
+     * Streams the salary change history, newest first.
+     *
+     * @param filter  period and department of the changes
+     * @param handler receives the rows
+     * @return the number of exported rows
+     */
+    long streamSalaryChanges(ExportFilterDto filter, ExportRowHandler handler);
+
+    /**
+     * Streams the work hours, oldest first.
+     *
+     * @param filter  period, department and approval status of the entries
+     * @param handler receives the rows
+     * @return the number of exported rows
+     */
+    long streamWorkHours(ExportFilterDto filter, ExportRowHandler handler);
+}
@@ -0,0 +1,27 @@
+package com.project_agh.payrollmanagementsystem.repositories;
+
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for cluster-wide locks on background jobs.
+ * <p>
+ * All application instances share one database, so a lock held there lets exactly one instance
+ * run a given job while the others skip it.
+ * </p>
+ */
+@Repository
+public interface JobLockRepository {
+
+    /**
+     * Runs the job if no other instance is running the job with the same name.
+     * <p>
+     * The lock is only tried, never waited for: if it is held elsewhere the method returns
+     * immediately without running the job.
+     * </p>
+     *
+     * @param jobName the name identifying the job across instances
+     * @param job     the job to run while holding the lock
+     * @return {@code true} if the job was run, {@code false} if another instance holds the lock
+     */
+    boolean runExclusively(String jobName, Runnable job);
+}
@@ -1,8 +1,12 @@
 package com.project_agh.payrollmanagementsystem.repositories;
 
+import com.project_agh.payrollmanagementsystem.dtos.BulkOperationResultDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentFilterDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentPageDto;
 import com.project_agh.payrollmanagementsystem.entities.Payment;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,18 +20,24 @@ import java.util.List;
 public interface PaymentRepository {
 
     /**
-     * Retrieves the complete history of all payments in the system.
+     * Retrieves the complete history of all my payments in the system.
      *
      * @return a {@link List} of all {@link Payment} entities
      */
-    List<Payment> findAll();
+    List<Payment> findAllMine(Long userId);
 
     /**
-     * Retrieves the complete history of all my payments in the system.
+     * Retrieves one page of payment history matching the given filter, newest first.
+     * <p>
+     * Pages are addressed by keyset ({@code data}, {@code id_wyplata}) of the last row of the
+     * previous page rather than by offset, so the cost of a page does not grow with its position.
+     * </p>
      *
-     * @return a {@link List} of all {@link Payment} entities
+     * @param filter optional filters and the keyset cursor of the previous page
+     * @param limit  maximum number of payments on the page
+     * @return the page together with the cursor of the next one
      */
-    List<Payment> findAllMine(Long userId);
+    PaymentPageDto findPage(PaymentFilterDto filter, int limit);
 
     /**
      * Creates a new payment record.
@@ -63,4 +73,28 @@ public interface PaymentRepository {
      * @param statusId the unique identifier of the new status to apply
      */
     void updateStatus(Long id, Long statusId);
-}
\ No newline at end of file
+
+    /**
+     * Deletes many payment records at once.
+     * <p>
+     * The operation is atomic: either every matching record is deleted or, on failure, none is.
+     * </p>
+     *
+     * @param ids the unique identifiers of the payments to delete (duplicates are ignored)
+     * @return how many records were deleted and which IDs did not exist
+     */
+    BulkOperationResultDto bulkDelete(Collection<Long> ids);
+
+    /**
+     * Applies one status to many payment records at once.
+     * <p>
+     * The operation is atomic. Records that already have the target status are left untouched
+     * and reported as unchanged.
+     * </p>
+     *
+     * @param ids      the unique identifiers of the payments to update (duplicates are ignored)
+     * @param statusId the unique identifier of the new status to apply
+     * @return how many records were updated, were already in the status, or did not exist
+     */
+    BulkOperationResultDto bulkUpdateStatus(Collection<Long> ids, Long statusId);
+}
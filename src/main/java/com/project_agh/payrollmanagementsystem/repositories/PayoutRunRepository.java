@@ -0,0 +1,75 @@
+package com.project_agh.payrollmanagementsystem.repositories;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayoutRunDto;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the payout run ledger.
+ * <p>
+ * Every monthly payout run is recorded per period, together with the checkpoints of the employee
+ * ranges it has already committed, so an interrupted run can be resumed and a completed one is
+ * not repeated.
+ * </p>
+ */
+@Repository
+public interface PayoutRunRepository {
+
+    /**
+     * Retrieves the ledger entry of a period.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the last day of the period
+     * @return the ledger entry, or empty if the period was never run
+     */
+    Optional<PayoutRunDto> findByPeriod(LocalDate periodStart, LocalDate periodEnd);
+
+    /**
+     * Marks the run of a period as {@code RUNNING}, creating its ledger entry on the first attempt.
+     * Checkpoints of earlier attempts are kept.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the last day of the period
+     * @param engine      the engine performing this attempt
+     * @return the ID of the run
+     */
+    Long start(LocalDate periodStart, LocalDate periodEnd, String engine);
+
+    /**
+     * Records a committed range of employees. Must be called in the transaction that saved the
+     * range's payouts, so the checkpoint exists exactly when the payouts do.
+     *
+     * @param runId           the ID of the run
+     * @param firstEmployeeId the first employee ID of the range
+     * @param lastEmployeeId  the last employee ID of the range
+     * @param payoutsCreated  the number of payouts saved for the range
+     */
+    void recordCheckpoint(Long runId, long firstEmployeeId, long lastEmployeeId, int payoutsCreated);
+
+    /**
+     * Retrieves the employee ranges already committed by the run, as {@code {first, last}} pairs.
+     *
+     * @param runId the ID of the run
+     * @return the committed ranges
+     */
+    List<long[]> findCheckpointRanges(Long runId);
+
+    /**
+     * Marks the run as {@code COMPLETED}.
+     *
+     * @param runId          the ID of the run
+     * @param payoutsCreated payouts created by this attempt that were not recorded by checkpoints
+     */
+    void markCompleted(Long runId, int payoutsCreated);
+
+    /**
+     * Marks the run as {@code FAILED}.
+     *
+     * @param runId the ID of the run
+     * @param error the error message
+     */
+    void markFailed(Long runId, String error);
+}
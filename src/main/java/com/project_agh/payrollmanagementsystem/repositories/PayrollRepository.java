@@ -0,0 +1,98 @@
+package com.project_agh.payrollmanagementsystem.repositories;
+
+import com.project_agh.payrollmanagementsystem.dtos.CalculatedPayoutDto;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Repository interface for the monthly payroll run.
+ * <p>
+ * Provides both ways of generating the automatic monthly payouts: calling the
+ * {@code generuj_wyplaty_za_miesiac} stored procedure, or reading the approved work hours
+ * and writing the payouts computed in the application. Both use the same payout description
+ * per month, which is what protects an employee against being paid twice for one month.
+ * </p>
+ */
+@Repository
+public interface PayrollRepository {
+
+    /**
+     * Receives approved work hour entries streamed from the database.
+     */
+    @FunctionalInterface
+    interface ApprovedHoursHandler {
+
+        /**
+         * Handles one approved work hour entry.
+         *
+         * @param employeeId the ID of the employee
+         * @param hourlyRate the employee's current hourly rate ({@code wynagrodzenie_pln_g})
+         * @param startTime  the start time of the entry
+         * @param endTime    the end time of the entry
+         */
+        void accept(long employeeId, BigDecimal hourlyRate, LocalTime startTime, LocalTime endTime);
+    }
+
+    /**
+     * Calls the {@code generuj_wyplaty_za_miesiac} stored procedure for the given period.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the last day of the period
+     * @param description the payout description the procedure writes for this period
+     * @return the number of payouts created by the call
+     */
+    int callMonthlyPayoutProcedure(LocalDate periodStart, LocalDate periodEnd, String description);
+
+    /**
+     * Retrieves the ID of the status given to new automatic payouts ('Oczekuje').
+     *
+     * @return the status ID
+     */
+    Long findPendingStatusId();
+
+    /**
+     * Retrieves the ID of the payment type of automatic payouts ('Godziny Pracy').
+     *
+     * @return the payment type ID
+     */
+    Long findWorkHoursTypeId();
+
+    /**
+     * Retrieves the sorted IDs of employees with approved work hours in the period who have not
+     * been paid for it yet.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the last day of the period
+     * @param description the payout description of the period
+     * @return the employee IDs in ascending order
+     */
+    List<Long> findEmployeeIdsToPay(LocalDate periodStart, LocalDate periodEnd, String description);
+
+    /**
+     * Streams the approved work hour entries of unpaid employees in an ID range, ordered by employee.
+     *
+     * @param firstEmployeeId the first employee ID of the range (inclusive)
+     * @param lastEmployeeId  the last employee ID of the range (inclusive)
+     * @param periodStart     the first day of the period
+     * @param periodEnd       the last day of the period
+     * @param description     the payout description of the period
+     * @param handler         receives the entries one at a time
+     */
+    void streamApprovedHours(long firstEmployeeId, long lastEmployeeId, LocalDate periodStart, LocalDate periodEnd,
+                             String description, ApprovedHoursHandler handler);
+
+    /**
+     * Inserts computed payouts in one batch, skipping employees already paid with this description.
+     *
+     * @param payouts     the payouts to insert
+     * @param statusId    the status of the new payouts
+     * @param typeId      the payment type of the new payouts
+     * @param description the payout description of the period
+     * @return the number of payouts inserted
+     */
+    int insertPayouts(List<CalculatedPayoutDto> payouts, Long statusId, Long typeId, String description);
+}
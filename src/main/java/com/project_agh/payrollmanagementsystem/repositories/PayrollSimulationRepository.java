@@ -0,0 +1,64 @@
+package com.project_agh.payrollmanagementsystem.repositories;
+
+import com.project_agh.payrollmanagementsystem.dtos.SalaryChangeHistoryDto;
+import com.project_agh.payrollmanagementsystem.dtos.SimulationEmployeeDto;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Repository interface providing the read-only snapshot of historical data used by the payroll
+ * simulation. Nothing is ever written by the simulation.
+ */
+@Repository
+public interface PayrollSimulationRepository {
+
+    /**
+     * Receives monthly totals of approved work hours streamed from the database.
+     */
+    @FunctionalInterface
+    interface MonthlyHoursHandler {
+
+        /**
+         * Handles the approved entries of one employee in one month.
+         *
+         * @param employeeId the ID of the employee
+         * @param month      the month of the entries
+         * @param hours      the sum of the procedure's per-entry hour terms
+         * @param seconds    the exact total length of the entries in seconds
+         * @param entries    the number of entries
+         */
+        void accept(long employeeId, YearMonth month, BigDecimal hours, BigDecimal seconds, long entries);
+    }
+
+    /**
+     * Retrieves the current rate and department of every employee.
+     *
+     * @return the employees in ascending ID order
+     */
+    List<SimulationEmployeeDto> findEmployees();
+
+    /**
+     * Retrieves the salary changes made after the given day, which are needed to reconstruct the
+     * rates in force before them.
+     *
+     * @param date the day after which changes are returned
+     * @return the changes ordered by employee, then date
+     */
+    List<SalaryChangeHistoryDto> findSalaryChangesAfter(LocalDate date);
+
+    /**
+     * Streams the monthly totals of approved work hours of an employee ID range within a date range.
+     *
+     * @param firstEmployeeId the first employee ID of the range (inclusive)
+     * @param lastEmployeeId  the last employee ID of the range (inclusive)
+     * @param dateFrom        the first day of the range
+     * @param dateTo          the last day of the range
+     * @param handler         receives the totals one employee and month at a time
+     */
+    void streamMonthlyApprovedHours(long firstEmployeeId, long lastEmployeeId, LocalDate dateFrom, LocalDate dateTo,
+                                    MonthlyHoursHandler handler);
+}
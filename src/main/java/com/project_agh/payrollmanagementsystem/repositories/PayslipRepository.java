@@ -0,0 +1,41 @@
+package com.project_agh.payrollmanagementsystem.repositories;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayslipDto;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository reading the data printed on payslips.
+ */
+@Repository
+public interface PayslipRepository {
+
+    /**
+     * Returns the payslips of all payouts with the given description.
+     *
+     * @param description the description of the payouts of one run
+     *                    (see {@link com.project_agh.payrollmanagementsystem.service.impl.AutoPayoutService#payoutDescription})
+     * @return the payslips, ordered by payout ID
+     */
+    List<PayslipDto> findByDescription(String description);
+
+    /**
+     * Returns the payslip of a payout if it belongs to the given employee.
+     *
+     * @param paymentId the ID of the payout
+     * @param userId    the ID of the employee
+     * @return the payslip, or empty if there is no such payout of the employee
+     */
+    Optional<PayslipDto> findByIdAndUser(long paymentId, long userId);
+
+    /**
+     * Checks whether a payout of the given employee still exists, with a primary key lookup.
+     *
+     * @param paymentId the ID of the payout
+     * @param userId    the ID of the employee
+     * @return {@code true} if the payout exists and belongs to the employee
+     */
+    boolean existsByIdAndUser(long paymentId, long userId);
+}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link Project} entities.
@@ -32,6 +33,13 @@ public interface ProjectRepository {
      */
     List<Project> findAll();
 
+    /**
+     * Retrieves the identifiers of all projects, without loading the projects themselves.
+     *
+     * @return a {@link Set} of all project IDs
+     */
+    Set<Long> findAllIds();
+
     /**
      * Removes an employee from a specific project team.
      *
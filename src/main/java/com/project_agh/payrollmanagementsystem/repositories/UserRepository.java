@@ -5,6 +5,7 @@ import com.project_agh.payrollmanagementsystem.entities.User;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -22,13 +23,24 @@ public interface UserRepository {
     /**
      * Retrieves a user by their unique email address.
      * <p>
-     * Essential for authentication, as the email is used as the login identifier.
+     * Used for the per-request lookups of the authenticated user and may be served from a cache;
+     * logins use {@link #findByEmailForAuthentication(String)}.
      *
      * @param email the unique email address of the user
      * @return an {@link Optional} containing the matching {@link User} if found, or empty if not
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Retrieves a user by their unique email address for authentication.
+     * <p>
+     * Always reads the database, so a login is checked against the current password hash and role.
+     *
+     * @param email the unique email address (login identifier) of the user
+     * @return an {@link Optional} containing the matching {@link User} if found, or empty if not
+     */
+    Optional<User> findByEmailForAuthentication(String email);
+
     /**
      * Updates all user information including the password.
      *
@@ -77,6 +89,18 @@ public interface UserRepository {
      */
     List<User> findAll();
 
+    /**
+     * Retrieves all users in the system, optionally without their work hour history.
+     * <p>
+     * Listings that only display user columns should pass {@code false}, which skips
+     * loading work hours entirely and leaves {@link User#getWorkHours()} empty.
+     * </p>
+     *
+     * @param withWorkHours whether to populate the work hours of every user
+     * @return a {@link List} of all {@link User} entities
+     */
+    List<User> findAll(boolean withWorkHours);
+
     /**
      * Updates the password of the user with the specified ID.
      *
@@ -125,5 +149,24 @@ public interface UserRepository {
 
     void updateAccount(Long id, String account);
 
+    /**
+     * Retrieves the users that have at least one work hour entry awaiting approval.
+     * <p>
+     * The returned users carry no work hour history; pending entries are paged separately.
+     * </p>
+     *
+     * @return the users with pending work hour entries
+     */
     List<User> findAllNotApproved();
+
+    /**
+     * Retrieves the IDs of all employees keyed by their email address (lower-cased).
+     * <p>
+     * Reads only the two columns, so callers that need to resolve many employee references
+     * (e.g. bulk imports) can prefetch them once instead of looking up every row.
+     * </p>
+     *
+     * @return a map of lower-cased email to employee ID
+     */
+    Map<String, Long> findIdsByEmail();
 }
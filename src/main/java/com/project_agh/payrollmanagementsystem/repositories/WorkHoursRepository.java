@@ -1,11 +1,17 @@
 package com.project_agh.payrollmanagementsystem.repositories;
 
+import com.project_agh.payrollmanagementsystem.dtos.ApprovalQueueFilterDto;
+import com.project_agh.payrollmanagementsystem.dtos.WeeklyWorkSummaryDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursPageDto;
 import com.project_agh.payrollmanagementsystem.entities.WorkHours;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository interface for managing work hour records.
@@ -44,12 +50,73 @@ public interface WorkHoursRepository {
     void createWorkHours(Long currentUserId, LocalDate date, Long workType, LocalTime startTime, LocalTime endTime, String comment);
 
     /**
-     * Retrieves the complete history of work hours for a specific employee.
+     * Creates many work hour entries of one employee at once (e.g. a whole week's timesheet).
+     * <p>
+     * All entries are inserted in a single JDBC batch within one transaction: either every entry
+     * is stored or none is. Entries are expected to be validated by the caller; the {@code id} and
+     * {@code userId} fields of the DTOs are ignored.
+     * </p>
+     *
+     * @param currentUserId the unique identifier of the employee logging the work
+     * @param entries       the entries to insert
+     * @return the number of rows inserted
+     */
+    int createWorkHoursBatch(Long currentUserId, List<WorkHoursDto> entries);
+
+    /**
+     * Inserts a chunk of imported work hour entries that may belong to different employees.
+     * <p>
+     * Like {@link #createWorkHoursBatch(Long, List)}, the chunk is written with one JDBC batch in
+     * one transaction, but the employee of every row is taken from {@link WorkHoursDto#getUserId()}.
+     * Entries are expected to be validated by the caller.
+     * </p>
      *
-     * @param userId the unique identifier of the employee
-     * @return a {@link List} of {@link WorkHours} entries for that user
+     * @param entries the entries to insert, each with its employee ID set
+     * @return the number of rows inserted
      */
-    List<WorkHours> findByUserId(Long userId);
+    int importWorkHours(List<WorkHoursDto> entries);
+
+    /**
+     * Retrieves one page of an employee's work history, newest first.
+     * <p>
+     * Pages are addressed by keyset ({@code data}, {@code id_rejestracji}) of the last row of the
+     * previous page; only the rows of the requested page are read.
+     * </p>
+     *
+     * @param userId    the unique identifier of the employee
+     * @param afterDate date of the last entry of the previous page, or {@code null} for the first page
+     * @param afterId   ID of the last entry of the previous page, or {@code null} for the first page
+     * @param limit     maximum number of entries on the page
+     * @return the page together with the cursor of the next (older) one
+     */
+    WorkHoursPageDto findHistoryPage(Long userId, LocalDate afterDate, Long afterId, int limit);
+
+    /**
+     * Aggregates an employee's work hours within a date range in the database.
+     * <p>
+     * Used for the weekly statistics of the dashboard: returns one row with the total worked minutes
+     * and the number of distinct worked days instead of the entries themselves.
+     * </p>
+     *
+     * @param userId   the unique identifier of the employee
+     * @param dateFrom the first day of the range (inclusive)
+     * @param dateTo   the last day of the range (inclusive)
+     * @return the summary; zeros if the employee has no entries in the range
+     */
+    WeeklyWorkSummaryDto summarizeByUserIdAndDateRange(Long userId, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Retrieves the work hour histories of several employees at once.
+     * <p>
+     * Intended for listings that need the history of many users: the records are fetched
+     * with a set-based query instead of one query per employee and grouped in memory.
+     * Users without any records are absent from the returned map.
+     * </p>
+     *
+     * @param userIds the identifiers of the employees
+     * @return a map of employee ID to that employee's {@link WorkHours} entries (newest first)
+     */
+    Map<Long, List<WorkHours>> findByUserIds(Collection<Long> userIds);
 
     /**
      * Retrieves all work hour records in the system.
@@ -118,4 +185,46 @@ public interface WorkHoursRepository {
      * @param id the unique identifier of the work hour record to approve
      */
     void approveWorkHours(Long id);
+
+    /**
+     * Retrieves one page of the approval queue: entries that are not approved yet, oldest first.
+     * <p>
+     * Pages are addressed by keyset ({@code data}, {@code id_rejestracji}) of the last row of the
+     * previous page, so only pending rows are ever read, one bounded page at a time.
+     * </p>
+     *
+     * @param filter optional filters and the keyset cursor of the previous page
+     * @param limit  maximum number of entries on the page
+     * @return the page together with the cursor of the next one
+     */
+    WorkHoursPageDto findPendingPage(ApprovalQueueFilterDto filter, int limit);
+
+    /**
+     * Approves the given pending entries with a single set-based update.
+     *
+     * @param ids the unique identifiers of the work hour records
+     * @return the number of entries approved (already approved or unknown IDs are not counted)
+     */
+    int approveByIds(Collection<Long> ids);
+
+    /**
+     * Approves all pending entries of one employee within a date range with a single update.
+     *
+     * @param userId   the unique identifier of the employee
+     * @param dateFrom the first day of the range (inclusive), or {@code null} for no lower bound
+     * @param dateTo   the last day of the range (inclusive), or {@code null} for no upper bound
+     * @return the number of entries approved
+     */
+    int approveByUserAndDateRange(Long userId, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Approves all pending entries of the employees of one department within a date range
+     * with a single update.
+     *
+     * @param departmentId the unique identifier of the department
+     * @param dateFrom     the first day of the range (inclusive)
+     * @param dateTo       the last day of the range (inclusive)
+     * @return the number of entries approved
+     */
+    int approveByDepartmentAndDateRange(Long departmentId, LocalDate dateFrom, LocalDate dateTo);
 }
\ No newline at end of file
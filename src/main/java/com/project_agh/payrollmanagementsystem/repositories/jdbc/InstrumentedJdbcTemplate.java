@@ -0,0 +1,300 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ArgumentTypePreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.CallableStatementCreator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link JdbcTemplate} that measures every statement it executes and writes a slow-query log.
+ * <p>
+ * The row count of each statement (rows returned by a list query, rows affected by an update or
+ * a batch) is added to the {@link RepositoryCall} of the repository method that issued it, which
+ * {@link RepositoryMetricsAspect} publishes as a metric. Statements that take at least the
+ * configured threshold are logged at {@code WARN} to the {@code slow-query} logger, as one line of
+ * {@code key=value} fields with the repository method, the duration, the row count, the shape of
+ * the bind parameters and the SQL text, so the log can be routed to its own file and searched by
+ * field. Only the types of the parameters are logged, never their values, as they contain
+ * personal and salary data.
+ * </p>
+ * <p>
+ * The overridden methods are the points all other {@code JdbcTemplate} methods delegate to, so
+ * every statement issued through the template is measured exactly once. Parameters set by a
+ * callback (for example arrays bound with {@code ps.setArray}) cannot be inspected and are logged
+ * as such.
+ * </p>
+ */
+public class InstrumentedJdbcTemplate extends JdbcTemplate {
+
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("slow-query");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowQueryThresholdNanos;
+
+    /**
+     * Constructs a new {@code InstrumentedJdbcTemplate}.
+     *
+     * @param dataSource         the data source to obtain connections from
+     * @param slowQueryThreshold duration from which a statement is written to the slow-query log
+     */
+    public InstrumentedJdbcTemplate(DataSource dataSource, Duration slowQueryThreshold) {
+        super(dataSource);
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    // --- Statements without parameters ---
+
+    @Override
+    public <T> T execute(StatementCallback<T> action) throws DataAccessException {
+        return measure(sqlOf(action), null, false, () -> super.execute(action));
+    }
+
+    @Override
+    public void execute(String sql) throws DataAccessException {
+        measure(sql, null, false, () -> {
+            super.execute(sql);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> T query(String sql, ResultSetExtractor<T> rse) throws DataAccessException {
+        return measure(sql, null, true, () -> super.query(sql, rse));
+    }
+
+    @Override
+    public int update(String sql) throws DataAccessException {
+        return measure(sql, null, false, () -> super.update(sql));
+    }
+
+    @Override
+    public int[] batchUpdate(String... sql) throws DataAccessException {
+        return measure(String.join("; ", sql), "batch of " + sql.length + " statements", false, () -> super.batchUpdate(sql));
+    }
+
+    // --- Prepared statements ---
+
+    @Override
+    public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action) throws DataAccessException {
+        return measure(sqlOf(psc), null, false, () -> super.execute(psc, action));
+    }
+
+    @Override
+    public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) throws DataAccessException {
+        return measure(sqlOf(psc), pss, true, () -> super.query(psc, pss, rse));
+    }
+
+    @Override
+    protected int update(PreparedStatementCreator psc, PreparedStatementSetter pss) throws DataAccessException {
+        return measure(sqlOf(psc), pss, false, () -> super.update(psc, pss));
+    }
+
+    @Override
+    public int update(PreparedStatementCreator psc, KeyHolder generatedKeyHolder) throws DataAccessException {
+        return measure(sqlOf(psc), null, false, () -> super.update(psc, generatedKeyHolder));
+    }
+
+    @Override
+    public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) throws DataAccessException {
+        return measure(sql, "batch of " + pss.getBatchSize(), false, () -> super.batchUpdate(sql, pss));
+    }
+
+    @Override
+    public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                   ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
+        return measure(sql, "batch of " + batchArgs.size() + " in chunks of " + batchSize, false,
+                () -> super.batchUpdate(sql, batchArgs, batchSize, pss));
+    }
+
+    @Override
+    public <T> T execute(CallableStatementCreator csc, CallableStatementCallback<T> action) throws DataAccessException {
+        return measure(sqlOf(csc), null, false, () -> super.execute(csc, action));
+    }
+
+    // --- Bind parameters ---
+
+    @Override
+    protected PreparedStatementSetter newArgPreparedStatementSetter(Object[] args) {
+        return new DescribedArgumentSetter(args);
+    }
+
+    @Override
+    protected PreparedStatementSetter newArgTypePreparedStatementSetter(Object[] args, int[] argTypes) {
+        return new DescribedArgumentTypeSetter(args, argTypes);
+    }
+
+    private <T> T measure(String sql, Object parameters, boolean query, TemplateOperation<T> operation) {
+        long start = System.nanoTime();
+        T result = null;
+        RuntimeException failure = null;
+        try {
+            result = operation.run();
+            return result;
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long rows = failure == null ? rowCount(result, query) : -1;
+            RepositoryCall call = RepositoryCall.current();
+            if (call != null && rows >= 0) {
+                call.addRows(rows);
+            }
+            if (elapsed >= slowQueryThresholdNanos) {
+                logSlowQuery(call, sql, parameters, elapsed, rows, failure);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows a statement returned or affected, or {@code -1} if the result
+     * does not tell (a result set extractor returning something else than a list, for example).
+     */
+    private static long rowCount(Object result, boolean query) {
+        if (query) {
+            return result instanceof Collection<?> rows ? rows.size() : -1;
+        }
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            return sum(counts);
+        }
+        if (result instanceof int[][] batches) {
+            long total = 0;
+            for (int[] counts : batches) {
+                total += sum(counts);
+            }
+            return total;
+        }
+        return -1;
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            // Statement.SUCCESS_NO_INFO and EXECUTE_FAILED are negative
+            if (count > 0) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    private static void logSlowQuery(RepositoryCall call, String sql, Object parameters, long elapsedNanos,
+                                     long rows, RuntimeException failure) {
+        if (!SLOW_QUERY_LOG.isWarnEnabled()) {
+            return;
+        }
+        StringBuilder line = new StringBuilder();
+        line.append("repository=").append(call == null ? "none" : call.getRepository() + "." + call.getMethod());
+        line.append(" durationMs=").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        line.append(" rows=").append(rows < 0 ? "unknown" : rows);
+        line.append(" parameters=").append(describeParameters(parameters));
+        if (failure != null) {
+            line.append(" error=").append(failure.getClass().getSimpleName());
+        }
+        line.append(" sql=\"").append(sql == null ? "" : WHITESPACE.matcher(sql.trim()).replaceAll(" ").replace("\"", "\\\"")).append('"');
+        SLOW_QUERY_LOG.warn("{}", line);
+    }
+
+    private static String describeParameters(Object parameters) {
+        if (parameters == null) {
+            return "()";
+        }
+        if (parameters instanceof String description) {
+            return "(" + description + ")";
+        }
+        if (parameters instanceof DescribedArgumentSetter setter) {
+            return describeValues(setter.args);
+        }
+        if (parameters instanceof DescribedArgumentTypeSetter setter) {
+            return describeValues(setter.args);
+        }
+        return "(set by callback)";
+    }
+
+    private static String describeValues(Object[] values) {
+        StringJoiner shape = new StringJoiner(", ", "(", ")");
+        if (values != null) {
+            for (Object value : values) {
+                shape.add(describeValue(value));
+            }
+        }
+        return shape.toString();
+    }
+
+    private static String describeValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof SqlParameterValue parameterValue) {
+            return describeValue(parameterValue.getValue());
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "(" + collection.size() + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private static String sqlOf(Object statementSource) {
+        return statementSource instanceof SqlProvider provider ? provider.getSql() : null;
+    }
+
+    @FunctionalInterface
+    private interface TemplateOperation<T> {
+        T run();
+    }
+
+    /**
+     * Argument setter keeping the arguments, so the slow-query log can describe them.
+     */
+    private static final class DescribedArgumentSetter extends ArgumentPreparedStatementSetter {
+
+        private final Object[] args;
+
+        DescribedArgumentSetter(Object[] args) {
+            super(args);
+            this.args = args;
+        }
+    }
+
+    /**
+     * Typed argument setter keeping the arguments, so the slow-query log can describe them.
+     */
+    private static final class DescribedArgumentTypeSetter extends ArgumentTypePreparedStatementSetter {
+
+        private final Object[] args;
+
+        DescribedArgumentTypeSetter(Object[] args, int[] argTypes) {
+            super(args, argTypes);
+            this.args = args;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.repositories.BankTransferRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+
+/**
+ * JDBC-based implementation of the {@link BankTransferRepository}.
+ * <p>
+ * A payout run is identified by the description of its payouts, which the payout engines
+ * derive from the period; the bank account is the one the employee has entered now.
+ * </p>
+ */
+@Repository
+public class JdbcBankTransferRepository implements BankTransferRepository {
+
+    /**
+     * Number of rows fetched per round trip while streaming payouts.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String TRANSFERS_BASE_SQL = """
+            SELECT h.id_wyplata, p.imie, p.nazwisko, p.konto_bankowe, h.wyplata
+            FROM historia_wyplat h
+            JOIN pracownik p ON h.id_pracownik = p.id_pracownik
+            WHERE h.opis = ?
+              AND h.wyplata > 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code JdbcBankTransferRepository}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used for database operations
+     */
+    public JdbcBankTransferRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void streamTransfers(String description, Long statusId, TransferHandler handler) {
+        StringBuilder sql = new StringBuilder(TRANSFERS_BASE_SQL);
+        if (statusId != null) {
+            sql.append(" AND h.id_status_wyplaty = ?");
+        }
+        sql.append(" ORDER BY p.nazwisko, p.imie, h.id_wyplata");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setString(1, description);
+            if (statusId != null) {
+                ps.setLong(2, statusId);
+            }
+            return ps;
+        }, rs -> {
+            handler.transfer(
+                    rs.getLong("id_wyplata"),
+                    rs.getString("imie"),
+                    rs.getString("nazwisko"),
+                    rs.getString("konto_bankowe"),
+                    rs.getBigDecimal("wyplata"));
+        });
+    }
+}
@@ -1,7 +1,10 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.config.CacheConfig;
 import com.project_agh.payrollmanagementsystem.entities.Department;
 import com.project_agh.payrollmanagementsystem.repositories.DepartmentRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -62,6 +65,7 @@ public class JdbcDepartmentRepository implements DepartmentRepository {
      *
      * @return a {@link List} of all {@link Department} entities currently persisted
      */
+    @Cacheable(CacheConfig.DEPARTMENTS)
     @Override
     public List<Department> findAll() {
         return jdbcTemplate.query(FIND_ALL_FULL_SQL, departmentRowMapper);
@@ -73,6 +77,7 @@ public class JdbcDepartmentRepository implements DepartmentRepository {
      * @param department_name the name of the new department
      * @param department_desc a brief description of the new department
      */
+    @CacheEvict(value = CacheConfig.DEPARTMENTS, allEntries = true)
     @Override
     public void createDepartment(String department_name, String department_desc) {
         int rowsAffected = jdbcTemplate.update(CREATE_NEW_DEPARTMENT, department_name, department_desc);
@@ -90,6 +95,7 @@ public class JdbcDepartmentRepository implements DepartmentRepository {
      *
      * @param id the unique identifier of the department to delete
      */
+    @CacheEvict(value = CacheConfig.DEPARTMENTS, allEntries = true)
     @Override
     public void deleteDepartment(Long id) {
         int rowsAffected = jdbcTemplate.update(
@@ -112,6 +118,7 @@ public class JdbcDepartmentRepository implements DepartmentRepository {
      * @param name        the new name to assign to the department
      * @param description the new description to assign to the department
      */
+    @CacheEvict(value = CacheConfig.DEPARTMENTS, allEntries = true)
     @Override
     public void editDepartment(Long id, String name, String description) {
         int rowsAffected = jdbcTemplate.update(
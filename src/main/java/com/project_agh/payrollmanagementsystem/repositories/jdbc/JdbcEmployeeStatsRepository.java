@@ -14,8 +14,11 @@ import java.util.Optional;
  * JDBC-based implementation of the {@link EmployeeStatsRepository}.
  * <p>
  * This repository retrieves aggregated statistical data regarding employee work hours.
- * It queries the database view {@code widok_statystyki_pracownika}, which pre-calculates
- * totals and averages, ensuring efficient data retrieval for dashboards and reports.
+ * It reads the {@code statystyki_pracownika} table, which database triggers keep up to date on
+ * every insert, edit and delete of work hours ({@code db/employee_stats_incremental.sql}), so a
+ * lookup costs the same however long the employee's history is. The columns are computed
+ * exactly like in the {@code widok_statystyki_pracownika} view, which re-aggregates the
+ * whole history on every read.
  * </p>
  */
 @Repository
@@ -23,8 +26,41 @@ public class JdbcEmployeeStatsRepository implements EmployeeStatsRepository {
 
     private final JdbcTemplate jdbcTemplate;
 
-    private static final String FIND_BY_ID_SQL =
-            "SELECT * FROM widok_statystyki_pracownika WHERE id_pracownik = ?";
+    private static final String SELECT_STATS_SQL =
+            "SELECT id_pracownik, " +
+                    "ROUND(suma_godzin, 2) AS suma_calkowita, " +
+                    "liczba_tygodni, " +
+                    "CASE WHEN liczba_tygodni > 0 THEN ROUND(suma_godzin / liczba_tygodni, 2) ELSE 0 END AS srednia_tygodniowa " +
+                    "FROM statystyki_pracownika ";
+
+    private static final String FIND_BY_ID_SQL = SELECT_STATS_SQL + "WHERE id_pracownik = ?";
+
+    private static final String SUM_ALL_BY_ID_SQL =
+            "SELECT ROUND(suma_godzin, 2) FROM statystyki_pracownika WHERE id_pracownik = ?";
+
+    private static final String WEEK_AVERAGE_BY_ID_SQL =
+            "SELECT CASE WHEN liczba_tygodni > 0 THEN ROUND(suma_godzin / liczba_tygodni, 2) ELSE 0 END " +
+                    "FROM statystyki_pracownika WHERE id_pracownik = ?";
+
+    // A single statement, so both sides are read from the same snapshot
+    private static final String FIND_INCONSISTENT_SQL = """
+            WITH pelne AS (
+                SELECT id_pracownik,
+                       COALESCE(SUM(EXTRACT(epoch FROM godzina_zakonczenia - godzina_rozpoczecia) / 3600::numeric), 0) AS suma_godzin,
+                       COUNT(*) AS liczba_wpisow,
+                       COUNT(DISTINCT date_trunc('week', data)) AS liczba_tygodni
+                FROM rejestracja_godzin_pracy
+                GROUP BY id_pracownik
+            )
+            SELECT COALESCE(p.id_pracownik, s.id_pracownik)
+            FROM pelne p
+            FULL JOIN statystyki_pracownika s ON s.id_pracownik = p.id_pracownik
+            WHERE (p.suma_godzin, p.liczba_wpisow, p.liczba_tygodni)
+                  IS DISTINCT FROM (s.suma_godzin, s.liczba_wpisow, s.liczba_tygodni)
+            ORDER BY 1
+            """;
+
+    private static final String REBUILD_SQL = "SELECT statystyki_pracownika_przebuduj()";
 
     /**
      * Constructs a new {@code JdbcEmployeeStatsRepository}.
@@ -36,7 +72,8 @@ public class JdbcEmployeeStatsRepository implements EmployeeStatsRepository {
     }
 
     /**
-     * Maps rows from the {@code widok_statystyki_pracownika} view to {@link EmployeeStats} entities.
+     * Maps statistics rows (with the column names of the {@code widok_statystyki_pracownika} view)
+     * to {@link EmployeeStats} entities.
      */
     private final RowMapper<EmployeeStats> statsRowMapper = (rs, rowNum) -> {
         EmployeeStats stats = new EmployeeStats();
@@ -73,17 +110,16 @@ public class JdbcEmployeeStatsRepository implements EmployeeStatsRepository {
     /**
      * Retrieves only the total accumulated work hours for a specific employee.
      * <p>
-     * Returns 0.0 if the employee has no recorded hours or does not exist in the statistics view.
+     * Returns 0.0 if the employee has no recorded hours or does not exist in the statistics table.
      * </p>
      *
      * @param id the unique identifier of the employee
      * @return the total hours worked as a {@code Double}
      */
     public Double sumAllById(Long id) {
-        String sql = "SELECT suma_calkowita FROM widok_statystyki_pracownika WHERE id_pracownik = ?";
         try {
             // Returning Double rather than int to accommodate fractional hours
-            return jdbcTemplate.queryForObject(sql, Double.class, id);
+            return jdbcTemplate.queryForObject(SUM_ALL_BY_ID_SQL, Double.class, id);
         } catch (EmptyResultDataAccessException e) {
             return 0.0;
         }
@@ -92,19 +128,44 @@ public class JdbcEmployeeStatsRepository implements EmployeeStatsRepository {
     /**
      * Retrieves only the average weekly work hours for a specific employee.
      * <p>
-     * Returns 0.0 if the employee has no recorded hours or does not exist in the statistics view.
+     * Returns 0.0 if the employee has no recorded hours or does not exist in the statistics table.
      * </p>
      *
      * @param id the unique identifier of the employee
      * @return the average weekly hours as a {@code Double}
      */
     public Double weekAverageById(Long id) {
-        String sql = "SELECT srednia_tygodniowa FROM widok_statystyki_pracownika WHERE id_pracownik = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, Double.class, id);
+            return jdbcTemplate.queryForObject(WEEK_AVERAGE_BY_ID_SQL, Double.class, id);
         } catch (EmptyResultDataAccessException e) {
             return 0.0;
         }
     }
 
+    /**
+     * Compares the maintained statistics with a full re-aggregation of the work hours.
+     * <p>
+     * This reads the whole {@code rejestracja_godzin_pracy} table and is meant for periodic
+     * checks, not for request handling.
+     * </p>
+     *
+     * @return the IDs of employees whose statistics differ, in ascending order
+     */
+    @Override
+    public List<Long> findInconsistentEmployeeIds() {
+        return jdbcTemplate.queryForList(FIND_INCONSISTENT_SQL, Long.class);
+    }
+
+    /**
+     * Recomputes all statistics from scratch with {@code statystyki_pracownika_przebuduj()}.
+     * Writes to the work hours wait until the rebuild has finished.
+     *
+     * @return the number of employees with statistics
+     */
+    @Override
+    public int rebuild() {
+        Integer employees = jdbcTemplate.queryForObject(REBUILD_SQL, Integer.class);
+        return employees == null ? 0 : employees;
+    }
+
 }
\ No newline at end of file
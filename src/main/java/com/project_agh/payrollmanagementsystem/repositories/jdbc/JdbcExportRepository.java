@@ -0,0 +1,231 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.dtos.ExportFilterDto;
+import com.project_agh.payrollmanagementsystem.repositories.ExportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC-based implementation of the {@link ExportRepository}.
+ * <p>
+ * Every export is a single forward-only, read-only query with a fetch size, so the driver keeps
+ * at most {@code export.fetch-size} rows in memory. Filters are appended to the base query of
+ * each export the same way as for the payment history page. The department of a row is the
+ * current department of the employee.
+ * </p>
+ */
+@Repository
+public class JdbcExportRepository implements ExportRepository {
+
+    private static final List<String> PAYMENT_COLUMNS = List.of(
+            "ID wypłaty", "Data", "Imię", "Nazwisko", "E-mail", "Dział", "Typ", "Kwota", "Opis", "Status");
+
+    private static final String PAYMENTS_BASE_SQL = """
+            SELECT h.id_wyplata, h.data, p.imie, p.nazwisko, p.email, d.nazwa AS dzial_nazwa,
+                   t.nazwa AS typ_nazwa, h.wyplata, h.opis, s.nazwa AS status_nazwa
+            FROM historia_wyplat h
+            JOIN pracownik p ON h.id_pracownik = p.id_pracownik
+            LEFT JOIN dzial d ON p.id_dzial = d.id_dzial
+            LEFT JOIN typ_wyplaty t ON h.id_typ_wyplaty = t.id_typ_wyplaty
+            LEFT JOIN status_wyplaty s ON h.id_status_wyplaty = s.id_status_wyplaty
+            WHERE 1 = 1
+            """;
+
+    private static final List<String> SALARY_CHANGE_COLUMNS = List.of(
+            "ID zmiany", "Data zmiany", "Imię", "Nazwisko", "E-mail", "Dział",
+            "Stare wynagrodzenie", "Nowe wynagrodzenie", "Opis");
+
+    private static final String SALARY_CHANGES_BASE_SQL = """
+            SELECT h.id_zmiany_wynagrodzenia, h.data, p.imie, p.nazwisko, p.email, d.nazwa AS dzial_nazwa,
+                   h.stare_wynagr, h.nowe_wynagr, h.opis
+            FROM historia_zmian_wynagrodzen h
+            JOIN pracownik p ON h.id_pracownik = p.id_pracownik
+            LEFT JOIN dzial d ON p.id_dzial = d.id_dzial
+            WHERE 1 = 1
+            """;
+
+    private static final List<String> WORK_HOURS_COLUMNS = List.of(
+            "ID wpisu", "Data", "Imię", "Nazwisko", "E-mail", "Dział", "Początek", "Koniec",
+            "Czas pracy (h)", "Projekt", "Typ pracy", "Komentarz", "Status");
+
+    private static final String WORK_HOURS_BASE_SQL = """
+            SELECT r.id_rejestracji, r.data, p.imie, p.nazwisko, p.email, d.nazwa AS dzial_nazwa,
+                   r.godzina_rozpoczecia, r.godzina_zakonczenia,
+                   ROUND(EXTRACT(EPOCH FROM (r.godzina_zakonczenia - r.godzina_rozpoczecia)) / 3600, 2) AS godziny,
+                   pr.nazwa AS projekt_nazwa, tp.nazwa AS typ_nazwa, r.komentarz,
+                   CASE WHEN r.zatwierdzenie THEN 'Zatwierdzone' ELSE 'Oczekuje' END AS status
+            FROM rejestracja_godzin_pracy r
+            JOIN pracownik p ON r.id_pracownik = p.id_pracownik
+            LEFT JOIN dzial d ON p.id_dzial = d.id_dzial
+            LEFT JOIN projekt pr ON r.id_projekt = pr.id_projekt
+            LEFT JOIN typ_pracy tp ON r.id_typ_pracy = tp.id_typ_pracy
+            WHERE 1 = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    /**
+     * Constructs a new {@code JdbcExportRepository}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used for database operations
+     * @param fetchSize    number of rows fetched per round trip while streaming an export
+     */
+    public JdbcExportRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long streamPayments(ExportFilterDto filter, ExportRowHandler handler) {
+        StringBuilder sql = new StringBuilder(PAYMENTS_BASE_SQL);
+        List<Object> params = new ArrayList<>();
+
+        if (filter.getDateFrom() != null) {
+            sql.append(" AND h.data >= ?");
+            params.add(filter.getDateFrom());
+        }
+        if (filter.getDateTo() != null) {
+            // Inclusive upper bound that also works when 'data' holds a time component
+            sql.append(" AND h.data < ?");
+            params.add(filter.getDateTo().plusDays(1));
+        }
+        if (filter.getDepartmentId() != null) {
+            sql.append(" AND p.id_dzial = ?");
+            params.add(filter.getDepartmentId());
+        }
+        if (filter.getStatusId() != null) {
+            sql.append(" AND h.id_status_wyplaty = ?");
+            params.add(filter.getStatusId());
+        }
+        sql.append(" ORDER BY h.data DESC, h.id_wyplata DESC");
+
+        return stream(sql.toString(), params, PAYMENT_COLUMNS, handler);
+    }
+
+    @Override
+    public long streamSalaryChanges(ExportFilterDto filter, ExportRowHandler handler) {
+        StringBuilder sql = new StringBuilder(SALARY_CHANGES_BASE_SQL);
+        List<Object> params = new ArrayList<>();
+
+        if (filter.getDateFrom() != null) {
+            sql.append(" AND h.data >= ?");
+            params.add(filter.getDateFrom());
+        }
+        if (filter.getDateTo() != null) {
+            sql.append(" AND h.data <= ?");
+            params.add(filter.getDateTo());
+        }
+        if (filter.getDepartmentId() != null) {
+            sql.append(" AND p.id_dzial = ?");
+            params.add(filter.getDepartmentId());
+        }
+        sql.append(" ORDER BY h.data DESC, h.id_zmiany_wynagrodzenia DESC");
+
+        return stream(sql.toString(), params, SALARY_CHANGE_COLUMNS, handler);
+    }
+
+    @Override
+    public long streamWorkHours(ExportFilterDto filter, ExportRowHandler handler) {
+        StringBuilder sql = new StringBuilder(WORK_HOURS_BASE_SQL);
+        List<Object> params = new ArrayList<>();
+
+        if (filter.getDateFrom() != null) {
+            sql.append(" AND r.data >= ?");
+            params.add(filter.getDateFrom());
+        }
+        if (filter.getDateTo() != null) {
+            sql.append(" AND r.data <= ?");
+            params.add(filter.getDateTo());
+        }
+        if (filter.getDepartmentId() != null) {
+            sql.append(" AND p.id_dzial = ?");
+            params.add(filter.getDepartmentId());
+        }
+        if (filter.getApproved() != null) {
+            sql.append(" AND r.zatwierdzenie = ?");
+            params.add(filter.getApproved());
+        }
+        sql.append(" ORDER BY r.data, r.id_rejestracji");
+
+        return stream(sql.toString(), params, WORK_HOURS_COLUMNS, handler);
+    }
+
+    /**
+     * Runs an export query and hands its rows to the handler as they are fetched.
+     */
+    private long stream(String sql, List<Object> params, List<String> columns, ExportRowHandler handler) {
+        handler.columns(columns);
+        Long rows = jdbcTemplate.query(new StreamingQuery(sql, params.toArray(), fetchSize), rs -> {
+            Object[] values = new Object[columns.size()];
+            long count = 0;
+            while (rs.next()) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = value(rs, i + 1);
+                }
+                handler.row(values);
+                count++;
+            }
+            return count;
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * Reads one column, converting the JDBC date and time types to their {@code java.time}
+     * counterparts and integer columns to {@code Long}.
+     */
+    private static Object value(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof Time time) {
+            return time.toLocalTime();
+        }
+        if (value instanceof Integer number) {
+            return number.longValue();
+        }
+        return value;
+    }
+
+    /**
+     * Forward-only, read-only statement with a fetch size; exposes its SQL to the slow-query log.
+     */
+    private record StreamingQuery(String sql, Object[] args, int fetchSize) implements PreparedStatementCreator, SqlProvider {
+
+        @Override
+        public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, args[i]);
+            }
+            return ps;
+        }
+
+        @Override
+        public String getSql() {
+            return sql;
+        }
+    }
+}
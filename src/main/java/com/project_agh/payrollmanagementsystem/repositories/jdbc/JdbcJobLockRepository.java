@@ -0,0 +1,89 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.repositories.JobLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL advisory-lock implementation of the {@link JobLockRepository}.
+ * <p>
+ * The lock is a session-level {@code pg_try_advisory_lock} taken on a connection reserved for
+ * the duration of the job, so the job itself can use any number of other connections and
+ * transactions. If the instance dies, the database session ends and the lock is released with it.
+ * </p>
+ * <p>
+ * Metrics: {@code payroll.job.lock.wait} times the lock attempt (tagged with the job name and
+ * {@code outcome=acquired|skipped}) and {@code payroll.job.lock.hold} times how long the job held
+ * the lock.
+ * </p>
+ */
+@Repository
+public class JdbcJobLockRepository implements JobLockRepository {
+
+    /**
+     * First key of the two-key advisory lock, reserving a namespace for the application's jobs.
+     */
+    private static final int LOCK_NAMESPACE = 0x50415952; // "PAYR"
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?, ?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?, ?)";
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new {@code JdbcJobLockRepository}.
+     *
+     * @param dataSource    the data source providing the connection that holds the lock
+     * @param meterRegistry registry receiving the lock wait and hold timers
+     */
+    public JdbcJobLockRepository(DataSource dataSource, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean runExclusively(String jobName, Runnable job) {
+        int lockKey = jobName.hashCode();
+        Timer.Sample wait = Timer.start(meterRegistry);
+
+        try (Connection connection = dataSource.getConnection()) {
+            JdbcTemplate lockTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+            boolean acquired = Boolean.TRUE.equals(
+                    lockTemplate.queryForObject(TRY_LOCK_SQL, Boolean.class, LOCK_NAMESPACE, lockKey));
+            wait.stop(meterRegistry.timer("payroll.job.lock.wait", "job", jobName, "outcome", acquired ? "acquired" : "skipped"));
+            if (!acquired) {
+                return false;
+            }
+
+            Timer.Sample hold = Timer.start(meterRegistry);
+            boolean released = false;
+            try {
+                job.run();
+            } finally {
+                try {
+                    released = Boolean.TRUE.equals(
+                            lockTemplate.queryForObject(UNLOCK_SQL, Boolean.class, LOCK_NAMESPACE, lockKey));
+                } finally {
+                    hold.stop(meterRegistry.timer("payroll.job.lock.hold", "job", jobName));
+                    if (!released) {
+                        // Never hand a connection that may still hold the lock back to the pool
+                        connection.abort(Runnable::run);
+                    }
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not use the lock of job " + jobName, e);
+        }
+    }
+}
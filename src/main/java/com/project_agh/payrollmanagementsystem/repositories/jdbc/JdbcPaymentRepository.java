@@ -1,16 +1,29 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.dtos.BulkOperationResultDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentFilterDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentPageDto;
 import com.project_agh.payrollmanagementsystem.entities.Payment;
 import com.project_agh.payrollmanagementsystem.entities.PaymentStatus;
 import com.project_agh.payrollmanagementsystem.entities.PaymentType;
 import com.project_agh.payrollmanagementsystem.entities.User;
 import com.project_agh.payrollmanagementsystem.repositories.PaymentRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * JDBC-based implementation of the {@link PaymentRepository}.
@@ -24,45 +37,61 @@ import java.util.List;
 public class JdbcPaymentRepository implements PaymentRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final int bulkChunkSize;
 
     // --- SQL WITH ALIASES (typ_nazwa, status_nazwa) ---
     // Aliases are required because both PaymentType and PaymentStatus have a column named 'nazwa'.
-    private static final String FIND_ALL_SQL = """
+    private static final String FIND_ALL_MINE_SQL = """
             SELECT h.id_wyplata, h.wyplata, h.data, h.opis,
                    p.id_pracownik, p.imie, p.nazwisko, p.email,
                    t.id_typ_wyplaty, t.nazwa AS typ_nazwa,
                    s.id_status_wyplaty, s.nazwa AS status_nazwa
-            FROM historia_wyplat h
+            FROM historia_wyplat h 
             JOIN pracownik p ON h.id_pracownik = p.id_pracownik
             LEFT JOIN typ_wyplaty t ON h.id_typ_wyplaty = t.id_typ_wyplaty
             LEFT JOIN status_wyplaty s ON h.id_status_wyplaty = s.id_status_wyplaty
+            WHERE p.id_pracownik = ?
             ORDER BY h.data DESC
+            
             """;
 
-    private static final String FIND_ALL_MINE_SQL = """
+    // Base of the keyset page query; filters, the cursor condition and ordering are appended in findPage().
+    // The (data, id_wyplata) ordering is backed by indexes from db/payment_history_keyset_indexes.sql.
+    private static final String FIND_PAGE_BASE_SQL = """
             SELECT h.id_wyplata, h.wyplata, h.data, h.opis,
                    p.id_pracownik, p.imie, p.nazwisko, p.email,
                    t.id_typ_wyplaty, t.nazwa AS typ_nazwa,
                    s.id_status_wyplaty, s.nazwa AS status_nazwa
-            FROM historia_wyplat h 
+            FROM historia_wyplat h
             JOIN pracownik p ON h.id_pracownik = p.id_pracownik
             LEFT JOIN typ_wyplaty t ON h.id_typ_wyplaty = t.id_typ_wyplaty
             LEFT JOIN status_wyplaty s ON h.id_status_wyplaty = s.id_status_wyplaty
-            WHERE p.id_pracownik = ?
-            ORDER BY h.data DESC
-            
+            WHERE 1 = 1
             """;
 
     private static final String DELETE_SQL = "DELETE FROM historia_wyplat WHERE id_wyplata = ?";
     private static final String UPDATE_STATUS_SQL = "UPDATE historia_wyplat SET id_status_wyplaty = ? WHERE id_wyplata = ?";
 
+    // Set-based variants used by the bulk operations, bound with a bigint[] of payment IDs.
+    // The rows are locked first so the reported outcome matches what the write statement sees,
+    // in ascending ID order so that two overlapping bulk operations cannot deadlock.
+    private static final String LOCK_STATUSES_BY_IDS_SQL =
+            "SELECT id_wyplata, id_status_wyplaty FROM historia_wyplat WHERE id_wyplata = ANY(?) " +
+                    "ORDER BY id_wyplata FOR UPDATE";
+    private static final String BULK_DELETE_SQL = "DELETE FROM historia_wyplat WHERE id_wyplata = ANY(?)";
+    private static final String BULK_UPDATE_STATUS_SQL =
+            "UPDATE historia_wyplat SET id_status_wyplaty = ? WHERE id_wyplata = ANY(?)";
+
     /**
      * Constructs a new {@code JdbcPaymentRepository}.
      *
-     * @param jdbcTemplate the {@link JdbcTemplate} used for database operations
+     * @param jdbcTemplate  the {@link JdbcTemplate} used for database operations
+     * @param bulkChunkSize maximum number of IDs bound into a single statement of a bulk operation
      */
-    public JdbcPaymentRepository(JdbcTemplate jdbcTemplate) {
+    public JdbcPaymentRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${payments.bulk.chunk-size:1000}") int bulkChunkSize) {
         this.jdbcTemplate = jdbcTemplate;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     // --- ROW MAPPER ---
@@ -111,23 +140,86 @@ public class JdbcPaymentRepository implements PaymentRepository {
         return payment;
     };
 
+    public RowMapper<Payment> getPaymentRowMapper() {
+        return paymentRowMapper;
+    }
+
+    @Override
+    public List<Payment> findAllMine(Long userId) {
+        return jdbcTemplate.query(FIND_ALL_MINE_SQL, paymentRowMapper, userId);
+    }
+
     /**
-     * Retrieves the complete history of payments.
+     * Retrieves one keyset-paginated page of payment history.
      * <p>
-     * The results include joined data for the employee, payment type, and payment status,
-     * ordered by date descending.
+     * The query always reads at most {@code limit + 1} rows: the extra row only signals that
+     * a next page exists. The cursor continues strictly after the last row of the previous
+     * page using a row-value comparison on {@code (data, id_wyplata)}.
      * </p>
      *
-     * @return a list of all {@link Payment} entities
+     * @param filter optional filters and the keyset cursor of the previous page
+     * @param limit  maximum number of payments on the page
+     * @return the requested page
      */
     @Override
-    public List<Payment> findAll() {
-        return jdbcTemplate.query(FIND_ALL_SQL, paymentRowMapper);
-    }
+    public PaymentPageDto findPage(PaymentFilterDto filter, int limit) {
+        StringBuilder sql = new StringBuilder(FIND_PAGE_BASE_SQL);
+        List<Object> params = new ArrayList<>();
 
-    @Override
-    public List<Payment> findAllMine(Long userId) {
-        return jdbcTemplate.query(FIND_ALL_MINE_SQL, paymentRowMapper, userId);
+        if (filter.getUserId() != null) {
+            sql.append(" AND h.id_pracownik = ?");
+            params.add(filter.getUserId());
+        }
+        if (filter.getStatusId() != null) {
+            sql.append(" AND h.id_status_wyplaty = ?");
+            params.add(filter.getStatusId());
+        }
+        if (filter.getTypeId() != null) {
+            sql.append(" AND h.id_typ_wyplaty = ?");
+            params.add(filter.getTypeId());
+        }
+        if (filter.getDateFrom() != null) {
+            sql.append(" AND h.data >= ?");
+            params.add(filter.getDateFrom());
+        }
+        if (filter.getDateTo() != null) {
+            // Inclusive upper bound that also works when 'data' holds a time component
+            sql.append(" AND h.data < ?");
+            params.add(filter.getDateTo().plusDays(1));
+        }
+        if (filter.getAfterDate() != null && filter.getAfterId() != null) {
+            sql.append(" AND (h.data, h.id_wyplata) < (?, ?)");
+            params.add(Timestamp.valueOf(filter.getAfterDate()));
+            params.add(filter.getAfterId());
+        }
+
+        sql.append(" ORDER BY h.data DESC, h.id_wyplata DESC LIMIT ?");
+        params.add(limit + 1);
+
+        return jdbcTemplate.query(sql.toString(), rs -> {
+            List<Payment> items = new ArrayList<>();
+            LocalDateTime lastDate = null;
+            Long lastId = null;
+            boolean hasNext = false;
+
+            while (rs.next()) {
+                if (items.size() == limit) {
+                    hasNext = true;
+                    break;
+                }
+                Payment payment = paymentRowMapper.mapRow(rs, items.size());
+                items.add(payment);
+
+                // Keep the raw timestamp, Payment.date is truncated to a LocalDate
+                Timestamp ts = rs.getTimestamp("data");
+                lastDate = (ts != null) ? ts.toLocalDateTime() : null;
+                lastId = payment.getId();
+            }
+
+            return hasNext
+                    ? new PaymentPageDto(items, true, lastDate, lastId)
+                    : new PaymentPageDto(items, false, null, null);
+        }, params.toArray());
     }
 
     /**
@@ -175,4 +267,101 @@ public class JdbcPaymentRepository implements PaymentRepository {
     public void updateStatus(Long id, Long statusId) {
         jdbcTemplate.update(UPDATE_STATUS_SQL, statusId, id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Deletes many payments with one {@code DELETE ... WHERE id_wyplata = ANY(?)} per chunk of IDs.
+     * <p>
+     * All chunks run in a single transaction, so a failure rolls back the whole batch.
+     * </p>
+     *
+     * @param ids the unique identifiers of the payments to delete
+     * @return the outcome counts of the operation
+     */
+    @Override
+    @Transactional
+    public BulkOperationResultDto bulkDelete(Collection<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Long> existing = lockStatuses(distinctIds);
+
+        List<Long> toDelete = distinctIds.stream().filter(existing::containsKey).toList();
+        int deleted = 0;
+        for (List<Long> chunk : chunks(toDelete)) {
+            Object[] array = chunk.toArray();
+            deleted += jdbcTemplate.update(BULK_DELETE_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", array)));
+        }
+
+        List<Long> notFoundIds = distinctIds.stream().filter(id -> !existing.containsKey(id)).toList();
+        return new BulkOperationResultDto(distinctIds.size(), deleted, 0, notFoundIds.size(), notFoundIds);
+    }
+
+    /**
+     * Updates the status of many payments with one {@code UPDATE ... WHERE id_wyplata = ANY(?)}
+     * per chunk of IDs.
+     * <p>
+     * All chunks run in a single transaction. Payments already in the target status are
+     * excluded from the update and counted as unchanged.
+     * </p>
+     *
+     * @param ids      the unique identifiers of the payments to update
+     * @param statusId the unique identifier of the new status to apply
+     * @return the outcome counts of the operation
+     */
+    @Override
+    @Transactional
+    public BulkOperationResultDto bulkUpdateStatus(Collection<Long> ids, Long statusId) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Long> existing = lockStatuses(distinctIds);
+
+        List<Long> toUpdate = distinctIds.stream()
+                .filter(existing::containsKey)
+                .filter(id -> !Objects.equals(existing.get(id), statusId))
+                .toList();
+        int updated = 0;
+        for (List<Long> chunk : chunks(toUpdate)) {
+            Object[] array = chunk.toArray();
+            updated += jdbcTemplate.update(BULK_UPDATE_STATUS_SQL, ps -> {
+                ps.setLong(1, statusId);
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", array));
+            });
+        }
+
+        List<Long> notFoundIds = distinctIds.stream().filter(id -> !existing.containsKey(id)).toList();
+        int unchanged = existing.size() - toUpdate.size();
+        return new BulkOperationResultDto(distinctIds.size(), updated, unchanged, notFoundIds.size(), notFoundIds);
+    }
+
+    /**
+     * Locks the given payments for the rest of the transaction and reads their current status.
+     * <p>
+     * The IDs are sorted before they are split into chunks, so the rows are locked in ascending
+     * ID order across all chunks, whatever the order of the request.
+     * </p>
+     *
+     * @param ids the payment IDs to lock
+     * @return the current status ID keyed by payment ID, for the payments that exist
+     */
+    private Map<Long, Long> lockStatuses(List<Long> ids) {
+        Map<Long, Long> statuses = new HashMap<>();
+        for (List<Long> chunk : chunks(ids.stream().sorted().toList())) {
+            Object[] array = chunk.toArray();
+            jdbcTemplate.query(LOCK_STATUSES_BY_IDS_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", array)),
+                    rs -> {
+                        statuses.put(rs.getLong("id_wyplata"), rs.getObject("id_status_wyplaty", Long.class));
+                    });
+        }
+        return statuses;
+    }
+
+    /**
+     * Splits the IDs into consecutive chunks of at most {@code bulkChunkSize} elements.
+     */
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + bulkChunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
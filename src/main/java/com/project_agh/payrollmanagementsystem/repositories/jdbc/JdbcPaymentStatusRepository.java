@@ -1,7 +1,10 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.config.CacheConfig;
 import com.project_agh.payrollmanagementsystem.entities.PaymentStatus;
 import com.project_agh.payrollmanagementsystem.repositories.PaymentStatusRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -62,6 +65,7 @@ public class JdbcPaymentStatusRepository implements PaymentStatusRepository {
      *
      * @return a {@link List} of {@link PaymentStatus} entities
      */
+    @Cacheable(CacheConfig.PAYMENT_STATUSES)
     @Override
     public List<PaymentStatus> findAll() {
         return jdbcTemplate.query(FIND_ALL_FULL_SQL, paymentStatusRowMapper);
@@ -73,6 +77,7 @@ public class JdbcPaymentStatusRepository implements PaymentStatusRepository {
      * @param name        the unique name of the status (e.g., "Rejected")
      * @param description a brief description of what this status implies
      */
+    @CacheEvict(value = CacheConfig.PAYMENT_STATUSES, allEntries = true)
     @Override
     public void createPaymentStatus(String name, String description) {
         int rowsAffected = jdbcTemplate.update(CREATE_NEW_PAYMENT_STATUS, name, description);
@@ -83,6 +88,7 @@ public class JdbcPaymentStatusRepository implements PaymentStatusRepository {
      *
      * @param id the unique identifier of the status to remove
      */
+    @CacheEvict(value = CacheConfig.PAYMENT_STATUSES, allEntries = true)
     @Override
     public void deletePaymentStatus(Long id) {
         int rowsAffected = jdbcTemplate.update(
@@ -98,6 +104,7 @@ public class JdbcPaymentStatusRepository implements PaymentStatusRepository {
      * @param name        the new name to assign to the status
      * @param description the new description to assign to the status
      */
+    @CacheEvict(value = CacheConfig.PAYMENT_STATUSES, allEntries = true)
     @Override
     public void editPaymentStatus(Long id, String name, String description) {
         int rowsAffected = jdbcTemplate.update(
@@ -1,7 +1,10 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.config.CacheConfig;
 import com.project_agh.payrollmanagementsystem.entities.PaymentType;
 import com.project_agh.payrollmanagementsystem.repositories.PaymentTypeRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -62,6 +65,7 @@ public class JdbcPaymentTypeRepository implements PaymentTypeRepository {
      *
      * @return a {@link List} of all {@link PaymentType} entities
      */
+    @Cacheable(CacheConfig.PAYMENT_TYPES)
     @Override
     public List<PaymentType> findAll() {
         return jdbcTemplate.query(FIND_ALL_FULL_SQL, paymentTypeRowMapper);
@@ -73,6 +77,7 @@ public class JdbcPaymentTypeRepository implements PaymentTypeRepository {
      * @param name        the unique name of the payment type (e.g., "Bonus")
      * @param description a brief description of the payment type's purpose
      */
+    @CacheEvict(value = CacheConfig.PAYMENT_TYPES, allEntries = true)
     @Override
     public void createPaymentType(String name, String description) {
         int rowsAffected = jdbcTemplate.update(CREATE_NEW_PAYMENT_TYPE, name, description);
@@ -87,6 +92,7 @@ public class JdbcPaymentTypeRepository implements PaymentTypeRepository {
      *
      * @param id the unique identifier of the payment type to remove
      */
+    @CacheEvict(value = CacheConfig.PAYMENT_TYPES, allEntries = true)
     @Override
     public void deletePaymentType(Long id) {
         int rowsAffected = jdbcTemplate.update(
@@ -106,6 +112,7 @@ public class JdbcPaymentTypeRepository implements PaymentTypeRepository {
      * @param name        the new name to assign to the payment type
      * @param description the new description to assign to the payment type
      */
+    @CacheEvict(value = CacheConfig.PAYMENT_TYPES, allEntries = true)
     @Override
     public void editPaymentType(Long id, String name, String description) {
         int rowsAffected = jdbcTemplate.update(
@@ -0,0 +1,132 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayoutRunDto;
+import com.project_agh.payrollmanagementsystem.repositories.PayoutRunRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC-based implementation of the {@link PayoutRunRepository}.
+ * <p>
+ * The ledger lives in the {@code przebieg_wyplat} and {@code przebieg_wyplat_checkpoint} tables
+ * created by {@code db/payout_run_ledger.sql}.
+ * </p>
+ */
+@Repository
+public class JdbcPayoutRunRepository implements PayoutRunRepository {
+
+    private static final String FIND_BY_PERIOD_SQL =
+            "SELECT * FROM przebieg_wyplat WHERE okres_od = ? AND okres_do = ?";
+
+    private static final String INSERT_RUN_SQL =
+            "INSERT INTO przebieg_wyplat (okres_od, okres_do, silnik, status, liczba_wyplat, rozpoczeto) " +
+                    "VALUES (?, ?, ?, '" + PayoutRunDto.STATUS_RUNNING + "', 0, NOW())";
+
+    private static final String RESTART_RUN_SQL =
+            "UPDATE przebieg_wyplat SET silnik = ?, status = '" + PayoutRunDto.STATUS_RUNNING + "', " +
+                    "rozpoczeto = NOW(), zakonczono = NULL, blad = NULL WHERE id_przebiegu = ?";
+
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO przebieg_wyplat_checkpoint (id_przebiegu, od_pracownika, do_pracownika, liczba_wyplat, zapisano) " +
+                    "VALUES (?, ?, ?, ?, NOW())";
+
+    private static final String ADD_CHECKPOINT_TO_RUN_SQL =
+            "UPDATE przebieg_wyplat SET liczba_wyplat = liczba_wyplat + ?, ostatni_checkpoint = NOW() WHERE id_przebiegu = ?";
+
+    private static final String FIND_CHECKPOINT_RANGES_SQL =
+            "SELECT od_pracownika, do_pracownika FROM przebieg_wyplat_checkpoint WHERE id_przebiegu = ? ORDER BY od_pracownika";
+
+    private static final String COMPLETE_RUN_SQL =
+            "UPDATE przebieg_wyplat SET status = '" + PayoutRunDto.STATUS_COMPLETED + "', " +
+                    "liczba_wyplat = liczba_wyplat + ?, zakonczono = NOW() WHERE id_przebiegu = ?";
+
+    private static final String FAIL_RUN_SQL =
+            "UPDATE przebieg_wyplat SET status = '" + PayoutRunDto.STATUS_FAILED + "', blad = ?, zakonczono = NOW() " +
+                    "WHERE id_przebiegu = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<PayoutRunDto> runRowMapper = (rs, rowNum) -> new PayoutRunDto(
+            rs.getLong("id_przebiegu"),
+            rs.getDate("okres_od").toLocalDate(),
+            rs.getDate("okres_do").toLocalDate(),
+            rs.getString("silnik"),
+            rs.getString("status"),
+            rs.getInt("liczba_wyplat"),
+            toLocalDateTime(rs.getTimestamp("rozpoczeto")),
+            toLocalDateTime(rs.getTimestamp("zakonczono")),
+            toLocalDateTime(rs.getTimestamp("ostatni_checkpoint")),
+            rs.getString("blad"));
+
+    /**
+     * Constructs a new {@code JdbcPayoutRunRepository}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used for database operations
+     */
+    public JdbcPayoutRunRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<PayoutRunDto> findByPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        return jdbcTemplate.query(FIND_BY_PERIOD_SQL, runRowMapper, periodStart, periodEnd).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public Long start(LocalDate periodStart, LocalDate periodEnd, String engine) {
+        Optional<PayoutRunDto> existing = findByPeriod(periodStart, periodEnd);
+        if (existing.isPresent()) {
+            jdbcTemplate.update(RESTART_RUN_SQL, engine, existing.get().getId());
+            return existing.get().getId();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_RUN_SQL, new String[]{"id_przebiegu"});
+            ps.setDate(1, Date.valueOf(periodStart));
+            ps.setDate(2, Date.valueOf(periodEnd));
+            ps.setString(3, engine);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    @Override
+    public void recordCheckpoint(Long runId, long firstEmployeeId, long lastEmployeeId, int payoutsCreated) {
+        jdbcTemplate.update(INSERT_CHECKPOINT_SQL, runId, firstEmployeeId, lastEmployeeId, payoutsCreated);
+        jdbcTemplate.update(ADD_CHECKPOINT_TO_RUN_SQL, payoutsCreated, runId);
+    }
+
+    @Override
+    public List<long[]> findCheckpointRanges(Long runId) {
+        return jdbcTemplate.query(FIND_CHECKPOINT_RANGES_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("od_pracownika"), rs.getLong("do_pracownika")}, runId);
+    }
+
+    @Override
+    public void markCompleted(Long runId, int payoutsCreated) {
+        jdbcTemplate.update(COMPLETE_RUN_SQL, payoutsCreated, runId);
+    }
+
+    @Override
+    public void markFailed(Long runId, String error) {
+        jdbcTemplate.update(FAIL_RUN_SQL, error, runId);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
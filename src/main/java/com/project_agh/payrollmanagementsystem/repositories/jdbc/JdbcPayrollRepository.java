@@ -0,0 +1,166 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.dtos.CalculatedPayoutDto;
+import com.project_agh.payrollmanagementsystem.repositories.PayrollRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JDBC-based implementation of the {@link PayrollRepository}.
+ * <p>
+ * The queries of the application-side payroll run mirror the {@code generuj_wyplaty_za_miesiac}
+ * procedure: only approved entries within the period are read, the rate is the employee's
+ * current {@code wynagrodzenie_pln_g}, new payouts get the 'Oczekuje' status and the
+ * 'Godziny Pracy' type (falling back to IDs 2 and 1 like the procedure), and an employee who
+ * already has a payout with the period's description is skipped.
+ * </p>
+ */
+@Repository
+public class JdbcPayrollRepository implements PayrollRepository {
+
+    /**
+     * Number of rows fetched per round trip while streaming approved work hours.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final long DEFAULT_PENDING_STATUS_ID = 2L;
+    private static final long DEFAULT_WORK_HOURS_TYPE_ID = 1L;
+
+    private static final String CALL_PROCEDURE_SQL = "CALL generuj_wyplaty_za_miesiac(?, ?)";
+
+    private static final String COUNT_BY_DESCRIPTION_SQL =
+            "SELECT COUNT(*) FROM historia_wyplat WHERE opis = ?";
+
+    private static final String FIND_PENDING_STATUS_SQL =
+            "SELECT id_status_wyplaty FROM status_wyplaty WHERE nazwa = 'Oczekuje' LIMIT 1";
+
+    private static final String FIND_WORK_HOURS_TYPE_SQL =
+            "SELECT id_typ_wyplaty FROM typ_wyplaty WHERE nazwa = 'Godziny Pracy' LIMIT 1";
+
+    private static final String FIND_EMPLOYEES_TO_PAY_SQL = """
+            SELECT DISTINCT r.id_pracownik
+            FROM rejestracja_godzin_pracy r
+            WHERE r.zatwierdzenie = true
+              AND r.data >= ? AND r.data <= ?
+              AND NOT EXISTS (SELECT 1 FROM historia_wyplat hw WHERE hw.id_pracownik = r.id_pracownik AND hw.opis = ?)
+            ORDER BY r.id_pracownik
+            """;
+
+    private static final String STREAM_APPROVED_HOURS_SQL = """
+            SELECT r.id_pracownik, p.wynagrodzenie_pln_g, r.godzina_rozpoczecia, r.godzina_zakonczenia
+            FROM rejestracja_godzin_pracy r
+            JOIN pracownik p ON r.id_pracownik = p.id_pracownik
+            WHERE r.zatwierdzenie = true
+              AND r.data >= ? AND r.data <= ?
+              AND r.id_pracownik BETWEEN ? AND ?
+              AND NOT EXISTS (SELECT 1 FROM historia_wyplat hw WHERE hw.id_pracownik = r.id_pracownik AND hw.opis = ?)
+            ORDER BY r.id_pracownik
+            """;
+
+    // The NOT EXISTS guard keeps a rerun (or a concurrent procedure call) from paying twice
+    private static final String INSERT_PAYOUT_SQL = """
+            INSERT INTO historia_wyplat (id_pracownik, data, wyplata, id_status_wyplaty, opis, id_typ_wyplaty)
+            SELECT ?, NOW(), ?, ?, ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM historia_wyplat hw WHERE hw.id_pracownik = ? AND hw.opis = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code JdbcPayrollRepository}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used for database operations
+     */
+    public JdbcPayrollRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Calls the stored procedure and counts the payouts it created, in one transaction.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the last day of the period
+     * @param description the payout description the procedure writes for this period
+     * @return the number of payouts created by the call
+     */
+    @Override
+    @Transactional
+    public int callMonthlyPayoutProcedure(LocalDate periodStart, LocalDate periodEnd, String description) {
+        Integer before = jdbcTemplate.queryForObject(COUNT_BY_DESCRIPTION_SQL, Integer.class, description);
+        jdbcTemplate.update(CALL_PROCEDURE_SQL, periodStart, periodEnd);
+        Integer after = jdbcTemplate.queryForObject(COUNT_BY_DESCRIPTION_SQL, Integer.class, description);
+        return after - before;
+    }
+
+    @Override
+    public Long findPendingStatusId() {
+        List<Long> ids = jdbcTemplate.queryForList(FIND_PENDING_STATUS_SQL, Long.class);
+        return ids.isEmpty() ? DEFAULT_PENDING_STATUS_ID : ids.get(0);
+    }
+
+    @Override
+    public Long findWorkHoursTypeId() {
+        List<Long> ids = jdbcTemplate.queryForList(FIND_WORK_HOURS_TYPE_SQL, Long.class);
+        return ids.isEmpty() ? DEFAULT_WORK_HOURS_TYPE_ID : ids.get(0);
+    }
+
+    @Override
+    public List<Long> findEmployeeIdsToPay(LocalDate periodStart, LocalDate periodEnd, String description) {
+        return jdbcTemplate.queryForList(FIND_EMPLOYEES_TO_PAY_SQL, Long.class, periodStart, periodEnd, description);
+    }
+
+    /**
+     * Streams the approved entries of an employee ID range.
+     * <p>
+     * Rows are fetched {@value #STREAM_FETCH_SIZE} at a time and handed over one by one, so memory
+     * use does not depend on the size of the range. The PostgreSQL driver only honours the fetch
+     * size inside a transaction, so callers should invoke this within one.
+     * </p>
+     */
+    @Override
+    public void streamApprovedHours(long firstEmployeeId, long lastEmployeeId, LocalDate periodStart, LocalDate periodEnd,
+                                    String description, ApprovedHoursHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STREAM_APPROVED_HOURS_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setDate(1, Date.valueOf(periodStart));
+            ps.setDate(2, Date.valueOf(periodEnd));
+            ps.setLong(3, firstEmployeeId);
+            ps.setLong(4, lastEmployeeId);
+            ps.setString(5, description);
+            return ps;
+        }, rs -> {
+            handler.accept(
+                    rs.getLong("id_pracownik"),
+                    rs.getBigDecimal("wynagrodzenie_pln_g"),
+                    rs.getObject("godzina_rozpoczecia", LocalTime.class),
+                    rs.getObject("godzina_zakonczenia", LocalTime.class));
+        });
+    }
+
+    @Override
+    public int insertPayouts(List<CalculatedPayoutDto> payouts, Long statusId, Long typeId, String description) {
+        if (payouts.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_PAYOUT_SQL, payouts, payouts.size(), (ps, payout) -> {
+            ps.setLong(1, payout.getEmployeeId());
+            ps.setBigDecimal(2, payout.getAmount());
+            ps.setLong(3, statusId);
+            ps.setString(4, description);
+            ps.setLong(5, typeId);
+            ps.setLong(6, payout.getEmployeeId());
+            ps.setString(7, description);
+        });
+        // Drivers may report SUCCESS_NO_INFO (-2) for batched rows, count those as inserted
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(c -> c == PreparedStatement.SUCCESS_NO_INFO ? 1 : c).sum();
+    }
+}
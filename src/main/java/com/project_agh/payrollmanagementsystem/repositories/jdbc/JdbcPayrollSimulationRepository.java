@@ -0,0 +1,126 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.dtos.SalaryChangeHistoryDto;
+import com.project_agh.payrollmanagementsystem.dtos.SimulationEmployeeDto;
+import com.project_agh.payrollmanagementsystem.repositories.PayrollSimulationRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * JDBC-based implementation of the {@link PayrollSimulationRepository}.
+ * <p>
+ * Work hours are selected like in the {@code generuj_wyplaty_za_miesiac} procedure (approved
+ * entries within the dates), but regardless of whether the month has already been paid.
+ * </p>
+ */
+@Repository
+public class JdbcPayrollSimulationRepository implements PayrollSimulationRepository {
+
+    /**
+     * Number of rows fetched per round trip while streaming approved work hours.
+     */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String FIND_EMPLOYEES_SQL = """
+            SELECT p.id_pracownik, p.id_dzial, d.nazwa AS dzial_nazwa, p.wynagrodzenie_pln_g
+            FROM pracownik p
+            LEFT JOIN dzial d ON d.id_dzial = p.id_dzial
+            ORDER BY p.id_pracownik
+            """;
+
+    private static final String FIND_SALARY_CHANGES_AFTER_SQL = """
+            SELECT id_zmiany_wynagrodzenia, id_pracownik, stare_wynagr, nowe_wynagr, data, opis
+            FROM historia_zmian_wynagrodzen
+            WHERE data > ?
+            ORDER BY id_pracownik, data, id_zmiany_wynagrodzenia
+            """;
+
+    // The per-entry term is the procedure's own expression, so its rounding is PostgreSQL's
+    private static final String STREAM_MONTHLY_APPROVED_HOURS_SQL = """
+            SELECT id_pracownik,
+                   EXTRACT(YEAR FROM data) AS rok,
+                   EXTRACT(MONTH FROM data) AS miesiac,
+                   SUM(EXTRACT(EPOCH FROM (godzina_zakonczenia - godzina_rozpoczecia)) / 3600.0) AS godziny,
+                   SUM(EXTRACT(EPOCH FROM (godzina_zakonczenia - godzina_rozpoczecia))) AS czas_s,
+                   COUNT(*) AS liczba
+            FROM rejestracja_godzin_pracy
+            WHERE zatwierdzenie = true
+              AND data >= ? AND data <= ?
+              AND id_pracownik BETWEEN ? AND ?
+            GROUP BY 1, 2, 3
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<SimulationEmployeeDto> employeeRowMapper = (rs, rowNum) -> new SimulationEmployeeDto(
+            rs.getLong("id_pracownik"),
+            rs.getObject("id_dzial", Long.class),
+            rs.getString("dzial_nazwa"),
+            rs.getBigDecimal("wynagrodzenie_pln_g"));
+
+    private final RowMapper<SalaryChangeHistoryDto> salaryChangeRowMapper = (rs, rowNum) -> {
+        SalaryChangeHistoryDto change = new SalaryChangeHistoryDto();
+        change.setId(rs.getLong("id_zmiany_wynagrodzenia"));
+        change.setUserId(rs.getLong("id_pracownik"));
+        change.setOldSalary(rs.getBigDecimal("stare_wynagr"));
+        change.setNewSalary(rs.getBigDecimal("nowe_wynagr"));
+        change.setDate(rs.getDate("data").toLocalDate());
+        change.setDescription(rs.getString("opis"));
+        return change;
+    };
+
+    /**
+     * Constructs a new {@code JdbcPayrollSimulationRepository}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used for database operations
+     */
+    public JdbcPayrollSimulationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SimulationEmployeeDto> findEmployees() {
+        return jdbcTemplate.query(FIND_EMPLOYEES_SQL, employeeRowMapper);
+    }
+
+    @Override
+    public List<SalaryChangeHistoryDto> findSalaryChangesAfter(LocalDate date) {
+        return jdbcTemplate.query(FIND_SALARY_CHANGES_AFTER_SQL, salaryChangeRowMapper, date);
+    }
+
+    /**
+     * Streams the monthly totals of an employee ID range.
+     * <p>
+     * The database sums the entries, so a year of work arrives as at most twelve rows per
+     * employee. Rows are fetched {@value #STREAM_FETCH_SIZE} at a time; the PostgreSQL driver only
+     * honours the fetch size inside a transaction, so callers should invoke this within one.
+     * </p>
+     */
+    @Override
+    public void streamMonthlyApprovedHours(long firstEmployeeId, long lastEmployeeId, LocalDate dateFrom, LocalDate dateTo,
+                                           MonthlyHoursHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STREAM_MONTHLY_APPROVED_HOURS_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setDate(1, Date.valueOf(dateFrom));
+            ps.setDate(2, Date.valueOf(dateTo));
+            ps.setLong(3, firstEmployeeId);
+            ps.setLong(4, lastEmployeeId);
+            return ps;
+        }, rs -> {
+            handler.accept(
+                    rs.getLong("id_pracownik"),
+                    YearMonth.of(rs.getInt("rok"), rs.getInt("miesiac")),
+                    rs.getBigDecimal("godziny"),
+                    rs.getBigDecimal("czas_s"),
+                    rs.getLong("liczba"));
+        });
+    }
+}
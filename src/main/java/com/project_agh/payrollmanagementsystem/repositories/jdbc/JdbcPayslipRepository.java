@@ -0,0 +1,85 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayslipDto;
+import com.project_agh.payrollmanagementsystem.repositories.PayslipRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC-based implementation of the {@link PayslipRepository}.
+ * <p>
+ * Department, position and payment type are joined with outer joins, so a payout whose
+ * employee has no department or position still gets a payslip.
+ * </p>
+ */
+@Repository
+public class JdbcPayslipRepository implements PayslipRepository {
+
+    private static final String BASE_SQL = """
+            SELECT h.id_wyplata, h.id_pracownik, p.imie, p.nazwisko, p.email,
+                   d.nazwa AS dzial_nazwa, s.nazwa AS stanowisko_nazwa,
+                   h.data, h.wyplata, t.nazwa AS typ_nazwa, h.opis
+            FROM historia_wyplat h
+            JOIN pracownik p ON h.id_pracownik = p.id_pracownik
+            LEFT JOIN dzial d ON p.id_dzial = d.id_dzial
+            LEFT JOIN stanowisko s ON p.id_stanowisko = s.id_stanowisko
+            LEFT JOIN typ_wyplaty t ON h.id_typ_wyplaty = t.id_typ_wyplaty
+            """;
+
+    private static final String FIND_BY_DESCRIPTION_SQL = BASE_SQL + " WHERE h.opis = ? ORDER BY h.id_wyplata";
+
+    private static final String FIND_BY_ID_AND_USER_SQL = BASE_SQL + " WHERE h.id_wyplata = ? AND h.id_pracownik = ?";
+
+    private static final String EXISTS_BY_ID_AND_USER_SQL =
+            "SELECT COUNT(*) FROM historia_wyplat WHERE id_wyplata = ? AND id_pracownik = ?";
+
+    private static final RowMapper<PayslipDto> PAYSLIP_ROW_MAPPER = (rs, rowNum) -> {
+        Date date = rs.getDate("data");
+        return new PayslipDto(
+                rs.getLong("id_wyplata"),
+                rs.getLong("id_pracownik"),
+                rs.getString("imie"),
+                rs.getString("nazwisko"),
+                rs.getString("email"),
+                rs.getString("dzial_nazwa"),
+                rs.getString("stanowisko_nazwa"),
+                date != null ? date.toLocalDate() : null,
+                rs.getBigDecimal("wyplata"),
+                rs.getString("typ_nazwa"),
+                rs.getString("opis"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code JdbcPayslipRepository}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used for database operations
+     */
+    public JdbcPayslipRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PayslipDto> findByDescription(String description) {
+        return jdbcTemplate.query(FIND_BY_DESCRIPTION_SQL, PAYSLIP_ROW_MAPPER, description);
+    }
+
+    @Override
+    public Optional<PayslipDto> findByIdAndUser(long paymentId, long userId) {
+        return jdbcTemplate.query(FIND_BY_ID_AND_USER_SQL, PAYSLIP_ROW_MAPPER, paymentId, userId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean existsByIdAndUser(long paymentId, long userId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_BY_ID_AND_USER_SQL, Integer.class, paymentId, userId);
+        return count != null && count > 0;
+    }
+}
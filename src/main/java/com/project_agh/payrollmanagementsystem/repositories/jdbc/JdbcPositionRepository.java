@@ -1,7 +1,10 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.config.CacheConfig;
 import com.project_agh.payrollmanagementsystem.entities.Position;
 import com.project_agh.payrollmanagementsystem.repositories.PositionRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -62,6 +65,7 @@ public class JdbcPositionRepository implements PositionRepository {
      *
      * @return a {@link List} of all {@link Position} entities currently persisted
      */
+    @Cacheable(CacheConfig.POSITIONS)
     @Override
     public List<Position> findAll() {
         return jdbcTemplate.query(FIND_ALL_FULL_SQL, positionRowMapper);
@@ -73,6 +77,7 @@ public class JdbcPositionRepository implements PositionRepository {
      * @param position_name the title of the new position
      * @param position_desc a brief description of the responsibilities for this position
      */
+    @CacheEvict(value = CacheConfig.POSITIONS, allEntries = true)
     @Override
     public void createPosition(String position_name, String position_desc) {
         int rowsAffected = jdbcTemplate.update(CREATE_NEW_POSITION, position_name, position_desc);
@@ -93,6 +98,7 @@ public class JdbcPositionRepository implements PositionRepository {
      * @param name        the new title to assign to the position
      * @param description the new description to assign to the position
      */
+    @CacheEvict(value = CacheConfig.POSITIONS, allEntries = true)
     @Override
     public void editPosition(Long id, String name, String description) {
         int rowsAffected = jdbcTemplate.update(
@@ -113,6 +119,7 @@ public class JdbcPositionRepository implements PositionRepository {
      *
      * @param id the unique identifier of the position to delete
      */
+    @CacheEvict(value = CacheConfig.POSITIONS, allEntries = true)
     @Override
     public void deletePosition(Long id) {
         int rowsAffected = jdbcTemplate.update(
@@ -6,13 +6,19 @@ import com.project_agh.payrollmanagementsystem.entities.User;
 import com.project_agh.payrollmanagementsystem.repositories.ProjectRepository;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JDBC-based implementation of the {@link ProjectRepository}.
@@ -28,6 +34,7 @@ public class JdbcProjectRepository implements ProjectRepository {
 
     private static final String FIND_ALL_FULL_SQL = "SELECT * FROM projekt ORDER BY id_projekt";
     private static final String FIND_BY_ID_SQL = "SELECT * FROM projekt WHERE id_projekt = ?";
+    private static final String FIND_ALL_IDS_SQL = "SELECT id_projekt FROM projekt";
 
     private static final String CREATE_NEW_PROJECT = "INSERT INTO projekt (nazwa, opis, data_rozpoczecia, data_zakonczenia) VALUES (?, ?, ?, ?)";
     private static final String DELETE_PROJECT = "DELETE FROM projekt WHERE id_projekt = ?";
@@ -45,8 +52,11 @@ public class JdbcProjectRepository implements ProjectRepository {
     // We must join the position, role, and department tables here because the
     // shared UserRowMapper (from JdbcUserRepository) expects these columns to exist
     // in the ResultSet to properly construct the User entity.
-    private static final String SELECT_USERS_FOR_PROJECT =
+    // The project IDs are bound as a single bigint[] so that the members of any number
+    // of projects are loaded with one statement.
+    private static final String SELECT_USERS_FOR_PROJECTS =
             "SELECT " +
+                    "    pp.id_projekt, " + // Owning project, used to stitch members back
                     "    p.id_pracownik, p.imie, p.nazwisko, p.wynagrodzenie_pln_g, p.email, p.telefon, p.haslo_hash, " +
                     "    p.data_zatrudnienia, p.data_zwolnienia, p.aktywny, p.konto_bankowe, " +
                     "    pp.rola_w_projekcie, " + // Role from the join table
@@ -58,7 +68,8 @@ public class JdbcProjectRepository implements ProjectRepository {
                     "JOIN stanowisko s ON s.id_stanowisko = p.id_stanowisko " +
                     "JOIN rola r ON r.id_rola = p.id_rola " +
                     "JOIN dzial d ON d.id_dzial = p.id_dzial " +
-                    "WHERE pp.id_projekt = ?";
+                    "WHERE pp.id_projekt = ANY(?) " +
+                    "ORDER BY pp.id_projekt, p.id_pracownik";
 
     private final JdbcTemplate jdbcTemplate;
     private final JdbcUserRepository jdbcUserRepository;
@@ -99,11 +110,21 @@ public class JdbcProjectRepository implements ProjectRepository {
         return project;
     };
 
+    /**
+     * Retrieves the identifiers of all projects with a single-column query.
+     *
+     * @return a set of all project IDs
+     */
+    @Override
+    public Set<Long> findAllIds() {
+        return new HashSet<>(jdbcTemplate.queryForList(FIND_ALL_IDS_SQL, Long.class));
+    }
+
     /**
      * Retrieves all projects and their assigned members.
      * <p>
-     * Note: This method performs an N+1 query pattern (one query for projects,
-     * plus one query per project to load members).
+     * Exactly two queries are executed regardless of the number of projects: one for the
+     * projects and one for the members of all of them.
      * </p>
      *
      * @return a list of all {@link Project} entities with members populated
@@ -111,9 +132,7 @@ public class JdbcProjectRepository implements ProjectRepository {
     @Override
     public List<Project> findAll() {
         List<Project> projects = jdbcTemplate.query(FIND_ALL_FULL_SQL, projectRowMapper);
-        for (Project project : projects) {
-            loadUsersForProject(project);
-        }
+        loadUsersForProjects(projects);
         return projects;
     }
 
@@ -128,7 +147,7 @@ public class JdbcProjectRepository implements ProjectRepository {
         try {
             Project project = jdbcTemplate.queryForObject(FIND_BY_ID_SQL, projectRowMapper, id);
             if (project != null) {
-                loadUsersForProject(project);
+                loadUsersForProjects(List.of(project));
             }
             return Optional.ofNullable(project);
         } catch (EmptyResultDataAccessException e) {
@@ -183,26 +202,42 @@ public class JdbcProjectRepository implements ProjectRepository {
 
     // --- HELPER METHOD ---
     /**
-     * Populates the transient list of members for a given project.
+     * Populates the transient list of members for the given projects.
      * <p>
-     * Executes the {@code SELECT_USERS_FOR_PROJECT} query and uses the {@code JdbcUserRepository}'s
-     * row mapper to construct User objects, wrapping them in {@link ProjectMember} instances.
+     * Executes the {@code SELECT_USERS_FOR_PROJECTS} query once for all project IDs and uses the
+     * {@code JdbcUserRepository}'s row mapper to construct User objects, wrapping them in
+     * {@link ProjectMember} instances which are then attached to their owning project.
      * </p>
      *
-     * @param p the project entity to populate
+     * @param projects the project entities to populate
      */
-    private void loadUsersForProject(Project p) {
-        List<ProjectMember> team = jdbcTemplate.query(SELECT_USERS_FOR_PROJECT, (rs, rowNum) -> {
-            // 1. Map the User (this works because SQL aliases match UserRowMapper expectations)
-            User user = jdbcUserRepository.getUserRowMapper().mapRow(rs, rowNum);
+    private void loadUsersForProjects(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Project> projectsById = new HashMap<>();
+        for (Project project : projects) {
+            project.setMembers(new ArrayList<>());
+            projectsById.put(project.getId(), project);
+        }
+
+        Object[] projectIds = projectsById.keySet().toArray();
 
-            // 2. Retrieve the specific role from the project link table
-            String roleInProject = rs.getString("rola_w_projekcie");
+        jdbcTemplate.query(
+                SELECT_USERS_FOR_PROJECTS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", projectIds)),
+                (RowCallbackHandler) rs -> {
+                    // 1. Map the User (this works because SQL aliases match UserRowMapper expectations)
+                    User user = jdbcUserRepository.getUserRowMapper().mapRow(rs, rs.getRow());
 
-            // 3. Return the wrapper object
-            return new ProjectMember(user, roleInProject);
-        }, p.getId());
+                    // 2. Retrieve the specific role from the project link table
+                    String roleInProject = rs.getString("rola_w_projekcie");
 
-        p.setMembers(team);
+                    // 3. Attach the wrapper object to the project it belongs to
+                    projectsById.get(rs.getLong("id_projekt")).getMembers()
+                            .add(new ProjectMember(user, roleInProject));
+                }
+        );
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.config.CacheConfig;
 import com.project_agh.payrollmanagementsystem.entities.Role;
 import com.project_agh.payrollmanagementsystem.repositories.RoleRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -60,6 +63,7 @@ public class JdbcRoleRepository implements RoleRepository {
      *
      * @return a {@link List} of all {@link Role} entities
      */
+    @Cacheable(CacheConfig.ROLES)
     @Override
     public List<Role> findAll() {
         return jdbcTemplate.query(FIND_ALL_FULL_SQL, roleRowMapper);
@@ -70,6 +74,7 @@ public class JdbcRoleRepository implements RoleRepository {
      *
      * @param role_name the name of the new role (e.g., "MANAGER")
      */
+    @CacheEvict(value = CacheConfig.ROLES, allEntries = true)
     @Override
     public void createRole(String role_name) {
         int rowsAffected = jdbcTemplate.update(CREATE_NEW_ROLE, role_name);
@@ -80,6 +85,7 @@ public class JdbcRoleRepository implements RoleRepository {
      *
      * @param id the unique identifier of the role to remove
      */
+    @CacheEvict(value = CacheConfig.ROLES, allEntries = true)
     @Override
     public void deleteRole(Long id) {
         int rowsAffected = jdbcTemplate.update(
@@ -98,6 +104,7 @@ public class JdbcRoleRepository implements RoleRepository {
      * @param id   the unique identifier of the role to update
      * @param name the new name to assign to the role
      */
+    @CacheEvict(value = CacheConfig.ROLES, allEntries = true)
     @Override
     public void editRole(Long id, String name) {
         int rowsAffected = jdbcTemplate.update(
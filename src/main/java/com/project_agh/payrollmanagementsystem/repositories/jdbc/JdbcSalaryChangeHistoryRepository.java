@@ -80,6 +80,10 @@ public class JdbcSalaryChangeHistoryRepository implements SalaryChangeHistoryRep
         return history;
     };
 
+    public RowMapper<SalaryChangeHistory> getSalaryChangeHistoryRowMapper() {
+        return salaryChangeHistoryRowMapper;
+    }
+
     /**
      * Records a new salary change event in the database.
      * <p>
@@ -1,8 +1,11 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.config.CacheConfig;
 import com.project_agh.payrollmanagementsystem.entities.*;
 import com.project_agh.payrollmanagementsystem.repositories.UserRepository;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -10,7 +13,11 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,6 +49,9 @@ public class JdbcUserRepository implements UserRepository {
                     "JOIN dzial d ON d.id_dzial = p.id_dzial " +
                     "WHERE p.email = ?";
 
+    private static final String FIND_IDS_BY_EMAIL_SQL =
+            "SELECT id_pracownik, email FROM pracownik";
+
     private static final String FIND_BY_ID_SQL =
             "SELECT " +
                     "    p.id_pracownik, p.imie, p.nazwisko, p.wynagrodzenie_pln_g, p.email, p.telefon, p.haslo_hash, " +
@@ -68,7 +78,7 @@ public class JdbcUserRepository implements UserRepository {
                     "JOIN dzial d ON d.id_dzial = p.id_dzial";
 
     private static final String FIND_NOT_APPROVED_SQL =
-            "SELECT DISTINCT " +
+            "SELECT " +
                     "    p.id_pracownik, p.imie, p.nazwisko, p.wynagrodzenie_pln_g, p.email, p.telefon, p.haslo_hash, " +
                     "    p.data_zatrudnienia, p.data_zwolnienia, p.aktywny, p.konto_bankowe, " +
                     "    s.id_stanowisko AS stanowisko_id, s.nazwa AS stanowisko_nazwa, s.opis AS stanowisko_opis, " +
@@ -78,8 +88,9 @@ public class JdbcUserRepository implements UserRepository {
                     "JOIN stanowisko s ON s.id_stanowisko = p.id_stanowisko " +
                     "JOIN rola r ON r.id_rola = p.id_rola " +
                     "JOIN dzial d ON d.id_dzial = p.id_dzial " +
-                    "JOIN rejestracja_godzin_pracy rej ON rej.id_pracownik = p.id_pracownik " +
-                    "WHERE rej.zatwierdzenie = false";
+                    "WHERE EXISTS (SELECT 1 FROM rejestracja_godzin_pracy rej " +
+                    "              WHERE rej.id_pracownik = p.id_pracownik AND rej.zatwierdzenie = false) " +
+                    "ORDER BY p.nazwisko, p.imie";
 
     private static final String CREATE_NEW_USER =
             "insert into pracownik (imie, nazwisko, id_stanowisko, id_rola, id_dzial, wynagrodzenie_pln_g, " +
@@ -192,6 +203,7 @@ public class JdbcUserRepository implements UserRepository {
         return userRowMapper;
     }
 
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
     @Override
     public void deleteUser(Long id) {
         int rowsAffected = jdbcTemplate.update(DELETE_USER, id);
@@ -203,6 +215,7 @@ public class JdbcUserRepository implements UserRepository {
     /**
      * Updates user details, including the password hash.
      */
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
     @Override
     public void editUserWithPassword(Long id, String imie, String nazwisko, Long id_stanowisko, Long id_rola,
                                      Long id_dzial, BigDecimal wynagrodzenie_pln_g, String email, String haslo_hash,
@@ -231,6 +244,7 @@ public class JdbcUserRepository implements UserRepository {
     /**
      * Updates user details without modifying the password.
      */
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
     @Override
     public void editUser(Long id, String imie, String nazwisko, Long id_stanowisko, Long id_rola, Long id_dzial,
                          BigDecimal wynagrodzenie_pln_g, String email, LocalDate data_zatrudnienia,
@@ -265,6 +279,17 @@ public class JdbcUserRepository implements UserRepository {
         return results.stream().findFirst();
     }
 
+    /**
+     * Retrieves a user by email.
+     * <p>
+     * Results are cached in {@link CacheConfig#USERS} for the per-request lookups of the
+     * authenticated user; every user write below evicts that cache.
+     * </p>
+     *
+     * @param email the email of the user
+     * @return the matching user, or empty if none exists
+     */
+    @Cacheable(value = CacheConfig.USERS, unless = "#result == null")
     @Override
     public Optional<User> findByEmail(String email) {
         List<User> results = jdbcTemplate.query(
@@ -275,6 +300,22 @@ public class JdbcUserRepository implements UserRepository {
         return results.stream().findFirst();
     }
 
+    /**
+     * Retrieves a user by email for a login, without the cache.
+     * <p>
+     * The eviction of {@link CacheConfig#USERS} only reaches the instance that made the change,
+     * so a login always reads the current password hash and role from the database.
+     * </p>
+     *
+     * @param email the email of the user
+     * @return the matching user, or empty if none exists
+     */
+    @Override
+    public Optional<User> findByEmailForAuthentication(String email) {
+        return jdbcTemplate.query(FIND_BY_EMAIL_SQL, userRowMapper, email).stream().findFirst();
+    }
+
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
     @Override
     public void updatePhoneNumber(Long id, String phoneNumber) {
         int rowsAffected = jdbcTemplate.update(CHANGE_PHONE_NUMBER, phoneNumber, id);
@@ -282,23 +323,34 @@ public class JdbcUserRepository implements UserRepository {
 
     /**
      * Retrieves all users and populates their work hour history.
+     *
+     * @return a list of all users
+     */
+    @Override
+    public List<User> findAll() {
+        return findAll(true);
+    }
+
+    /**
+     * Retrieves all users, optionally populating their work hour history.
      * <p>
-     * <b>Performance Note:</b> This method currently performs an N+1 query pattern
-     * (one query for users, then one query per user to fetch work hours).
+     * Work hours are loaded in bulk (see {@link #attachWorkHours(List)}), so the number of
+     * queries does not depend on the number of users.
      * </p>
      *
+     * @param withWorkHours whether to load work hours for every user
      * @return a list of all users
      */
     @Override
-    public List<User> findAll() {
+    public List<User> findAll(boolean withWorkHours) {
         List<User> users = jdbcTemplate.query(FIND_ALL_FULL_SQL, userRowMapper);
-        for (User user : users) {
-            List<WorkHours> hours = workHoursRepository.findByUserId(user.getId());
-            user.setWorkHours(hours);
+        if (withWorkHours) {
+            attachWorkHours(users);
         }
         return users;
     }
 
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
     @Override
     public void updatePassword(Long id, String newPassword) {
         int rowsAffected = jdbcTemplate.update(CHANGE_PASSWORD, newPassword, id);
@@ -314,6 +366,7 @@ public class JdbcUserRepository implements UserRepository {
      * @param currentUserId the ID of the administrator performing this action (for audit)
      * @param clientIp      the IP address of the client performing this action (for audit)
      */
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
     @Override
     public void createUser(String imie, String nazwisko, Long id_stanowisko, Long id_rola,
                            Long id_dzial, BigDecimal wynagrodzenie_pln_g, String email, String telefon,
@@ -347,6 +400,7 @@ public class JdbcUserRepository implements UserRepository {
         );
     }
 
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
     @Override
     public void updateAccount(Long id, String account) {
         int rowsAffected = jdbcTemplate.update(CHANGE_ACCOUNT, account, id);
@@ -354,18 +408,53 @@ public class JdbcUserRepository implements UserRepository {
 
     /**
      * Retrieves a list of users who have work hours that have not yet been approved.
+     * <p>
+     * Work hour histories are not attached; the pending entries of each user are paged
+     * from {@link JdbcWorkHoursRepository#findPendingPage} when the approval dialog is opened.
+     * </p>
      *
      * @return a list of users with pending work hour records
      */
     @Override
     public List<User> findAllNotApproved() {
-        List<User> users = jdbcTemplate.query(FIND_NOT_APPROVED_SQL, userRowMapper);
+        return jdbcTemplate.query(FIND_NOT_APPROVED_SQL, userRowMapper);
+    }
 
-        for (User user : users) {
-            List<WorkHours> hours = workHoursRepository.findByUserId(user.getId());
-            user.setWorkHours(hours);
+    /**
+     * Retrieves the IDs of all employees keyed by their lower-cased email address.
+     *
+     * @return a map of lower-cased email to employee ID
+     */
+    @Override
+    public Map<String, Long> findIdsByEmail() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(FIND_IDS_BY_EMAIL_SQL, rs -> {
+            String email = rs.getString("email");
+            if (email != null) {
+                ids.put(email.toLowerCase(Locale.ROOT), rs.getLong("id_pracownik"));
+            }
+        });
+        return ids;
+    }
+
+    // --- HELPER METHOD ---
+    /**
+     * Populates the work hour history of the given users using a single set-based lookup
+     * instead of one {@code widok_godzin_pracy} query per user.
+     *
+     * @param users the users to populate
+     */
+    private void attachWorkHours(List<User> users) {
+        if (users.isEmpty()) {
+            return;
         }
 
-        return users;
+        Map<Long, List<WorkHours>> hoursByUser = workHoursRepository.findByUserIds(
+                users.stream().map(User::getId).toList()
+        );
+
+        for (User user : users) {
+            user.setWorkHours(hoursByUser.getOrDefault(user.getId(), new ArrayList<>()));
+        }
     }
 }
\ No newline at end of file
@@ -1,18 +1,25 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
-import com.project_agh.payrollmanagementsystem.entities.Project;
-import com.project_agh.payrollmanagementsystem.entities.User;
+import com.project_agh.payrollmanagementsystem.dtos.ApprovalQueueFilterDto;
+import com.project_agh.payrollmanagementsystem.dtos.WeeklyWorkSummaryDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursPageDto;
 import com.project_agh.payrollmanagementsystem.entities.WorkHours;
-import com.project_agh.payrollmanagementsystem.entities.WorkType;
 import com.project_agh.payrollmanagementsystem.repositories.WorkHoursRepository;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.SQLException;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * JDBC-based implementation of the {@link WorkHoursRepository}.
@@ -22,6 +29,10 @@ import java.util.List;
  * derived data (like duration strings, day names) and joins necessary reference tables,
  * simplifying the Java-side logic for generating reports and timesheets.
  * </p>
+ * <p>
+ * The queries return the view with or without joined employee names; every query maps its rows
+ * with its own mapper from {@link WorkHoursRowMapperFactory}, which adapts to the columns present.
+ * </p>
  */
 @Repository
 public class JdbcWorkHoursRepository implements WorkHoursRepository {
@@ -64,6 +75,31 @@ public class JdbcWorkHoursRepository implements WorkHoursRepository {
     private static final String APPROVE_WORK_HOURS =
             "UPDATE rejestracja_godzin_pracy SET zatwierdzenie = true WHERE id_rejestracji = ? ";
 
+    // Set-based approvals; 'zatwierdzenie = false' keeps the counts to entries that actually change.
+    private static final String APPROVE_BY_IDS_SQL =
+            "UPDATE rejestracja_godzin_pracy SET zatwierdzenie = true " +
+                    "WHERE zatwierdzenie = false AND id_rejestracji = ANY(?)";
+
+    // Optional date bounds are appended in approveByUserAndDateRange()
+    private static final String APPROVE_BY_USER_SQL =
+            "UPDATE rejestracja_godzin_pracy SET zatwierdzenie = true " +
+                    "WHERE zatwierdzenie = false AND id_pracownik = ?";
+
+    private static final String APPROVE_BY_DEPARTMENT_SQL =
+            "UPDATE rejestracja_godzin_pracy SET zatwierdzenie = true " +
+                    "WHERE zatwierdzenie = false AND data >= ? AND data <= ? " +
+                    "AND id_pracownik IN (SELECT id_pracownik FROM pracownik WHERE id_dzial = ?)";
+
+    // Base of the approval queue page query; filters, the cursor condition and ordering are appended
+    // in findPendingPage(). Backed by the partial indexes from db/work_hours_approval_queue_indexes.sql.
+    private static final String FIND_PENDING_BASE_SQL =
+            "SELECT r.*, " +
+                    "       p.imie AS pracownik_imie, " +
+                    "       p.nazwisko AS pracownik_nazwisko " +
+                    "FROM widok_godzin_pracy r " +
+                    "JOIN pracownik p ON r.id_pracownik = p.id_pracownik " +
+                    "WHERE r.zatwierdzenie = false";
+
     private static final String DELETE_WORKHOURS_SQL =
             "DELETE FROM rejestracja_godzin_pracy WHERE id_rejestracji = ?";
 
@@ -73,75 +109,31 @@ public class JdbcWorkHoursRepository implements WorkHoursRepository {
     private static final String INSERT_SQL =
             "INSERT INTO rejestracja_godzin_pracy (id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia, id_typ_pracy, id_projekt, komentarz, zatwierdzenie) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
 
-    private static final String FIND_BY_USER_FROM_VIEW_SQL =
-            "SELECT * FROM widok_godzin_pracy WHERE id_pracownik = ? ORDER BY data DESC";
-
-    private static final String FIND_BY_USER_AND_DATE_RANGE_SQL =
-            "SELECT * FROM widok_godzin_pracy WHERE id_pracownik = ? AND data >= ? AND data <= ? ORDER BY data ASC";
-
+    // Work hours of several employees in one query, bound with a bigint[] of employee IDs.
+    private static final String FIND_BY_USERS_FROM_VIEW_SQL =
+            "SELECT * FROM widok_godzin_pracy WHERE id_pracownik = ANY(?) ORDER BY id_pracownik, data DESC";
 
-    // --- ROW MAPPER ---
     /**
-     * Maps database rows to {@link WorkHours} objects.
-     * <p>
-     * <b>Robustness Strategy:</b> This mapper uses {@code try-catch} blocks for certain columns
-     * (like aliased names or view-specific calculated fields). This allows the same mapper to be
-     * reused across different queries where some of these auxiliary columns might be missing,
-     * preventing {@code SQLException} from crashing the operation.
-     * </p>
+     * Maximum number of employee IDs bound into a single {@code ANY(?)} array,
+     * keeps the statement and its result set bounded for very large listings.
      */
-    private final RowMapper<WorkHours> workHoursRowMapper = (rs, rowNum) -> {
-        WorkHours wh = new WorkHours();
-        wh.setId(rs.getLong("id_rejestracji"));
-        wh.setDate(rs.getDate("data").toLocalDate());
-        wh.setStartTime(rs.getTime("godzina_rozpoczecia").toLocalTime());
-        wh.setEndTime(rs.getTime("godzina_zakonczenia").toLocalTime());
-        wh.setComment(rs.getString("komentarz"));
-        wh.setApproved(rs.getBoolean("zatwierdzenie"));
-
-        // View specific columns (Ensure these exist in your view/query result)
-        try { wh.setDayOfWeek(rs.getString("dzien_tygodnia")); } catch (SQLException e) {}
-        try { wh.setWeekRange(rs.getString("okres_tygodnia")); } catch (SQLException e) {}
-        try { wh.setWorkedTime(rs.getString("czas_pracy")); } catch (SQLException e) {}
-
-        // Map WorkType
-        WorkType wt = new WorkType();
-        wt.setId(rs.getLong("id_typ_pracy"));
-        try { wt.setName(rs.getString("typ_nazwa")); } catch (SQLException e) {}
-        wh.setWorkType(wt);
-
-        // Map Project (Optional)
-        Long projId = rs.getObject("id_projekt", Long.class);
-        if (projId != null) {
-            Project p = new Project();
-            p.setId(projId);
-            try { p.setName(rs.getString("projekt_nazwa")); } catch (SQLException e) {}
-            wh.setProject(p);
-        }
+    private static final int USER_ID_CHUNK_SIZE = 1000;
 
-        // --- MAP USER ---
-        User user = new User();
-        user.setId(rs.getLong("id_pracownik"));
-
-        // Try reading aliased names first (from Accountant query)
-        try {
-            String imie = rs.getString("pracownik_imie");
-            String nazwisko = rs.getString("pracownik_nazwisko");
-            if (imie != null) user.setName(imie);
-            if (nazwisko != null) user.setLastname(nazwisko);
-        } catch (SQLException e) {
-            // If aliases not found, try standard names (fallback if view has them)
-            try {
-                user.setName(rs.getString("imie"));
-                user.setLastname(rs.getString("nazwisko"));
-            } catch (SQLException ex) {
-                // Ignore if no names found; we still have the ID
-            }
-        }
-        wh.setUser(user);
+    private static final String FIND_BY_USER_AND_DATE_RANGE_SQL =
+            "SELECT * FROM widok_godzin_pracy WHERE id_pracownik = ? AND data >= ? AND data <= ? ORDER BY data ASC";
+
+    // Base of the work history page query; the cursor condition and ordering are appended in
+    // findHistoryPage(). Backed by the index from db/work_hours_history_indexes.sql.
+    private static final String FIND_HISTORY_BASE_SQL =
+            "SELECT * FROM widok_godzin_pracy WHERE id_pracownik = ?";
 
-        return wh;
-    };
+    // Weekly statistics computed on the base table: every entry is truncated to whole minutes
+    // (like Duration.toMinutes()) before summing, entries without times are skipped.
+    private static final String SUMMARIZE_BY_USER_AND_DATE_RANGE_SQL =
+            "SELECT COALESCE(SUM(TRUNC(EXTRACT(EPOCH FROM (godzina_zakonczenia - godzina_rozpoczecia)) / 60)), 0) AS minuty, " +
+                    "       COUNT(DISTINCT data) AS dni " +
+                    "FROM rejestracja_godzin_pracy " +
+                    "WHERE id_pracownik = ? AND data >= ? AND data <= ?";
 
 
     // --- METHODS ---
@@ -178,14 +170,127 @@ public class JdbcWorkHoursRepository implements WorkHoursRepository {
     }
 
     /**
-     * Retrieves all work hours for a specific user.
+     * Inserts a batch of work hour entries with one {@code batchUpdate} call.
+     * <p>
+     * The insert statement is the same as for single entries, so every row starts unapproved.
+     * </p>
      *
-     * @param userId the ID of the user
-     * @return list of work hours
+     * @param currentUserId the ID of the employee
+     * @param entries       the validated entries to insert
+     * @return the number of rows inserted
      */
     @Override
-    public List<WorkHours> findByUserId(Long userId) {
-        return jdbcTemplate.query(FIND_BY_USER_FROM_VIEW_SQL, workHoursRowMapper, userId);
+    @Transactional
+    public int createWorkHoursBatch(Long currentUserId, List<WorkHoursDto> entries) {
+        return insertBatch(entries, entry -> currentUserId);
+    }
+
+    /**
+     * Inserts a chunk of imported entries with one {@code batchUpdate} call, taking the employee
+     * of every row from the entry itself.
+     *
+     * @param entries the validated entries to insert
+     * @return the number of rows inserted
+     */
+    @Override
+    @Transactional
+    public int importWorkHours(List<WorkHoursDto> entries) {
+        return insertBatch(entries, WorkHoursDto::getUserId);
+    }
+
+    private int insertBatch(List<WorkHoursDto> entries, Function<WorkHoursDto, Long> userIdOf) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, userIdOf.apply(entry));
+            ps.setObject(2, entry.getDate());
+            ps.setObject(3, entry.getStartTime());
+            ps.setObject(4, entry.getEndTime());
+            ps.setLong(5, entry.getWorkTypeId());
+            ps.setObject(6, entry.getProjectId(), Types.BIGINT);
+            ps.setString(7, entry.getComment());
+            ps.setBoolean(8, false);
+        });
+        // Drivers may report SUCCESS_NO_INFO (-2) instead of a row count, each statement inserts one row
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(c -> c < 0 ? 1 : c).sum();
+    }
+
+    /**
+     * Retrieves one keyset-paginated page of a user's work history, newest first.
+     * <p>
+     * At most {@code limit + 1} rows are read; the extra row only signals that a next page exists.
+     * </p>
+     *
+     * @param userId    the ID of the user
+     * @param afterDate date of the last entry of the previous page, or {@code null}
+     * @param afterId   ID of the last entry of the previous page, or {@code null}
+     * @param limit     maximum number of entries on the page
+     * @return the requested page
+     */
+    @Override
+    public WorkHoursPageDto findHistoryPage(Long userId, LocalDate afterDate, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(FIND_HISTORY_BASE_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+
+        if (afterDate != null && afterId != null) {
+            sql.append(" AND (data, id_rejestracji) < (?, ?)");
+            params.add(afterDate);
+            params.add(afterId);
+        }
+
+        sql.append(" ORDER BY data DESC, id_rejestracji DESC LIMIT ?");
+        params.add(limit + 1);
+
+        List<WorkHours> rows = jdbcTemplate.query(sql.toString(), WorkHoursRowMapperFactory.newRowMapper(), params.toArray());
+        if (rows.size() <= limit) {
+            return new WorkHoursPageDto(rows, false, null, null);
+        }
+        List<WorkHours> items = new ArrayList<>(rows.subList(0, limit));
+        WorkHours last = items.get(items.size() - 1);
+        return new WorkHoursPageDto(items, true, last.getDate(), last.getId());
+    }
+
+    /**
+     * Sums a user's worked minutes and counts the distinct worked days within a date range
+     * with a single aggregate query.
+     *
+     * @param userId   the ID of the user
+     * @param dateFrom range start date
+     * @param dateTo   range end date
+     * @return the summary of the range
+     */
+    @Override
+    public WeeklyWorkSummaryDto summarizeByUserIdAndDateRange(Long userId, LocalDate dateFrom, LocalDate dateTo) {
+        return jdbcTemplate.queryForObject(SUMMARIZE_BY_USER_AND_DATE_RANGE_SQL,
+                (rs, rowNum) -> new WeeklyWorkSummaryDto(rs.getLong("minuty"), rs.getLong("dni")),
+                userId, dateFrom, dateTo);
+    }
+
+    /**
+     * Retrieves the work hours of many users with one query per chunk of
+     * {@value #USER_ID_CHUNK_SIZE} IDs and groups them by employee.
+     *
+     * @param userIds the IDs of the users
+     * @return work hours grouped by employee ID
+     */
+    @Override
+    public Map<Long, List<WorkHours>> findByUserIds(Collection<Long> userIds) {
+        Map<Long, List<WorkHours>> hoursByUser = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+
+        for (int from = 0; from < ids.size(); from += USER_ID_CHUNK_SIZE) {
+            Object[] chunk = ids.subList(from, Math.min(from + USER_ID_CHUNK_SIZE, ids.size())).toArray();
+
+            List<WorkHours> records = jdbcTemplate.query(
+                    FIND_BY_USERS_FROM_VIEW_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", chunk)),
+                    WorkHoursRowMapperFactory.newRowMapper()
+            );
+
+            for (WorkHours record : records) {
+                hoursByUser.computeIfAbsent(record.getUser().getId(), id -> new ArrayList<>()).add(record);
+            }
+        }
+        return hoursByUser;
     }
 
     /**
@@ -195,7 +300,7 @@ public class JdbcWorkHoursRepository implements WorkHoursRepository {
      */
     @Override
     public List<WorkHours> findAll() {
-        return jdbcTemplate.query(FIND_ALL_FROM_VIEW_SQL, workHoursRowMapper);
+        return jdbcTemplate.query(FIND_ALL_FROM_VIEW_SQL, WorkHoursRowMapperFactory.newRowMapper());
     }
 
     @Override
@@ -229,7 +334,7 @@ public class JdbcWorkHoursRepository implements WorkHoursRepository {
      */
     @Override
     public List<WorkHours> findByUserIdAndDateRange(Long id, LocalDate startOfWeek, LocalDate endOfWeek) {
-        return jdbcTemplate.query(FIND_BY_USER_AND_DATE_RANGE_SQL, workHoursRowMapper, id, startOfWeek, endOfWeek);
+        return jdbcTemplate.query(FIND_BY_USER_AND_DATE_RANGE_SQL, WorkHoursRowMapperFactory.newRowMapper(), id, startOfWeek, endOfWeek);
     }
 
     /**
@@ -244,6 +349,108 @@ public class JdbcWorkHoursRepository implements WorkHoursRepository {
      */
     @Override
     public List<WorkHours> findByDateRange(LocalDate startOfWeek, LocalDate endOfWeek) {
-        return jdbcTemplate.query(FIND_BY_DATE_RANGE_SQL, workHoursRowMapper, startOfWeek, endOfWeek);
+        return jdbcTemplate.query(FIND_BY_DATE_RANGE_SQL, WorkHoursRowMapperFactory.newRowMapper(), startOfWeek, endOfWeek);
+    }
+
+    /**
+     * Retrieves one keyset-paginated page of pending entries, oldest first.
+     * <p>
+     * At most {@code limit + 1} rows are read; the extra row only signals that a next page exists.
+     * </p>
+     *
+     * @param filter optional filters and the keyset cursor of the previous page
+     * @param limit  maximum number of entries on the page
+     * @return the requested page
+     */
+    @Override
+    public WorkHoursPageDto findPendingPage(ApprovalQueueFilterDto filter, int limit) {
+        StringBuilder sql = new StringBuilder(FIND_PENDING_BASE_SQL);
+        List<Object> params = new ArrayList<>();
+
+        if (filter.getUserId() != null) {
+            sql.append(" AND r.id_pracownik = ?");
+            params.add(filter.getUserId());
+        }
+        if (filter.getDepartmentId() != null) {
+            sql.append(" AND p.id_dzial = ?");
+            params.add(filter.getDepartmentId());
+        }
+        if (filter.getDateFrom() != null) {
+            sql.append(" AND r.data >= ?");
+            params.add(filter.getDateFrom());
+        }
+        if (filter.getDateTo() != null) {
+            sql.append(" AND r.data <= ?");
+            params.add(filter.getDateTo());
+        }
+        if (filter.getAfterDate() != null && filter.getAfterId() != null) {
+            sql.append(" AND (r.data, r.id_rejestracji) > (?, ?)");
+            params.add(filter.getAfterDate());
+            params.add(filter.getAfterId());
+        }
+
+        sql.append(" ORDER BY r.data ASC, r.id_rejestracji ASC LIMIT ?");
+        params.add(limit + 1);
+
+        List<WorkHours> rows = jdbcTemplate.query(sql.toString(), WorkHoursRowMapperFactory.newRowMapper(), params.toArray());
+        if (rows.size() <= limit) {
+            return new WorkHoursPageDto(rows, false, null, null);
+        }
+        List<WorkHours> items = new ArrayList<>(rows.subList(0, limit));
+        WorkHours last = items.get(items.size() - 1);
+        return new WorkHoursPageDto(items, true, last.getDate(), last.getId());
+    }
+
+    /**
+     * Approves the given pending entries with one {@code UPDATE ... WHERE id_rejestracji = ANY(?)}.
+     *
+     * @param ids the IDs of the entries to approve
+     * @return the number of entries approved
+     */
+    @Override
+    public int approveByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Object[] array = ids.toArray();
+        return jdbcTemplate.update(APPROVE_BY_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", array)));
+    }
+
+    /**
+     * Approves the pending entries of one employee, optionally limited to a date range.
+     *
+     * @param userId   the employee ID
+     * @param dateFrom the first day (inclusive), or {@code null}
+     * @param dateTo   the last day (inclusive), or {@code null}
+     * @return the number of entries approved
+     */
+    @Override
+    public int approveByUserAndDateRange(Long userId, LocalDate dateFrom, LocalDate dateTo) {
+        StringBuilder sql = new StringBuilder(APPROVE_BY_USER_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+        if (dateFrom != null) {
+            sql.append(" AND data >= ?");
+            params.add(dateFrom);
+        }
+        if (dateTo != null) {
+            sql.append(" AND data <= ?");
+            params.add(dateTo);
+        }
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * Approves the pending entries of a department's employees within a date range.
+     *
+     * @param departmentId the department ID
+     * @param dateFrom     the first day (inclusive)
+     * @param dateTo       the last day (inclusive)
+     * @return the number of entries approved
+     */
+    @Override
+    public int approveByDepartmentAndDateRange(Long departmentId, LocalDate dateFrom, LocalDate dateTo) {
+        return jdbcTemplate.update(APPROVE_BY_DEPARTMENT_SQL, dateFrom, dateTo, departmentId);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.project_agh.payrollmanagementsystem.repositories.jdbc;
 
+import com.project_agh.payrollmanagementsystem.config.CacheConfig;
 import com.project_agh.payrollmanagementsystem.entities.WorkType;
 import com.project_agh.payrollmanagementsystem.repositories.WorkTypeRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -62,6 +65,7 @@ public class JdbcWorkTypeRepository implements WorkTypeRepository {
      *
      * @return a {@link List} of all {@link WorkType} entities
      */
+    @Cacheable(CacheConfig.WORK_TYPES)
     @Override
     public List<WorkType> findAll() {
         return jdbcTemplate.query(FIND_ALL_FULL_SQL, workTypeRowMapper);
@@ -73,6 +77,7 @@ public class JdbcWorkTypeRepository implements WorkTypeRepository {
      * @param name        the unique name of the work type (e.g., "Remote")
      * @param description a brief description of the rules for this work type
      */
+    @CacheEvict(value = CacheConfig.WORK_TYPES, allEntries = true)
     @Override
     public void createWorkType(String name, String description) {
         int rowsAffected = jdbcTemplate.update(CREATE_NEW_WORK_TYPE, name, description);
@@ -87,6 +92,7 @@ public class JdbcWorkTypeRepository implements WorkTypeRepository {
      *
      * @param id the unique identifier of the work type to remove
      */
+    @CacheEvict(value = CacheConfig.WORK_TYPES, allEntries = true)
     @Override
     public void deleteWorkType(Long id) {
         int rowsAffected = jdbcTemplate.update(
@@ -106,6 +112,7 @@ public class JdbcWorkTypeRepository implements WorkTypeRepository {
      * @param name        the new name to assign to the work type
      * @param description the new description to assign to the work type
      */
+    @CacheEvict(value = CacheConfig.WORK_TYPES, allEntries = true)
     @Override
     public void editWorkType(Long id, String name, String description) {
         int rowsAffected = jdbcTemplate.update(
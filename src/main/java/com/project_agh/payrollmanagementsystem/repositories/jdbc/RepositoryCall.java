@@ -0,0 +1,86 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+/**
+ * The repository method currently running on this thread, shared by {@link RepositoryMetricsAspect}
+ * and {@link InstrumentedJdbcTemplate}.
+ * <p>
+ * The aspect opens a call when a repository method is entered; the template attributes the
+ * statements it executes to that call and adds up their row counts. A repository method calling
+ * another repository opens a nested call, and the outer one is restored when it returns.
+ * </p>
+ */
+final class RepositoryCall {
+
+    private static final ThreadLocal<RepositoryCall> CURRENT = new ThreadLocal<>();
+
+    private final String repository;
+    private final String method;
+    private final RepositoryCall outer;
+
+    private long rows;
+    private boolean rowsCounted;
+
+    private RepositoryCall(String repository, String method, RepositoryCall outer) {
+        this.repository = repository;
+        this.method = method;
+        this.outer = outer;
+    }
+
+    /**
+     * Opens a call of a repository method on the current thread.
+     *
+     * @param repository the simple name of the repository class
+     * @param method     the name of the method
+     * @return the opened call, to be closed with {@link #close()}
+     */
+    static RepositoryCall open(String repository, String method) {
+        RepositoryCall call = new RepositoryCall(repository, method, CURRENT.get());
+        CURRENT.set(call);
+        return call;
+    }
+
+    /**
+     * Returns the call running on the current thread.
+     *
+     * @return the innermost open call, or {@code null} outside of repository methods
+     */
+    static RepositoryCall current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Closes this call and makes the outer call, if any, current again.
+     */
+    void close() {
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+
+    void addRows(long count) {
+        rows += count;
+        rowsCounted = true;
+    }
+
+    String getRepository() {
+        return repository;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    /**
+     * Tells whether at least one statement with a known row count ran in this call; a call
+     * answered from a cache, for example, runs none.
+     */
+    boolean isRowsCounted() {
+        return rowsCounted;
+    }
+}
@@ -0,0 +1,89 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Records the latency, row count and outcome of every call of a JDBC repository method.
+ * <p>
+ * Applies to the methods the repositories implement from their interfaces in
+ * {@code repositories}; the job lock repository is excluded because its method runs the whole
+ * job and has its own timers. Metrics, all tagged with {@code repository} (the class name) and
+ * {@code method}:
+ * </p>
+ * <ul>
+ *     <li>{@code payroll.repository.calls} - timer with a percentile histogram, additionally
+ *     tagged {@code outcome=success|error} and {@code exception} (the simple class name of the
+ *     exception, {@code none} on success), so its count with {@code outcome=error} is the error
+ *     count of the method;</li>
+ *     <li>{@code payroll.repository.rows} - distribution of the rows returned or affected by
+ *     the statements of one call, as counted by {@link InstrumentedJdbcTemplate}; calls that ran
+ *     no statement, like cache hits, are not recorded.</li>
+ * </ul>
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private static final Duration MINIMUM_EXPECTED_LATENCY = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED_LATENCY = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new {@code RepositoryMetricsAspect}.
+     *
+     * @param meterRegistry registry receiving the repository metrics
+     */
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Measures one call of a repository method.
+     *
+     * @param joinPoint the repository method call
+     * @return the result of the method
+     * @throws Throwable the exception thrown by the method, unchanged
+     */
+    @Around("execution(* com.project_agh.payrollmanagementsystem.repositories.*.*(..))"
+            + " && within(com.project_agh.payrollmanagementsystem.repositories.jdbc.*)"
+            + " && !within(com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcJobLockRepository)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        RepositoryCall call = RepositoryCall.open(repository, method);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            call.close();
+            sample.stop(Timer.builder("payroll.repository.calls")
+                    .tags("repository", repository, "method", method,
+                            "outcome", "none".equals(exception) ? "success" : "error", "exception", exception)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MINIMUM_EXPECTED_LATENCY)
+                    .maximumExpectedValue(MAXIMUM_EXPECTED_LATENCY)
+                    .register(meterRegistry));
+            if (call.isRowsCounted()) {
+                DistributionSummary.builder("payroll.repository.rows")
+                        .tags("repository", repository, "method", method)
+                        .register(meterRegistry)
+                        .record(call.getRows());
+            }
+        }
+    }
+}
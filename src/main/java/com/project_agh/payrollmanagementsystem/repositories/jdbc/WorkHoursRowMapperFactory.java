@@ -0,0 +1,175 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.entities.Project;
+import com.project_agh.payrollmanagementsystem.entities.User;
+import com.project_agh.payrollmanagementsystem.entities.WorkHours;
+import com.project_agh.payrollmanagementsystem.entities.WorkType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Creates row mappers of {@link WorkHours} that adapt to the columns of the query they map.
+ * <p>
+ * The queries of {@link JdbcWorkHoursRepository} return different shapes: the
+ * {@code widok_godzin_pracy} view adds formatted columns ({@code dzien_tygodnia},
+ * {@code okres_tygodnia}, {@code czas_pracy}) and reference names ({@code typ_nazwa},
+ * {@code projekt_nazwa}), and some queries join the employee's names. A mapper created here
+ * reads the {@link ResultSetMetaData} once, on the first row of a result set, and from then on
+ * reads every column by index; columns absent from the query are skipped without any lookup
+ * or exception.
+ * </p>
+ * <p>
+ * A mapper re-resolves the columns when it is handed a different result set, but it is not
+ * thread-safe: create one per query with {@link #newRowMapper()}.
+ * </p>
+ */
+public final class WorkHoursRowMapperFactory {
+
+    private WorkHoursRowMapperFactory() {
+    }
+
+    /**
+     * Creates a mapper for a single query.
+     *
+     * @return a new column-presence-aware {@link WorkHours} row mapper
+     */
+    public static RowMapper<WorkHours> newRowMapper() {
+        return new WorkHoursRowMapper();
+    }
+
+    /**
+     * Mapper caching the column layout of the result set it currently maps.
+     */
+    private static final class WorkHoursRowMapper implements RowMapper<WorkHours> {
+
+        private ResultSet resultSet;
+        private ColumnLayout layout;
+
+        @Override
+        public WorkHours mapRow(ResultSet rs, int rowNum) throws SQLException {
+            if (rs != resultSet) {
+                layout = ColumnLayout.of(rs.getMetaData());
+                resultSet = rs;
+            }
+            return layout.map(rs);
+        }
+    }
+
+    /**
+     * 1-based indexes of the mapped columns in one result set shape; {@code 0} marks an absent column.
+     */
+    private static final class ColumnLayout {
+
+        private final int id;
+        private final int date;
+        private final int startTime;
+        private final int endTime;
+        private final int comment;
+        private final int approved;
+        private final int dayOfWeek;
+        private final int weekRange;
+        private final int workedTime;
+        private final int workTypeId;
+        private final int workTypeName;
+        private final int projectId;
+        private final int projectName;
+        private final int userId;
+        private final int userName;
+        private final int userLastname;
+
+        private ColumnLayout(Map<String, Integer> columns) {
+            id = required(columns, "id_rejestracji");
+            date = required(columns, "data");
+            startTime = required(columns, "godzina_rozpoczecia");
+            endTime = required(columns, "godzina_zakonczenia");
+            comment = required(columns, "komentarz");
+            approved = required(columns, "zatwierdzenie");
+            workTypeId = required(columns, "id_typ_pracy");
+            projectId = required(columns, "id_projekt");
+            userId = required(columns, "id_pracownik");
+
+            dayOfWeek = columns.getOrDefault("dzien_tygodnia", 0);
+            weekRange = columns.getOrDefault("okres_tygodnia", 0);
+            workedTime = columns.getOrDefault("czas_pracy", 0);
+            workTypeName = columns.getOrDefault("typ_nazwa", 0);
+            projectName = columns.getOrDefault("projekt_nazwa", 0);
+
+            // Names aliased by the accountant queries take precedence over plain employee columns
+            if (columns.containsKey("pracownik_imie") || columns.containsKey("pracownik_nazwisko")) {
+                userName = columns.getOrDefault("pracownik_imie", 0);
+                userLastname = columns.getOrDefault("pracownik_nazwisko", 0);
+            } else {
+                userName = columns.getOrDefault("imie", 0);
+                userLastname = columns.getOrDefault("nazwisko", 0);
+            }
+        }
+
+        static ColumnLayout of(ResultSetMetaData metaData) throws SQLException {
+            int count = metaData.getColumnCount();
+            Map<String, Integer> columns = new HashMap<>(count * 2);
+            for (int i = 1; i <= count; i++) {
+                // The first occurrence wins, like ResultSet.findColumn()
+                columns.putIfAbsent(JdbcUtils.lookupColumnName(metaData, i).toLowerCase(Locale.ROOT), i);
+            }
+            return new ColumnLayout(columns);
+        }
+
+        private static int required(Map<String, Integer> columns, String name) {
+            Integer index = columns.get(name);
+            if (index == null) {
+                throw new IllegalStateException("Work hours query does not return column: " + name);
+            }
+            return index;
+        }
+
+        WorkHours map(ResultSet rs) throws SQLException {
+            WorkHours wh = new WorkHours();
+            wh.setId(rs.getLong(id));
+            wh.setDate(rs.getObject(date, LocalDate.class));
+            wh.setStartTime(rs.getObject(startTime, LocalTime.class));
+            wh.setEndTime(rs.getObject(endTime, LocalTime.class));
+            wh.setComment(rs.getString(comment));
+            wh.setApproved(rs.getBoolean(approved));
+
+            if (dayOfWeek > 0) wh.setDayOfWeek(rs.getString(dayOfWeek));
+            if (weekRange > 0) wh.setWeekRange(rs.getString(weekRange));
+            if (workedTime > 0) wh.setWorkedTime(rs.getString(workedTime));
+
+            WorkType wt = new WorkType();
+            wt.setId(rs.getLong(workTypeId));
+            if (workTypeName > 0) wt.setName(rs.getString(workTypeName));
+            wh.setWorkType(wt);
+
+            long projId = rs.getLong(projectId);
+            if (!rs.wasNull()) {
+                Project p = new Project();
+                p.setId(projId);
+                if (projectName > 0) p.setName(rs.getString(projectName));
+                wh.setProject(p);
+            }
+
+            User user = new User();
+            user.setId(rs.getLong(userId));
+            if (userName > 0) {
+                String name = rs.getString(userName);
+                if (name != null) user.setName(name);
+            }
+            if (userLastname > 0) {
+                String lastname = rs.getString(userLastname);
+                if (lastname != null) user.setLastname(lastname);
+            }
+            wh.setUser(user);
+
+            return wh;
+        }
+    }
+}
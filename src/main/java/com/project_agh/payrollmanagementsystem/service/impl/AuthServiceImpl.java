@@ -32,8 +32,8 @@ public class AuthServiceImpl implements AuthService {
     public User login(String email, String password) {
 
         // 1. Find the user in the database by their email.
-        // findByEmail returns an Optional<User>.
-        return userRepository.findByEmail(email)
+        // findByEmailForAuthentication reads the database, not the user cache, and returns an Optional<User>.
+        return userRepository.findByEmailForAuthentication(email)
                 // 2. If the user is found, use the filter to check the password.
                 // The encoder.matches() method securely compares the raw password
                 // with the hashed password stored in the User entity.
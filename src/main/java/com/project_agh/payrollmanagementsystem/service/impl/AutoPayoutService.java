@@ -1,77 +1,261 @@
 package com.project_agh.payrollmanagementsystem.service.impl;
 
+import com.project_agh.payrollmanagementsystem.dtos.PayoutRunDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollRunResultDto;
+import com.project_agh.payrollmanagementsystem.repositories.JobLockRepository;
+import com.project_agh.payrollmanagementsystem.repositories.PayoutRunRepository;
+import com.project_agh.payrollmanagementsystem.repositories.PayrollRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
 import java.time.temporal.TemporalAdjusters;
 
 /**
  * Service responsible for automating the payroll generation process.
  * <p>
- * This service triggers the database-level stored procedure that calculates salaries
- * for all employees. It is configured to run automatically on a monthly schedule
- * and can also be triggered upon application startup for testing or initialization purposes.
+ * This service triggers the calculation of salaries for all employees. It is configured
+ * to run automatically on a monthly schedule and can also be triggered upon application
+ * startup for testing or initialization purposes.
+ * </p>
+ * <p>
+ * The calculation is done by one of two interchangeable engines, selected with the
+ * {@code payroll.engine} property: {@code procedure} (default) calls the database stored
+ * procedure {@code generuj_wyplaty_za_miesiac} in a single transaction, {@code java} runs the
+ * {@link ParallelPayrollEngine}, which computes the same amounts in parallel partitions.
+ * </p>
+ * <p>
+ * Every run is recorded in the payout run ledger ({@code przebieg_wyplat}). A period whose run
+ * completed is never run again; a run that failed or was interrupted by a crash is resumed,
+ * with the {@code java} engine from its last checkpoints.
+ * </p>
+ * <p>
+ * The startup catch-up runs in the background, so the application serves traffic as soon as it
+ * is ready; its duration and outcome are published as the {@code payroll.startup.catchup} timer.
+ * Time-to-ready itself is the {@code application.ready.time} metric published by Spring Boot.
+ * </p>
+ * <p>
+ * With several instances behind a load balancer, each one fires the schedule and the startup
+ * catch-up. Both take the {@value #PAYOUT_JOB} lock first ({@link JobLockRepository}), so exactly
+ * one instance runs the payouts; the others fail to get the lock and skip the job at the cost of
+ * one query. An instance that gets the lock after another one finished sees the completed period
+ * in the ledger and does nothing.
+ * </p>
+ * <p>
+ * A completed run is announced with a {@link PayoutRunCompletedEvent}, on which the payslips of
+ * the period are generated ({@link PayslipService}).
  * </p>
  */
 @Service
 public class AutoPayoutService {
 
-    private final JdbcTemplate jdbcTemplate;
+    public static final String ENGINE_PROCEDURE = "procedure";
+    public static final String ENGINE_JAVA = "java";
+
+    /**
+     * Name of the cluster-wide lock held while payouts are generated by a background job.
+     */
+    public static final String PAYOUT_JOB = "monthly-payout";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AutoPayoutService.class);
 
-    public AutoPayoutService(JdbcTemplate jdbcTemplate) {
-        this.jdbcTemplate = jdbcTemplate;
+    private final PayrollRepository payrollRepository;
+    private final PayoutRunRepository payoutRunRepository;
+    private final JobLockRepository jobLockRepository;
+    private final ParallelPayrollEngine parallelPayrollEngine;
+    private final String engine;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructs a new {@code AutoPayoutService}.
+     *
+     * @param payrollRepository     repository used to call the stored procedure
+     * @param payoutRunRepository   the payout run ledger
+     * @param jobLockRepository     the cluster-wide lock of the background payout jobs
+     * @param parallelPayrollEngine the application-side payroll engine
+     * @param engine                the engine to use, {@value #ENGINE_PROCEDURE} or {@value #ENGINE_JAVA}
+     * @param meterRegistry         registry receiving the startup catch-up timer
+     * @param eventPublisher        publisher of the {@link PayoutRunCompletedEvent}
+     */
+    public AutoPayoutService(PayrollRepository payrollRepository,
+                             PayoutRunRepository payoutRunRepository,
+                             JobLockRepository jobLockRepository,
+                             ParallelPayrollEngine parallelPayrollEngine,
+                             @Value("${payroll.engine:" + ENGINE_PROCEDURE + "}") String engine,
+                             MeterRegistry meterRegistry,
+                             ApplicationEventPublisher eventPublisher) {
+        if (!ENGINE_PROCEDURE.equals(engine) && !ENGINE_JAVA.equals(engine)) {
+            throw new IllegalArgumentException("Unknown payroll.engine '" + engine + "', expected "
+                    + ENGINE_PROCEDURE + " or " + ENGINE_JAVA + ".");
+        }
+        this.payrollRepository = payrollRepository;
+        this.payoutRunRepository = payoutRunRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.parallelPayrollEngine = parallelPayrollEngine;
+        this.engine = engine;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Triggers the monthly payroll calculation procedure.
+     * Triggers the monthly payroll calculation.
      * <p>
      * This method is scheduled to run at <b>01:00 AM on the 1st day of every month</b>.
      * It determines the date range for the <i>previous month</i> (first day to last day)
-     * and executes the SQL stored procedure {@code generuj_wyplaty_za_miesiac}.
-     * </p>
-     * <p>
-     * <b>Note:</b> The actual salary logic (taxes, bonuses, deductions) is encapsulated
-     * within the database procedure to ensure transactional integrity and performance.
+     * and generates the payouts for it with the configured engine, unless another instance
+     * holds the {@value #PAYOUT_JOB} lock.
      * </p>
      */
     @Scheduled(cron = "0 0 1 1 * ?")
-    @Transactional
     public void triggerMonthlyPayoutProcedure() {
-        System.out.println("Java Scheduler: Calculating monthly payouts...");
-
-        LocalDate today = LocalDate.now();
-        // Calculate the range for the previous month
-        LocalDate startOfLastMonth = today.minusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
-        LocalDate endOfLastMonth = today.minusMonths(1).with(TemporalAdjusters.lastDayOfMonth());
+        LOG.info("Java Scheduler: Calculating monthly payouts...");
 
         try {
-            // Call the database stored procedure
-            String sql = "CALL generuj_wyplaty_za_miesiac(?, ?)";
+            boolean ran = jobLockRepository.runExclusively(PAYOUT_JOB, () -> {
+                PayrollRunResultDto result = generatePayouts(startOfLastMonth(), endOfLastMonth());
 
-            jdbcTemplate.update(sql, startOfLastMonth, endOfLastMonth);
-
-            System.out.println("Java Scheduler: Success - Payouts generated.");
+                LOG.info("Java Scheduler: Success - {} payouts generated by the {} engine in {} ms.",
+                        result.getPayoutsCreated(), result.getEngine(), result.getDurationMillis());
+            });
+            if (!ran) {
+                LOG.info("Java Scheduler: Monthly payouts are being generated by another instance, skipping.");
+            }
 
         } catch (Exception e) {
-            System.err.println("Java Scheduler: Error generating payouts: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Java Scheduler: Error generating payouts.", e);
         }
     }
 
     /**
-     * Event listener that triggers the payout procedure immediately upon application startup.
+     * Generates the payouts for the given period with the configured engine, tracked in the ledger.
      * <p>
-     * This is useful for development environments or ensuring pending calculations are processed
-     * if the server was down during the scheduled cron execution.
+     * If the ledger shows the period as completed, nothing is done. Otherwise the run is marked
+     * {@code RUNNING}, performed (resuming from the checkpoints of an earlier attempt) and marked
+     * {@code COMPLETED}, or {@code FAILED} with the error message before the error is rethrown.
+     * Both engines also skip employees who already received the period's payout, so even an
+     * attempt whose completion was not recorded cannot pay anyone twice.
+     * </p>
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the last day of the period
+     * @return the summary of this attempt (no payouts if the period was already completed)
+     */
+    public PayrollRunResultDto generatePayouts(LocalDate periodStart, LocalDate periodEnd) {
+        Optional<PayoutRunDto> previous = payoutRunRepository.findByPeriod(periodStart, periodEnd);
+        if (previous.isPresent() && PayoutRunDto.STATUS_COMPLETED.equals(previous.get().getStatus())) {
+            LOG.info("Java Scheduler: Payouts for {} - {} already completed, skipping.", periodStart, periodEnd);
+            return new PayrollRunResultDto(previous.get().getEngine(), periodStart, periodEnd, 0, 0, 0);
+        }
+        if (previous.isPresent()) {
+            LOG.info("Java Scheduler: Resuming {} payout run for {} - {}.", previous.get().getStatus(), periodStart, periodEnd);
+        }
+
+        Long runId = payoutRunRepository.start(periodStart, periodEnd, engine);
+        PayrollRunResultDto result;
+        try {
+            result = runEngine(periodStart, periodEnd, runId);
+            // Partitions of the java engine have already added their payouts with their checkpoints
+            payoutRunRepository.markCompleted(runId, ENGINE_JAVA.equals(engine) ? 0 : result.getPayoutsCreated());
+        } catch (RuntimeException e) {
+            payoutRunRepository.markFailed(runId, e.getMessage());
+            throw e;
+        }
+        eventPublisher.publishEvent(new PayoutRunCompletedEvent(periodStart, periodEnd, result.getPayoutsCreated()));
+        return result;
+    }
+
+    private PayrollRunResultDto runEngine(LocalDate periodStart, LocalDate periodEnd, Long runId) {
+        String description = payoutDescription(periodStart);
+        if (ENGINE_JAVA.equals(engine)) {
+            return parallelPayrollEngine.run(periodStart, periodEnd, description, runId);
+        }
+
+        long started = System.nanoTime();
+        int created = payrollRepository.callMonthlyPayoutProcedure(periodStart, periodEnd, description);
+        long durationMillis = (System.nanoTime() - started) / 1_000_000;
+        return new PayrollRunResultDto(ENGINE_PROCEDURE, periodStart, periodEnd, created, 1, durationMillis);
+    }
+
+    /**
+     * Returns the description of automatic payouts for a period, as written by the stored procedure
+     * ({@code 'Automatyczna wypłata: ' || TO_CHAR(p_data_poczatkowa, 'YYYY-MM')}).
+     *
+     * @param periodStart the first day of the period
+     * @return the payout description
+     */
+    public static String payoutDescription(LocalDate periodStart) {
+        return "Automatyczna wypłata: " + YearMonth.from(periodStart);
+    }
+
+    /**
+     * Event listener that starts the payout catch-up upon application startup.
+     * <p>
+     * This ensures pending calculations are processed if the server was down during the scheduled
+     * cron execution. The catch-up runs on a background thread, so a restart does not wait for a
+     * payroll run before serving requests.
      * </p>
      */
     @EventListener(ApplicationReadyEvent.class)
     public void runOnStartup() {
-        triggerMonthlyPayoutProcedure();
+        Thread.ofVirtual().name("payout-startup-catch-up").start(this::catchUpPreviousMonth);
+    }
+
+    /**
+     * Generates the previous month's payouts unless the ledger already shows them as completed.
+     * <p>
+     * The ledger lookup is a single indexed query, so on a node restarted after the month was
+     * processed the catch-up ends right away. The catch-up holds the {@value #PAYOUT_JOB} lock, so
+     * instances starting together do not run it concurrently. The duration is recorded with the
+     * outcome ({@code skipped}, {@code locked}, {@code completed} or {@code failed}) as a tag.
+     * </p>
+     */
+    void catchUpPreviousMonth() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String[] outcome = {"failed"};
+        try {
+            boolean ran = jobLockRepository.runExclusively(PAYOUT_JOB, () -> {
+                LocalDate start = startOfLastMonth();
+                LocalDate end = endOfLastMonth();
+                boolean completed = payoutRunRepository.findByPeriod(start, end)
+                        .map(run -> PayoutRunDto.STATUS_COMPLETED.equals(run.getStatus()))
+                        .orElse(false);
+                if (completed) {
+                    outcome[0] = "skipped";
+                    LOG.info("Java Scheduler: Payouts for {} - {} already completed, no catch-up needed.", start, end);
+                    return;
+                }
+
+                PayrollRunResultDto result = generatePayouts(start, end);
+                outcome[0] = "completed";
+                LOG.info("Java Scheduler: Startup catch-up generated {} payouts.", result.getPayoutsCreated());
+            });
+            if (!ran) {
+                outcome[0] = "locked";
+                LOG.info("Java Scheduler: Payouts are being generated by another instance, no catch-up needed.");
+            }
+        } catch (Exception e) {
+            LOG.error("Java Scheduler: Startup catch-up failed.", e);
+        } finally {
+            sample.stop(meterRegistry.timer("payroll.startup.catchup", "outcome", outcome[0]));
+        }
+    }
+
+    private static LocalDate startOfLastMonth() {
+        return LocalDate.now().minusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
+    }
+
+    private static LocalDate endOfLastMonth() {
+        return LocalDate.now().minusMonths(1).with(TemporalAdjusters.lastDayOfMonth());
     }
-}
\ No newline at end of file
+}
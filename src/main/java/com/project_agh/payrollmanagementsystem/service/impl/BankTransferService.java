@@ -0,0 +1,264 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.BankTransferRequestDto;
+import com.project_agh.payrollmanagementsystem.dtos.BankTransferSummaryDto;
+import com.project_agh.payrollmanagementsystem.repositories.BankTransferRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service generating the bank transfer file of a monthly payout run, so the salaries do not have
+ * to be keyed into the bank by hand.
+ * <p>
+ * The transfers are the payouts of the run ({@link AutoPayoutService#payoutDescription}), paid to
+ * the bank accounts of the employees from the company account configured with
+ * {@code bank.debtor.name}, {@code bank.debtor.iban} and optionally {@code bank.debtor.bic}, in
+ * {@code bank.currency} (PLN by default). Two formats are supported: Elixir-O for domestic
+ * transfers and ISO 20022 {@code pain.001} XML (SEPA for payouts in euro).
+ * </p>
+ * <p>
+ * A file is generated in two passes over the payouts. {@link #check} validates every bank account
+ * and sums the transfers without writing anything; a file is only offered when every account is
+ * usable, because a batch that silently leaves out employees would not be noticed until payday.
+ * {@link #write} then streams the transfers to the file. If the payouts change between the two
+ * passes, the file is abandoned before it is completed.
+ * </p>
+ */
+@Service
+public class BankTransferService {
+
+    /**
+     * The supported file formats.
+     */
+    public enum Format {
+        ELIXIR("elixir", "txt", "text/plain;charset=windows-1250"),
+        SEPA("sepa", "xml", "application/xml;charset=UTF-8");
+
+        private final String name;
+        private final String extension;
+        private final String contentType;
+
+        Format(String name, String extension, String contentType) {
+            this.name = name;
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Resolves a format by its name, ignoring case.
+         *
+         * @param name {@code elixir} or {@code sepa}
+         * @return the format
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static Format fromName(String name) {
+            for (Format format : values()) {
+                if (format.name.equals(name.toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Nieobsługiwany format pliku przelewów: " + name + " (dozwolone: elixir, sepa).");
+        }
+    }
+
+    /**
+     * Maximum number of rejected payouts listed in a summary; all of them are counted.
+     */
+    static final int MAX_REJECTED_LISTED = 100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BankTransferService.class);
+
+    private static final DateTimeFormatter MESSAGE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final BankTransferRepository bankTransferRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String debtorName;
+    private final String debtorIban;
+    private final String debtorBic;
+    private final String currency;
+
+    /**
+     * Constructs a new {@code BankTransferService}.
+     *
+     * @param bankTransferRepository repository reading the payouts
+     * @param transactionManager     transaction manager used for the read-only passes over the payouts
+     * @param debtorName             name of the company, as the payer of the transfers
+     * @param debtorIban             IBAN of the company account the salaries are paid from
+     * @param debtorBic              BIC of the company bank (optional)
+     * @param currency               ISO 4217 currency code of the payouts
+     * @throws IllegalArgumentException if {@code bank.debtor.iban} is set but is not a valid IBAN
+     */
+    public BankTransferService(BankTransferRepository bankTransferRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${bank.debtor.name:}") String debtorName,
+                               @Value("${bank.debtor.iban:}") String debtorIban,
+                               @Value("${bank.debtor.bic:}") String debtorBic,
+                               @Value("${bank.currency:PLN}") String currency) {
+        this.bankTransferRepository = bankTransferRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.debtorName = debtorName.isBlank() ? null : debtorName.trim();
+        this.debtorIban = debtorIban.isBlank() ? null : Iban.normalize(debtorIban);
+        if (!debtorIban.isBlank() && !Iban.isValid(this.debtorIban)) {
+            throw new IllegalArgumentException("Invalid bank.debtor.iban '" + debtorIban + "'.");
+        }
+        this.debtorBic = debtorBic.isBlank() ? null : debtorBic.trim().toUpperCase(Locale.ROOT);
+        this.currency = currency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Validates the payouts of a transfer file and sums them, without writing the file.
+     *
+     * @param request the payouts to transfer
+     * @param format  the file format
+     * @return the number and sum of the transfers, or why the file cannot be generated
+     * @throws IllegalArgumentException if the request itself is invalid or no company account is configured
+     */
+    public BankTransferSummaryDto check(BankTransferRequestDto request, Format format) {
+        checkRequest(request, format);
+
+        List<BankTransferSummaryDto.RejectedTransfer> rejected = new ArrayList<>();
+        long[] totals = new long[3]; // transfers, sum in grosze, rejected transfers
+        readOnlyTransaction.executeWithoutResult(status -> bankTransferRepository.streamTransfers(
+                AutoPayoutService.payoutDescription(request.getPeriod().atDay(1)), request.getStatusId(),
+                (paymentId, firstName, lastName, account, amount) -> {
+                    String reason = rejectionReason(account, Iban.normalize(account), format);
+                    if (reason == null) {
+                        totals[0]++;
+                        totals[1] += toMinor(amount);
+                        return;
+                    }
+                    if (totals[2]++ < MAX_REJECTED_LISTED) {
+                        rejected.add(new BankTransferSummaryDto.RejectedTransfer(
+                                paymentId, firstName + " " + lastName, account, reason));
+                    }
+                }));
+
+        String message = null;
+        if (totals[2] > 0) {
+            message = "Nie można przelać " + totals[2] + " wypłat: popraw numery rachunków pracowników.";
+        } else if (totals[0] == 0) {
+            message = "Brak wypłat za " + request.getPeriod() + " do przelania.";
+        }
+        return new BankTransferSummaryDto(message == null, message, (int) totals[0],
+                BigDecimal.valueOf(totals[1], 2), rejected);
+    }
+
+    /**
+     * Writes the transfer file of a batch that passed {@link #check}.
+     *
+     * @param request the payouts to transfer
+     * @param format  the file format
+     * @param summary the successful result of {@link #check} for the same request
+     * @param out     the stream receiving the file; it is not closed
+     * @return the number of transfers written
+     * @throws IOException           if writing to the stream fails
+     * @throws IllegalStateException if the payouts no longer match the summary
+     */
+    public long write(BankTransferRequestDto request, Format format, BankTransferSummaryDto summary,
+                      OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        long expectedMinor = summary.getTotalAmount().movePointRight(2).longValueExact();
+        BankTransferWriter.Batch batch = new BankTransferWriter.Batch(
+                "WYP-" + request.getPeriod() + "-" + MESSAGE_TIME.format(createdAt), createdAt,
+                debtorName, debtorIban, debtorBic, currency, executionDate(request),
+                "Wynagrodzenie za " + request.getPeriod(), summary.getTransfers(), expectedMinor);
+        BankTransferWriter writer = format == Format.ELIXIR
+                ? new ElixirTransferWriter(out, batch)
+                : new SepaTransferWriter(out, batch);
+
+        long[] totals = new long[2]; // transfers, sum in grosze
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> bankTransferRepository.streamTransfers(
+                    AutoPayoutService.payoutDescription(request.getPeriod().atDay(1)), request.getStatusId(),
+                    (paymentId, firstName, lastName, account, amount) -> {
+                        String iban = Iban.normalize(account);
+                        if (rejectionReason(account, iban, format) != null) {
+                            throw new IllegalStateException("Bank account of payout " + paymentId
+                                    + " changed while the transfer file was being generated.");
+                        }
+                        long amountMinor = toMinor(amount);
+                        writer.transfer(paymentId, firstName + " " + lastName, iban, amountMinor);
+                        totals[0]++;
+                        totals[1] += amountMinor;
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (totals[0] != summary.getTransfers() || totals[1] != expectedMinor) {
+            // The header of the file already states the checked count and sum
+            throw new IllegalStateException("Payouts for " + request.getPeriod()
+                    + " changed while the transfer file was being generated.");
+        }
+        writer.finish();
+
+        LOG.info("Bank transfer file {}.{}: {} transfers in {} ms", request.getPeriod(), format.extension, totals[0],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return totals[0];
+    }
+
+    private void checkRequest(BankTransferRequestDto request, Format format) {
+        if (request.getPeriod() == null) {
+            throw new IllegalArgumentException("Wybierz miesiąc wypłat.");
+        }
+        if (debtorName == null || debtorIban == null) {
+            throw new IllegalArgumentException("Nie skonfigurowano rachunku firmy (bank.debtor.name, bank.debtor.iban).");
+        }
+        if (executionDate(request).isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Data wykonania przelewów nie może być wcześniejsza niż dzisiejsza.");
+        }
+        if (format == Format.ELIXIR && (!debtorIban.startsWith("PL") || !"PLN".equals(currency))) {
+            throw new IllegalArgumentException("Format Elixir-O obsługuje tylko przelewy w PLN z polskiego rachunku.");
+        }
+    }
+
+    private static LocalDate executionDate(BankTransferRequestDto request) {
+        return request.getExecutionDate() != null ? request.getExecutionDate() : LocalDate.now();
+    }
+
+    /**
+     * Why a bank account cannot receive a transfer in the format, or {@code null} if it can.
+     */
+    private static String rejectionReason(String account, String iban, Format format) {
+        if (account == null || account.isBlank()) {
+            return "Brak numeru rachunku";
+        }
+        if (!Iban.isValid(iban)) {
+            return "Nieprawidłowy numer rachunku";
+        }
+        if (format == Format.ELIXIR && !iban.startsWith("PL")) {
+            return "Rachunek zagraniczny, dostępny tylko w formacie SEPA";
+        }
+        return null;
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
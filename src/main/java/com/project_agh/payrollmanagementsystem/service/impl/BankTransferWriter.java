@@ -0,0 +1,51 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the transfers of a payout batch to a bank file, one transfer at a time.
+ * <p>
+ * Implementations write straight to the output stream (through a buffer) and keep nothing per
+ * transfer, so the size of a batch does not matter. Write errors are rethrown as
+ * {@link java.io.UncheckedIOException}, because transfers are written from a JDBC row callback.
+ * </p>
+ */
+public interface BankTransferWriter {
+
+    /**
+     * Writes one transfer.
+     *
+     * @param paymentId       ID of the payout, used as the transfer reference
+     * @param beneficiaryName name of the employee
+     * @param iban            normalized, valid IBAN of the employee (see {@link Iban})
+     * @param amountMinor     amount in grosze (cents)
+     */
+    void transfer(long paymentId, String beneficiaryName, String iban, long amountMinor);
+
+    /**
+     * Completes the file and flushes it; the output stream is not closed.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException;
+
+    /**
+     * What a bank file says about the whole batch.
+     *
+     * @param messageId     unique identifier of the file (at most 35 characters)
+     * @param createdAt     creation time of the file
+     * @param debtorName    name of the company paying the salaries
+     * @param debtorIban    normalized, valid IBAN of the company account
+     * @param debtorBic     BIC of the company bank, or {@code null} if not configured
+     * @param currency      ISO 4217 currency code of the amounts
+     * @param executionDate requested execution date of the transfers
+     * @param title         title of every transfer
+     * @param transfers     number of transfers in the file
+     * @param totalMinor    sum of the transfers in grosze (cents)
+     */
+    record Batch(String messageId, LocalDateTime createdAt, String debtorName, String debtorIban, String debtorBic,
+                 String currency, LocalDate executionDate, String title, int transfers, long totalMinor) {
+    }
+}
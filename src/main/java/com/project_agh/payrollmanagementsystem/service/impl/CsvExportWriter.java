@@ -0,0 +1,99 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes an export as CSV.
+ * <p>
+ * The file is UTF-8 with a byte order mark and uses semicolons as separators, which is what
+ * Excel expects in Polish locales (the import of work hours reads the same format). Fields
+ * containing a separator, a quote or a line break are quoted. Dates are written as
+ * {@code yyyy-MM-dd}, amounts with a dot and without grouping. Text starting with {@code =},
+ * {@code +}, {@code -} or {@code @} is prefixed with an apostrophe, so a spreadsheet does not
+ * evaluate it as a formula.
+ * </p>
+ */
+final class CsvExportWriter implements ExportWriter {
+
+    private static final char SEPARATOR = ';';
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        // Byte order mark, lets Excel recognize UTF-8
+        write("\uFEFF");
+    }
+
+    @Override
+    public void columns(List<String> columns) {
+        row(columns.toArray());
+    }
+
+    @Override
+    public void row(Object[] values) {
+        StringBuilder line = new StringBuilder(128);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, values[i]);
+        }
+        line.append("\r\n");
+        write(line.toString());
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void write(String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void appendField(StringBuilder line, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof BigDecimal decimal) {
+            line.append(decimal.toPlainString());
+            return;
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            line.append(DATE_TIME.format(dateTime));
+            return;
+        }
+        if (!(value instanceof String text)) {
+            line.append(value);
+            return;
+        }
+
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = text.indexOf(SEPARATOR) >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (quote) {
+            line.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(text);
+        }
+    }
+}
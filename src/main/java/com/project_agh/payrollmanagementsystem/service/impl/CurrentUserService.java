@@ -0,0 +1,72 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.entities.User;
+import com.project_agh.payrollmanagementsystem.repositories.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Service giving request handlers access to the currently authenticated user.
+ * <p>
+ * Handlers that only need the caller's ID, role or department should use {@link #principal()}
+ * or {@link #currentUserId()}, which read the {@link PayrollUserDetails} stored in the security
+ * context at login and never touch the database. {@link #currentUser()} returns the full
+ * {@link User} row for views that display it; it goes through the short-lived user cache of
+ * the repository, so repeated requests of the same user do not repeat the lookup.
+ * </p>
+ */
+@Service
+public class CurrentUserService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * Constructs a new {@code CurrentUserService}.
+     *
+     * @param userRepository repository used to load the full user row
+     */
+    public CurrentUserService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Returns the principal of the authenticated user.
+     *
+     * @return the principal, or empty if the request is anonymous
+     */
+    public Optional<PayrollUserDetails> principal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof PayrollUserDetails details) {
+            return Optional.of(details);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the employee ID of the authenticated user without a database lookup.
+     *
+     * @return the employee ID
+     * @throws IllegalStateException if the request is not authenticated
+     */
+    public Long currentUserId() {
+        return principal()
+                .map(PayrollUserDetails::getId)
+                .orElseThrow(() -> new IllegalStateException("No authenticated user."));
+    }
+
+    /**
+     * Returns the full row of the authenticated user.
+     *
+     * @return the authenticated {@link User}, or empty if the request is anonymous
+     */
+    public Optional<User> currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
+            return Optional.empty();
+        }
+        return userRepository.findByEmail(auth.getName());
+    }
+}
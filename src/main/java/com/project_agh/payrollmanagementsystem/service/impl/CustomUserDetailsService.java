@@ -3,6 +3,7 @@ package com.project_agh.payrollmanagementsystem.service.impl;
 import com.project_agh.payrollmanagementsystem.entities.User;
 import com.project_agh.payrollmanagementsystem.repositories.UserRepository;
 
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -32,23 +33,29 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
         // 1. Fetch the application's User entity from the database using the email.
-        // The email is used as the unique identifier (username) for login.
-        User user = userRepository.findByEmail(email)
+        // The email is used as the unique identifier (username) for login. The lookup bypasses
+        // the user cache, so the password hash and role are always the current ones.
+        User user = userRepository.findByEmailForAuthentication(email)
                 // 2. If the user is not found, throw the standard Spring Security exception.
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         String userRole = user.getRole().getName();
         System.out.println("userRole: " + userRole);
-        // 3. Convert the application's 'User' entity into a Spring Security 'UserDetails' object.
-        return org.springframework.security.core.userdetails.User
+        // 3. Convert the application's 'User' entity into the application's principal type.
+        // Besides the standard credentials it carries the employee ID, role and department,
+        // so request handlers can identify the caller without another database lookup.
+        return new PayrollUserDetails(
+                user.getId(),
                 // Set the principal (username/email)
-                .withUsername(user.getEmail())
+                user.getEmail(),
                 // Set the hashed password from the database.
                 // Spring Security will automatically compare this with the provided password.
-                .password(user.getPassword())
+                user.getPassword(),
                 // Assign roles/authorities. Roles should typically come from the database,
-                .roles(userRole)
-                .build();
+                AuthorityUtils.createAuthorityList("ROLE_" + userRole),
+                userRole,
+                user.getDepartment() != null ? user.getDepartment().getId() : null
+        );
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsible for assembling the independent data sections of the dashboard concurrently.
+ * <p>
+ * Each section (e.g. the payment history or the list of roles) is loaded on its own virtual thread,
+ * so the latency of a dashboard tab approaches that of its slowest query instead of the sum of all
+ * of them. The number of sections querying the database at the same time is bounded by a
+ * connection budget, which keeps a single page view from draining the connection pool.
+ * </p>
+ * <p>
+ * Every section has a timeout. A section that fails or does not finish in time is reported in
+ * {@link Assembly#failures()} instead of failing the whole page. Per-section timings are returned
+ * in {@link Assembly#timings()} and can be exposed with {@link Assembly#toServerTimingHeader()}.
+ * </p>
+ */
+@Service
+public class DashboardAssemblyService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardAssemblyService.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore connectionBudget;
+    private final Duration sectionTimeout;
+
+    /**
+     * Constructs the service with its concurrency limits.
+     *
+     * @param maxConcurrentQueries maximum number of sections loading at the same time
+     *                             (should stay below the size of the connection pool)
+     * @param sectionTimeoutMs     maximum time in milliseconds a single section may take
+     */
+    public DashboardAssemblyService(
+            @Value("${dashboard.assembly.max-concurrent-queries:4}") int maxConcurrentQueries,
+            @Value("${dashboard.assembly.section-timeout-ms:5000}") long sectionTimeoutMs) {
+        this.connectionBudget = new Semaphore(maxConcurrentQueries);
+        this.sectionTimeout = Duration.ofMillis(sectionTimeoutMs);
+    }
+
+    /**
+     * Result of a dashboard assembly.
+     *
+     * @param values   loaded values keyed by section name (failed sections are absent)
+     * @param timings  time spent loading each section
+     * @param failures names of sections that failed or timed out
+     */
+    public record Assembly(Map<String, Object> values, Map<String, Duration> timings, Set<String> failures) {
+
+        /**
+         * Formats the section timings as an HTTP {@code Server-Timing} header value,
+         * e.g. {@code paymentHistoryList;dur=12.4, rolesList;dur=1.1}.
+         *
+         * @return the header value
+         */
+        public String toServerTimingHeader() {
+            return timings.entrySet().stream()
+                    .map(e -> String.format(Locale.ROOT, "%s;dur=%.1f", e.getKey(), e.getValue().toNanos() / 1_000_000.0))
+                    .collect(Collectors.joining(", "));
+        }
+    }
+
+    /**
+     * Loads all given sections concurrently and waits for them to complete.
+     *
+     * @param loaders section loaders keyed by section name (typically the model attribute name)
+     * @return the loaded values together with per-section timings and failures
+     */
+    public Assembly assemble(Map<String, Supplier<?>> loaders) {
+        Map<String, Duration> timings = new ConcurrentHashMap<>();
+        Map<String, Future<Object>> futures = new LinkedHashMap<>();
+
+        loaders.forEach((name, loader) -> futures.put(name, executor.submit(() -> {
+            connectionBudget.acquire();
+            long start = System.nanoTime();
+            try {
+                return loader.get();
+            } finally {
+                timings.put(name, Duration.ofNanos(System.nanoTime() - start));
+                connectionBudget.release();
+            }
+        })));
+
+        // All sections start together, so each one is given the same deadline
+        long deadline = System.nanoTime() + sectionTimeout.toNanos();
+        Map<String, Object> values = new LinkedHashMap<>();
+        Set<String> failures = new LinkedHashSet<>();
+
+        for (Map.Entry<String, Future<Object>> entry : futures.entrySet()) {
+            String name = entry.getKey();
+            Future<Object> future = entry.getValue();
+            try {
+                values.put(name, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failures.add(name);
+                LOG.warn("Dashboard: section '{}' timed out after {} ms", name, sectionTimeout.toMillis());
+            } catch (ExecutionException e) {
+                failures.add(name);
+                LOG.warn("Dashboard: section '{}' failed", name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(f -> f.cancel(true));
+                failures.add(name);
+                break;
+            }
+        }
+
+        return new Assembly(values, new LinkedHashMap<>(timings), failures);
+    }
+
+    /**
+     * Stops the executor when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
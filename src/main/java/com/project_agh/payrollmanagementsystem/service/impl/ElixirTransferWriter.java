@@ -0,0 +1,119 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes a payout batch in the Elixir-O format accepted by Polish banks for domestic transfers.
+ * <p>
+ * Every transfer is one line (record type {@code 110}) of comma-separated fields, text fields
+ * in double quotes, lines ending with CRLF, encoded in Windows-1250:
+ * </p>
+ * <pre>
+ * 110,yyyyMMdd,amount in grosze,debtor bank number,0,"debtor NRB","beneficiary NRB",
+ *     "debtor name","beneficiary name",0,beneficiary bank number,"title","","","51","reference"
+ * </pre>
+ * <p>
+ * Names and the title are split into up to four segments of 35 characters separated by
+ * {@code |}; quotes and {@code |} are removed from them. The format has no header, so lines are
+ * written as the transfers arrive. Both accounts must be Polish.
+ * </p>
+ */
+public final class ElixirTransferWriter implements BankTransferWriter {
+
+    /**
+     * Encoding of Elixir-O files.
+     */
+    public static final Charset CHARSET = Charset.forName("windows-1250");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SEGMENT_LENGTH = 35;
+    private static final int SEGMENTS = 4;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(512);
+
+    // Fields that are the same for every transfer of the batch
+    private final String typeAndDate;
+    private final String debtorAccount;
+    private final String debtorName;
+    private final String title;
+
+    /**
+     * Creates a writer of one batch.
+     *
+     * @param out   the stream receiving the file; it is not closed
+     * @param batch the batch, with a Polish debtor account
+     */
+    public ElixirTransferWriter(OutputStream out, Batch batch) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, CHARSET), BUFFER_SIZE);
+        this.typeAndDate = "110," + DATE.format(batch.executionDate()) + ",";
+        this.debtorAccount = "," + Iban.polishBankNumber(batch.debtorIban()) + ",0,\"" + batch.debtorIban().substring(2) + "\",\"";
+        this.debtorName = segments(batch.debtorName());
+        this.title = segments(batch.title());
+    }
+
+    @Override
+    public void transfer(long paymentId, String beneficiaryName, String iban, long amountMinor) {
+        line.setLength(0);
+        line.append(typeAndDate).append(amountMinor).append(debtorAccount)
+                .append(iban, 2, iban.length()).append("\",\"")
+                .append(debtorName).append("\",\"");
+        appendSegments(line, beneficiaryName);
+        line.append("\",0,").append(Iban.polishBankNumber(iban)).append(",\"")
+                .append(title).append("\",\"\",\"\",\"51\",\"").append(paymentId).append("\"\r\n");
+        try {
+            writer.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private static String segments(String text) {
+        StringBuilder segments = new StringBuilder(SEGMENT_LENGTH * SEGMENTS + SEGMENTS);
+        appendSegments(segments, text);
+        return segments.toString();
+    }
+
+    /**
+     * Appends the text as four {@code |}-separated segments of at most 35 characters, dropping
+     * characters that would break the record.
+     */
+    private static void appendSegments(StringBuilder out, String text) {
+        int segment = 0;
+        int inSegment = 0;
+        for (int i = 0; i < text.length() && segment < SEGMENTS; i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '|') {
+                continue;
+            }
+            if (c < ' ') {
+                c = ' ';
+            }
+            if (inSegment == SEGMENT_LENGTH) {
+                if (++segment == SEGMENTS) {
+                    break;
+                }
+                out.append('|');
+                inSegment = 0;
+            }
+            out.append(c);
+            inSegment++;
+        }
+        for (segment++; segment < SEGMENTS; segment++) {
+            out.append('|');
+        }
+    }
+}
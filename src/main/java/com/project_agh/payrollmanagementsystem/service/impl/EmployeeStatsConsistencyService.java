@@ -0,0 +1,90 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.repositories.EmployeeStatsRepository;
+import com.project_agh.payrollmanagementsystem.repositories.JobLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Consistency checker of the incrementally maintained employee statistics.
+ * <p>
+ * The statistics are updated by database triggers in the same transaction as the work hours,
+ * so they only drift if the triggers were disabled or the table was loaded around them. Every
+ * night the checker compares them with a full re-aggregation and, if any employee differs,
+ * rebuilds them from scratch. With several instances, only the one holding the
+ * {@value #CHECK_JOB} lock runs the check.
+ * </p>
+ * <p>
+ * The number of employees found inconsistent is counted in the
+ * {@code employee.stats.inconsistent} metric.
+ * </p>
+ */
+@Service
+public class EmployeeStatsConsistencyService {
+
+    /**
+     * Name of the cluster-wide lock held while the check runs.
+     */
+    public static final String CHECK_JOB = "employee-stats-check";
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmployeeStatsConsistencyService.class);
+
+    private final EmployeeStatsRepository employeeStatsRepository;
+    private final JobLockRepository jobLockRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new {@code EmployeeStatsConsistencyService}.
+     *
+     * @param employeeStatsRepository repository of the maintained statistics
+     * @param jobLockRepository       the cluster-wide lock of the check
+     * @param meterRegistry           registry receiving the inconsistency counter
+     */
+    public EmployeeStatsConsistencyService(EmployeeStatsRepository employeeStatsRepository,
+                                           JobLockRepository jobLockRepository,
+                                           MeterRegistry meterRegistry) {
+        this.employeeStatsRepository = employeeStatsRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs the nightly check at <b>02:30 AM</b>, after the payout job's hour.
+     */
+    @Scheduled(cron = "0 30 2 * * ?")
+    public void scheduledCheck() {
+        try {
+            boolean ran = jobLockRepository.runExclusively(CHECK_JOB, this::checkAndRepair);
+            if (!ran) {
+                LOG.info("Employee stats: check is running on another instance, skipping.");
+            }
+        } catch (Exception e) {
+            LOG.error("Employee stats: consistency check failed.", e);
+        }
+    }
+
+    /**
+     * Compares the statistics with the work hours and rebuilds them if they differ.
+     *
+     * @return the IDs of the employees whose statistics were inconsistent
+     */
+    public List<Long> checkAndRepair() {
+        List<Long> inconsistent = employeeStatsRepository.findInconsistentEmployeeIds();
+        meterRegistry.counter("employee.stats.inconsistent").increment(inconsistent.size());
+        if (inconsistent.isEmpty()) {
+            LOG.info("Employee stats: consistent.");
+            return inconsistent;
+        }
+
+        LOG.warn("Employee stats: {} employees inconsistent (first: {}), rebuilding.",
+                inconsistent.size(), inconsistent.get(0));
+        int employees = employeeStatsRepository.rebuild();
+        LOG.info("Employee stats: rebuilt for {} employees.", employees);
+        return inconsistent;
+    }
+}
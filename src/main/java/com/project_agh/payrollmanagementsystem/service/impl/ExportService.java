@@ -0,0 +1,152 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.ExportFilterDto;
+import com.project_agh.payrollmanagementsystem.repositories.ExportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service writing the payment history, the salary change history and the work hours to CSV or
+ * XLSX files for the accountants.
+ * <p>
+ * Rows go straight from the database cursor of the {@link ExportRepository} to the output stream,
+ * inside one read-only transaction, so an export of a million rows takes as much heap as an export
+ * of ten. If the client disconnects, the write fails and the query is abandoned with the
+ * transaction.
+ * </p>
+ */
+@Service
+public class ExportService {
+
+    /**
+     * The data that can be exported.
+     */
+    public enum Dataset {
+        PAYMENTS("wyplaty", "Wypłaty"),
+        SALARY_CHANGES("zmiany_wynagrodzen", "Zmiany wynagrodzeń"),
+        WORK_HOURS("godziny_pracy", "Godziny pracy");
+
+        private final String fileName;
+        private final String sheetName;
+
+        Dataset(String fileName, String sheetName) {
+            this.fileName = fileName;
+            this.sheetName = sheetName;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    /**
+     * The supported file formats.
+     */
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Resolves a format by its file extension, ignoring case.
+         *
+         * @param extension {@code csv} or {@code xlsx}
+         * @return the format
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static Format fromExtension(String extension) {
+            for (Format format : values()) {
+                if (format.extension.equals(extension.toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Nieobsługiwany format eksportu: " + extension + " (dozwolone: csv, xlsx).");
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExportService.class);
+
+    private final ExportRepository exportRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Constructs a new {@code ExportService}.
+     *
+     * @param exportRepository   repository streaming the exported rows
+     * @param transactionManager transaction manager used for the read-only export transaction
+     */
+    public ExportService(ExportRepository exportRepository, PlatformTransactionManager transactionManager) {
+        this.exportRepository = exportRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Checks the filter of an export before the response is committed.
+     *
+     * @param filter the filter to check
+     * @throws IllegalArgumentException if the period is reversed
+     */
+    public void validate(ExportFilterDto filter) {
+        if (filter.getDateFrom() != null && filter.getDateTo() != null && filter.getDateFrom().isAfter(filter.getDateTo())) {
+            throw new IllegalArgumentException("Data początkowa nie może być późniejsza niż końcowa.");
+        }
+    }
+
+    /**
+     * Writes one export to the output stream.
+     *
+     * @param dataset the data to export
+     * @param filter  the rows to include
+     * @param format  the file format
+     * @param out     the stream receiving the file; it is not closed
+     * @return the number of exported rows
+     * @throws IOException if writing to the stream fails
+     */
+    public long export(Dataset dataset, ExportFilterDto filter, Format format, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        ExportWriter writer = format == Format.CSV
+                ? new CsvExportWriter(out)
+                : new XlsxExportWriter(out, dataset.sheetName);
+        Long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> switch (dataset) {
+                case PAYMENTS -> exportRepository.streamPayments(filter, writer);
+                case SALARY_CHANGES -> exportRepository.streamSalaryChanges(filter, writer);
+                case WORK_HOURS -> exportRepository.streamWorkHours(filter, writer);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+
+        long exported = rows == null ? 0 : rows;
+        LOG.info("Export {}.{}: {} rows in {} ms", dataset.fileName, format.extension, exported,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return exported;
+    }
+}
@@ -0,0 +1,23 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.repositories.ExportRepository;
+
+import java.io.IOException;
+
+/**
+ * Writes the rows streamed by the {@link ExportRepository} to an output stream in one file format.
+ * <p>
+ * Rows are written as they arrive and nothing is kept per row. I/O errors while writing a row
+ * are rethrown as {@link java.io.UncheckedIOException}, as the row callback cannot throw checked
+ * exceptions.
+ * </p>
+ */
+interface ExportWriter extends ExportRepository.ExportRowHandler {
+
+    /**
+     * Completes the file after the last row and flushes it, without closing the output stream.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException;
+}
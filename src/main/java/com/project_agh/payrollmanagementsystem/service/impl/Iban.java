@@ -0,0 +1,138 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.util.Map;
+
+/**
+ * Normalization and checksum validation of bank account numbers (IBAN).
+ * <p>
+ * Employees enter their account numbers by hand, with or without spaces and the {@code PL}
+ * prefix, so {@link #normalize(String)} first reduces an entry to the electronic IBAN form
+ * (upper case, no separators); a 26-digit Polish account number (NRB) gets the {@code PL}
+ * prefix. {@link #isValid(String)} then checks the length for the country and the ISO 7064
+ * MOD 97-10 checksum. Both are single passes over the characters without intermediate strings
+ * or {@code BigInteger}s, so validating a whole payout run costs next to nothing.
+ * </p>
+ */
+public final class Iban {
+
+    /**
+     * Length of a Polish account number without the country code (NRB).
+     */
+    public static final int NRB_LENGTH = 26;
+
+    private static final int MIN_LENGTH = 15;
+    private static final int MAX_LENGTH = 34;
+
+    /**
+     * IBAN lengths of the SEPA countries; other countries are only checked against the general
+     * limits of 15 to 34 characters.
+     */
+    private static final Map<String, Integer> LENGTHS = Map.ofEntries(
+            Map.entry("AT", 20), Map.entry("BE", 16), Map.entry("BG", 22), Map.entry("CH", 21),
+            Map.entry("CY", 28), Map.entry("CZ", 24), Map.entry("DE", 22), Map.entry("DK", 18),
+            Map.entry("EE", 20), Map.entry("ES", 24), Map.entry("FI", 18), Map.entry("FR", 27),
+            Map.entry("GB", 22), Map.entry("GR", 27), Map.entry("HR", 21), Map.entry("HU", 28),
+            Map.entry("IE", 22), Map.entry("IS", 26), Map.entry("IT", 27), Map.entry("LI", 21),
+            Map.entry("LT", 20), Map.entry("LU", 20), Map.entry("LV", 21), Map.entry("MC", 27),
+            Map.entry("MT", 31), Map.entry("NL", 18), Map.entry("NO", 15), Map.entry("PL", 28),
+            Map.entry("PT", 25), Map.entry("RO", 24), Map.entry("SE", 24), Map.entry("SI", 19),
+            Map.entry("SK", 24), Map.entry("SM", 27));
+
+    private Iban() {
+    }
+
+    /**
+     * Reduces an account number to the electronic IBAN form.
+     * <p>
+     * Spaces, non-breaking spaces and dashes are removed and letters are upper-cased; a
+     * {@value #NRB_LENGTH}-digit number is taken as a Polish NRB and prefixed with {@code PL}.
+     * The result is not validated, see {@link #isValid(String)}.
+     * </p>
+     *
+     * @param account the account number as entered
+     * @return the normalized number, or {@code null} if the entry is empty, too long or contains
+     *         characters other than letters, digits and separators
+     */
+    public static String normalize(String account) {
+        if (account == null) {
+            return null;
+        }
+        char[] chars = new char[MAX_LENGTH];
+        int length = 0;
+        boolean digitsOnly = true;
+        for (int i = 0; i < account.length(); i++) {
+            char c = account.charAt(i);
+            if (c == ' ' || c == '-' || c == '\u00A0') {
+                continue;
+            }
+            if (c >= 'a' && c <= 'z') {
+                c = (char) (c - ('a' - 'A'));
+            }
+            boolean digit = c >= '0' && c <= '9';
+            if ((!digit && (c < 'A' || c > 'Z')) || length == MAX_LENGTH) {
+                return null;
+            }
+            digitsOnly &= digit;
+            chars[length++] = c;
+        }
+        if (length == 0) {
+            return null;
+        }
+        String iban = new String(chars, 0, length);
+        return (digitsOnly && length == NRB_LENGTH) ? "PL" + iban : iban;
+    }
+
+    /**
+     * Checks the structure and the MOD 97-10 checksum of a normalized IBAN.
+     *
+     * @param iban the IBAN in electronic form, as returned by {@link #normalize(String)}
+     * @return {@code true} if the IBAN is well-formed and its check digits are correct
+     */
+    public static boolean isValid(String iban) {
+        if (iban == null) {
+            return false;
+        }
+        int length = iban.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH
+                || !isLetter(iban.charAt(0)) || !isLetter(iban.charAt(1))
+                || !isDigit(iban.charAt(2)) || !isDigit(iban.charAt(3))) {
+            return false;
+        }
+        Integer countryLength = LENGTHS.get(iban.substring(0, 2));
+        if (countryLength != null && countryLength != length) {
+            return false;
+        }
+
+        // The country code and check digits are moved to the end; letters count as 10..35
+        int remainder = 0;
+        for (int i = 0; i < length; i++) {
+            char c = iban.charAt(i < length - 4 ? i + 4 : i - (length - 4));
+            if (isDigit(c)) {
+                remainder = (remainder * 10 + (c - '0')) % 97;
+            } else if (isLetter(c)) {
+                remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+            } else {
+                return false;
+            }
+        }
+        return remainder == 1;
+    }
+
+    /**
+     * Returns the eight-digit settlement number of the bank (numer rozliczeniowy) of a Polish IBAN.
+     *
+     * @param iban a valid Polish IBAN
+     * @return digits 5 to 12 of the IBAN
+     */
+    public static String polishBankNumber(String iban) {
+        return iban.substring(4, 12);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -0,0 +1,242 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.CalculatedPayoutDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollRunResultDto;
+import com.project_agh.payrollmanagementsystem.repositories.PayoutRunRepository;
+import com.project_agh.payrollmanagementsystem.repositories.PayrollRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application-side alternative to the {@code generuj_wyplaty_za_miesiac} stored procedure.
+ * <p>
+ * The employees to pay are split into partitions of consecutive IDs, which are processed in
+ * parallel on a fork-join pool. Each partition streams its approved work hours ordered by
+ * employee, keeps only the running total of the current employee in memory, and writes its
+ * payouts with one batch insert in its own transaction. Amounts are computed by
+ * {@link PayrollCalculator} and match the procedure's to the grosz.
+ * </p>
+ * <p>
+ * A failed partition does not roll back the ones already committed. When the run is tracked
+ * in the payout run ledger, every partition records a checkpoint in the same transaction as
+ * its payouts, and a resumed run skips the employees of the checkpointed partitions. Running
+ * the same period again is safe in any case: employees who already have the period's payout
+ * are skipped both when reading and when inserting.
+ * </p>
+ */
+@Service
+public class ParallelPayrollEngine {
+
+    private final PayrollRepository payrollRepository;
+    private final PayoutRunRepository payoutRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int partitionSize;
+
+    /**
+     * Constructs a new {@code ParallelPayrollEngine}.
+     *
+     * @param payrollRepository   repository reading work hours and writing payouts
+     * @param payoutRunRepository ledger receiving the checkpoints of tracked runs
+     * @param transactionManager transaction manager used for the per-partition transactions
+     * @param parallelism        number of partitions processed at the same time (each holds a connection)
+     * @param partitionSize      maximum number of employees in one partition
+     */
+    public ParallelPayrollEngine(PayrollRepository payrollRepository,
+                                 PayoutRunRepository payoutRunRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${payroll.engine.parallelism:4}") int parallelism,
+                                 @Value("${payroll.engine.partition-size:500}") int partitionSize) {
+        this.payrollRepository = payrollRepository;
+        this.payoutRunRepository = payoutRunRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * Generates the payouts of all employees with approved work hours in the period.
+     *
+     * @param periodStart the first day of the period
+     * @param periodEnd   the last day of the period
+     * @param description the payout description of the period
+     * @param runId       the ledger entry of the run to checkpoint and resume, or {@code null} to run untracked
+     * @return the summary of the run; the payout count covers this attempt only
+     */
+    public PayrollRunResultDto run(LocalDate periodStart, LocalDate periodEnd, String description, Long runId) {
+        long started = System.nanoTime();
+
+        Long statusId = payrollRepository.findPendingStatusId();
+        Long typeId = payrollRepository.findWorkHoursTypeId();
+        List<Long> employeeIds = payrollRepository.findEmployeeIdsToPay(periodStart, periodEnd, description);
+        if (runId != null) {
+            employeeIds = withoutCheckpointed(employeeIds, payoutRunRepository.findCheckpointRanges(runId));
+        }
+
+        int partitions = (employeeIds.size() + partitionSize - 1) / partitionSize;
+        int created = 0;
+        if (!employeeIds.isEmpty()) {
+            Run run = new Run(runId, periodStart, periodEnd, description, statusId, typeId, employeeIds);
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                created = pool.invoke(new PartitionTask(run, 0, employeeIds.size()));
+            } finally {
+                // After a failure, drop the partitions not started yet and wait for the running ones,
+                // so nothing is committed after this method has returned
+                pool.shutdownNow();
+                pool.close();
+            }
+        }
+
+        long durationMillis = (System.nanoTime() - started) / 1_000_000;
+        return new PayrollRunResultDto("java", periodStart, periodEnd, created, partitions, durationMillis);
+    }
+
+    /**
+     * Computes and saves the payouts of one partition in a single transaction.
+     * Once a partition of the run has failed, the remaining ones are skipped.
+     *
+     * @return the number of payouts inserted
+     */
+    private int processPartition(Run run, long firstEmployeeId, long lastEmployeeId) {
+        if (run.failed.get()) {
+            return 0;
+        }
+        Integer inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> {
+                PayoutAccumulator accumulator = new PayoutAccumulator();
+                payrollRepository.streamApprovedHours(firstEmployeeId, lastEmployeeId,
+                        run.periodStart, run.periodEnd, run.description, accumulator);
+                int created = payrollRepository.insertPayouts(accumulator.finish(), run.statusId, run.typeId, run.description);
+                if (run.runId != null) {
+                    payoutRunRepository.recordCheckpoint(run.runId, firstEmployeeId, lastEmployeeId, created);
+                }
+                return created;
+            });
+        } catch (RuntimeException e) {
+            run.failed.set(true);
+            throw e;
+        }
+        return inserted == null ? 0 : inserted;
+    }
+
+    /**
+     * Removes the employees covered by the checkpoints of an earlier attempt.
+     */
+    private static List<Long> withoutCheckpointed(List<Long> employeeIds, List<long[]> ranges) {
+        if (ranges.isEmpty()) {
+            return employeeIds;
+        }
+        return employeeIds.stream()
+                .filter(id -> ranges.stream().noneMatch(range -> id >= range[0] && id <= range[1]))
+                .toList();
+    }
+
+    /**
+     * Parameters and failure flag shared by the partitions of one run.
+     */
+    private static final class Run {
+        final Long runId;
+        final LocalDate periodStart;
+        final LocalDate periodEnd;
+        final String description;
+        final Long statusId;
+        final Long typeId;
+        final List<Long> employeeIds;
+        final AtomicBoolean failed = new AtomicBoolean();
+
+        Run(Long runId, LocalDate periodStart, LocalDate periodEnd, String description, Long statusId, Long typeId,
+            List<Long> employeeIds) {
+            this.runId = runId;
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+            this.description = description;
+            this.statusId = statusId;
+            this.typeId = typeId;
+            this.employeeIds = employeeIds;
+        }
+    }
+
+    /**
+     * Splits a range of the sorted employee IDs in halves (at partition boundaries) until it fits
+     * in one partition, then processes that partition.
+     */
+    private final class PartitionTask extends RecursiveTask<Integer> {
+
+        private final Run run;
+        private final int from;
+        private final int to;
+
+        PartitionTask(Run run, int from, int to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            int count = to - from;
+            if (count <= partitionSize) {
+                return processPartition(run, run.employeeIds.get(from), run.employeeIds.get(to - 1));
+            }
+            int chunks = (count + partitionSize - 1) / partitionSize;
+            int middle = from + (chunks / 2) * partitionSize;
+            PartitionTask left = new PartitionTask(run, from, middle);
+            PartitionTask right = new PartitionTask(run, middle, to);
+            left.fork();
+            int rightCreated = right.compute();
+            return left.join() + rightCreated;
+        }
+    }
+
+    /**
+     * Sums the hours of the streamed entries per employee; entries arrive ordered by employee.
+     * Like the procedure's {@code HAVING} clause, employees whose total time is not positive get no payout.
+     */
+    private static final class PayoutAccumulator implements PayrollRepository.ApprovedHoursHandler {
+
+        private final List<CalculatedPayoutDto> payouts = new ArrayList<>();
+        private Long employeeId;
+        private BigDecimal hourlyRate;
+        private long totalMicros;
+        private BigDecimal totalHours = BigDecimal.ZERO;
+
+        @Override
+        public void accept(long id, BigDecimal rate, LocalTime startTime, LocalTime endTime) {
+            if (employeeId == null || employeeId != id) {
+                flush();
+                employeeId = id;
+                hourlyRate = rate;
+            }
+            long micros = PayrollCalculator.durationMicros(startTime, endTime);
+            totalMicros += micros;
+            totalHours = totalHours.add(PayrollCalculator.hours(micros));
+        }
+
+        List<CalculatedPayoutDto> finish() {
+            flush();
+            return payouts;
+        }
+
+        private void flush() {
+            if (employeeId != null && totalMicros > 0) {
+                payouts.add(new CalculatedPayoutDto(employeeId, PayrollCalculator.amount(totalHours, hourlyRate)));
+            }
+            employeeId = null;
+            totalMicros = 0;
+            totalHours = BigDecimal.ZERO;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.time.LocalDate;
+
+/**
+ * Published by {@link AutoPayoutService} when the payout run of a period has completed.
+ *
+ * @param periodStart    the first day of the period
+ * @param periodEnd      the last day of the period
+ * @param payoutsCreated number of payouts created by the attempt that completed the run
+ */
+public record PayoutRunCompletedEvent(LocalDate periodStart, LocalDate periodEnd, int payoutsCreated) {
+}
@@ -0,0 +1,114 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Payout arithmetic of the application-side payroll engine.
+ * <p>
+ * The amounts must be identical, to the grosz, to the ones computed by the
+ * {@code generuj_wyplaty_za_miesiac} procedure:
+ * </p>
+ * <pre>
+ * CAST(SUM(EXTRACT(EPOCH FROM (r.godzina_zakonczenia - r.godzina_rozpoczecia)) / 3600.0)
+ *      * p.wynagrodzenie_pln_g AS NUMERIC(10, 2))
+ * </pre>
+ * <p>
+ * Plain {@code BigDecimal} arithmetic is not enough for that: PostgreSQL (14 and newer, where
+ * {@code EXTRACT} returns {@code numeric}) rounds every per-entry division to a scale derived
+ * from the operands before summing. For entries whose length in seconds does not divide 3600
+ * the rounded quotients can tip the final half-grosz rounding the other way. This class
+ * reproduces the numeric rules step by step: the epoch has scale 6, each division is rounded
+ * half away from zero to PostgreSQL's division scale, the sum and the product are exact and
+ * the result is rounded half away from zero to 2 decimal places.
+ * </p>
+ */
+public final class PayrollCalculator {
+
+    /**
+     * The {@code 3600.0} literal of the procedure, a numeric with scale 1.
+     */
+    private static final BigDecimal SECONDS_PER_HOUR = new BigDecimal("3600.0");
+
+    // Constants of PostgreSQL's numeric implementation (NBASE = 10000)
+    private static final int DEC_DIGITS = 4;
+    private static final int NUMERIC_MIN_SIG_DIGITS = 16;
+    private static final int NUMERIC_MAX_DISPLAY_SCALE = 1000;
+
+    private PayrollCalculator() {
+    }
+
+    /**
+     * Returns the length of one entry in microseconds, negative if it ends before it starts
+     * (like subtracting two {@code time} values in PostgreSQL).
+     *
+     * @param startTime the start time of the entry
+     * @param endTime   the end time of the entry
+     * @return the length in microseconds
+     */
+    public static long durationMicros(LocalTime startTime, LocalTime endTime) {
+        return ChronoUnit.MICROS.between(startTime, endTime);
+    }
+
+    /**
+     * Converts the length of one entry to hours exactly as the procedure's per-entry term does.
+     *
+     * @param durationMicros the length of the entry in microseconds
+     * @return the number of hours, rounded to PostgreSQL's division scale
+     */
+    public static BigDecimal hours(long durationMicros) {
+        BigDecimal epoch = BigDecimal.valueOf(durationMicros, 6);
+        return epoch.divide(SECONDS_PER_HOUR, divisionScale(epoch, SECONDS_PER_HOUR), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Computes the payout of one employee from the sum of the per-entry hours.
+     *
+     * @param totalHours the sum of {@link #hours(long)} over the employee's entries
+     * @param hourlyRate the employee's hourly rate, may be {@code null}
+     * @return the payout rounded to 2 decimal places, or {@code null} if the rate is {@code null}
+     */
+    public static BigDecimal amount(BigDecimal totalHours, BigDecimal hourlyRate) {
+        if (hourlyRate == null) {
+            return null;
+        }
+        return totalHours.multiply(hourlyRate).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Result scale PostgreSQL chooses for {@code dividend / divisor} (see {@code select_div_scale}).
+     */
+    static int divisionScale(BigDecimal dividend, BigDecimal divisor) {
+        int[] first = weightAndFirstDigit(dividend);
+        int[] second = weightAndFirstDigit(divisor);
+
+        // Estimated weight of the quotient; equal first digits are assumed to give a quotient below 1
+        int quotientWeight = first[0] - second[0];
+        if (first[1] <= second[1]) {
+            quotientWeight--;
+        }
+
+        int scale = NUMERIC_MIN_SIG_DIGITS - quotientWeight * DEC_DIGITS;
+        scale = Math.max(scale, dividend.scale());
+        scale = Math.max(scale, divisor.scale());
+        scale = Math.max(scale, 0);
+        return Math.min(scale, NUMERIC_MAX_DISPLAY_SCALE);
+    }
+
+    /**
+     * Returns the weight and value of the leading base-10000 digit of a number, as stored by
+     * PostgreSQL's {@code numeric} type; {@code {0, 0}} for zero.
+     */
+    private static int[] weightAndFirstDigit(BigDecimal value) {
+        BigDecimal abs = value.abs();
+        if (abs.signum() == 0) {
+            return new int[]{0, 0};
+        }
+        int decimalExponent = abs.precision() - abs.scale() - 1;
+        int weight = Math.floorDiv(decimalExponent, DEC_DIGITS);
+        int firstDigit = abs.movePointLeft(weight * DEC_DIGITS).setScale(0, RoundingMode.DOWN).intValueExact();
+        return new int[]{weight, firstDigit};
+    }
+}
@@ -0,0 +1,313 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.DepartmentPayrollDeltaDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollSimulationRequestDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollSimulationResultDto;
+import com.project_agh.payrollmanagementsystem.dtos.SalaryChangeHistoryDto;
+import com.project_agh.payrollmanagementsystem.dtos.SimulationEmployeeDto;
+import com.project_agh.payrollmanagementsystem.repositories.PayrollSimulationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * What-if simulator of the monthly payroll over historical data.
+ * <p>
+ * Recomputes the payouts of a range of months under hypothetical hourly rates and compares them,
+ * per department, with the payouts at the historical rates. Nothing is written to
+ * {@code historia_wyplat} or anywhere else.
+ * </p>
+ * <p>
+ * A payout depends on the rate only in its last step ({@link PayrollCalculator#amount}), so the
+ * approved work hours are read once into an in-memory snapshot of per-employee, per-month hour
+ * totals. The database sums the procedure's own per-entry hour term, so the totals are the ones
+ * the procedure would multiply by the rate, and only one row per employee and month is
+ * transferred. The snapshot is loaded in parallel partitions of consecutive employee IDs, each in
+ * a read-only transaction; evaluating the scenario over it is then a few multiplications per
+ * employee and month.
+ * </p>
+ * <p>
+ * The historical rate of a month is the one the payout run of the 1st of the next month would
+ * have used, reconstructed from the salary change history ({@code historia_zmian_wynagrodzen}).
+ * Employees are grouped by their current department.
+ * </p>
+ */
+@Service
+public class PayrollSimulationService {
+
+    /**
+     * Longest range of months a single simulation may cover.
+     */
+    public static final int MAX_MONTHS = 36;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final PayrollSimulationRepository payrollSimulationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int parallelism;
+    private final int partitionSize;
+
+    /**
+     * Constructs a new {@code PayrollSimulationService}.
+     *
+     * @param payrollSimulationRepository repository reading the historical data
+     * @param transactionManager          transaction manager used for the read-only partition transactions
+     * @param parallelism                 number of partitions loaded at the same time (each holds a connection)
+     * @param partitionSize               maximum number of employees in one partition
+     */
+    public PayrollSimulationService(PayrollSimulationRepository payrollSimulationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${payroll.simulation.parallelism:4}") int parallelism,
+                                    @Value("${payroll.simulation.partition-size:500}") int partitionSize) {
+        this.payrollSimulationRepository = payrollSimulationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * Simulates the payroll of the requested months under the scenario's rates.
+     *
+     * @param request the simulated months and the hypothetical rates
+     * @return the historical and simulated totals, overall and per department
+     * @throws IllegalArgumentException if the range of months is missing, reversed or too long
+     */
+    public PayrollSimulationResultDto simulate(PayrollSimulationRequestDto request) {
+        YearMonth fromMonth = request.getFromMonth();
+        YearMonth toMonth = request.getToMonth();
+        if (fromMonth == null || toMonth == null) {
+            throw new IllegalArgumentException("Podaj miesiąc początkowy i końcowy symulacji.");
+        }
+        if (fromMonth.isAfter(toMonth)) {
+            throw new IllegalArgumentException("Miesiąc początkowy nie może być późniejszy niż końcowy.");
+        }
+        int months = (int) fromMonth.until(toMonth, ChronoUnit.MONTHS) + 1;
+        if (months > MAX_MONTHS) {
+            throw new IllegalArgumentException("Symulacja może obejmować najwyżej " + MAX_MONTHS + " miesięcy.");
+        }
+
+        long started = System.nanoTime();
+        LocalDate dateFrom = fromMonth.atDay(1);
+        LocalDate dateTo = toMonth.atEndOfMonth();
+
+        List<SimulationEmployeeDto> employeeList = payrollSimulationRepository.findEmployees();
+        Map<Long, SimulationEmployeeDto> employees = employeeList.stream()
+                .collect(Collectors.toMap(SimulationEmployeeDto::getEmployeeId, Function.identity()));
+        Map<Long, List<SalaryChangeHistoryDto>> salaryChanges = payrollSimulationRepository
+                .findSalaryChangesAfter(payDay(fromMonth).minusDays(1)).stream()
+                .collect(Collectors.groupingBy(SalaryChangeHistoryDto::getUserId));
+        Snapshot snapshot = loadSnapshot(employeeList.stream().map(SimulationEmployeeDto::getEmployeeId).toList(),
+                dateFrom, dateTo, fromMonth, months);
+
+        Scenario scenario = new Scenario(request);
+        List<EmployeeTotals> totals = snapshot.hours.values().parallelStream()
+                .filter(hours -> employees.containsKey(hours.employeeId))
+                .map(hours -> evaluate(hours, employees.get(hours.employeeId),
+                        salaryChanges.getOrDefault(hours.employeeId, List.of()), fromMonth, scenario))
+                .toList();
+
+        Map<Long, DepartmentPayrollDeltaDto> departments = new HashMap<>();
+        BigDecimal baselineTotal = BigDecimal.ZERO;
+        BigDecimal scenarioTotal = BigDecimal.ZERO;
+        for (EmployeeTotals employee : totals) {
+            DepartmentPayrollDeltaDto department = departments.computeIfAbsent(employee.departmentId,
+                    id -> new DepartmentPayrollDeltaDto(id, employee.departmentName, 0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
+            department.setEmployees(department.getEmployees() + 1);
+            department.setBaselineTotal(department.getBaselineTotal().add(employee.baseline));
+            department.setScenarioTotal(department.getScenarioTotal().add(employee.scenario));
+            baselineTotal = baselineTotal.add(employee.baseline);
+            scenarioTotal = scenarioTotal.add(employee.scenario);
+        }
+        List<DepartmentPayrollDeltaDto> departmentDeltas = new ArrayList<>(departments.values());
+        departmentDeltas.forEach(department -> department.setDelta(department.getScenarioTotal().subtract(department.getBaselineTotal())));
+        departmentDeltas.sort(Comparator.comparing(DepartmentPayrollDeltaDto::getDepartmentName,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        long durationMillis = (System.nanoTime() - started) / 1_000_000;
+        return new PayrollSimulationResultDto(fromMonth, toMonth, totals.size(), snapshot.entries,
+                baselineTotal, scenarioTotal, scenarioTotal.subtract(baselineTotal), departmentDeltas, durationMillis);
+    }
+
+    /**
+     * Reads the approved work hours of the range into per-employee, per-month hour totals,
+     * loading partitions of consecutive employee IDs in parallel.
+     *
+     * @param employeeIds the IDs of all employees in ascending order
+     */
+    private Snapshot loadSnapshot(List<Long> employeeIds, LocalDate dateFrom, LocalDate dateTo, YearMonth fromMonth, int months) {
+
+        List<Callable<Snapshot>> partitions = new ArrayList<>();
+        for (int from = 0; from < employeeIds.size(); from += partitionSize) {
+            long firstEmployeeId = employeeIds.get(from);
+            long lastEmployeeId = employeeIds.get(Math.min(from + partitionSize, employeeIds.size()) - 1);
+            partitions.add(() -> readOnlyTransaction.execute(status -> {
+                Snapshot partition = new Snapshot();
+                payrollSimulationRepository.streamMonthlyApprovedHours(firstEmployeeId, lastEmployeeId, dateFrom, dateTo,
+                        (employeeId, month, hours, seconds, entries) -> {
+                            EmployeeHours employee = partition.hours.computeIfAbsent(employeeId, id -> new EmployeeHours(id, months));
+                            int index = (int) fromMonth.until(month, ChronoUnit.MONTHS);
+                            employee.hours[index] = hours;
+                            employee.seconds[index] = seconds;
+                            partition.entries += entries;
+                        });
+                return partition;
+            }));
+        }
+
+        Snapshot snapshot = new Snapshot();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, partitions.size())))) {
+            for (Future<Snapshot> partition : executor.invokeAll(partitions)) {
+                // Partitions cover disjoint employee ranges
+                snapshot.hours.putAll(partition.get().hours);
+                snapshot.entries += partition.get().entries;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Payroll simulation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Payroll simulation failed", e.getCause());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Computes one employee's payouts over all simulated months at the historical and scenario rates.
+     */
+    private static EmployeeTotals evaluate(EmployeeHours hours, SimulationEmployeeDto employee,
+                                           List<SalaryChangeHistoryDto> salaryChanges, YearMonth fromMonth, Scenario scenario) {
+        BigDecimal baseline = BigDecimal.ZERO;
+        BigDecimal simulated = BigDecimal.ZERO;
+        for (int month = 0; month < hours.hours.length; month++) {
+            // Like the procedure's HAVING clause, a month whose total time is not positive has no payout
+            if (hours.seconds[month].signum() <= 0) {
+                continue;
+            }
+            BigDecimal historicalRate = rateOn(payDay(fromMonth.plusMonths(month)), employee.getHourlyRate(), salaryChanges);
+            baseline = baseline.add(amountOrZero(hours.hours[month], historicalRate));
+            simulated = simulated.add(amountOrZero(hours.hours[month], scenario.rate(employee, historicalRate)));
+        }
+        return new EmployeeTotals(employee.getDepartmentId(), employee.getDepartmentName(), baseline, simulated);
+    }
+
+    /**
+     * Returns the rate in force when the payouts were run on the given day: the old rate of the
+     * first change made on that day or later, or the current rate if there is none.
+     */
+    private static BigDecimal rateOn(LocalDate day, BigDecimal currentRate, List<SalaryChangeHistoryDto> salaryChanges) {
+        for (SalaryChangeHistoryDto change : salaryChanges) {
+            if (!change.getDate().isBefore(day)) {
+                return change.getOldSalary();
+            }
+        }
+        return currentRate;
+    }
+
+    /**
+     * The day the payouts of a month are generated: the 1st of the following month.
+     */
+    private static LocalDate payDay(YearMonth month) {
+        return month.plusMonths(1).atDay(1);
+    }
+
+    private static BigDecimal amountOrZero(BigDecimal totalHours, BigDecimal hourlyRate) {
+        BigDecimal amount = PayrollCalculator.amount(totalHours, hourlyRate);
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
+
+    /**
+     * The hypothetical rates of a simulation request.
+     */
+    private static final class Scenario {
+        private final Map<Long, BigDecimal> employeeRates;
+        private final Map<Long, BigDecimal> departmentRaisePercent;
+
+        Scenario(PayrollSimulationRequestDto request) {
+            this.employeeRates = request.getEmployeeRates() == null ? Collections.emptyMap() : request.getEmployeeRates();
+            this.departmentRaisePercent = request.getDepartmentRaisePercent() == null
+                    ? Collections.emptyMap() : request.getDepartmentRaisePercent();
+        }
+
+        /**
+         * Returns the employee's rate in the scenario, rounded like the {@code NUMERIC(10,2)} rate column.
+         */
+        BigDecimal rate(SimulationEmployeeDto employee, BigDecimal historicalRate) {
+            BigDecimal rate = employeeRates.get(employee.getEmployeeId());
+            if (rate != null) {
+                return rate;
+            }
+            BigDecimal raisePercent = employee.getDepartmentId() == null ? null : departmentRaisePercent.get(employee.getDepartmentId());
+            if (raisePercent != null && historicalRate != null) {
+                return historicalRate.multiply(HUNDRED.add(raisePercent)).divide(HUNDRED).setScale(2, RoundingMode.HALF_UP);
+            }
+            return historicalRate;
+        }
+    }
+
+    /**
+     * Hour totals of the employees of one snapshot or snapshot partition.
+     */
+    private static final class Snapshot {
+        final Map<Long, EmployeeHours> hours = new HashMap<>();
+        long entries;
+    }
+
+    /**
+     * One employee's approved time per simulated month, both as the sum of the procedure's
+     * per-entry hour terms and as exact seconds (for the {@code HAVING} check).
+     */
+    private static final class EmployeeHours {
+        final long employeeId;
+        final BigDecimal[] hours;
+        final BigDecimal[] seconds;
+
+        EmployeeHours(long employeeId, int months) {
+            this.employeeId = employeeId;
+            this.hours = new BigDecimal[months];
+            this.seconds = new BigDecimal[months];
+            Arrays.fill(hours, BigDecimal.ZERO);
+            Arrays.fill(seconds, BigDecimal.ZERO);
+        }
+    }
+
+    /**
+     * One employee's payouts summed over the simulated months.
+     */
+    private static final class EmployeeTotals {
+        final Long departmentId;
+        final String departmentName;
+        final BigDecimal baseline;
+        final BigDecimal scenario;
+
+        EmployeeTotals(Long departmentId, String departmentName, BigDecimal baseline, BigDecimal scenario) {
+            this.departmentId = departmentId;
+            this.departmentName = departmentName;
+            this.baseline = baseline;
+            this.scenario = scenario;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated principal of the payroll application.
+ * <p>
+ * Extends the standard Spring Security {@link User} with the identifiers that request handlers
+ * need most often: the employee ID, role name and department ID. They are captured once at login
+ * by {@link CustomUserDetailsService} and travel with the security context, so handlers that only
+ * need to know <i>who</i> is calling do not have to look the user up again.
+ * </p>
+ * <p>
+ * Like the granted authorities, these values reflect the state at login time.
+ * </p>
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class PayrollUserDetails extends User {
+
+    /**
+     * The employee ID ({@code id_pracownik}) of the authenticated user.
+     */
+    private final Long id;
+
+    /**
+     * The name of the user's role (e.g. "ADMIN"), without the {@code ROLE_} prefix.
+     */
+    private final String roleName;
+
+    /**
+     * The ID of the user's department, or {@code null} if the user has none.
+     */
+    private final Long departmentId;
+
+    /**
+     * Creates a new principal.
+     *
+     * @param id           the employee ID
+     * @param email        the email used as the username
+     * @param password     the hashed password
+     * @param authorities  the authorities granted to the user
+     * @param roleName     the name of the user's role
+     * @param departmentId the ID of the user's department (may be {@code null})
+     */
+    public PayrollUserDetails(Long id, String email, String password,
+                              Collection<? extends GrantedAuthority> authorities,
+                              String roleName, Long departmentId) {
+        super(email, password, authorities);
+        this.id = id;
+        this.roleName = roleName;
+        this.departmentId = departmentId;
+    }
+}
@@ -0,0 +1,204 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayslipDto;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Renders the payslip of one payout as a single-page A4 PDF.
+ * <p>
+ * The document is written by hand, like the XLSX exports, and uses only the standard Helvetica
+ * fonts, which every PDF viewer has, so nothing is embedded and a payslip is about 2 KB. The
+ * standard {@code WinAnsiEncoding} has no Polish letters; the fonts therefore use an encoding
+ * derived from it whose {@code /Differences} put the glyphs {@code aogonek}, {@code lslash},
+ * {@code zdotaccent} etc. of the standard Latin character set at their Windows-1250 codes.
+ * Characters the encoding cannot show are printed as {@code ?}.
+ * </p>
+ * <p>
+ * The output depends only on the payslip data (no creation date is written), so rendering the
+ * same payout twice gives the same bytes, which is what lets {@link PayslipService} store the
+ * files by the hash of their content. Instances are not reused; {@link #render} is thread-safe.
+ * </p>
+ */
+public final class PayslipPdfWriter {
+
+    private static final int LEFT = 56;
+    private static final int RIGHT = 539;
+    private static final int VALUE_X = 200;
+    private static final int MAX_VALUE_LENGTH = 60;
+
+    /**
+     * Polish letters missing from {@code WinAnsiEncoding} and their glyph names;
+     * {@code Ó} and {@code ó} are already there.
+     */
+    private static final String POLISH_LETTERS = "ĄąĆćĘęŁłŃńŚśŹźŻż";
+    private static final String[] POLISH_GLYPHS = {
+            "Aogonek", "aogonek", "Cacute", "cacute", "Eogonek", "eogonek", "Lslash", "lslash",
+            "Nacute", "nacute", "Sacute", "sacute", "Zacute", "zacute", "Zdotaccent", "zdotaccent"};
+
+    /**
+     * Code of every printable character in the font encoding, 0 if it has none.
+     */
+    private static final byte[] CODES = new byte[Character.MAX_VALUE + 1];
+    private static final String ENCODING;
+
+    static {
+        Charset windows1250 = Charset.forName("windows-1250");
+        boolean[] replaced = new boolean[256];
+        StringBuilder differences = new StringBuilder("<< /Type /Encoding /BaseEncoding /WinAnsiEncoding /Differences [");
+        for (int i = 0; i < POLISH_LETTERS.length(); i++) {
+            char letter = POLISH_LETTERS.charAt(i);
+            int code = String.valueOf(letter).getBytes(windows1250)[0] & 0xFF;
+            CODES[letter] = (byte) code;
+            replaced[code] = true;
+            differences.append(' ').append(code).append(" /").append(POLISH_GLYPHS[i]);
+        }
+        ENCODING = differences.append(" ] >>").toString();
+
+        Charset windows1252 = Charset.forName("windows-1252");
+        for (int code = 0x20; code <= 0xFF; code++) {
+            char c = new String(new byte[]{(byte) code}, windows1252).charAt(0);
+            if (!replaced[code] && !Character.isISOControl(c) && c != '\uFFFD') {
+                CODES[c] = (byte) code;
+            }
+        }
+    }
+
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream(2048);
+    private final ByteArrayOutputStream pdf = new ByteArrayOutputStream(4096);
+    private int y = 786;
+
+    private PayslipPdfWriter() {
+    }
+
+    /**
+     * Renders a payslip.
+     *
+     * @param payslip     the payout and its employee
+     * @param companyName the employer printed in the header, or {@code null} to leave it out
+     * @return the PDF document
+     */
+    public static byte[] render(PayslipDto payslip, String companyName) {
+        PayslipPdfWriter writer = new PayslipPdfWriter();
+        writer.page(payslip, companyName);
+        return writer.document();
+    }
+
+    private void page(PayslipDto payslip, String companyName) {
+        text("F2", 18, LEFT, y, "Pasek wynagrodzenia");
+        if (companyName != null) {
+            y -= 22;
+            text("F1", 11, LEFT, y, companyName);
+        }
+        y -= 14;
+        line();
+
+        section("Pracownik");
+        row("Imię i nazwisko", payslip.getFirstName() + " " + payslip.getLastName());
+        row("E-mail", payslip.getEmail());
+        row("Dział", payslip.getDepartment());
+        row("Stanowisko", payslip.getPosition());
+
+        section("Wypłata");
+        row("Numer wypłaty", Long.toString(payslip.getPaymentId()));
+        row("Data wypłaty", payslip.getDate() != null ? payslip.getDate().toString() : null);
+        row("Typ wypłaty", payslip.getPaymentType());
+        row("Opis", payslip.getDescription());
+
+        y -= 14;
+        line();
+        y -= 22;
+        text("F2", 13, LEFT, y, "Kwota wypłaty");
+        text("F2", 13, VALUE_X, y, formatAmount(payslip.getAmount()));
+
+        text("F1", 8, LEFT, 48, "Dokument wygenerowany automatycznie przez system płacowy.");
+    }
+
+    private void section(String title) {
+        y -= 30;
+        text("F2", 12, LEFT, y, title);
+        y -= 6;
+    }
+
+    private void row(String label, String value) {
+        y -= 16;
+        text("F1", 10, LEFT, y, label);
+        text("F1", 10, VALUE_X, y, value == null || value.isBlank() ? "-" : value);
+    }
+
+    private void line() {
+        ascii(content, "0.6 w " + LEFT + " " + y + " m " + RIGHT + " " + y + " l S\n");
+    }
+
+    private void text(String font, int size, int x, int baseline, String text) {
+        ascii(content, "BT /" + font + " " + size + " Tf " + x + " " + baseline + " Td (");
+        int length = Math.min(text.length(), MAX_VALUE_LENGTH);
+        for (int i = 0; i < length; i++) {
+            int code = CODES[text.charAt(i)] & 0xFF;
+            if (code == 0) {
+                code = '?';
+            }
+            if (code == '(' || code == ')' || code == '\\') {
+                content.write('\\');
+            }
+            content.write(code);
+        }
+        ascii(content, ") Tj ET\n");
+    }
+
+    private byte[] document() {
+        int[] offsets = new int[8];
+        ascii(pdf, "%PDF-1.4\n");
+        // Marks the file as binary for transfer programs
+        pdf.writeBytes(new byte[]{'%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'});
+        object(offsets, 1, "<< /Type /Catalog /Pages 2 0 R >>");
+        object(offsets, 2, "<< /Type /Pages /Kids [3 0 R] /Count 1 >>");
+        object(offsets, 3, "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 595 842]"
+                + " /Resources << /Font << /F1 4 0 R /F2 5 0 R >> >> /Contents 7 0 R >>");
+        object(offsets, 4, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding 6 0 R >>");
+        object(offsets, 5, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding 6 0 R >>");
+        object(offsets, 6, ENCODING);
+
+        offsets[7] = pdf.size();
+        ascii(pdf, "7 0 obj\n<< /Length " + content.size() + " >>\nstream\n");
+        pdf.writeBytes(content.toByteArray());
+        ascii(pdf, "\nendstream\nendobj\n");
+
+        int xref = pdf.size();
+        StringBuilder trailer = new StringBuilder("xref\n0 8\n0000000000 65535 f \n");
+        for (int i = 1; i < offsets.length; i++) {
+            String offset = Integer.toString(offsets[i]);
+            trailer.append("0".repeat(10 - offset.length())).append(offset).append(" 00000 n \n");
+        }
+        trailer.append("trailer\n<< /Size 8 /Root 1 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+        ascii(pdf, trailer.toString());
+        return pdf.toByteArray();
+    }
+
+    private void object(int[] offsets, int number, String body) {
+        offsets[number] = pdf.size();
+        ascii(pdf, number + " 0 obj\n" + body + "\nendobj\n");
+    }
+
+    private static void ascii(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Formats an amount the Polish way, e.g. {@code 4 200,05 PLN}.
+     */
+    static String formatAmount(BigDecimal amount) {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.ROOT);
+        symbols.setGroupingSeparator(' ');
+        symbols.setDecimalSeparator(',');
+        DecimalFormat format = new DecimalFormat("#,##0.00", symbols);
+        return format.format(amount.setScale(2, RoundingMode.HALF_UP)) + " PLN";
+    }
+}
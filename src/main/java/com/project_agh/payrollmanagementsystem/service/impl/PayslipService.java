@@ -0,0 +1,299 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.PayslipDto;
+import com.project_agh.payrollmanagementsystem.repositories.PayslipRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service generating and storing the PDF payslips of the payouts.
+ * <p>
+ * Employees download their payslips from the "my salary" tab, most of them on the day after a
+ * payout run. So that this traffic does not reach the database and the renderer, the payslips of
+ * the whole run are generated as soon as it completes ({@link PayoutRunCompletedEvent}), in
+ * parallel partitions on a fork-join pool of {@code payslips.parallelism} threads (the number of
+ * processors by default). A payslip requested before it was generated, e.g. of a manual payout,
+ * is rendered on the first request and stored the same way.
+ * </p>
+ * <p>
+ * The files are stored under {@code payslips.dir}, addressed by content: a PDF is saved once as
+ * {@code objects/<first two hex digits>/<SHA-256>.pdf}, and a small reference file
+ * {@code refs/<payout ID / 1000>/<payout ID>} records the owner of the payout and the hash of
+ * its payslip. Serving a payslip reads these two files and checks by primary key that the payout
+ * still exists, and the hash is the ETag of the response. Files are written to a temporary file
+ * and moved into place, so a request never sees a partly written payslip. Each instance keeps its
+ * own directory; it can be deleted at any time, missing payslips are rendered again on demand.
+ * </p>
+ * <p>
+ * Deleting a payout removes its reference only on the instance that handled the deletion
+ * ({@link #evict(Collection)}). The other instances notice the deletion through the existence
+ * check and drop their reference on the next request.
+ * </p>
+ */
+@Service
+public class PayslipService {
+
+    /**
+     * Number of payslips one fork-join task renders without splitting further.
+     */
+    static final int RENDER_BATCH_SIZE = 64;
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayslipService.class);
+
+    /**
+     * A stored payslip.
+     *
+     * @param paymentId the ID of the payout
+     * @param hash      SHA-256 of the PDF, as lowercase hex digits
+     * @param file      the PDF file
+     */
+    public record Payslip(long paymentId, String hash, Path file) {
+    }
+
+    private final PayslipRepository payslipRepository;
+    private final Path objectsDir;
+    private final Path refsDir;
+    private final String companyName;
+    private final int parallelism;
+    private final boolean pregenerate;
+
+    /**
+     * Constructs a new {@code PayslipService}.
+     *
+     * @param payslipRepository repository reading the payslip data
+     * @param directory         directory the payslips are stored in
+     * @param companyName       employer printed on the payslips (optional)
+     * @param parallelism       number of threads rendering a run, 0 for the number of processors
+     * @param pregenerate       whether the payslips of a run are generated when it completes
+     */
+    public PayslipService(PayslipRepository payslipRepository,
+                          @Value("${payslips.dir:${java.io.tmpdir}/payroll-payslips}") String directory,
+                          @Value("${bank.debtor.name:}") String companyName,
+                          @Value("${payslips.parallelism:0}") int parallelism,
+                          @Value("${payslips.pregenerate:true}") boolean pregenerate) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Invalid payslips.parallelism " + parallelism + ", expected 0 or more.");
+        }
+        this.payslipRepository = payslipRepository;
+        Path root = Path.of(directory).toAbsolutePath();
+        this.objectsDir = root.resolve("objects");
+        this.refsDir = root.resolve("refs");
+        this.companyName = companyName.isBlank() ? null : companyName.trim();
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pregenerate = pregenerate;
+    }
+
+    /**
+     * Starts generating the payslips of a completed payout run in the background.
+     *
+     * @param event the completed run
+     */
+    @EventListener
+    public void onPayoutRunCompleted(PayoutRunCompletedEvent event) {
+        if (!pregenerate) {
+            return;
+        }
+        YearMonth period = YearMonth.from(event.periodStart());
+        Thread.ofVirtual().name("payslips-" + period).start(() -> {
+            try {
+                generatePeriod(period);
+            } catch (RuntimeException e) {
+                LOG.error("Payslips: Generating payslips for {} failed.", period, e);
+            }
+        });
+    }
+
+    /**
+     * Generates and stores the payslips of all payouts of a payout run.
+     * <p>
+     * Payslips already stored with the same content are left as they are, so generating a period
+     * again only rewrites the payslips whose data has changed.
+     * </p>
+     *
+     * @param period the period of the run
+     * @return the number of payslips
+     */
+    public int generatePeriod(YearMonth period) {
+        long started = System.nanoTime();
+        List<PayslipDto> payslips = payslipRepository.findByDescription(AutoPayoutService.payoutDescription(period.atDay(1)));
+        if (payslips.isEmpty()) {
+            return 0;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        int stored;
+        try {
+            stored = pool.invoke(new RenderTask(payslips, 0, payslips.size()));
+        } finally {
+            pool.shutdownNow();
+            pool.close();
+        }
+
+        LOG.info("Payslips: {} payslips for {} generated in {} ms", stored, period,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return stored;
+    }
+
+    /**
+     * Returns the payslip of a payout of the given employee, rendering it if it is not stored yet.
+     *
+     * @param paymentId the ID of the payout
+     * @param userId    the ID of the employee requesting it
+     * @return the payslip, or empty if the employee has no such payout
+     */
+    public Optional<Payslip> find(long paymentId, long userId) {
+        String[] ref = readRef(paymentId);
+        if (ref != null) {
+            if (!ref[0].equals(Long.toString(userId))) {
+                return Optional.empty();
+            }
+            Path file = objectFile(ref[1]);
+            if (Files.exists(file)) {
+                if (!payslipRepository.existsByIdAndUser(paymentId, userId)) {
+                    evict(List.of(paymentId));
+                    return Optional.empty();
+                }
+                return Optional.of(new Payslip(paymentId, ref[1], file));
+            }
+        }
+        return payslipRepository.findByIdAndUser(paymentId, userId).map(this::store);
+    }
+
+    /**
+     * Removes the payslips of deleted payouts from this instance's directory.
+     * <p>
+     * Only the references are removed; a PDF left without one is never served again.
+     * </p>
+     *
+     * @param paymentIds the IDs of the payouts
+     */
+    public void evict(Collection<Long> paymentIds) {
+        for (Long paymentId : paymentIds) {
+            try {
+                Files.deleteIfExists(refFile(paymentId));
+            } catch (IOException e) {
+                LOG.warn("Payslips: Could not remove the payslip of payout {}", paymentId, e);
+            }
+        }
+    }
+
+    /**
+     * Renders a payslip and stores it, unless the same PDF is already stored for the payout.
+     */
+    Payslip store(PayslipDto payslip) {
+        byte[] pdf = PayslipPdfWriter.render(payslip, companyName);
+        String hash = sha256(pdf);
+        Path file = objectFile(hash);
+        byte[] ref = (payslip.getUserId() + " " + hash).getBytes(StandardCharsets.US_ASCII);
+        Path refFile = refFile(payslip.getPaymentId());
+        try {
+            if (!Files.exists(file)) {
+                writeAtomically(file, pdf);
+            }
+            String[] current = readRef(payslip.getPaymentId());
+            if (current == null || !current[1].equals(hash) || !current[0].equals(Long.toString(payslip.getUserId()))) {
+                writeAtomically(refFile, ref);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Payslip(payslip.getPaymentId(), hash, file);
+    }
+
+    /**
+     * Reads the reference of a payout.
+     *
+     * @return the owner ID and the hash, or {@code null} if there is no valid reference
+     */
+    private String[] readRef(long paymentId) {
+        String content;
+        try {
+            content = Files.readString(refFile(paymentId), StandardCharsets.US_ASCII);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String[] ref = content.split(" ");
+        return ref.length == 2 && ref[1].length() == 64 ? ref : null;
+    }
+
+    private Path objectFile(String hash) {
+        return objectsDir.resolve(hash.substring(0, 2)).resolve(hash + ".pdf");
+    }
+
+    private Path refFile(long paymentId) {
+        return refsDir.resolve(Long.toString(paymentId / 1000)).resolve(Long.toString(paymentId));
+    }
+
+    private static void writeAtomically(Path target, byte[] content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".payslip", ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Renders and stores a range of payslips, splitting it in halves while it is larger than
+     * {@value #RENDER_BATCH_SIZE}.
+     */
+    private final class RenderTask extends RecursiveTask<Integer> {
+        private final List<PayslipDto> payslips;
+        private final int from;
+        private final int to;
+
+        RenderTask(List<PayslipDto> payslips, int from, int to) {
+            this.payslips = payslips;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= RENDER_BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    store(payslips.get(i));
+                }
+                return to - from;
+            }
+            int middle = (from + to) >>> 1;
+            RenderTask left = new RenderTask(payslips, from, middle);
+            left.fork();
+            int right = new RenderTask(payslips, middle, to).compute();
+            return left.join() + right;
+        }
+    }
+}
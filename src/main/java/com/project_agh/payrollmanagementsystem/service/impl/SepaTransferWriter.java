@@ -0,0 +1,147 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes a payout batch as an ISO 20022 credit transfer initiation ({@code pain.001.001.03}).
+ * <p>
+ * The file has one payment information block with the category purpose {@code SALA} (salary)
+ * and one {@code CdtTrfTxInf} per transfer; payouts in euro are marked with the {@code SEPA}
+ * service level. The group header states the number and the sum of the transfers, so they have
+ * to be known before the first transfer is written. The XML is written as text while the
+ * transfers arrive, no document is built in memory. Names are cut to 70 characters and the
+ * title to 140, as the standard allows.
+ * </p>
+ */
+public final class SepaTransferWriter implements BankTransferWriter {
+
+    private static final String NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pain.001.001.03";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NAME_LENGTH = 70;
+    private static final int TITLE_LENGTH = 140;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final Writer writer;
+    private final StringBuilder xml = new StringBuilder(1024);
+    private final String messageId;
+    private final String currency;
+    private final String title;
+
+    /**
+     * Creates a writer of one batch and writes the headers.
+     *
+     * @param out   the stream receiving the file; it is not closed
+     * @param batch the batch
+     */
+    public SepaTransferWriter(OutputStream out, Batch batch) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.messageId = batch.messageId();
+        this.currency = batch.currency();
+        StringBuilder text = new StringBuilder(TITLE_LENGTH);
+        appendText(text, batch.title(), TITLE_LENGTH);
+        this.title = text.toString();
+
+        String count = Integer.toString(batch.transfers());
+        StringBuilder sum = new StringBuilder();
+        appendAmount(sum, batch.totalMinor());
+
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<Document xmlns=\"").append(NAMESPACE).append("\"><CstmrCdtTrfInitn>")
+                .append("<GrpHdr><MsgId>").append(messageId).append("</MsgId>")
+                .append("<CreDtTm>").append(DATE_TIME.format(batch.createdAt())).append("</CreDtTm>")
+                .append("<NbOfTxs>").append(count).append("</NbOfTxs>")
+                .append("<CtrlSum>").append(sum).append("</CtrlSum>")
+                .append("<InitgPty><Nm>");
+        appendText(xml, batch.debtorName(), NAME_LENGTH);
+        xml.append("</Nm></InitgPty></GrpHdr>")
+                .append("<PmtInf><PmtInfId>").append(messageId).append("</PmtInfId>")
+                .append("<PmtMtd>TRF</PmtMtd><BtchBookg>true</BtchBookg>")
+                .append("<NbOfTxs>").append(count).append("</NbOfTxs>")
+                .append("<CtrlSum>").append(sum).append("</CtrlSum>")
+                .append("<PmtTpInf>");
+        if ("EUR".equals(currency)) {
+            xml.append("<SvcLvl><Cd>SEPA</Cd></SvcLvl>");
+        }
+        xml.append("<CtgyPurp><Cd>SALA</Cd></CtgyPurp></PmtTpInf>")
+                .append("<ReqdExctnDt>").append(batch.executionDate()).append("</ReqdExctnDt>")
+                .append("<Dbtr><Nm>");
+        appendText(xml, batch.debtorName(), NAME_LENGTH);
+        xml.append("</Nm></Dbtr>")
+                .append("<DbtrAcct><Id><IBAN>").append(batch.debtorIban()).append("</IBAN></Id></DbtrAcct>")
+                .append("<DbtrAgt><FinInstnId>");
+        if (batch.debtorBic() != null) {
+            xml.append("<BIC>").append(batch.debtorBic()).append("</BIC>");
+        } else {
+            xml.append("<Othr><Id>NOTPROVIDED</Id></Othr>");
+        }
+        xml.append("</FinInstnId></DbtrAgt><ChrgBr>SLEV</ChrgBr>\n");
+        write();
+    }
+
+    @Override
+    public void transfer(long paymentId, String beneficiaryName, String iban, long amountMinor) {
+        // The payout ID identifies the transfer on the bank statement
+        xml.append("<CdtTrfTxInf><PmtId><EndToEndId>WYPLATA-").append(paymentId)
+                .append("</EndToEndId></PmtId>")
+                .append("<Amt><InstdAmt Ccy=\"").append(currency).append("\">");
+        appendAmount(xml, amountMinor);
+        xml.append("</InstdAmt></Amt><Cdtr><Nm>");
+        appendText(xml, beneficiaryName, NAME_LENGTH);
+        xml.append("</Nm></Cdtr><CdtrAcct><Id><IBAN>").append(iban).append("</IBAN></Id></CdtrAcct>")
+                .append("<RmtInf><Ustrd>").append(title).append("</Ustrd></RmtInf></CdtTrfTxInf>\n");
+        write();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.write("</PmtInf></CstmrCdtTrfInitn></Document>\n");
+        writer.flush();
+    }
+
+    private void write() {
+        try {
+            writer.append(xml);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        xml.setLength(0);
+    }
+
+    /**
+     * Appends an amount in grosze as a decimal with two fraction digits, e.g. {@code 1234.05}.
+     */
+    private static void appendAmount(StringBuilder out, long amountMinor) {
+        long fraction = amountMinor % 100;
+        out.append(amountMinor / 100).append('.');
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    /**
+     * Appends text escaped for XML, with control characters replaced by spaces, cut to the given
+     * number of characters.
+     */
+    private static void appendText(StringBuilder out, String text, int maxLength) {
+        int length = Math.min(text.length(), maxLength);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&apos;");
+                default -> out.append(c < ' ' || Character.isSurrogate(c) ? ' ' : c);
+            }
+        }
+    }
+}
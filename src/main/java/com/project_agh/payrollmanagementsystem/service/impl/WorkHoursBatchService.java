@@ -0,0 +1,152 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursBatchResultDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursBatchResultDto.RowResult;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursDto;
+import com.project_agh.payrollmanagementsystem.entities.WorkHours;
+import com.project_agh.payrollmanagementsystem.repositories.WorkHoursRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service handling batch timesheet submissions (e.g. a whole week of work hours at once).
+ * <p>
+ * The entries of a batch are validated together: each entry on its own, against the other
+ * entries of the batch and against the employee's already stored entries on the same days,
+ * which are loaded with a single query. Only when every entry is valid is the batch inserted,
+ * in one JDBC batch and one transaction.
+ * </p>
+ */
+@Service
+public class WorkHoursBatchService {
+
+    /**
+     * Maximum number of entries accepted in one submission.
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * Thrown when a submission has more than {@value #MAX_BATCH_SIZE} entries.
+     */
+    public static class BatchTooLargeException extends RuntimeException {
+
+        /**
+         * Constructs a new {@code BatchTooLargeException}.
+         *
+         * @param size the number of submitted entries
+         */
+        public BatchTooLargeException(int size) {
+            super("Maksymalnie " + MAX_BATCH_SIZE + " wpisów w jednym zgłoszeniu (przesłano " + size + ").");
+        }
+    }
+
+    private final WorkHoursRepository workHoursRepository;
+
+    /**
+     * Constructs a new {@code WorkHoursBatchService}.
+     *
+     * @param workHoursRepository repository used to read existing entries and insert the batch
+     */
+    public WorkHoursBatchService(WorkHoursRepository workHoursRepository) {
+        this.workHoursRepository = workHoursRepository;
+    }
+
+    /**
+     * Validates and, if every entry is valid, inserts a batch of work hour entries.
+     *
+     * @param userId  the ID of the employee submitting the timesheet
+     * @param entries the submitted entries
+     * @return the batch outcome with one result per entry
+     * @throws BatchTooLargeException if more than {@value #MAX_BATCH_SIZE} entries are submitted
+     */
+    public WorkHoursBatchResultDto submit(Long userId, List<WorkHoursDto> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return new WorkHoursBatchResultDto(false, 0, List.of());
+        }
+        if (entries.size() > MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException(entries.size());
+        }
+
+        List<WorkHours> existing = loadExisting(userId, entries);
+
+        List<RowResult> rows = new ArrayList<>(entries.size());
+        boolean allValid = true;
+        for (int i = 0; i < entries.size(); i++) {
+            String error = validate(i, entries, existing);
+            rows.add(new RowResult(i + 1, error == null, error));
+            allValid &= (error == null);
+        }
+
+        if (!allValid) {
+            return new WorkHoursBatchResultDto(false, 0, rows);
+        }
+
+        int created = workHoursRepository.createWorkHoursBatch(userId, entries);
+        return new WorkHoursBatchResultDto(true, created, rows);
+    }
+
+    /**
+     * Loads the employee's stored entries covering the days of the batch in one query.
+     */
+    private List<WorkHours> loadExisting(Long userId, List<WorkHoursDto> entries) {
+        List<LocalDate> dates = entries.stream()
+                .map(WorkHoursDto::getDate)
+                .filter(Objects::nonNull)
+                .toList();
+        if (dates.isEmpty()) {
+            return List.of();
+        }
+        LocalDate from = dates.stream().min(Comparator.naturalOrder()).get();
+        LocalDate to = dates.stream().max(Comparator.naturalOrder()).get();
+        return workHoursRepository.findByUserIdAndDateRange(userId, from, to);
+    }
+
+    /**
+     * Validates one entry of the batch.
+     *
+     * @return the error message, or {@code null} if the entry is valid
+     */
+    private String validate(int index, List<WorkHoursDto> entries, List<WorkHours> existing) {
+        WorkHoursDto entry = entries.get(index);
+
+        if (entry == null) {
+            return "Pusty wpis.";
+        }
+        if (entry.getDate() == null || entry.getStartTime() == null || entry.getEndTime() == null) {
+            return "Data, godzina rozpoczęcia i zakończenia są wymagane.";
+        }
+        if (entry.getWorkTypeId() == null) {
+            return "Typ czynności jest wymagany.";
+        }
+        if (!entry.getStartTime().isBefore(entry.getEndTime())) {
+            return "Godzina rozpoczęcia musi być wcześniejsza niż godzina zakończenia.";
+        }
+
+        for (int other = 0; other < entries.size(); other++) {
+            WorkHoursDto o = entries.get(other);
+            if (other != index && o != null && entry.getDate().equals(o.getDate())
+                    && o.getStartTime() != null && o.getEndTime() != null
+                    && overlaps(entry.getStartTime(), entry.getEndTime(), o.getStartTime(), o.getEndTime())) {
+                return "Nakłada się na wpis nr " + (other + 1) + " w tym zgłoszeniu.";
+            }
+        }
+
+        for (WorkHours stored : existing) {
+            if (entry.getDate().equals(stored.getDate())
+                    && overlaps(entry.getStartTime(), entry.getEndTime(), stored.getStartTime(), stored.getEndTime())) {
+                return "Nakłada się na zapisane godziny " + stored.getStartTime() + "–" + stored.getEndTime() + ".";
+            }
+        }
+        return null;
+    }
+
+    private static boolean overlaps(LocalTime startA, LocalTime endA, LocalTime startB, LocalTime endB) {
+        return startA.isBefore(endB) && startB.isBefore(endA);
+    }
+}
@@ -0,0 +1,471 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursImportProgressDto;
+import com.project_agh.payrollmanagementsystem.entities.WorkType;
+import com.project_agh.payrollmanagementsystem.repositories.ProjectRepository;
+import com.project_agh.payrollmanagementsystem.repositories.UserRepository;
+import com.project_agh.payrollmanagementsystem.repositories.WorkHoursRepository;
+import com.project_agh.payrollmanagementsystem.repositories.WorkTypeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Service importing work hours exported by external time clocks (badge readers) from CSV/TSV files.
+ * <p>
+ * The file is read line by line, so its size does not affect memory use. Employees are referenced
+ * either by email or by ID; both are resolved against a lookup prefetched once per import, as are
+ * work type and project IDs. Valid rows are written in chunks of {@code work-hours.import.batch-size}
+ * rows, each chunk in one JDBC batch and one transaction. For the best throughput on PostgreSQL the
+ * JDBC URL should enable {@code reWriteBatchedInserts=true}.
+ * </p>
+ * <p>
+ * Invalid rows are rejected and reported with their line number without stopping the import. If the
+ * insert of a chunk fails, the rows of that chunk are counted as rejected and the import continues.
+ * </p>
+ * <p>
+ * The first line must be a header. The delimiter (tab, semicolon or comma) is detected from it.
+ * Recognized columns (case-insensitive):
+ * </p>
+ * <ul>
+ *     <li>{@code employee} / {@code email} / {@code employee_id} / {@code id_pracownik} (required)</li>
+ *     <li>{@code date} / {@code data} &ndash; {@code yyyy-MM-dd} (required)</li>
+ *     <li>{@code start_time} / {@code godzina_rozpoczecia} &ndash; {@code HH:mm[:ss]} (required)</li>
+ *     <li>{@code end_time} / {@code godzina_zakonczenia} &ndash; {@code HH:mm[:ss]} (required)</li>
+ *     <li>{@code work_type_id} / {@code id_typ_pracy} (required)</li>
+ *     <li>{@code project_id} / {@code id_projekt} (optional)</li>
+ *     <li>{@code comment} / {@code komentarz} (optional)</li>
+ * </ul>
+ * <p>
+ * Fields may be enclosed in double quotes; quoted fields cannot span multiple lines.
+ * Imported entries are stored as not yet approved, like entries logged through the form.
+ * </p>
+ */
+@Service
+public class WorkHoursImportService {
+
+    /**
+     * Maximum number of rejected rows described in the progress report.
+     */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkHoursImportService.class);
+
+    /**
+     * Finished imports are kept for polling for this long.
+     */
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private static final Map<String, List<String>> COLUMN_ALIASES = Map.of(
+            "employee", List.of("employee", "email", "employee_id", "id_pracownik"),
+            "date", List.of("date", "data"),
+            "start", List.of("start_time", "start", "godzina_rozpoczecia"),
+            "end", List.of("end_time", "end", "godzina_zakonczenia"),
+            "workType", List.of("work_type_id", "work_type", "id_typ_pracy"),
+            "project", List.of("project_id", "project", "id_projekt"),
+            "comment", List.of("comment", "komentarz")
+    );
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("employee", "date", "start", "end", "workType");
+
+    private final WorkHoursRepository workHoursRepository;
+    private final UserRepository userRepository;
+    private final WorkTypeRepository workTypeRepository;
+    private final ProjectRepository projectRepository;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code WorkHoursImportService}.
+     *
+     * @param workHoursRepository repository used to insert the imported entries
+     * @param userRepository      repository used to prefetch the employee lookup
+     * @param workTypeRepository  repository used to prefetch valid work type IDs
+     * @param projectRepository   repository used to prefetch valid project IDs
+     * @param batchSize           number of rows written per JDBC batch
+     */
+    public WorkHoursImportService(WorkHoursRepository workHoursRepository,
+                                  UserRepository userRepository,
+                                  WorkTypeRepository workTypeRepository,
+                                  ProjectRepository projectRepository,
+                                  @Value("${work-hours.import.batch-size:5000}") int batchSize) {
+        this.workHoursRepository = workHoursRepository;
+        this.userRepository = userRepository;
+        this.workTypeRepository = workTypeRepository;
+        this.projectRepository = projectRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts importing an uploaded file in the background.
+     * <p>
+     * The upload is first spooled to a temporary file, so the import can outlive the request.
+     * Its progress can be polled with {@link #progress(String)}.
+     * </p>
+     *
+     * @param file the uploaded CSV/TSV file
+     * @return the initial progress of the import, including its job ID
+     * @throws IOException if the upload cannot be spooled
+     */
+    public WorkHoursImportProgressDto start(MultipartFile file) throws IOException {
+        removeExpiredJobs();
+
+        Path spooled = Files.createTempFile("work-hours-import-", ".csv");
+        file.transferTo(spooled);
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), file.getOriginalFilename());
+        jobs.put(job.id, job);
+
+        executor.submit(() -> {
+            try (BufferedReader reader = Files.newBufferedReader(spooled, StandardCharsets.UTF_8)) {
+                run(reader, job);
+            } catch (Exception e) {
+                job.fail(e);
+            } finally {
+                try {
+                    Files.deleteIfExists(spooled);
+                } catch (IOException e) {
+                    LOG.warn("Import: could not delete temporary file {}", spooled, e);
+                }
+            }
+        });
+        return job.snapshot();
+    }
+
+    /**
+     * Returns the current progress of an import started with {@link #start(MultipartFile)}.
+     *
+     * @param jobId the job ID returned when the import was started
+     * @return the progress, or empty if the job is unknown or has expired
+     */
+    public Optional<WorkHoursImportProgressDto> progress(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::snapshot);
+    }
+
+    /**
+     * Stops running imports when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // --- IMPORT ---
+
+    private void run(BufferedReader reader, ImportJob job) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("Plik jest pusty.");
+        }
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        char delimiter = detectDelimiter(header);
+        Map<String, Integer> columns = resolveColumns(splitLine(header, delimiter));
+
+        // Prefetched lookups, one query each for the whole import
+        Map<String, Long> idsByEmail = userRepository.findIdsByEmail();
+        Set<Long> userIds = new HashSet<>(idsByEmail.values());
+        Set<Long> workTypeIds = workTypeRepository.findAll().stream().map(WorkType::getId).collect(Collectors.toSet());
+        Set<Long> projectIds = projectRepository.findAllIds();
+
+        List<WorkHoursDto> chunk = new ArrayList<>(batchSize);
+        long chunkFirstLine = 0;
+        long lineNumber = 1;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            job.processed.incrementAndGet();
+
+            WorkHoursDto entry;
+            try {
+                entry = parseRow(splitLine(line, delimiter), columns, idsByEmail, userIds, workTypeIds, projectIds);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                job.reject(1, "Wiersz " + lineNumber + ": " + e.getMessage());
+                continue;
+            }
+
+            if (chunk.isEmpty()) {
+                chunkFirstLine = lineNumber;
+            }
+            chunk.add(entry);
+            if (chunk.size() >= batchSize) {
+                flush(chunk, chunkFirstLine, lineNumber, job);
+            }
+        }
+        flush(chunk, chunkFirstLine, lineNumber, job);
+        job.complete();
+    }
+
+    private void flush(List<WorkHoursDto> chunk, long firstLine, long lastLine, ImportJob job) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            job.imported.addAndGet(workHoursRepository.importWorkHours(chunk));
+        } catch (Exception e) {
+            job.reject(chunk.size(), "Wiersze " + firstLine + "–" + lastLine + ": zapis nie powiódł się: " + e.getMessage());
+        }
+        chunk.clear();
+    }
+
+    private WorkHoursDto parseRow(List<String> fields, Map<String, Integer> columns,
+                                  Map<String, Long> idsByEmail, Set<Long> userIds,
+                                  Set<Long> workTypeIds, Set<Long> projectIds) {
+        WorkHoursDto entry = new WorkHoursDto();
+
+        String employee = required(fields, columns, "employee");
+        Long userId = isDigits(employee) ? Long.valueOf(employee) : idsByEmail.get(employee.toLowerCase(Locale.ROOT));
+        if (userId == null || !userIds.contains(userId)) {
+            throw new IllegalArgumentException("nieznany pracownik '" + employee + "'");
+        }
+        entry.setUserId(userId);
+
+        entry.setDate(LocalDate.parse(required(fields, columns, "date")));
+        entry.setStartTime(LocalTime.parse(required(fields, columns, "start")));
+        entry.setEndTime(LocalTime.parse(required(fields, columns, "end")));
+        if (!entry.getStartTime().isBefore(entry.getEndTime())) {
+            throw new IllegalArgumentException("godzina rozpoczęcia musi być wcześniejsza niż zakończenia");
+        }
+
+        Long workTypeId = parseId(required(fields, columns, "workType"), "typ czynności");
+        if (!workTypeIds.contains(workTypeId)) {
+            throw new IllegalArgumentException("nieznany typ czynności " + workTypeId);
+        }
+        entry.setWorkTypeId(workTypeId);
+
+        String project = optional(fields, columns, "project");
+        if (project != null) {
+            Long projectId = parseId(project, "projekt");
+            if (!projectIds.contains(projectId)) {
+                throw new IllegalArgumentException("nieznany projekt " + projectId);
+            }
+            entry.setProjectId(projectId);
+        }
+
+        entry.setComment(optional(fields, columns, "comment"));
+        return entry;
+    }
+
+    // --- PARSING HELPERS ---
+
+    /**
+     * Picks the delimiter of the file from its header line: tab, semicolon when the header has no
+     * comma, otherwise comma.
+     */
+    static char detectDelimiter(String header) {
+        if (header.indexOf('\t') >= 0) {
+            return '\t';
+        }
+        if (header.indexOf(';') >= 0 && header.indexOf(',') < 0) {
+            return ';';
+        }
+        return ',';
+    }
+
+    /**
+     * Maps each recognized column to its position in the header, accepting any of its aliases.
+     *
+     * @throws IllegalArgumentException if a required column is missing
+     */
+    static Map<String, Integer> resolveColumns(List<String> header) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        COLUMN_ALIASES.forEach((column, aliases) -> aliases.stream()
+                .filter(positions::containsKey)
+                .findFirst()
+                .ifPresent(alias -> columns.put(column, positions.get(alias))));
+
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Brak wymaganych kolumn w nagłówku: " + missing.stream()
+                    .map(c -> COLUMN_ALIASES.get(c).get(0))
+                    .collect(Collectors.joining(", ")));
+        }
+        return columns;
+    }
+
+    /**
+     * Splits one line into fields, honouring double-quoted fields ({@code ""} escapes a quote).
+     */
+    static List<String> splitLine(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        if (line.indexOf('"') < 0) {
+            int from = 0;
+            for (int i = line.indexOf(delimiter); i >= 0; i = line.indexOf(delimiter, from)) {
+                fields.add(line.substring(from, i));
+                from = i + 1;
+            }
+            fields.add(line.substring(from));
+            return fields;
+        }
+
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String required(List<String> fields, Map<String, Integer> columns, String column) {
+        String value = optional(fields, columns, column);
+        if (value == null) {
+            throw new IllegalArgumentException("brak wartości w kolumnie '" + COLUMN_ALIASES.get(column).get(0) + "'");
+        }
+        return value;
+    }
+
+    private static String optional(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseId(String value, String what) {
+        if (!isDigits(value)) {
+            throw new IllegalArgumentException("niepoprawny identyfikator (" + what + ") '" + value + "'");
+        }
+        return Long.valueOf(value);
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    // --- JOB STATE ---
+
+    /**
+     * Mutable, thread-safe state of one import; {@link #snapshot()} produces the reported view.
+     */
+    private static final class ImportJob {
+
+        private final String id;
+        private final String fileName;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<String> errors = new ArrayList<>();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private ImportJob(String id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        private void reject(int rows, String error) {
+            rejected.addAndGet(rows);
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        private void complete() {
+            finish("COMPLETED");
+        }
+
+        private void fail(Exception e) {
+            synchronized (errors) {
+                errors.add(0, "Import przerwany: " + e.getMessage());
+            }
+            LOG.error("Import {} of {} failed", id, fileName, e);
+            finish("FAILED");
+        }
+
+        private void finish(String finalStatus) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private WorkHoursImportProgressDto snapshot() {
+            long end = (finishedAt != null) ? finishedNanos : System.nanoTime();
+            double seconds = Math.max(end - startNanos, 1) / 1_000_000_000.0;
+            List<String> errorsCopy;
+            synchronized (errors) {
+                errorsCopy = List.copyOf(errors);
+            }
+            return new WorkHoursImportProgressDto(id, fileName, status, processed.get(), imported.get(),
+                    rejected.get(), (long) (processed.get() / seconds), startedAt, finishedAt, errorsCopy);
+        }
+    }
+}
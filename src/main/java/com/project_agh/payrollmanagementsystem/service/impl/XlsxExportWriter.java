@@ -0,0 +1,289 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes an export as an Excel workbook (XLSX).
+ * <p>
+ * The workbook is produced directly as its zipped XML parts: rows are appended to the worksheet
+ * XML as they arrive, and the workbook parts that list the worksheets are written after the last
+ * row. Nothing is held per row and no temporary files are used, so the size of the export does
+ * not matter. Text is stored inline rather than in a shared strings table, which would have to
+ * be kept in memory. A worksheet holds at most {@value #MAX_ROWS_PER_SHEET} rows; longer exports
+ * continue on further worksheets, each starting with the header row.
+ * </p>
+ * <p>
+ * Dates and times are written as Excel serial numbers with a date or time format, amounts as
+ * numbers with two decimal places, so they can be summed and sorted in the spreadsheet.
+ * </p>
+ */
+final class XlsxExportWriter implements ExportWriter {
+
+    static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+    private static final BigDecimal SECONDS_PER_DAY = BigDecimal.valueOf(86_400);
+
+    // Indexes into cellXfs of STYLES_XML
+    private static final int STYLE_HEADER = 1;
+    private static final int STYLE_DATE = 2;
+    private static final int STYLE_DATE_TIME = 3;
+    private static final int STYLE_TIME = 4;
+    private static final int STYLE_AMOUNT = 5;
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NAMESPACE = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String DOCUMENT_RELATIONSHIP = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final String SHEET_START = XML_DECLARATION
+            + "<worksheet xmlns=\"" + MAIN_NAMESPACE + "\"><sheetViews><sheetView workbookViewId=\"0\">"
+            + "<pane ySplit=\"1\" topLeftCell=\"A2\" activePane=\"bottomLeft\" state=\"frozen\"/>"
+            + "</sheetView></sheetViews><sheetData>";
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    private static final String STYLES_XML = XML_DECLARATION
+            + "<styleSheet xmlns=\"" + MAIN_NAMESPACE + "\">"
+            + "<numFmts count=\"3\"><numFmt numFmtId=\"164\" formatCode=\"yyyy-mm-dd\"/>"
+            + "<numFmt numFmtId=\"165\" formatCode=\"yyyy-mm-dd hh:mm:ss\"/>"
+            + "<numFmt numFmtId=\"166\" formatCode=\"hh:mm\"/></numFmts>"
+            + "<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+            + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>"
+            + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill></fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"6\">"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>"
+            + "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"165\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"166\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"2\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "</cellXfs>"
+            + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+            + "</styleSheet>";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String sheetName;
+
+    private Object[] header;
+    private String[] columnNames;
+    private int sheets;
+    private int rowInSheet;
+
+    /**
+     * @param out       the stream receiving the workbook; it is not closed
+     * @param sheetName the name of the first worksheet, further ones are numbered
+     */
+    XlsxExportWriter(OutputStream out, String sheetName) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.sheetName = sheetName;
+    }
+
+    @Override
+    public void columns(List<String> columns) {
+        header = columns.toArray();
+        columnNames = new String[columns.size()];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnNames[i] = columnName(i);
+        }
+        try {
+            startSheet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void row(Object[] values) {
+        try {
+            if (rowInSheet == MAX_ROWS_PER_SHEET) {
+                endSheet();
+                startSheet();
+            }
+            writeRow(values, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        endSheet();
+        writeEntry("[Content_Types].xml", contentTypesXml());
+        writeEntry("_rels/.rels", XML_DECLARATION
+                + "<Relationships xmlns=\"" + RELATIONSHIPS_NAMESPACE + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + DOCUMENT_RELATIONSHIP + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>");
+        writeEntry("xl/workbook.xml", workbookXml());
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRelationshipsXml());
+        writeEntry("xl/styles.xml", STYLES_XML);
+        zip.finish();
+    }
+
+    private void startSheet() throws IOException {
+        sheets++;
+        rowInSheet = 0;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheets + ".xml"));
+        writer.write(SHEET_START);
+        writeRow(header, true);
+    }
+
+    private void endSheet() throws IOException {
+        writer.write(SHEET_END);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void writeRow(Object[] values, boolean isHeader) throws IOException {
+        rowInSheet++;
+        StringBuilder row = new StringBuilder(256);
+        row.append("<row r=\"").append(rowInSheet).append("\">");
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            String reference = columnNames[i] + rowInSheet;
+            if (isHeader || value instanceof String) {
+                row.append("<c r=\"").append(reference).append("\" t=\"inlineStr\"");
+                if (isHeader) {
+                    row.append(" s=\"").append(STYLE_HEADER).append('"');
+                }
+                row.append("><is><t xml:space=\"preserve\">");
+                appendEscaped(row, value.toString());
+                row.append("</t></is></c>");
+            } else if (value instanceof Boolean bool) {
+                row.append("<c r=\"").append(reference).append("\" t=\"b\"><v>").append(bool ? 1 : 0).append("</v></c>");
+            } else {
+                int style;
+                String number;
+                if (value instanceof BigDecimal decimal) {
+                    style = STYLE_AMOUNT;
+                    number = decimal.toPlainString();
+                } else if (value instanceof LocalDate date) {
+                    style = STYLE_DATE;
+                    number = Long.toString(ChronoUnit.DAYS.between(EXCEL_EPOCH, date));
+                } else if (value instanceof LocalDateTime dateTime) {
+                    style = STYLE_DATE_TIME;
+                    number = BigDecimal.valueOf(ChronoUnit.DAYS.between(EXCEL_EPOCH, dateTime.toLocalDate()))
+                            .add(dayFraction(dateTime.toLocalTime())).toPlainString();
+                } else if (value instanceof LocalTime time) {
+                    style = STYLE_TIME;
+                    number = dayFraction(time).toPlainString();
+                } else {
+                    style = 0;
+                    number = value.toString();
+                }
+                row.append("<c r=\"").append(reference).append('"');
+                if (style != 0) {
+                    row.append(" s=\"").append(style).append('"');
+                }
+                row.append("><v>").append(number).append("</v></c>");
+            }
+        }
+        row.append("</row>");
+        writer.write(row.toString());
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private String contentTypesXml() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ")
+                .append("ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ")
+                .append("ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(sheet).append(".xml\" ")
+                    .append("ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String workbookXml() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(MAIN_NAMESPACE).append("\" xmlns:r=\"").append(DOCUMENT_RELATIONSHIP)
+                .append("\"><sheets>");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            xml.append("<sheet name=\"");
+            appendEscaped(xml, sheet == 1 ? sheetName : sheetName + " " + sheet);
+            xml.append("\" sheetId=\"").append(sheet).append("\" r:id=\"rId").append(sheet).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRelationshipsXml() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"").append(RELATIONSHIPS_NAMESPACE).append("\">");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            xml.append("<Relationship Id=\"rId").append(sheet).append("\" Type=\"").append(DOCUMENT_RELATIONSHIP)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(sheet).append(".xml\"/>");
+        }
+        xml.append("<Relationship Id=\"rId").append(sheets + 1).append("\" Type=\"").append(DOCUMENT_RELATIONSHIP)
+                .append("/styles\" Target=\"styles.xml\"/>");
+        return xml.append("</Relationships>").toString();
+    }
+
+    private static BigDecimal dayFraction(LocalTime time) {
+        return BigDecimal.valueOf(time.toNanoOfDay(), 9).divide(SECONDS_PER_DAY, 12, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Column letters of a zero-based column index: A, B, ..., Z, AA, AB, ...
+     */
+    static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int i = index + 1; i > 0; i = (i - 1) / 26) {
+            name.insert(0, (char) ('A' + (i - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Appends text escaped for XML, dropping characters XML cannot represent.
+     */
+    private static void appendEscaped(StringBuilder xml, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> xml.append("&amp;");
+                case '<' -> xml.append("&lt;");
+                case '>' -> xml.append("&gt;");
+                case '"' -> xml.append("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        xml.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
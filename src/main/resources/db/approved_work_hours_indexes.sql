@@ -0,0 +1,8 @@
+-- Partial index supporting the reads of approved work hours by employee ID range and date range
+-- (JdbcPayrollRepository.streamApprovedHours of the java payroll engine and
+-- JdbcPayrollSimulationRepository.streamMonthlyApprovedHours of the payroll simulation).
+-- Only approved rows (zatwierdzenie = true) are indexed, the pending ones have their own indexes.
+
+CREATE INDEX IF NOT EXISTS idx_rejestracja_approved_pracownik_data
+    ON rejestracja_godzin_pracy (id_pracownik, data)
+    WHERE zatwierdzenie = true;
@@ -0,0 +1,183 @@
+-- Incrementally maintained employee work statistics (JdbcEmployeeStatsRepository).
+--
+-- The widok_statystyki_pracownika view re-aggregates an employee's whole work history on every
+-- read. These tables hold the same aggregates, kept up to date by statement-level triggers on
+-- rejestracja_godzin_pracy, so a read is a primary key lookup:
+--   suma_calkowita     = round(suma_godzin, 2)
+--   liczba_tygodni     = liczba_tygodni
+--   srednia_tygodniowa = round(suma_godzin / liczba_tygodni, 2)
+-- suma_godzin is the exact sum of the view's per-entry term
+-- EXTRACT(epoch FROM godzina_zakonczenia - godzina_rozpoczecia) / 3600::numeric. Numeric
+-- addition and subtraction are exact, so the incremental sum equals a full re-aggregation.
+-- Like the view, all entries are counted, approved or not; approving entries changes nothing.
+--
+-- The script can be re-run; it ends by rebuilding the statistics from scratch.
+
+CREATE TABLE IF NOT EXISTS statystyki_pracownika (
+    id_pracownik   BIGINT PRIMARY KEY,
+    suma_godzin    NUMERIC NOT NULL,
+    liczba_wpisow  BIGINT  NOT NULL,
+    liczba_tygodni INT     NOT NULL
+);
+
+-- Number of entries per employee and week (Monday of date_trunc('week', data)); a week counts
+-- towards liczba_tygodni while it has at least one entry
+CREATE TABLE IF NOT EXISTS statystyki_pracownika_tydzien (
+    id_pracownik  BIGINT NOT NULL,
+    tydzien       DATE   NOT NULL,
+    liczba_wpisow BIGINT NOT NULL,
+    PRIMARY KEY (id_pracownik, tydzien)
+);
+
+-- Applies changes aggregated per employee and week: p_godziny and p_wpisy are positive for added
+-- entries and negative for removed ones. Rows are written in key order so that concurrent
+-- statements lock them in the same order.
+CREATE OR REPLACE FUNCTION statystyki_pracownika_zastosuj(
+    p_pracownicy BIGINT[], p_tygodnie DATE[], p_godziny NUMERIC[], p_wpisy BIGINT[])
+RETURNS void
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    WITH zmiany_tygodni AS (
+        SELECT z.id_pracownik, z.tydzien, SUM(z.wpisy) AS wpisy
+        FROM unnest(p_pracownicy, p_tygodnie, p_wpisy) AS z(id_pracownik, tydzien, wpisy)
+        GROUP BY z.id_pracownik, z.tydzien
+        HAVING SUM(z.wpisy) <> 0
+    ), tygodnie AS (
+        INSERT INTO statystyki_pracownika_tydzien AS t (id_pracownik, tydzien, liczba_wpisow)
+        SELECT id_pracownik, tydzien, wpisy FROM zmiany_tygodni ORDER BY id_pracownik, tydzien
+        ON CONFLICT (id_pracownik, tydzien) DO UPDATE SET liczba_wpisow = t.liczba_wpisow + EXCLUDED.liczba_wpisow
+        -- xmax = 0 marks rows inserted (a week gained) rather than updated
+        RETURNING t.id_pracownik, (t.xmax = 0) AS nowy, t.liczba_wpisow
+    ), zmiany_liczby_tygodni AS (
+        SELECT id_pracownik,
+               COUNT(*) FILTER (WHERE nowy) - COUNT(*) FILTER (WHERE liczba_wpisow = 0) AS tygodnie
+        FROM tygodnie
+        GROUP BY id_pracownik
+    ), zmiany_pracownikow AS (
+        SELECT z.id_pracownik, SUM(z.godziny) AS godziny, SUM(z.wpisy) AS wpisy
+        FROM unnest(p_pracownicy, p_godziny, p_wpisy) AS z(id_pracownik, godziny, wpisy)
+        GROUP BY z.id_pracownik
+    )
+    INSERT INTO statystyki_pracownika AS s (id_pracownik, suma_godzin, liczba_wpisow, liczba_tygodni)
+    SELECT p.id_pracownik, p.godziny, p.wpisy, COALESCE(t.tygodnie, 0)
+    FROM zmiany_pracownikow p
+    LEFT JOIN zmiany_liczby_tygodni t ON t.id_pracownik = p.id_pracownik
+    ORDER BY p.id_pracownik
+    ON CONFLICT (id_pracownik) DO UPDATE SET
+        suma_godzin    = s.suma_godzin + EXCLUDED.suma_godzin,
+        liczba_wpisow  = s.liczba_wpisow + EXCLUDED.liczba_wpisow,
+        liczba_tygodni = s.liczba_tygodni + EXCLUDED.liczba_tygodni;
+
+    DELETE FROM statystyki_pracownika_tydzien
+    WHERE id_pracownik = ANY (p_pracownicy) AND liczba_wpisow = 0;
+    DELETE FROM statystyki_pracownika
+    WHERE id_pracownik = ANY (p_pracownicy) AND liczba_wpisow = 0;
+END;
+$$;
+
+-- Statement-level trigger function: aggregates the transition tables per employee and week.
+-- For updates only rows whose employee, date or times changed are counted.
+CREATE OR REPLACE FUNCTION statystyki_pracownika_wyzwalacz()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM statystyki_pracownika_zastosuj(array_agg(id_pracownik), array_agg(tydzien), array_agg(godziny), array_agg(wpisy))
+        FROM (SELECT id_pracownik,
+                     date_trunc('week', data)::date AS tydzien,
+                     COALESCE(SUM(EXTRACT(epoch FROM godzina_zakonczenia - godzina_rozpoczecia) / 3600::numeric), 0) AS godziny,
+                     COUNT(*) AS wpisy
+              FROM nowe_wiersze
+              GROUP BY 1, 2) z;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM statystyki_pracownika_zastosuj(array_agg(id_pracownik), array_agg(tydzien), array_agg(-godziny), array_agg(-wpisy))
+        FROM (SELECT id_pracownik,
+                     date_trunc('week', data)::date AS tydzien,
+                     COALESCE(SUM(EXTRACT(epoch FROM godzina_zakonczenia - godzina_rozpoczecia) / 3600::numeric), 0) AS godziny,
+                     COUNT(*) AS wpisy
+              FROM stare_wiersze
+              GROUP BY 1, 2) z;
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM statystyki_pracownika_zastosuj(array_agg(id_pracownik), array_agg(tydzien), array_agg(godziny), array_agg(wpisy))
+        FROM (SELECT id_pracownik, tydzien, COALESCE(SUM(godziny), 0) AS godziny, SUM(wpisy) AS wpisy
+              FROM (SELECT n.id_pracownik,
+                           date_trunc('week', n.data)::date AS tydzien,
+                           EXTRACT(epoch FROM n.godzina_zakonczenia - n.godzina_rozpoczecia) / 3600::numeric AS godziny,
+                           1 AS wpisy
+                    FROM nowe_wiersze n
+                    JOIN stare_wiersze o ON o.id_rejestracji = n.id_rejestracji
+                    WHERE (o.id_pracownik, o.data, o.godzina_rozpoczecia, o.godzina_zakonczenia)
+                          IS DISTINCT FROM (n.id_pracownik, n.data, n.godzina_rozpoczecia, n.godzina_zakonczenia)
+                    UNION ALL
+                    SELECT o.id_pracownik,
+                           date_trunc('week', o.data)::date,
+                           -(EXTRACT(epoch FROM o.godzina_zakonczenia - o.godzina_rozpoczecia) / 3600::numeric),
+                           -1
+                    FROM nowe_wiersze n
+                    JOIN stare_wiersze o ON o.id_rejestracji = n.id_rejestracji
+                    WHERE (o.id_pracownik, o.data, o.godzina_rozpoczecia, o.godzina_zakonczenia)
+                          IS DISTINCT FROM (n.id_pracownik, n.data, n.godzina_rozpoczecia, n.godzina_zakonczenia)) zmiany
+              GROUP BY 1, 2) z;
+    ELSIF TG_OP = 'TRUNCATE' THEN
+        TRUNCATE statystyki_pracownika_tydzien, statystyki_pracownika;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- Recomputes all statistics from rejestracja_godzin_pracy; writes to it wait until the rebuild
+-- commits. Returns the number of employees with statistics.
+CREATE OR REPLACE FUNCTION statystyki_pracownika_przebuduj()
+RETURNS INT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_pracownicy INT;
+BEGIN
+    LOCK TABLE rejestracja_godzin_pracy IN SHARE MODE;
+    TRUNCATE statystyki_pracownika_tydzien, statystyki_pracownika;
+
+    INSERT INTO statystyki_pracownika_tydzien (id_pracownik, tydzien, liczba_wpisow)
+    SELECT id_pracownik, date_trunc('week', data)::date, COUNT(*)
+    FROM rejestracja_godzin_pracy
+    GROUP BY 1, 2;
+
+    INSERT INTO statystyki_pracownika (id_pracownik, suma_godzin, liczba_wpisow, liczba_tygodni)
+    SELECT id_pracownik,
+           COALESCE(SUM(EXTRACT(epoch FROM godzina_zakonczenia - godzina_rozpoczecia) / 3600::numeric), 0),
+           COUNT(*),
+           COUNT(DISTINCT date_trunc('week', data))
+    FROM rejestracja_godzin_pracy
+    GROUP BY id_pracownik;
+
+    GET DIAGNOSTICS v_pracownicy = ROW_COUNT;
+    RETURN v_pracownicy;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS statystyki_pracownika_po_wstawieniu ON rejestracja_godzin_pracy;
+CREATE TRIGGER statystyki_pracownika_po_wstawieniu
+    AFTER INSERT ON rejestracja_godzin_pracy
+    REFERENCING NEW TABLE AS nowe_wiersze
+    FOR EACH STATEMENT EXECUTE FUNCTION statystyki_pracownika_wyzwalacz();
+
+DROP TRIGGER IF EXISTS statystyki_pracownika_po_zmianie ON rejestracja_godzin_pracy;
+CREATE TRIGGER statystyki_pracownika_po_zmianie
+    AFTER UPDATE ON rejestracja_godzin_pracy
+    REFERENCING OLD TABLE AS stare_wiersze NEW TABLE AS nowe_wiersze
+    FOR EACH STATEMENT EXECUTE FUNCTION statystyki_pracownika_wyzwalacz();
+
+DROP TRIGGER IF EXISTS statystyki_pracownika_po_usunieciu ON rejestracja_godzin_pracy;
+CREATE TRIGGER statystyki_pracownika_po_usunieciu
+    AFTER DELETE ON rejestracja_godzin_pracy
+    REFERENCING OLD TABLE AS stare_wiersze
+    FOR EACH STATEMENT EXECUTE FUNCTION statystyki_pracownika_wyzwalacz();
+
+DROP TRIGGER IF EXISTS statystyki_pracownika_po_wyczyszczeniu ON rejestracja_godzin_pracy;
+CREATE TRIGGER statystyki_pracownika_po_wyczyszczeniu
+    AFTER TRUNCATE ON rejestracja_godzin_pracy
+    FOR EACH STATEMENT EXECUTE FUNCTION statystyki_pracownika_wyzwalacz();
+
+SELECT statystyki_pracownika_przebuduj();
@@ -0,0 +1,10 @@
+-- Indexes supporting keyset pagination of historia_wyplat (JdbcPaymentRepository.findPage).
+-- Pages are ordered by (data DESC, id_wyplata DESC) and continue with
+-- (data, id_wyplata) < (last data, last id), so every page is a bounded index range scan.
+
+CREATE INDEX IF NOT EXISTS idx_historia_wyplat_data_id
+    ON historia_wyplat (data DESC, id_wyplata DESC);
+
+-- Same ordering when filtering by employee (accountant filter, "my salary")
+CREATE INDEX IF NOT EXISTS idx_historia_wyplat_pracownik_data_id
+    ON historia_wyplat (id_pracownik, data DESC, id_wyplata DESC);
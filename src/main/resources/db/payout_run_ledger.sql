@@ -0,0 +1,31 @@
+-- Ledger of monthly payout runs (AutoPayoutService, JdbcPayoutRunRepository).
+-- One row per paid period records which engine ran it, whether it completed and how many
+-- payouts it created; a repeated run for a COMPLETED period is skipped.
+
+CREATE TABLE IF NOT EXISTS przebieg_wyplat (
+    id_przebiegu        BIGSERIAL PRIMARY KEY,
+    okres_od            DATE        NOT NULL,
+    okres_do            DATE        NOT NULL,
+    silnik              VARCHAR(20) NOT NULL,
+    status              VARCHAR(20) NOT NULL,   -- RUNNING, COMPLETED, FAILED
+    liczba_wyplat       INT         NOT NULL DEFAULT 0,
+    rozpoczeto          TIMESTAMP   NOT NULL,
+    zakonczono          TIMESTAMP,
+    ostatni_checkpoint  TIMESTAMP,
+    blad                TEXT,
+    CONSTRAINT uq_przebieg_wyplat_okres UNIQUE (okres_od, okres_do)
+);
+
+-- Checkpoints of the java engine: one row per committed chunk of employees, written in the
+-- same transaction as the chunk's payouts. A resumed run skips the employee ranges listed here.
+CREATE TABLE IF NOT EXISTS przebieg_wyplat_checkpoint (
+    id_checkpoint       BIGSERIAL PRIMARY KEY,
+    id_przebiegu        BIGINT    NOT NULL REFERENCES przebieg_wyplat (id_przebiegu) ON DELETE CASCADE,
+    od_pracownika       BIGINT    NOT NULL,
+    do_pracownika       BIGINT    NOT NULL,
+    liczba_wyplat       INT       NOT NULL,
+    zapisano            TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_przebieg_wyplat_checkpoint_przebieg
+    ON przebieg_wyplat_checkpoint (id_przebiegu);
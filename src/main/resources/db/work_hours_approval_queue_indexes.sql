@@ -0,0 +1,13 @@
+-- Partial indexes supporting the work hours approval queue (JdbcWorkHoursRepository.findPendingPage
+-- and the approveBy* bulk updates). Only pending rows (zatwierdzenie = false) are indexed, so the
+-- indexes stay small however long the approved history grows.
+
+-- Queue pages ordered by (data, id_rejestracji), optionally filtered by date range
+CREATE INDEX IF NOT EXISTS idx_rejestracja_pending_data_id
+    ON rejestracja_godzin_pracy (data, id_rejestracji)
+    WHERE zatwierdzenie = false;
+
+-- Queue pages and approvals of a single employee (department approvals probe it per employee)
+CREATE INDEX IF NOT EXISTS idx_rejestracja_pending_pracownik_data_id
+    ON rejestracja_godzin_pracy (id_pracownik, data, id_rejestracji)
+    WHERE zatwierdzenie = false;
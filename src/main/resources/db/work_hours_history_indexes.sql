@@ -0,0 +1,6 @@
+-- Index supporting the dashboard's work hours tab (JdbcWorkHoursRepository.findHistoryPage and
+-- summarizeByUserIdAndDateRange). History pages are read backwards along the index, newest first,
+-- and the weekly summary is a range scan of one employee's week; neither depends on approval.
+
+CREATE INDEX IF NOT EXISTS idx_rejestracja_pracownik_data_id
+    ON rejestracja_godzin_pracy (id_pracownik, data, id_rejestracji);
@@ -1,6 +1,25 @@
 // --- FUNKCJA ZMIANY ZAKŁADEK ---
 function openTab(evt, tabName) {
-    let i, tabcontent, tablinks;
+    let i, tablinks;
+
+    // 1. Usuń klasę "active" z przycisków
+    tablinks = document.getElementsByClassName("tablinks");
+    for (i = 0; i < tablinks.length; i++) {
+        tablinks[i].className = tablinks[i].className.replace(" active", "");
+    }
+
+    // Dodaj klasę active do klikniętego przycisku (jeśli funkcja wywołana kliknięciem)
+    if (evt && evt.currentTarget) {
+        evt.currentTarget.className += " active";
+    }
+
+    // 2. Pokaż zakładkę (i w razie potrzeby doładuj jej zawartość)
+    showTab(tabName);
+}
+
+// --- WYŚWIETLANIE ZAKŁADKI ---
+function showTab(tabName) {
+    let i, tabcontent;
 
     // 1. Ukryj wszystkie treści zakładek
     tabcontent = document.getElementsByClassName("tabcontent");
@@ -8,13 +27,7 @@ function openTab(evt, tabName) {
         tabcontent[i].style.display = "none";
     }
 
-    // 2. Usuń klasę "active" z przycisków
-    tablinks = document.getElementsByClassName("tablinks");
-    for (i = 0; i < tablinks.length; i++) {
-        tablinks[i].className = tablinks[i].className.replace(" active", "");
-    }
-
-    // 3. Znajdź docelową zakładkę
+    // 2. Znajdź docelową zakładkę
     const targetTab = document.getElementById(tabName);
 
     // Zabezpieczenie przed brakiem elementu
@@ -30,11 +43,6 @@ function openTab(evt, tabName) {
         targetTab.style.display = "block";
     }
 
-    // Dodaj klasę active do klikniętego przycisku (jeśli funkcja wywołana kliknięciem)
-    if (evt && evt.currentTarget) {
-        evt.currentTarget.className += " active";
-    }
-
     // --- OBSŁUGA SIDEBARÓW (MENU BOCZNE) ---
     const oldSidebar = document.getElementById("managementSidebar");
     if (oldSidebar) {
@@ -50,6 +58,593 @@ function openTab(evt, tabName) {
     if (salariesSidebar) {
         salariesSidebar.style.display = (tabName === "Salaries") ? "block" : "none";
     }
+
+    // 3. Zakładka niewyrenderowana przez serwer - pobierz jej fragment
+    const placeholder = targetTab.dataset.sectionUrl ? targetTab : targetTab.parentElement;
+    if (placeholder && placeholder.dataset.sectionUrl) {
+        loadSection(placeholder, tabName);
+    }
+}
+
+// --- LENIWE ŁADOWANIE ZAKŁADEK ---
+function loadSection(placeholder, tabName) {
+    if (placeholder.dataset.loading) {
+        return;
+    }
+    placeholder.dataset.loading = "true";
+
+    const targetTab = document.getElementById(tabName);
+    targetTab.textContent = "Wczytywanie...";
+
+    fetch(placeholder.dataset.sectionUrl, { credentials: 'same-origin' })
+        .then(function(response) {
+            if (!response.ok) {
+                throw new Error("HTTP " + response.status);
+            }
+            return response.text();
+        })
+        .then(function(html) {
+            const template = document.createElement('template');
+            template.innerHTML = html.trim();
+            placeholder.replaceWith(template.content);
+
+            // Inicjalizacja tabel nowego fragmentu (scripts.html) i ponowne wyświetlenie zakładki
+            if (typeof window.initDashboardTables === 'function') {
+                window.initDashboardTables();
+            }
+            showTab(tabName);
+        })
+        .catch(function(error) {
+            console.error("Nie udało się wczytać zakładki " + tabName + ":", error);
+            targetTab.textContent = "Nie udało się wczytać danych.";
+            delete placeholder.dataset.loading;
+        });
+}
+
+// --- HISTORIA WYPŁAT (STRONICOWANIE KEYSET) ---
+// Kolejne strony pobierane są z /accountant/payments/page. Serwer zwraca kursor (data + id ostatniego
+// wiersza) prowadzący do następnej strony; kursory odwiedzonych stron trzymamy, żeby móc się cofać.
+function initPaymentHistoryPager() {
+    const form = document.getElementById('paymentHistoryFilters');
+    if (!form || form.dataset.initialized) {
+        return;
+    }
+    form.dataset.initialized = "true";
+
+    const tbody = document.querySelector('#PaymentHistoryPagedTable tbody');
+    const prevBtn = document.getElementById('paymentHistoryPrev');
+    const nextBtn = document.getElementById('paymentHistoryNext');
+    const info = document.getElementById('paymentHistoryInfo');
+
+    let cursors = [null]; // cursors[i] = kursor otwierający stronę i (null dla pierwszej)
+    let currentPage = 0;
+    let nextCursor = null;
+
+    function cell(row, text, style) {
+        const td = document.createElement('td');
+        td.textContent = (text === null || text === undefined) ? '' : text;
+        if (style) {
+            td.setAttribute('style', style);
+        }
+        row.appendChild(td);
+        return td;
+    }
+
+    function render(items) {
+        tbody.innerHTML = '';
+        if (items.length === 0) {
+            const row = document.createElement('tr');
+            const td = cell(row, 'Brak danych');
+            td.colSpan = 7;
+            tbody.appendChild(row);
+            return;
+        }
+        items.forEach(function(pay) {
+            const row = document.createElement('tr');
+            const statusName = pay.paymentStatus ? pay.paymentStatus.name : '';
+            cell(row, pay.date);
+            cell(row, pay.user ? pay.user.name : '');
+            cell(row, pay.user ? pay.user.lastname : '');
+            cell(row, pay.paymentType ? pay.paymentType.name : '');
+            cell(row, pay.amount + ' PLN', 'font-weight: bold;');
+            cell(row, pay.description);
+            const statusCell = cell(row, '');
+            const span = document.createElement('span');
+            span.textContent = statusName;
+            if (statusName === 'Zatwierdzone') span.style.color = 'green';
+            if (statusName === 'Oczekuje') span.style.color = 'orange';
+            statusCell.appendChild(span);
+            tbody.appendChild(row);
+        });
+    }
+
+    function load(pageIndex) {
+        const params = new URLSearchParams();
+        new FormData(form).forEach(function(value, key) {
+            if (value) params.append(key, value);
+        });
+        const cursor = cursors[pageIndex];
+        if (cursor) {
+            params.set('afterDate', cursor.afterDate);
+            params.set('afterId', cursor.afterId);
+        }
+
+        prevBtn.disabled = true;
+        nextBtn.disabled = true;
+        info.textContent = "Wczytywanie...";
+
+        fetch(form.dataset.pageUrl + '?' + params.toString(), { credentials: 'same-origin' })
+            .then(function(response) {
+                if (!response.ok) {
+                    throw new Error("HTTP " + response.status);
+                }
+                return response.json();
+            })
+            .then(function(page) {
+                render(page.items);
+                currentPage = pageIndex;
+                cursors.length = pageIndex + 1;
+                nextCursor = page.hasNext ? { afterDate: page.nextAfterDate, afterId: page.nextAfterId } : null;
+
+                info.textContent = "Strona " + (pageIndex + 1);
+                prevBtn.disabled = pageIndex === 0;
+                nextBtn.disabled = nextCursor === null;
+            })
+            .catch(function(error) {
+                console.error("Nie udało się wczytać historii wypłat:", error);
+                info.textContent = "Nie udało się wczytać danych.";
+            });
+    }
+
+    form.addEventListener('submit', function(e) {
+        e.preventDefault();
+        cursors = [null];
+        load(0);
+    });
+    nextBtn.addEventListener('click', function() {
+        if (nextCursor) {
+            cursors[currentPage + 1] = nextCursor;
+            load(currentPage + 1);
+        }
+    });
+    prevBtn.addEventListener('click', function() {
+        if (currentPage > 0) {
+            load(currentPage - 1);
+        }
+    });
+
+    load(0);
+}
+
+// --- LISTA DO WYPŁATY (OCZEKUJĄCE, "WCZYTAJ WIĘCEJ") ---
+// Serwer renderuje pierwszą stronę oczekujących wypłat; starsze dokładamy stronami z
+// /accountant/payments/page (filtr statusu + kursor z atrybutów data-* przycisku) do tabeli DataTables.
+function initPayoutsPager() {
+    const loadMoreBtn = document.getElementById('payoutsLoadMore');
+    if (!loadMoreBtn || loadMoreBtn.dataset.initialized) {
+        return;
+    }
+    loadMoreBtn.dataset.initialized = "true";
+
+    const table = document.getElementById('PayoutsTable');
+    const modalId = 'delPay';
+
+    // Jeden modal usuwania dla wszystkich wierszy, także tych dołożonych później
+    table.addEventListener('click', function(e) {
+        const button = e.target.closest('.payout-delete');
+        if (button) {
+            document.getElementById('delPayId').value = button.dataset.paymentId;
+            openModal(modalId);
+        }
+    });
+
+    function cell(row, text, style) {
+        const td = document.createElement('td');
+        td.textContent = (text === null || text === undefined) ? '' : text;
+        if (style) {
+            td.setAttribute('style', style);
+        }
+        row.appendChild(td);
+        return td;
+    }
+
+    function buildRow(pay) {
+        const row = document.createElement('tr');
+        const statusName = pay.paymentStatus ? pay.paymentStatus.name : '';
+
+        const checkbox = document.createElement('input');
+        checkbox.type = 'checkbox';
+        checkbox.className = 'payout-checkbox';
+        checkbox.value = pay.id;
+        cell(row, '').appendChild(checkbox);
+
+        cell(row, pay.date ? pay.date.substring(0, 7) : '');
+        cell(row, pay.user ? pay.user.name : '');
+        cell(row, pay.user ? pay.user.lastname : '');
+        cell(row, pay.date);
+        cell(row, pay.paymentType ? pay.paymentType.name : '');
+        cell(row, pay.amount + ' PLN', 'font-weight: bold;');
+
+        const span = document.createElement('span');
+        span.textContent = statusName;
+        if (statusName === 'Zatwierdzone') span.style.color = 'green';
+        if (statusName === 'Oczekuje') span.style.color = 'orange';
+        cell(row, '').appendChild(span);
+
+        const deleteBtn = document.createElement('button');
+        deleteBtn.type = 'button';
+        deleteBtn.className = 'btn-danger payout-delete';
+        deleteBtn.style.padding = '2px 5px';
+        deleteBtn.style.fontSize = '0.8em';
+        deleteBtn.dataset.paymentId = pay.id;
+        deleteBtn.textContent = 'Usuń';
+        cell(row, '').appendChild(deleteBtn);
+        return row;
+    }
+
+    loadMoreBtn.addEventListener('click', function() {
+        const params = new URLSearchParams();
+        params.set('statusId', loadMoreBtn.dataset.statusId);
+        params.set('afterDate', loadMoreBtn.dataset.nextAfterDate);
+        params.set('afterId', loadMoreBtn.dataset.nextAfterId);
+
+        loadMoreBtn.disabled = true;
+        loadMoreBtn.textContent = "Wczytywanie...";
+
+        fetch(loadMoreBtn.dataset.pageUrl + '?' + params.toString(), { credentials: 'same-origin' })
+            .then(function(response) {
+                if (!response.ok) {
+                    throw new Error("HTTP " + response.status);
+                }
+                return response.json();
+            })
+            .then(function(page) {
+                const rows = page.items.map(buildRow);
+                if ($.fn.DataTable.isDataTable(table)) {
+                    $(table).DataTable().rows.add(rows).draw(false);
+                } else {
+                    const tbody = table.querySelector('tbody');
+                    rows.forEach(function(row) { tbody.appendChild(row); });
+                }
+
+                if (page.hasNext) {
+                    loadMoreBtn.dataset.nextAfterDate = page.nextAfterDate;
+                    loadMoreBtn.dataset.nextAfterId = page.nextAfterId;
+                } else {
+                    loadMoreBtn.style.display = 'none';
+                }
+                loadMoreBtn.disabled = false;
+                loadMoreBtn.textContent = "Wczytaj więcej";
+            })
+            .catch(function(error) {
+                console.error("Nie udało się wczytać kolejnych wypłat:", error);
+                loadMoreBtn.disabled = false;
+                loadMoreBtn.textContent = "Nie udało się wczytać danych - spróbuj ponownie";
+            });
+    });
+}
+
+// --- MOJA HISTORIA PRACY (STRONICOWANIE KEYSET) ---
+// Strony (od najnowszych wpisów) pobierane są jako fragment HTML z /dashboard/work-history. Kursor
+// następnej strony serwer zapisuje w atrybutach data-next-after-*. Edycja wpisu korzysta z jednego
+// modala zakładki (listy projektów i typów pracy renderowane raz), wypełnianego z atrybutów data-* wiersza.
+function initWorkHistoryPager() {
+    const container = document.getElementById('myWorkHistory');
+    if (!container || container.dataset.initialized) {
+        return;
+    }
+    container.dataset.initialized = "true";
+
+    let cursors = [null]; // cursors[i] = kursor otwierający stronę i (null dla pierwszej)
+
+    // Kontener zostaje przy zmianie strony, więc jedno nasłuchiwanie obsługuje wszystkie strony
+    container.addEventListener('click', function(e) {
+        const button = e.target.closest('.work-hour-edit');
+        if (!button) {
+            return;
+        }
+        const form = document.getElementById('editWorkHourForm');
+        form.querySelector('[name="id"]').value = button.dataset.id;
+        form.querySelector('[name="date"]').value = button.dataset.date;
+        form.querySelector('[name="startTime"]').value = button.dataset.startTime;
+        form.querySelector('[name="endTime"]').value = button.dataset.endTime;
+        form.querySelector('[name="projectId"]').value = button.dataset.projectId || '';
+        form.querySelector('[name="workTypeId"]').value = button.dataset.workTypeId;
+        form.querySelector('[name="comment"]').value = button.dataset.comment || '';
+        openModal('editWorkHourModal');
+    });
+
+    function load(pageIndex) {
+        const params = new URLSearchParams();
+        const cursor = cursors[pageIndex];
+        if (cursor) {
+            params.set('afterDate', cursor.afterDate);
+            params.set('afterId', cursor.afterId);
+        }
+
+        container.querySelectorAll('.work-history-page button.group-btn').forEach(function(btn) {
+            btn.disabled = true;
+        });
+
+        fetch(container.dataset.pageUrl + '?' + params.toString(), { credentials: 'same-origin' })
+            .then(function(response) {
+                if (!response.ok) {
+                    throw new Error("HTTP " + response.status);
+                }
+                return response.text();
+            })
+            .then(function(html) {
+                // Poprzednia strona była tabelą DataTables - zwalniamy ją przed podmianą
+                if (typeof $ !== 'undefined' && $.fn.dataTable.isDataTable('#myWorkHoursTable')) {
+                    $('#myWorkHoursTable').DataTable().destroy();
+                }
+                container.innerHTML = html.trim();
+
+                const page = container.querySelector('.work-history-page');
+                cursors.length = pageIndex + 1;
+                const nextCursor = page.dataset.hasNext === 'true'
+                    ? { afterDate: page.dataset.nextAfterDate, afterId: page.dataset.nextAfterId }
+                    : null;
+
+                const newerBtn = page.querySelector('.work-history-newer');
+                const olderBtn = page.querySelector('.work-history-older');
+                page.querySelector('.work-history-info').textContent = "Strona " + (pageIndex + 1);
+                newerBtn.disabled = pageIndex === 0;
+                olderBtn.disabled = nextCursor === null;
+
+                newerBtn.addEventListener('click', function() {
+                    load(pageIndex - 1);
+                });
+                olderBtn.addEventListener('click', function() {
+                    cursors[pageIndex + 1] = nextCursor;
+                    load(pageIndex + 1);
+                });
+
+                if (typeof window.initDashboardTables === 'function') {
+                    window.initDashboardTables();
+                }
+            })
+            .catch(function(error) {
+                console.error("Nie udało się wczytać historii pracy:", error);
+                container.textContent = "Nie udało się wczytać danych.";
+            });
+    }
+
+    load(0);
+}
+
+// --- KOLEJKA ZATWIERDZEŃ GODZIN (stronicowanie po stronie serwera) ---
+// Każdy modal "Pokaż godziny" zawiera .approval-queue; wpisy pracownika są pobierane
+// stronami dopiero przy otwarciu modala (openModal -> queue.approvalQueueLoad).
+function initApprovalQueues() {
+    document.querySelectorAll('.approval-queue').forEach(function(queue) {
+        if (queue.dataset.initialized) {
+            return;
+        }
+        queue.dataset.initialized = "true";
+
+        const tbody = queue.querySelector('tbody');
+        const prevBtn = queue.querySelector('.approval-prev');
+        const nextBtn = queue.querySelector('.approval-next');
+        const info = queue.querySelector('.approval-info');
+        const selectAll = queue.querySelector('.approval-select-all');
+        const approveSelectedBtn = queue.querySelector('.approval-approve-selected');
+        const approveAllBtn = queue.querySelector('.approval-approve-all');
+
+        let cursors = [null];
+        let currentPage = 0;
+        let nextCursor = null;
+
+        function cell(row, text, style) {
+            const td = document.createElement('td');
+            td.textContent = (text === null || text === undefined) ? '' : text;
+            if (style) {
+                td.setAttribute('style', style);
+            }
+            row.appendChild(td);
+            return td;
+        }
+
+        function render(items) {
+            tbody.innerHTML = '';
+            selectAll.checked = false;
+            if (items.length === 0) {
+                const row = document.createElement('tr');
+                const td = cell(row, 'Brak godzin');
+                td.colSpan = 7;
+                tbody.appendChild(row);
+                return;
+            }
+            items.forEach(function(record) {
+                const row = document.createElement('tr');
+                const checkCell = cell(row, '');
+                const checkbox = document.createElement('input');
+                checkbox.type = 'checkbox';
+                checkbox.value = record.id;
+                checkCell.appendChild(checkbox);
+                cell(row, record.date);
+                cell(row, record.startTime + ' - ' + record.endTime);
+                cell(row, record.workedTime, 'font-weight: bold;');
+                cell(row, record.project ? record.project.name : 'Inne');
+                cell(row, record.workType ? record.workType.name : '-');
+                cell(row, record.comment);
+                tbody.appendChild(row);
+            });
+        }
+
+        function load(pageIndex) {
+            const params = new URLSearchParams();
+            params.set('userId', queue.dataset.userId);
+            const cursor = cursors[pageIndex];
+            if (cursor) {
+                params.set('afterDate', cursor.afterDate);
+                params.set('afterId', cursor.afterId);
+            }
+
+            prevBtn.disabled = true;
+            nextBtn.disabled = true;
+            info.textContent = "Wczytywanie...";
+
+            fetch(queue.dataset.pageUrl + '?' + params.toString(), { credentials: 'same-origin' })
+                .then(function(response) {
+                    if (!response.ok) {
+                        throw new Error("HTTP " + response.status);
+                    }
+                    return response.json();
+                })
+                .then(function(page) {
+                    render(page.items);
+                    currentPage = pageIndex;
+                    cursors.length = pageIndex + 1;
+                    nextCursor = page.hasNext ? { afterDate: page.nextAfterDate, afterId: page.nextAfterId } : null;
+
+                    info.textContent = "Strona " + (pageIndex + 1);
+                    prevBtn.disabled = pageIndex === 0;
+                    nextBtn.disabled = nextCursor === null;
+                })
+                .catch(function(error) {
+                    console.error("Nie udało się wczytać godzin do zatwierdzenia:", error);
+                    info.textContent = "Nie udało się wczytać danych.";
+                });
+        }
+
+        function approve(url, params) {
+            approveSelectedBtn.disabled = true;
+            approveAllBtn.disabled = true;
+            fetch(url, { method: 'POST', credentials: 'same-origin', body: params })
+                .then(function(response) {
+                    if (!response.ok) {
+                        throw new Error("HTTP " + response.status);
+                    }
+                    return response.json();
+                })
+                .then(function(result) {
+                    alert("Zatwierdzono wpisów: " + result.approved);
+                    // Zatwierdzone wpisy znikają z kolejki, więc wracamy do pierwszej strony
+                    cursors = [null];
+                    load(0);
+                })
+                .catch(function(error) {
+                    console.error("Nie udało się zatwierdzić godzin:", error);
+                    alert("Nie udało się zatwierdzić godzin.");
+                })
+                .finally(function() {
+                    approveSelectedBtn.disabled = false;
+                    approveAllBtn.disabled = false;
+                });
+        }
+
+        selectAll.addEventListener('change', function() {
+            tbody.querySelectorAll('input[type="checkbox"]').forEach(function(cb) {
+                cb.checked = selectAll.checked;
+            });
+        });
+        approveSelectedBtn.addEventListener('click', function() {
+            const params = new URLSearchParams();
+            tbody.querySelectorAll('input[type="checkbox"]:checked').forEach(function(cb) {
+                params.append('ids', cb.value);
+            });
+            if (!params.has('ids')) {
+                alert("Nie zaznaczono żadnych wpisów.");
+                return;
+            }
+            approve(queue.dataset.approveIdsUrl, params);
+        });
+        approveAllBtn.addEventListener('click', function() {
+            if (!confirm("Zatwierdzić wszystkie oczekujące godziny tego pracownika?")) {
+                return;
+            }
+            const params = new URLSearchParams();
+            params.set('userId', queue.dataset.userId);
+            approve(queue.dataset.approveEmployeeUrl, params);
+        });
+        nextBtn.addEventListener('click', function() {
+            if (nextCursor) {
+                cursors[currentPage + 1] = nextCursor;
+                load(currentPage + 1);
+            }
+        });
+        prevBtn.addEventListener('click', function() {
+            if (currentPage > 0) {
+                load(currentPage - 1);
+            }
+        });
+
+        queue.approvalQueueLoad = function() {
+            cursors = [null];
+            load(0);
+        };
+    });
+}
+
+// --- PLIK PRZELEWÓW DO BANKU ---
+// Najpierw /accountant/bank-transfers/check sprawdza numery rachunków i liczy przelewy; dopiero gdy
+// wszystkie wypłaty można przelać, pokazujemy link do pobrania pliku z tymi samymi parametrami.
+function initBankTransferForm() {
+    const form = document.getElementById('bankTransferForm');
+    if (!form || form.dataset.initialized) {
+        return;
+    }
+    form.dataset.initialized = "true";
+
+    const result = document.getElementById('bankTransferResult');
+
+    function paragraph(text, style) {
+        const p = document.createElement('p');
+        p.textContent = text;
+        if (style) {
+            p.setAttribute('style', style);
+        }
+        result.appendChild(p);
+        return p;
+    }
+
+    function render(summary, params) {
+        result.innerHTML = '';
+        if (summary.valid) {
+            paragraph("Przelewów: " + summary.transfers + ", suma: " + summary.totalAmount + " PLN", 'font-weight: bold;');
+            const link = document.createElement('a');
+            link.className = 'btn';
+            link.href = form.dataset.fileUrl + '?' + params.toString();
+            link.textContent = "Pobierz plik";
+            result.appendChild(link);
+            return;
+        }
+        paragraph(summary.message, 'color: red; font-weight: bold;');
+        if (summary.rejected && summary.rejected.length > 0) {
+            const list = document.createElement('ul');
+            summary.rejected.forEach(function(item) {
+                const li = document.createElement('li');
+                li.textContent = item.employee + " (" + (item.account || "brak") + "): " + item.reason;
+                list.appendChild(li);
+            });
+            result.appendChild(list);
+        }
+    }
+
+    form.addEventListener('submit', function(e) {
+        e.preventDefault();
+        const params = new URLSearchParams();
+        new FormData(form).forEach(function(value, key) {
+            if (value) params.append(key, value);
+        });
+
+        result.textContent = "Sprawdzanie...";
+        fetch(form.dataset.checkUrl + '?' + params.toString(), { credentials: 'same-origin' })
+            .then(function(response) {
+                if (!response.ok && response.status !== 400) {
+                    throw new Error("HTTP " + response.status);
+                }
+                return response.json();
+            })
+            .then(function(summary) {
+                render(summary, params);
+            })
+            .catch(function(error) {
+                console.error("Nie udało się sprawdzić przelewów:", error);
+                result.textContent = "Nie udało się sprawdzić przelewów.";
+            });
+    });
 }
 
 // --- INICJALIZACJA PRZY ŁADOWANIU STRONY ---
@@ -66,7 +661,7 @@ document.addEventListener("DOMContentLoaded", function() {
             if (btn) btn.click();
 
             setTimeout(function() {
-                const table = document.getElementById('myWorkHoursTable');
+                const table = document.getElementById('myWorkHistory');
                 if (table) table.scrollIntoView({ behavior: 'smooth' });
             }, 100);
         }
@@ -163,6 +758,11 @@ function openModal(modalId) {
     var modal = document.getElementById(modalId);
     if (modal) {
         modal.style.display = "block";
+        // Kolejka zatwierdzeń wczytuje wpisy dopiero przy otwarciu modala
+        var queue = modal.querySelector('.approval-queue');
+        if (queue && queue.approvalQueueLoad) {
+            queue.approvalQueueLoad();
+        }
         // Fix dla DataTables w modalu - przeliczenie szerokości
         setTimeout(function() {
             if (typeof $ !== 'undefined') {
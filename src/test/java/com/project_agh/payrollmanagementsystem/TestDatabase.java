@@ -0,0 +1,32 @@
+package com.project_agh.payrollmanagementsystem;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * In-memory databases for the JDBC tests.
+ * <p>
+ * Each call creates a new H2 database in PostgreSQL mode with the tables of
+ * {@code schema.sql}, so the repositories run their production SQL against one shared
+ * definition of the schema and tests never see each other's rows.
+ * </p>
+ */
+public final class TestDatabase {
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Creates a new database with the payroll tables.
+     *
+     * @param name prefix of the database name, shown in H2 error messages
+     * @return a data source opening a new connection per request
+     */
+    public static DriverManagerDataSource create(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + System.nanoTime() + ";MODE=PostgreSQL;NON_KEYWORDS=DATA;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+}
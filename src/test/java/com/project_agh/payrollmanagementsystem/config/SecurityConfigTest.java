@@ -0,0 +1,63 @@
+package com.project_agh.payrollmanagementsystem.config;
+
+import com.project_agh.payrollmanagementsystem.service.impl.PayrollUserDetails;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the URL rules of {@link SecurityConfig} keep employees away from the accountant
+ * endpoints that expose the payouts of all employees.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void employeeCannotReadOrChangeAllPayments() throws Exception {
+        MockHttpSession employee = sessionOf("USER");
+
+        mockMvc.perform(get("/accountant/payments/page").session(employee))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/accountant/payments/delete").param("id", "1").session(employee))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/accountant/payments/bulk-status").param("ids", "1").param("statusId", "2").session(employee))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/accountant/export/payments").session(employee))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/accountant/bank-transfers/check").session(employee))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void anonymousUserIsSentToLogin() throws Exception {
+        mockMvc.perform(get("/accountant/payments/page"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    /**
+     * A session logged in with the given role, as stored by the form login.
+     */
+    private static MockHttpSession sessionOf(String role) {
+        PayrollUserDetails principal = new PayrollUserDetails(1L, "user@firma.pl", "",
+                AuthorityUtils.createAuthorityList("ROLE_" + role), role, null);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())));
+        return session;
+    }
+}
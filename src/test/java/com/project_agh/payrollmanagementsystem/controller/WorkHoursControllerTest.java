@@ -0,0 +1,251 @@
+package com.project_agh.payrollmanagementsystem.controller;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jayway.jsonpath.JsonPath;
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcUserRepository;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcWorkHoursRepository;
+import com.project_agh.payrollmanagementsystem.service.impl.CurrentUserService;
+import com.project_agh.payrollmanagementsystem.service.impl.PayrollUserDetails;
+import com.project_agh.payrollmanagementsystem.service.impl.WorkHoursBatchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the JSON endpoints of {@link WorkHoursController} against an in-memory database: batch
+ * timesheet submissions are stored all-or-nothing and rejected with per-entry errors or, when too
+ * large, with HTTP 413; the approval queue is read page by page, oldest first, and the approval
+ * endpoints approve only the pending entries in their scope.
+ */
+class WorkHoursControllerTest {
+
+    private static final long EMPLOYEE_ID = 1;
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private JdbcTemplate jdbcTemplate;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("workhourscontroller"));
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, email, id_dzial, aktywny) " +
+                "VALUES (?, 'Jan', 'Kowalski', 'jan@firma.pl', 1, true), (2, 'Anna', 'Nowak', 'anna@firma.pl', 2, true)", EMPLOYEE_ID);
+
+        JdbcWorkHoursRepository workHoursRepository = new JdbcWorkHoursRepository(jdbcTemplate);
+        CurrentUserService currentUserService = new CurrentUserService(new JdbcUserRepository(workHoursRepository, jdbcTemplate));
+        mockMvc = MockMvcBuilders.standaloneSetup(new WorkHoursController(workHoursRepository, currentUserService,
+                        new WorkHoursBatchService(workHoursRepository)))
+                // Dates as ISO strings, as Spring Boot configures Jackson
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()))
+                .build();
+
+        PayrollUserDetails principal = new PayrollUserDetails(EMPLOYEE_ID, "jan@firma.pl", "",
+                AuthorityUtils.createAuthorityList("ROLE_USER"), "USER", null);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void storesValidBatch() throws Exception {
+        mockMvc.perform(post("/work_hours/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + entry(MONDAY, "08:00", "12:00", 1) + "," + entry(MONDAY, "13:00", "16:00", 1) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rows[0].row").value(1))
+                .andExpect(jsonPath("$.rows[1].row").value(2));
+
+        assertEquals(2, countEntries());
+    }
+
+    @Test
+    void rejectsWholeBatchAndNumbersInvalidEntriesFromOne() throws Exception {
+        jdbcTemplate.update("INSERT INTO rejestracja_godzin_pracy (id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia, " +
+                "id_typ_pracy, zatwierdzenie) VALUES (?, ?, '07:00', '09:00', 1, false)", EMPLOYEE_ID, MONDAY.plusDays(1));
+
+        String batch = "[" + String.join(",",
+                entry(MONDAY, "08:00", "12:00", 1),
+                entry(MONDAY, "09:00", "10:00", 1),
+                entry(MONDAY, "14:00", "15:00", null),
+                entry(MONDAY.plusDays(1), "08:00", "10:00", 1),
+                entry(MONDAY.plusDays(2), "12:00", "11:00", 1)) + "]";
+
+        mockMvc.perform(post("/work_hours/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.rows.length()").value(5))
+                // The first entry is valid on its own, the second overlaps it
+                .andExpect(jsonPath("$.rows[0].row").value(1))
+                .andExpect(jsonPath("$.rows[0].message").value("Nakłada się na wpis nr 2 w tym zgłoszeniu."))
+                .andExpect(jsonPath("$.rows[1].row").value(2))
+                .andExpect(jsonPath("$.rows[1].message").value("Nakłada się na wpis nr 1 w tym zgłoszeniu."))
+                .andExpect(jsonPath("$.rows[2].row").value(3))
+                .andExpect(jsonPath("$.rows[2].message").value("Typ czynności jest wymagany."))
+                .andExpect(jsonPath("$.rows[3].row").value(4))
+                .andExpect(jsonPath("$.rows[3].message").value("Nakłada się na zapisane godziny 07:00–09:00."))
+                .andExpect(jsonPath("$.rows[4].row").value(5))
+                .andExpect(jsonPath("$.rows[4].valid").value(false));
+
+        // Only the entry stored before the submission
+        assertEquals(1, countEntries());
+    }
+
+    @Test
+    void limitsBatchSize() throws Exception {
+        mockMvc.perform(post("/work_hours/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(days(WorkHoursBatchService.MAX_BATCH_SIZE + 1)))
+                .andExpect(status().isPayloadTooLarge());
+        assertEquals(0, countEntries());
+
+        mockMvc.perform(post("/work_hours/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(days(WorkHoursBatchService.MAX_BATCH_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(WorkHoursBatchService.MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void rejectsEmptyBatch() throws Exception {
+        mockMvc.perform(post("/work_hours/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void pagesApprovalQueueOldestFirst() throws Exception {
+        // Two entries per day, so pages also end between entries of the same date
+        long id = 1;
+        for (int day = 4; day >= 0; day--) {
+            addHours(id++, EMPLOYEE_ID, MONDAY.plusDays(day), "08:00", false);
+            addHours(id++, 2, MONDAY.plusDays(day), "08:00", false);
+        }
+        addHours(id, EMPLOYEE_ID, MONDAY, "13:00", true);
+
+        List<Integer> queue = new ArrayList<>();
+        String afterDate = null;
+        String afterId = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/admin/work_hours/approval-queue").param("size", "3");
+            if (afterDate != null) {
+                request.param("afterDate", afterDate).param("afterId", afterId);
+            }
+            String page = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            queue.addAll(JsonPath.read(page, "$.items[*].id"));
+            afterDate = JsonPath.read(page, "$.nextAfterDate");
+            Integer next = JsonPath.read(page, "$.nextAfterId");
+            afterId = next == null ? null : next.toString();
+            pages++;
+        } while (afterDate != null);
+
+        assertEquals(4, pages);
+        // Oldest day first, by ID within a day; the approved entry is not listed
+        assertEquals(List.of(9, 10, 7, 8, 5, 6, 3, 4, 1, 2), queue);
+
+        mockMvc.perform(get("/admin/work_hours/approval-queue")
+                        .param("departmentId", "2").param("dateFrom", MONDAY.plusDays(3).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id").value(contains(4, 2)))
+                .andExpect(jsonPath("$.items[0].user.lastname").value("Nowak"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void approvesOnlyPendingEntriesInScope() throws Exception {
+        addHours(1, EMPLOYEE_ID, MONDAY, "08:00", false);
+        addHours(2, EMPLOYEE_ID, MONDAY.plusDays(1), "08:00", false);
+        addHours(3, EMPLOYEE_ID, MONDAY.plusDays(8), "08:00", false);
+        addHours(4, 2, MONDAY, "08:00", false);
+        addHours(5, 2, MONDAY.plusDays(7), "08:00", false);
+        addHours(6, 2, MONDAY.plusDays(2), "08:00", true);
+
+        // Already approved or missing entries are not counted
+        mockMvc.perform(post("/admin/work_hours/approve/ids").param("ids", "1", "6", "99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(1));
+        mockMvc.perform(post("/admin/work_hours/approve/ids"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/admin/work_hours/approve/employee")
+                        .param("userId", String.valueOf(EMPLOYEE_ID)).param("dateTo", MONDAY.plusDays(6).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(1));
+        assertEquals(List.of(3L, 4L, 5L), pendingIds());
+
+        // Any day of the week selects Monday to Sunday
+        mockMvc.perform(post("/admin/work_hours/approve/department")
+                        .param("departmentId", "2").param("week", MONDAY.plusDays(4).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(1));
+        assertEquals(List.of(3L, 5L), pendingIds());
+
+        mockMvc.perform(post("/admin/work_hours/approve").param("id", "5"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/dashboard?tab=approvals"));
+        assertEquals(List.of(3L), pendingIds());
+    }
+
+    /**
+     * One eight-hour entry on each of the given number of consecutive days.
+     */
+    private static String days(int count) {
+        StringJoiner batch = new StringJoiner(",", "[", "]");
+        for (int day = 0; day < count; day++) {
+            batch.add(entry(MONDAY.plusDays(day), "08:00", "16:00", 1));
+        }
+        return batch.toString();
+    }
+
+    private static String entry(LocalDate date, String start, String end, Integer workTypeId) {
+        return "{\"date\":\"" + date + "\",\"startTime\":\"" + start + "\",\"endTime\":\"" + end
+                + "\",\"workTypeId\":" + workTypeId + "}";
+    }
+
+    private void addHours(long id, long employeeId, LocalDate date, String start, boolean approved) {
+        jdbcTemplate.update("INSERT INTO rejestracja_godzin_pracy (id_rejestracji, id_pracownik, data, godzina_rozpoczecia, " +
+                "godzina_zakonczenia, id_typ_pracy, zatwierdzenie) VALUES (?, ?, ?, ?, ?, 1, ?)",
+                id, employeeId, date, LocalTime.parse(start), LocalTime.parse(start).plusHours(4), approved);
+    }
+
+    private List<Long> pendingIds() {
+        return jdbcTemplate.queryForList("SELECT id_rejestracji FROM rejestracja_godzin_pracy " +
+                "WHERE zatwierdzenie = false ORDER BY id_rejestracji", Long.class);
+    }
+
+    private int countEntries() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rejestracja_godzin_pracy", Integer.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.project_agh.payrollmanagementsystem.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the upload limit of {@link WorkHoursImportController} in the embedded servlet
+ * container, where it is enforced: a file within {@code work-hours.import.max-file-size} is
+ * accepted beyond the container's default limit of 1 MB, a larger one is rejected with HTTP 413.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "work-hours.import.max-file-size=2MB")
+class WorkHoursImportControllerTest {
+
+    private static final String BOUNDARY = "import-boundary";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void logIn() throws Exception {
+        jdbcTemplate.update("INSERT INTO rola (id_rola, nazwa) VALUES (1, 'ADMIN')");
+        jdbcTemplate.update("INSERT INTO stanowisko (id_stanowisko, nazwa) VALUES (1, 'Administrator')");
+        jdbcTemplate.update("INSERT INTO dzial (id_dzial, nazwa) VALUES (1, 'IT')");
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, email, haslo_hash, id_rola, id_stanowisko, id_dzial, wynagrodzenie_pln_g, data_zatrudnienia, aktywny) " +
+                "VALUES (1, 'Adam', 'Admin', 'admin@firma.pl', ?, 1, 1, 1, 50, CURRENT_DATE, true)", passwordEncoder.encode("haslo"));
+
+        client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        HttpResponse<Void> login = client.send(HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("email=admin%40firma.pl&password=haslo"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertTrue(login.headers().firstValue("Location").orElseThrow().endsWith("/dashboard"));
+    }
+
+    @AfterEach
+    void removeAdmin() {
+        jdbcTemplate.update("DELETE FROM pracownik");
+        jdbcTemplate.update("DELETE FROM dzial");
+        jdbcTemplate.update("DELETE FROM stanowisko");
+        jdbcTemplate.update("DELETE FROM rola");
+    }
+
+    @Test
+    void acceptsFileWithinLimit() throws Exception {
+        HttpResponse<String> response = upload(csv(1536 * 1024));
+
+        assertEquals(202, response.statusCode());
+        assertTrue(response.body().contains("\"jobId\""), response.body());
+    }
+
+    @Test
+    void rejectsFileOverLimitWith413() throws Exception {
+        HttpResponse<String> response = upload(csv(2048 * 1024 + 1));
+
+        assertEquals(413, response.statusCode());
+        assertTrue(response.body().contains("maksymalny rozmiar importu to 2 MB"), response.body());
+    }
+
+    /**
+     * A CSV file of the given size: a header padded with a comment line.
+     */
+    private static byte[] csv(int size) {
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) '#');
+        byte[] header = "email,date,start_time,end_time,work_type_id\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, content, 0, header.length);
+        return content;
+    }
+
+    private HttpResponse<String> upload(byte[] file) throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"czytnik.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(file);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+
+        return client.send(HttpRequest.newBuilder(uri("/admin/work_hours/import"))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
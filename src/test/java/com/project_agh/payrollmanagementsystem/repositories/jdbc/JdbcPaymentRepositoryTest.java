@@ -0,0 +1,187 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.dtos.BulkOperationResultDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentFilterDto;
+import com.project_agh.payrollmanagementsystem.dtos.PaymentPageDto;
+import com.project_agh.payrollmanagementsystem.entities.Payment;
+import com.project_agh.payrollmanagementsystem.repositories.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the bulk operations of {@link JdbcPaymentRepository}: missing and unchanged payments
+ * are skipped and reported, rows locked by another transaction are waited for, and overlapping
+ * operations requested in opposite orders do not deadlock. Also verifies that the keyset pages of
+ * pending payments, which back the accountant's list of payouts, cover them exactly once.
+ */
+class JdbcPaymentRepositoryTest {
+
+    private static final long PAID = 1;
+    private static final long PENDING = 2;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PaymentRepository paymentRepository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = TestDatabase.create("payments");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate((PlatformTransactionManager) transactionManager);
+
+        // Chunks of two IDs, so every operation spans several statements; @Transactional applies as in the application
+        ProxyFactory proxyFactory = new ProxyFactory(new JdbcPaymentRepository(jdbcTemplate, 2));
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        paymentRepository = (PaymentRepository) proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void skipsMissingAndUnchangedPayments() {
+        addPayment(1, PENDING);
+        addPayment(2, PAID);
+        addPayment(3, PENDING);
+        addPayment(4, PENDING);
+
+        BulkOperationResultDto updated = paymentRepository.bulkUpdateStatus(List.of(4L, 9L, 2L, 1L, 4L, 7L), PAID);
+
+        assertEquals(5, updated.getRequested());
+        assertEquals(2, updated.getAffected());
+        assertEquals(1, updated.getUnchanged());
+        assertEquals(2, updated.getNotFound());
+        // Reported in the order of the request
+        assertEquals(List.of(9L, 7L), updated.getNotFoundIds());
+        assertEquals(List.of(PAID, PAID, PENDING, PAID), statuses());
+
+        BulkOperationResultDto deleted = paymentRepository.bulkDelete(List.of(3L, 8L, 1L));
+
+        assertEquals(3, deleted.getRequested());
+        assertEquals(2, deleted.getAffected());
+        assertEquals(0, deleted.getUnchanged());
+        assertEquals(List.of(8L), deleted.getNotFoundIds());
+        assertEquals(List.of(2L, 4L), jdbcTemplate.queryForList(
+                "SELECT id_wyplata FROM historia_wyplat ORDER BY id_wyplata", Long.class));
+    }
+
+    @Test
+    void waitsForPaymentsLockedByAnotherTransaction() throws Exception {
+        addPayment(1, PENDING);
+        addPayment(2, PENDING);
+        addPayment(3, PENDING);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        Future<?> accountant = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE historia_wyplat SET id_status_wyplaty = ? WHERE id_wyplata = 2", PAID);
+            locked.countDown();
+            sleep(300);
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        long started = System.nanoTime();
+        BulkOperationResultDto result = paymentRepository.bulkUpdateStatus(List.of(3L, 2L, 1L), PAID);
+        accountant.get(5, TimeUnit.SECONDS);
+
+        // The locked payment is read after the other transaction has committed its new status
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= 200);
+        assertEquals(2, result.getAffected());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(0, result.getNotFound());
+        assertEquals(List.of(PAID, PAID, PAID), statuses());
+    }
+
+    @Test
+    void overlappingOperationsInOppositeOrderDoNotDeadlock() throws Exception {
+        List<Long> ascending = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            addPayment(id, PENDING);
+            ascending.add(id);
+        }
+        List<Long> descending = ascending.reversed();
+
+        for (int round = 0; round < 5; round++) {
+            long target = round % 2 == 0 ? PAID : PENDING;
+            Future<BulkOperationResultDto> first = executor.submit(() -> paymentRepository.bulkUpdateStatus(ascending, target));
+            Future<BulkOperationResultDto> second = executor.submit(() -> paymentRepository.bulkUpdateStatus(descending, target));
+
+            // Whichever locks first updates all payments, the other finds them already in the status
+            BulkOperationResultDto a = first.get(10, TimeUnit.SECONDS);
+            BulkOperationResultDto b = second.get(10, TimeUnit.SECONDS);
+            assertEquals(200, a.getAffected() + b.getAffected());
+            assertEquals(200, a.getUnchanged() + b.getUnchanged());
+        }
+    }
+
+    @Test
+    void pagesThroughPendingPaymentsOnly() {
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, email) VALUES (1, 'Jan', 'Kowalski', 'jan@firma.pl')");
+        jdbcTemplate.update("INSERT INTO status_wyplaty (id_status_wyplaty, nazwa) VALUES (?, 'Zatwierdzone'), (?, 'Oczekuje')", PAID, PENDING);
+        for (long id = 1; id <= 7; id++) {
+            addPayment(id, id % 3 == 0 ? PAID : PENDING);
+        }
+
+        PaymentFilterDto filter = new PaymentFilterDto();
+        filter.setStatusId(PENDING);
+        List<Long> ids = new ArrayList<>();
+        PaymentPageDto page;
+        do {
+            page = paymentRepository.findPage(filter, 2);
+            for (Payment payment : page.getItems()) {
+                assertEquals(PENDING, payment.getPaymentStatus().getId().longValue());
+                ids.add(payment.getId());
+            }
+            filter.setAfterDate(page.getNextAfterDate());
+            filter.setAfterId(page.getNextAfterId());
+        } while (page.isHasNext());
+
+        // Payments of the same date continue by ID, newest first
+        assertEquals(List.of(7L, 5L, 4L, 2L, 1L), ids);
+    }
+
+    private void addPayment(long id, long statusId) {
+        jdbcTemplate.update("INSERT INTO historia_wyplat (id_wyplata, id_pracownik, data, wyplata, id_status_wyplaty, opis, id_typ_wyplaty) " +
+                "VALUES (?, 1, ?, ?, ?, 'Premia', 1)", id, LocalDateTime.of(2026, 1, 31, 12, 0), new BigDecimal("100.00"), statusId);
+    }
+
+    private List<Long> statuses() {
+        return jdbcTemplate.queryForList("SELECT id_status_wyplaty FROM historia_wyplat ORDER BY id_wyplata", Long.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.entities.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that {@link JdbcProjectRepository#findAll()} loads project members with a constant
+ * number of statements, independent of the number of projects on the dashboard.
+ */
+class JdbcProjectRepositoryTest {
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private JdbcTemplate jdbcTemplate;
+    private JdbcProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource h2 = TestDatabase.create("projects");
+
+        // Counts every statement prepared or created through the data source
+        DelegatingDataSource counting = new DelegatingDataSource(h2) {
+            @Override
+            public Connection getConnection() throws java.sql.SQLException {
+                Connection target = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(
+                        Connection.class.getClassLoader(),
+                        new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")) {
+                                statementCount.incrementAndGet();
+                            }
+                            try {
+                                return method.invoke(target, args);
+                            } catch (java.lang.reflect.InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        });
+            }
+        };
+
+        jdbcTemplate = new JdbcTemplate(counting);
+        jdbcTemplate.update("INSERT INTO stanowisko (id_stanowisko, nazwa) VALUES (1, 'Developer')");
+        jdbcTemplate.update("INSERT INTO rola (id_rola, nazwa) VALUES (1, 'USER')");
+        jdbcTemplate.update("INSERT INTO dzial (id_dzial, nazwa) VALUES (1, 'IT')");
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, id_stanowisko, id_rola, id_dzial, " +
+                            "wynagrodzenie_pln_g, email, haslo_hash, data_zatrudnienia, aktywny) " +
+                            "VALUES (?, 'Jan', 'Kowalski', 1, 1, 1, 50.00, ?, 'x', ?, true)",
+                    id, "user" + id + "@me.pl", LocalDate.of(2024, 1, 1));
+        }
+
+        JdbcUserRepository userRepository = new JdbcUserRepository(new JdbcWorkHoursRepository(jdbcTemplate), jdbcTemplate);
+        projectRepository = new JdbcProjectRepository(jdbcTemplate, userRepository);
+    }
+
+    @Test
+    void findAllIssuesConstantNumberOfQueries() {
+        createProjects(1);
+        assertEquals(2, countStatements(() -> projectRepository.findAll()));
+
+        createProjects(50);
+        assertEquals(2, countStatements(() -> projectRepository.findAll()));
+    }
+
+    @Test
+    void findAllStitchesMembersIntoTheirProjects() {
+        createProjects(3);
+
+        List<Project> projects = projectRepository.findAll();
+
+        assertEquals(3, projects.size());
+        for (Project project : projects) {
+            assertEquals(2, project.getMembers().size());
+            assertTrue(project.hasMember(project.getId()));
+            assertTrue(project.hasMember(project.getId() % 3 + 1));
+        }
+    }
+
+    @Test
+    void findByIdLoadsMembers() {
+        createProjects(2);
+
+        Project project = projectRepository.findById(2L).orElseThrow();
+
+        assertEquals(2, project.getMembers().size());
+        assertEquals("Lead", project.getMembers().get(0).getProjectRole());
+    }
+
+    private void createProjects(int count) {
+        jdbcTemplate.update("DELETE FROM pracownik_projekt");
+        jdbcTemplate.update("DELETE FROM projekt");
+        for (long id = 1; id <= count; id++) {
+            jdbcTemplate.update("INSERT INTO projekt (id_projekt, nazwa, data_rozpoczecia) VALUES (?, ?, ?)", id, "Project " + id, LocalDate.of(2024, 1, 1));
+            // Every project gets two of the three employees
+            jdbcTemplate.update("INSERT INTO pracownik_projekt (id_pracownik, id_projekt, rola_w_projekcie, data_przypisania) " +
+                    "VALUES (?, ?, 'Lead', ?)", (id - 1) % 3 + 1, id, LocalDate.of(2024, 1, 1));
+            jdbcTemplate.update("INSERT INTO pracownik_projekt (id_pracownik, id_projekt, rola_w_projekcie, data_przypisania) " +
+                    "VALUES (?, ?, 'Developer', ?)", id % 3 + 1, id, LocalDate.of(2024, 1, 1));
+        }
+    }
+
+    private int countStatements(Runnable action) {
+        statementCount.set(0);
+        action.run();
+        return statementCount.get();
+    }
+}
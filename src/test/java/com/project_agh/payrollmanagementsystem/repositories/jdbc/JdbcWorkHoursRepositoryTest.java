@@ -0,0 +1,120 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.dtos.WeeklyWorkSummaryDto;
+import com.project_agh.payrollmanagementsystem.dtos.WorkHoursPageDto;
+import com.project_agh.payrollmanagementsystem.entities.WorkHours;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the dashboard queries of {@link JdbcWorkHoursRepository}: the weekly summary is
+ * aggregated in the database, the work history is read page by page, newest first, and rows are
+ * mapped according to the columns each query returns.
+ */
+class JdbcWorkHoursRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcWorkHoursRepository workHoursRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("workhours"));
+        workHoursRepository = new JdbcWorkHoursRepository(jdbcTemplate);
+    }
+
+    @Test
+    void summarizesWeekInTheDatabase() {
+        // Two entries on Monday, one on Wednesday; the 30 s are truncated like Duration.toMinutes()
+        addHours(1, MONDAY, LocalTime.of(8, 0), LocalTime.of(12, 0, 30));
+        addHours(1, MONDAY, LocalTime.of(13, 0), LocalTime.of(15, 15));
+        addHours(1, MONDAY.plusDays(2), LocalTime.of(9, 0), LocalTime.of(17, 0));
+        // Outside the week or of another employee
+        addHours(1, MONDAY.plusDays(7), LocalTime.of(8, 0), LocalTime.of(16, 0));
+        addHours(2, MONDAY, LocalTime.of(8, 0), LocalTime.of(16, 0));
+
+        WeeklyWorkSummaryDto summary = workHoursRepository.summarizeByUserIdAndDateRange(1L, MONDAY, MONDAY.plusDays(6));
+
+        assertEquals(240 + 135 + 480, summary.getTotalMinutes());
+        assertEquals(2, summary.getDaysWorked());
+        assertEquals(7.125, summary.getAverageHoursPerDay(), 1e-9);
+
+        WeeklyWorkSummaryDto empty = workHoursRepository.summarizeByUserIdAndDateRange(3L, MONDAY, MONDAY.plusDays(6));
+        assertEquals(0, empty.getTotalMinutes());
+        assertEquals(0.0, empty.getAverageHoursPerDay());
+    }
+
+    @Test
+    void pagesHistoryNewestFirst() {
+        // Two entries per day, so the page boundary also falls between entries of the same date
+        for (int day = 0; day < 5; day++) {
+            addHours(1, MONDAY.plusDays(day), LocalTime.of(8, 0), LocalTime.of(12, 0));
+            addHours(1, MONDAY.plusDays(day), LocalTime.of(13, 0), LocalTime.of(16, 0));
+        }
+        addHours(2, MONDAY, LocalTime.of(8, 0), LocalTime.of(16, 0));
+
+        List<WorkHours> all = new ArrayList<>();
+        WorkHoursPageDto page = workHoursRepository.findHistoryPage(1L, null, null, 3);
+        all.addAll(page.getItems());
+        int pages = 1;
+        while (page.isHasNext()) {
+            page = workHoursRepository.findHistoryPage(1L, page.getNextAfterDate(), page.getNextAfterId(), 3);
+            all.addAll(page.getItems());
+            pages++;
+        }
+
+        assertEquals(4, pages);
+        assertFalse(page.isHasNext());
+        assertEquals(10, all.size());
+        assertEquals(10, all.stream().map(WorkHours::getId).distinct().count());
+        for (int i = 1; i < all.size(); i++) {
+            WorkHours newer = all.get(i - 1);
+            WorkHours older = all.get(i);
+            assertTrue(newer.getDate().isAfter(older.getDate())
+                    || (newer.getDate().equals(older.getDate()) && newer.getId() > older.getId()));
+        }
+    }
+
+    @Test
+    void mapsOnlyTheColumnsOfTheQuery() {
+        addHours(1, MONDAY, LocalTime.of(8, 0), LocalTime.of(12, 0));
+        jdbcTemplate.update("UPDATE rejestracja_godzin_pracy SET id_projekt = 7");
+
+        WorkHours plain = jdbcTemplate.query("SELECT * FROM rejestracja_godzin_pracy",
+                WorkHoursRowMapperFactory.newRowMapper()).get(0);
+        assertEquals(MONDAY, plain.getDate());
+        assertEquals(LocalTime.of(12, 0), plain.getEndTime());
+        assertEquals(7L, plain.getProject().getId());
+        assertNull(plain.getProject().getName());
+        assertNull(plain.getWorkedTime());
+        assertNull(plain.getUser().getName());
+
+        WorkHours full = jdbcTemplate.query("SELECT r.*, 'poniedziałek' AS dzien_tygodnia, '4h 0min' AS czas_pracy, " +
+                        "'Biuro' AS typ_nazwa, 'Portal' AS projekt_nazwa, 'Anna' AS pracownik_imie, 'Nowak' AS pracownik_nazwisko " +
+                        "FROM rejestracja_godzin_pracy r",
+                WorkHoursRowMapperFactory.newRowMapper()).get(0);
+        assertEquals("poniedziałek", full.getDayOfWeek());
+        assertEquals("4h 0min", full.getWorkedTime());
+        assertEquals("Biuro", full.getWorkType().getName());
+        assertEquals("Portal", full.getProject().getName());
+        assertEquals("Nowak", full.getUser().getLastname());
+    }
+
+    private void addHours(long employeeId, LocalDate date, LocalTime start, LocalTime end) {
+        jdbcTemplate.update("INSERT INTO rejestracja_godzin_pracy (id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia, " +
+                "id_typ_pracy, komentarz, zatwierdzenie) VALUES (?, ?, ?, ?, 1, NULL, false)", employeeId, date, start, end);
+    }
+}
@@ -0,0 +1,109 @@
+package com.project_agh.payrollmanagementsystem.repositories.jdbc;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.repositories.RoleRepository;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the repository instrumentation: per-method timers with the outcome, row counts
+ * collected from the statements of a call, and the slow-query log, which describes the bind
+ * parameters without their values.
+ */
+class RepositoryMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Logger slowQueryLog = (Logger) LoggerFactory.getLogger("slow-query");
+    private final ListAppender<ILoggingEvent> log = new ListAppender<>();
+
+    private InstrumentedJdbcTemplate jdbcTemplate;
+    private RoleRepository roleRepository;
+
+    @BeforeEach
+    void setUp() {
+        // A zero threshold logs every statement
+        jdbcTemplate = new InstrumentedJdbcTemplate(TestDatabase.create("metrics"), Duration.ZERO);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new JdbcRoleRepository(jdbcTemplate));
+        proxyFactory.addAspect(new RepositoryMetricsAspect(meterRegistry));
+        roleRepository = proxyFactory.getProxy();
+
+        log.start();
+        slowQueryLog.addAppender(log);
+    }
+
+    @AfterEach
+    void detachLog() {
+        slowQueryLog.detachAppender(log);
+    }
+
+    @Test
+    void recordsLatencyAndRowsPerRepositoryMethod() {
+        roleRepository.createRole("ROLE_KSIEGOWY");
+        roleRepository.createRole("ROLE_AUDYTOR");
+        assertEquals(2, roleRepository.findAll().size());
+
+        Timer findAll = meterRegistry.find("payroll.repository.calls")
+                .tags("repository", "JdbcRoleRepository", "method", "findAll", "outcome", "success").timer();
+        assertNotNull(findAll);
+        assertEquals(1, findAll.count());
+
+        DistributionSummary findAllRows = meterRegistry.find("payroll.repository.rows").tags("method", "findAll").summary();
+        assertEquals(2.0, findAllRows.totalAmount());
+        DistributionSummary createRows = meterRegistry.find("payroll.repository.rows").tags("method", "createRole").summary();
+        assertEquals(2, createRows.count());
+        assertEquals(2.0, createRows.totalAmount());
+    }
+
+    @Test
+    void countsErrorsByException() {
+        jdbcTemplate.execute("DROP TABLE rola");
+
+        assertThrows(DataAccessException.class, () -> roleRepository.findAll());
+
+        Timer failed = meterRegistry.find("payroll.repository.calls")
+                .tags("method", "findAll", "outcome", "error", "exception", "BadSqlGrammarException").timer();
+        assertNotNull(failed);
+        assertEquals(1, failed.count());
+        assertTrue(lines().stream().anyMatch(line -> line.contains("error=BadSqlGrammarException")));
+    }
+
+    @Test
+    void logsParameterShapeWithoutValues() {
+        roleRepository.editRole(7L, "ROLE_TAJNA_NAZWA");
+
+        ILoggingEvent event = log.list.stream()
+                .filter(e -> e.getFormattedMessage().startsWith("repository=JdbcRoleRepository.editRole "))
+                .findFirst().orElseThrow();
+        assertEquals(Level.WARN, event.getLevel());
+        String line = event.getFormattedMessage();
+        assertTrue(line.contains("rows=0"));
+        assertTrue(line.contains("parameters=(String, Long)"));
+        assertTrue(line.contains("sql=\"UPDATE rola SET nazwa = ? WHERE id_rola = ?\""));
+        assertFalse(line.contains("ROLE_TAJNA_NAZWA"));
+    }
+
+    private List<String> lines() {
+        return log.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
@@ -0,0 +1,180 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.dtos.CalculatedPayoutDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayoutRunDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollRunResultDto;
+import com.project_agh.payrollmanagementsystem.repositories.JobLockRepository;
+import com.project_agh.payrollmanagementsystem.repositories.PayrollRepository;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcPayoutRunRepository;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcPayrollRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that monthly payout runs are recorded in the ledger, resumed from their checkpoints
+ * after a failure and not repeated once completed.
+ */
+class AutoPayoutServiceTest {
+
+    private static final LocalDate PERIOD_START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate PERIOD_END = LocalDate.of(2026, 1, 31);
+    private static final int EMPLOYEES = 30;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcPayrollRepository payrollRepository;
+    private JdbcPayoutRunRepository payoutRunRepository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = TestDatabase.create("payoutruns");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO status_wyplaty (id_status_wyplaty, nazwa) VALUES (2, 'Oczekuje')");
+        jdbcTemplate.update("INSERT INTO typ_wyplaty (id_typ_wyplaty, nazwa) VALUES (1, 'Godziny Pracy')");
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, wynagrodzenie_pln_g) VALUES (?, 10.00)", id);
+            jdbcTemplate.update("INSERT INTO rejestracja_godzin_pracy (id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia, zatwierdzenie) " +
+                    "VALUES (?, ?, ?, ?, true)", id, LocalDate.of(2026, 1, 15), LocalTime.of(8, 0), LocalTime.of(16, 0));
+        }
+
+        payrollRepository = new JdbcPayrollRepository(jdbcTemplate);
+        payoutRunRepository = new JdbcPayoutRunRepository(jdbcTemplate);
+    }
+
+    @Test
+    void completedPeriodIsNotRunAgain() {
+        AutoPayoutService service = javaService(payrollRepository);
+
+        PayrollRunResultDto first = service.generatePayouts(PERIOD_START, PERIOD_END);
+        PayrollRunResultDto second = service.generatePayouts(PERIOD_START, PERIOD_END);
+
+        assertEquals(EMPLOYEES, first.getPayoutsCreated());
+        assertEquals(0, second.getPayoutsCreated());
+        assertEquals(EMPLOYEES, countPayouts());
+
+        PayoutRunDto run = payoutRunRepository.findByPeriod(PERIOD_START, PERIOD_END).orElseThrow();
+        assertEquals(PayoutRunDto.STATUS_COMPLETED, run.getStatus());
+        assertEquals(EMPLOYEES, run.getPayoutsCreated());
+    }
+
+    @Test
+    void failedRunResumesFromCheckpoints() {
+        // The second partition fails while saving, after the first one has committed
+        AtomicInteger inserts = new AtomicInteger();
+        PayrollRepository failing = new DelegatingPayrollRepository(payrollRepository) {
+            @Override
+            public int insertPayouts(List<CalculatedPayoutDto> payouts, Long statusId, Long typeId, String description) {
+                if (inserts.incrementAndGet() == 2) {
+                    throw new IllegalStateException("Simulated crash");
+                }
+                return super.insertPayouts(payouts, statusId, typeId, description);
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> javaService(failing).generatePayouts(PERIOD_START, PERIOD_END));
+
+        PayoutRunDto failed = payoutRunRepository.findByPeriod(PERIOD_START, PERIOD_END).orElseThrow();
+        assertEquals(PayoutRunDto.STATUS_FAILED, failed.getStatus());
+        List<long[]> checkpoints = payoutRunRepository.findCheckpointRanges(failed.getId());
+        assertEquals(1, checkpoints.size());
+        assertEquals(failed.getPayoutsCreated(), countPayouts());
+
+        // The resumed run does not read the checkpointed employees again
+        List<Long> streamedFrom = new ArrayList<>();
+        PayrollRepository recording = new DelegatingPayrollRepository(payrollRepository) {
+            @Override
+            public void streamApprovedHours(long firstEmployeeId, long lastEmployeeId, LocalDate periodStart, LocalDate periodEnd,
+                                            String description, ApprovedHoursHandler handler) {
+                streamedFrom.add(firstEmployeeId);
+                super.streamApprovedHours(firstEmployeeId, lastEmployeeId, periodStart, periodEnd, description, handler);
+            }
+        };
+        PayrollRunResultDto resumed = javaService(recording).generatePayouts(PERIOD_START, PERIOD_END);
+
+        long[] done = checkpoints.get(0);
+        assertFalse(streamedFrom.isEmpty());
+        assertTrue(streamedFrom.stream().noneMatch(id -> id >= done[0] && id <= done[1]));
+        assertEquals(EMPLOYEES - failed.getPayoutsCreated(), resumed.getPayoutsCreated());
+        assertEquals(EMPLOYEES, countPayouts());
+        assertEquals(EMPLOYEES, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT id_pracownik) FROM historia_wyplat", Integer.class));
+
+        PayoutRunDto completed = payoutRunRepository.findByPeriod(PERIOD_START, PERIOD_END).orElseThrow();
+        assertEquals(PayoutRunDto.STATUS_COMPLETED, completed.getStatus());
+        assertEquals(EMPLOYEES, completed.getPayoutsCreated());
+    }
+
+    private AutoPayoutService javaService(PayrollRepository repository) {
+        ParallelPayrollEngine engine = new ParallelPayrollEngine(repository, payoutRunRepository,
+                new DataSourceTransactionManager(dataSource), 1, 10);
+        // A single node always gets the job lock
+        JobLockRepository noLock = (jobName, job) -> {
+            job.run();
+            return true;
+        };
+        return new AutoPayoutService(repository, payoutRunRepository, noLock, engine, AutoPayoutService.ENGINE_JAVA,
+                new SimpleMeterRegistry(), event -> {});
+    }
+
+    private int countPayouts() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM historia_wyplat", Integer.class);
+    }
+
+    /**
+     * Forwards every call to the real repository, so single methods can be overridden.
+     */
+    private static class DelegatingPayrollRepository implements PayrollRepository {
+
+        private final PayrollRepository target;
+
+        DelegatingPayrollRepository(PayrollRepository target) {
+            this.target = target;
+        }
+
+        @Override
+        public int callMonthlyPayoutProcedure(LocalDate periodStart, LocalDate periodEnd, String description) {
+            return target.callMonthlyPayoutProcedure(periodStart, periodEnd, description);
+        }
+
+        @Override
+        public Long findPendingStatusId() {
+            return target.findPendingStatusId();
+        }
+
+        @Override
+        public Long findWorkHoursTypeId() {
+            return target.findWorkHoursTypeId();
+        }
+
+        @Override
+        public List<Long> findEmployeeIdsToPay(LocalDate periodStart, LocalDate periodEnd, String description) {
+            return target.findEmployeeIdsToPay(periodStart, periodEnd, description);
+        }
+
+        @Override
+        public void streamApprovedHours(long firstEmployeeId, long lastEmployeeId, LocalDate periodStart, LocalDate periodEnd,
+                                        String description, ApprovedHoursHandler handler) {
+            target.streamApprovedHours(firstEmployeeId, lastEmployeeId, periodStart, periodEnd, description, handler);
+        }
+
+        @Override
+        public int insertPayouts(List<CalculatedPayoutDto> payouts, Long statusId, Long typeId, String description) {
+            return target.insertPayouts(payouts, statusId, typeId, description);
+        }
+    }
+}
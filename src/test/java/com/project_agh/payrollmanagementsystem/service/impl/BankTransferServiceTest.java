@@ -0,0 +1,154 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.dtos.BankTransferRequestDto;
+import com.project_agh.payrollmanagementsystem.dtos.BankTransferSummaryDto;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcBankTransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the bank transfer files of {@link BankTransferService}: accounts are validated before
+ * anything is written, and the Elixir-O and {@code pain.001} files contain every payout of the
+ * run with the checked count and sum.
+ */
+class BankTransferServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2025, 11);
+    private static final String COMPANY_IBAN = "PL61 1090 1014 0000 0712 1981 2874";
+    private static final String JAN_ACCOUNT = "27 1140 2004 0000 3002 0135 5387";
+
+    private JdbcTemplate jdbcTemplate;
+    private BankTransferService bankTransferService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = TestDatabase.create("transfers");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        bankTransferService = new BankTransferService(new JdbcBankTransferRepository(jdbcTemplate),
+                new DataSourceTransactionManager(dataSource), "Firma \"Płace\" Sp. z o.o.", COMPANY_IBAN, "", "PLN");
+    }
+
+    @Test
+    void rejectsRunWithUnusableAccounts() {
+        addEmployee(1, "Jan", "Kowalski", JAN_ACCOUNT);
+        addEmployee(2, "Anna", "Nowak", "PL27 1140 2004 0000 3002 0135 5388");
+        addEmployee(3, "Piotr", "Zieliński", null);
+        addPayout(1, 1, "4200.00", PERIOD);
+        addPayout(2, 2, "3100.50", PERIOD);
+        addPayout(3, 3, "2900.00", PERIOD);
+
+        BankTransferSummaryDto summary = bankTransferService.check(request(), BankTransferService.Format.ELIXIR);
+
+        assertFalse(summary.isValid());
+        assertEquals(1, summary.getTransfers());
+        assertEquals(List.of(2L, 3L), summary.getRejected().stream().map(BankTransferSummaryDto.RejectedTransfer::getPaymentId).toList());
+        assertEquals("Nieprawidłowy numer rachunku", summary.getRejected().get(0).getReason());
+        assertEquals("Brak numeru rachunku", summary.getRejected().get(1).getReason());
+    }
+
+    @Test
+    void writesElixirRecordPerPayoutOfTheRun() throws Exception {
+        addEmployee(1, "Jan", "Kowalski", JAN_ACCOUNT);
+        addEmployee(2, "Anna", "Nowak", "pl61109010140000071219812874");
+        addPayout(1, 1, "4200.05", PERIOD);
+        addPayout(2, 2, "3100.50", PERIOD);
+        // Another run, and a payout without an amount
+        addPayout(3, 1, "4000.00", PERIOD.minusMonths(1));
+        addPayout(4, 2, "0.00", PERIOD);
+
+        BankTransferRequestDto request = request();
+        BankTransferSummaryDto summary = bankTransferService.check(request, BankTransferService.Format.ELIXIR);
+        assertTrue(summary.isValid());
+        assertNull(summary.getMessage());
+        assertEquals(2, summary.getTransfers());
+        assertEquals(new BigDecimal("7300.55"), summary.getTotalAmount());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, bankTransferService.write(request, BankTransferService.Format.ELIXIR, summary, out));
+
+        String date = request.getExecutionDate().toString().replace("-", "");
+        assertEquals(List.of(
+                "110," + date + ",420005,10901014,0,\"61109010140000071219812874\",\"27114020040000300201355387\"," +
+                        "\"Firma Płace Sp. z o.o.|||\",\"Jan Kowalski|||\",0,11402004,\"Wynagrodzenie za 2025-11|||\",\"\",\"\",\"51\",\"1\"",
+                "110," + date + ",310050,10901014,0,\"61109010140000071219812874\",\"61109010140000071219812874\"," +
+                        "\"Firma Płace Sp. z o.o.|||\",\"Anna Nowak|||\",0,10901014,\"Wynagrodzenie za 2025-11|||\",\"\",\"\",\"51\",\"2\""
+        ), out.toString(ElixirTransferWriter.CHARSET).lines().toList());
+    }
+
+    @Test
+    void writesPain001WithCheckedTotals() throws Exception {
+        addEmployee(1, "Jan", "Kowalski & Syn", JAN_ACCOUNT);
+        addEmployee(2, "Hans", "Müller", "DE89 3704 0044 0532 0130 00");
+        addPayout(1, 1, "4200.05", PERIOD);
+        addPayout(2, 2, "3100.50", PERIOD);
+
+        BankTransferRequestDto request = request();
+        // Foreign accounts can only be paid with the XML format
+        assertFalse(bankTransferService.check(request, BankTransferService.Format.ELIXIR).isValid());
+        BankTransferSummaryDto summary = bankTransferService.check(request, BankTransferService.Format.SEPA);
+        assertTrue(summary.isValid());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bankTransferService.write(request, BankTransferService.Format.SEPA, summary, out);
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("2", document.getElementsByTagName("NbOfTxs").item(0).getTextContent());
+        assertEquals("7300.55", document.getElementsByTagName("CtrlSum").item(0).getTextContent());
+        assertEquals(3, document.getElementsByTagName("IBAN").getLength());
+        assertEquals("DE89370400440532013000", document.getElementsByTagName("IBAN").item(2).getTextContent());
+        assertEquals("Jan Kowalski & Syn", document.getElementsByTagName("Nm").item(2).getTextContent());
+        assertEquals("WYPLATA-1", document.getElementsByTagName("EndToEndId").item(0).getTextContent());
+        assertEquals("SALA", document.getElementsByTagName("Cd").item(0).getTextContent());
+    }
+
+    @Test
+    void validatesIbanChecksum() {
+        assertEquals("PL27114020040000300201355387", Iban.normalize(JAN_ACCOUNT));
+        assertTrue(Iban.isValid(Iban.normalize(JAN_ACCOUNT)));
+        assertTrue(Iban.isValid(Iban.normalize("GB82 WEST 1234 5698 7654 32")));
+        // Swapped digits, wrong length for the country, invalid characters
+        assertFalse(Iban.isValid(Iban.normalize("PL27 1140 2004 0000 3002 0135 5378")));
+        assertFalse(Iban.isValid(Iban.normalize("PL27 1140 2004 0000 3002 0135 538")));
+        assertNull(Iban.normalize("PL27/1140"));
+        assertThrows(IllegalArgumentException.class, () -> bankTransferService.check(new BankTransferRequestDto(),
+                BankTransferService.Format.ELIXIR));
+    }
+
+    private BankTransferRequestDto request() {
+        BankTransferRequestDto request = new BankTransferRequestDto();
+        request.setPeriod(PERIOD);
+        request.setExecutionDate(LocalDate.now().plusDays(1));
+        return request;
+    }
+
+    private void addEmployee(long id, String firstName, String lastName, String account) {
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, konto_bankowe) VALUES (?, ?, ?, ?)", id, firstName, lastName, account);
+    }
+
+    private void addPayout(long id, long userId, String amount, YearMonth period) {
+        jdbcTemplate.update("INSERT INTO historia_wyplat (id_wyplata, id_pracownik, data, wyplata, opis, id_status_wyplaty) " +
+                "VALUES (?, ?, CURRENT_TIMESTAMP, ?, ?, 1)",
+                id, userId, new BigDecimal(amount), AutoPayoutService.payoutDescription(period.atDay(1)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.entities.EmployeeStats;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcEmployeeStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the triggers of {@code db/employee_stats_incremental.sql} keep the employee
+ * statistics equal to a full re-aggregation through inserts, edits, approvals and deletes, and
+ * that {@link EmployeeStatsConsistencyService} repairs statistics that have drifted.
+ * <p>
+ * The triggers are PostgreSQL-specific, so the test needs a PostgreSQL database given by the
+ * {@code payroll.test.postgres-url} system property or the {@code PAYROLL_TEST_POSTGRES_URL}
+ * environment variable (e.g. {@code jdbc:postgresql://localhost:5432/payroll_test?user=postgres});
+ * it is skipped without one. Each test works in its own schema, which is dropped afterwards.
+ * </p>
+ */
+class EmployeeStatsConsistencyServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private String url;
+    private String schema;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcEmployeeStatsRepository statsRepository;
+    private EmployeeStatsConsistencyService consistencyService;
+
+    @BeforeEach
+    void setUp() {
+        url = System.getProperty("payroll.test.postgres-url", System.getenv("PAYROLL_TEST_POSTGRES_URL"));
+        assumeTrue(url != null && !url.isBlank(), "No PostgreSQL database configured");
+
+        schema = "statystyki_test_" + System.nanoTime();
+        new JdbcTemplate(new DriverManagerDataSource(url)).execute("CREATE SCHEMA " + schema);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url);
+        Properties properties = new Properties();
+        properties.setProperty("currentSchema", schema);
+        dataSource.setConnectionProperties(properties);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE rejestracja_godzin_pracy (" +
+                "id_rejestracji SERIAL PRIMARY KEY, id_pracownik INT, data DATE, godzina_rozpoczecia TIME, " +
+                "godzina_zakonczenia TIME, id_typ_pracy INT, id_projekt INT, komentarz TEXT, zatwierdzenie BOOLEAN DEFAULT false)");
+
+        // Run as one statement, the driver splits it without breaking the function bodies
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("db/employee_stats_incremental.sql"));
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        populator.execute(dataSource);
+
+        statsRepository = new JdbcEmployeeStatsRepository(jdbcTemplate);
+        // checkAndRepair() does not take the cluster-wide lock
+        consistencyService = new EmployeeStatsConsistencyService(statsRepository, null, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void dropSchema() {
+        if (schema != null) {
+            new JdbcTemplate(new DriverManagerDataSource(url)).execute("DROP SCHEMA " + schema + " CASCADE");
+        }
+    }
+
+    @Test
+    void triggersKeepStatisticsConsistent() {
+        // One statement inserting several entries per employee and week
+        jdbcTemplate.update("INSERT INTO rejestracja_godzin_pracy (id_rejestracji, id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia) VALUES " +
+                "(1, 1, ?, '08:00', '16:00'), (2, 1, ?, '08:00', '12:30'), (3, 1, ?, '09:00', '17:00'), " +
+                "(4, 2, ?, '07:15', '15:45'), (5, 2, ?, '08:00', '10:20')",
+                MONDAY, MONDAY.plusDays(2), MONDAY.plusDays(7), MONDAY, MONDAY.plusDays(14));
+        assertConsistent();
+        assertStats(1, 20.5, 2);
+        assertStats(2, 10.83, 2);
+
+        // A new entry in a week that already has entries adds no week
+        addEntry(6, 1, MONDAY.plusDays(4), "10:00", "11:00");
+        assertConsistent();
+        assertStats(1, 21.5, 2);
+
+        // Changing the times counts the difference between the old and the new entry
+        jdbcTemplate.update("UPDATE rejestracja_godzin_pracy SET godzina_zakonczenia = '18:00' WHERE id_rejestracji = 3");
+        assertConsistent();
+        assertStats(1, 22.5, 2);
+
+        // Moving the only entry of a week to a new week keeps the number of weeks
+        jdbcTemplate.update("UPDATE rejestracja_godzin_pracy SET data = ? WHERE id_rejestracji = 3", MONDAY.plusDays(21));
+        assertConsistent();
+        assertStats(1, 22.5, 2);
+
+        // Moving it into a week with entries drops a week; several rows change in one statement
+        jdbcTemplate.update("UPDATE rejestracja_godzin_pracy SET data = ?, godzina_rozpoczecia = godzina_rozpoczecia + interval '1 hour' " +
+                "WHERE id_rejestracji IN (3, 5)", MONDAY.plusDays(1));
+        assertConsistent();
+        assertStats(1, 21.5, 1);
+        assertStats(2, 9.83, 1);
+
+        // Moving an entry to another employee
+        jdbcTemplate.update("UPDATE rejestracja_godzin_pracy SET id_pracownik = 2 WHERE id_rejestracji = 2");
+        assertConsistent();
+        assertStats(1, 17.0, 1);
+        assertStats(2, 14.33, 1);
+
+        // Approving entries changes neither the hours nor the weeks
+        jdbcTemplate.update("UPDATE rejestracja_godzin_pracy SET zatwierdzenie = true WHERE id_pracownik = 1");
+        jdbcTemplate.update("UPDATE rejestracja_godzin_pracy SET zatwierdzenie = false WHERE id_rejestracji = 1");
+        assertConsistent();
+        assertStats(1, 17.0, 1);
+
+        // Deleting an employee's last entries removes the employee's statistics
+        jdbcTemplate.update("DELETE FROM rejestracja_godzin_pracy WHERE id_rejestracji IN (3, 6)");
+        assertConsistent();
+        assertStats(1, 8.0, 1);
+        jdbcTemplate.update("DELETE FROM rejestracja_godzin_pracy WHERE id_pracownik = 2");
+        assertConsistent();
+        assertFalse(statsRepository.findById(2L).isPresent());
+
+        jdbcTemplate.update("TRUNCATE rejestracja_godzin_pracy");
+        assertConsistent();
+        assertFalse(statsRepository.findById(1L).isPresent());
+    }
+
+    @Test
+    void rebuildsDriftedStatistics() {
+        addEntry(1, 1, MONDAY, "08:00", "16:00");
+        addEntry(2, 2, MONDAY, "08:00", "12:00");
+        addEntry(3, 3, MONDAY, "08:00", "12:00");
+
+        // Changes made while the triggers were disabled
+        jdbcTemplate.execute("ALTER TABLE rejestracja_godzin_pracy DISABLE TRIGGER USER");
+        addEntry(4, 1, MONDAY.plusDays(7), "08:00", "09:00");
+        jdbcTemplate.update("DELETE FROM rejestracja_godzin_pracy WHERE id_rejestracji = 3");
+        jdbcTemplate.execute("ALTER TABLE rejestracja_godzin_pracy ENABLE TRIGGER USER");
+
+        assertEquals(List.of(1L, 3L), consistencyService.checkAndRepair());
+        assertConsistent();
+        assertStats(1, 9.0, 2);
+        assertStats(2, 4.0, 1);
+        assertFalse(statsRepository.findById(3L).isPresent());
+    }
+
+    private void addEntry(long id, long employeeId, LocalDate date, String start, String end) {
+        jdbcTemplate.update("INSERT INTO rejestracja_godzin_pracy (id_rejestracji, id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia) " +
+                "VALUES (?, ?, ?, ?::time, ?::time)", id, employeeId, date, start, end);
+    }
+
+    private void assertConsistent() {
+        assertTrue(consistencyService.checkAndRepair().isEmpty());
+    }
+
+    private void assertStats(long employeeId, double totalHours, int weeks) {
+        EmployeeStats stats = statsRepository.findById(employeeId).orElseThrow();
+        assertEquals(totalHours, stats.getTotalHours());
+        assertEquals(weeks, stats.getWeeksCount());
+    }
+}
@@ -0,0 +1,128 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.dtos.ExportFilterDto;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the exports of {@link ExportService}: filters reach the query, CSV fields are quoted
+ * and protected against formulas, and the XLSX file is a complete workbook with typed cells.
+ */
+class ExportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = TestDatabase.create("export");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.update("INSERT INTO dzial (id_dzial, nazwa) VALUES (1, 'IT'), (2, 'Kadry')");
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, email, id_dzial) VALUES (1, 'Jan', 'Kowalski', 'jan@firma.pl', 1), " +
+                "(2, 'Anna', 'Nowak', 'anna@firma.pl', 2)");
+        jdbcTemplate.update("INSERT INTO typ_wyplaty (id_typ_wyplaty, nazwa) VALUES (1, 'Wynagrodzenie')");
+        jdbcTemplate.update("INSERT INTO status_wyplaty (id_status_wyplaty, nazwa) VALUES (1, 'Wypłacona'), (2, 'Oczekująca')");
+
+        exportService = new ExportService(new JdbcExportRepository(jdbcTemplate, 2),
+                new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void writesFilteredPaymentsAsCsv() throws IOException {
+        addPayment(1, 1, LocalDateTime.of(2025, 1, 31, 12, 0), "1234.50", "Premia; \"roczna\"", 1);
+        addPayment(2, 1, LocalDateTime.of(2025, 2, 28, 12, 0), "100.00", "=SUMA(A1)", 1);
+        addPayment(3, 1, LocalDateTime.of(2025, 3, 31, 12, 0), "200.00", "Poza okresem", 1);
+        addPayment(4, 2, LocalDateTime.of(2025, 2, 28, 12, 0), "300.00", "Inny dział", 1);
+        addPayment(5, 1, LocalDateTime.of(2025, 2, 28, 12, 0), "400.00", "Inny status", 2);
+
+        ExportFilterDto filter = new ExportFilterDto();
+        filter.setDateFrom(LocalDate.of(2025, 1, 1));
+        filter.setDateTo(LocalDate.of(2025, 2, 28));
+        filter.setDepartmentId(1L);
+        filter.setStatusId(1L);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(ExportService.Dataset.PAYMENTS, filter, ExportService.Format.CSV, out);
+
+        assertEquals(2, rows);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFF"));
+        List<String> lines = csv.substring(1).lines().toList();
+        assertEquals(List.of(
+                "ID wypłaty;Data;Imię;Nazwisko;E-mail;Dział;Typ;Kwota;Opis;Status",
+                "2;2025-02-28 12:00:00;Jan;Kowalski;jan@firma.pl;IT;Wynagrodzenie;100.00;'=SUMA(A1);Wypłacona",
+                "1;2025-01-31 12:00:00;Jan;Kowalski;jan@firma.pl;IT;Wynagrodzenie;1234.50;\"Premia; \"\"roczna\"\"\";Wypłacona"
+        ), lines);
+    }
+
+    @Test
+    void writesPaymentsAsXlsxWorkbook() throws IOException {
+        addPayment(1, 1, LocalDateTime.of(2025, 1, 31, 12, 0), "1234.50", "A & <B>", 1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ExportService.Dataset.PAYMENTS, new ExportFilterDto(), ExportService.Format.XLSX, out);
+
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertTrue(entries.keySet().containsAll(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml")));
+        assertTrue(entries.get("xl/workbook.xml").contains("name=\"Wypłaty\""));
+
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains(">ID wypłaty</t>"));
+        // Noon of 2025-01-31, day 45688 of the spreadsheet calendar
+        assertTrue(sheet.contains("<v>45688.500000000000</v>"));
+        assertTrue(sheet.contains("<v>1234.50</v>"));
+        assertTrue(sheet.contains("A &amp; &lt;B&gt;"));
+    }
+
+    @Test
+    void rejectsReversedPeriodAndUnknownFormat() {
+        ExportFilterDto filter = new ExportFilterDto();
+        filter.setDateFrom(LocalDate.of(2025, 2, 1));
+        filter.setDateTo(LocalDate.of(2025, 1, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> exportService.validate(filter));
+        assertThrows(IllegalArgumentException.class, () -> ExportService.Format.fromExtension("pdf"));
+        assertEquals(ExportService.Format.XLSX, ExportService.Format.fromExtension("XLSX"));
+    }
+
+    private void addPayment(long id, long userId, LocalDateTime date, String amount, String description, long statusId) {
+        jdbcTemplate.update("INSERT INTO historia_wyplat (id_wyplata, id_pracownik, data, id_typ_wyplaty, wyplata, opis, id_status_wyplaty) " +
+                "VALUES (?, ?, ?, 1, ?, ?, ?)",
+                id, userId, date, new BigDecimal(amount), description, statusId);
+    }
+
+    private static Map<String, String> unzip(byte[] file) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(file))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
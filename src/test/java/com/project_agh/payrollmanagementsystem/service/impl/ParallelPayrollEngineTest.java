@@ -0,0 +1,121 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollRunResultDto;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcPayoutRunRepository;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcPayrollRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that {@link ParallelPayrollEngine} produces the same payouts as the
+ * {@code generuj_wyplaty_za_miesiac} procedure on a golden dataset.
+ * <p>
+ * {@code payroll/golden_payouts.csv} holds the amounts written by the procedure on PostgreSQL 16
+ * for the employees and work hours in the other two files, with employee 8 already paid for the
+ * month before the call. The dataset includes entries measured in single seconds and
+ * microseconds, negative entries and entries outside the period or not approved.
+ * </p>
+ */
+class ParallelPayrollEngineTest {
+
+    private static final LocalDate PERIOD_START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate PERIOD_END = LocalDate.of(2026, 1, 31);
+
+    private JdbcTemplate jdbcTemplate;
+    private ParallelPayrollEngine engine;
+    private String description;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        DriverManagerDataSource h2 = TestDatabase.create("payroll");
+        jdbcTemplate = new JdbcTemplate(h2);
+        jdbcTemplate.update("INSERT INTO status_wyplaty (id_status_wyplaty, nazwa) VALUES (1, 'Zatwierdzone'), (3, 'Oczekuje')");
+        jdbcTemplate.update("INSERT INTO typ_wyplaty (id_typ_wyplaty, nazwa) VALUES (1, 'Premia'), (2, 'Godziny Pracy')");
+
+        for (String[] row : readCsv("payroll/golden_employees.csv")) {
+            jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, wynagrodzenie_pln_g) VALUES (?, ?)", Long.parseLong(row[0]), new BigDecimal(row[1]));
+        }
+        List<Object[]> hours = new ArrayList<>();
+        for (String[] row : readCsv("payroll/golden_work_hours.csv")) {
+            hours.add(new Object[]{Long.parseLong(row[0]), LocalDate.parse(row[1]),
+                    LocalTime.parse(row[2]), LocalTime.parse(row[3]), Boolean.parseBoolean(row[4])});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO rejestracja_godzin_pracy (id_pracownik, data, godzina_rozpoczecia, " +
+                "godzina_zakonczenia, zatwierdzenie) VALUES (?, ?, ?, ?, ?)", hours);
+
+        description = AutoPayoutService.payoutDescription(PERIOD_START);
+        jdbcTemplate.update("INSERT INTO historia_wyplat (id_pracownik, data, wyplata, id_status_wyplaty, opis, id_typ_wyplaty) " +
+                "VALUES (8, NOW(), 240.00, 1, ?, 2)", description);
+
+        // Small partitions so that the dataset is split across several parallel tasks
+        engine = new ParallelPayrollEngine(new JdbcPayrollRepository(jdbcTemplate),
+                new JdbcPayoutRunRepository(jdbcTemplate), new DataSourceTransactionManager(h2), 4, 7);
+    }
+
+    @Test
+    void amountsMatchTheStoredProcedureOnTheGoldenDataset() throws IOException {
+        Map<Long, String> expected = new TreeMap<>();
+        for (String[] row : readCsv("payroll/golden_payouts.csv")) {
+            expected.put(Long.parseLong(row[0]), row[1]);
+        }
+
+        PayrollRunResultDto result = engine.run(PERIOD_START, PERIOD_END, description, null);
+
+        Map<Long, String> actual = new TreeMap<>();
+        jdbcTemplate.query("SELECT id_pracownik, wyplata, id_status_wyplaty, id_typ_wyplaty FROM historia_wyplat " +
+                "WHERE opis = ? AND id_pracownik <> 8", rs -> {
+            actual.put(rs.getLong("id_pracownik"), rs.getBigDecimal("wyplata").toPlainString());
+            assertEquals(3L, rs.getLong("id_status_wyplaty"));
+            assertEquals(2L, rs.getLong("id_typ_wyplaty"));
+        }, description);
+
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), result.getPayoutsCreated());
+    }
+
+    @Test
+    void rerunDoesNotPayTwice() {
+        engine.run(PERIOD_START, PERIOD_END, description, null);
+        PayrollRunResultDto rerun = engine.run(PERIOD_START, PERIOD_END, description, null);
+
+        assertEquals(0, rerun.getPayoutsCreated());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM historia_wyplat WHERE id_pracownik = 8", Integer.class));
+    }
+
+    @Test
+    void perEntryRoundingFollowsPostgresNumeric() {
+        // 12 s at 1.50 PLN/h is exactly 0.005 PLN, but PostgreSQL divides 12 / 3600.0 to
+        // 0.00333333333333333333 first, so the procedure writes 0.00
+        BigDecimal hours = PayrollCalculator.hours(PayrollCalculator.durationMicros(LocalTime.of(8, 0), LocalTime.of(8, 0, 12)));
+
+        assertEquals(new BigDecimal("0.00333333333333333333"), hours);
+        assertEquals(new BigDecimal("0.00"), PayrollCalculator.amount(hours, new BigDecimal("1.50")));
+    }
+
+    private List<String[]> readCsv(String resource) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(resource)), StandardCharsets.UTF_8))) {
+            return reader.lines().skip(1).map(line -> line.split(";")).toList();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.dtos.DepartmentPayrollDeltaDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollSimulationRequestDto;
+import com.project_agh.payrollmanagementsystem.dtos.PayrollSimulationResultDto;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcPayrollSimulationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies the what-if payroll simulation: historical rates are reconstructed from the salary
+ * change history, scenario rates are applied per employee and per department, and nothing is paid.
+ */
+class PayrollSimulationServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PayrollSimulationService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = TestDatabase.create("simulation");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO dzial (id_dzial, nazwa) VALUES (1, 'HR'), (2, 'IT')");
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, id_dzial, wynagrodzenie_pln_g) " +
+                "VALUES (1, 2, 50.00), (2, 1, 30.00), (3, 2, 20.00)");
+        // Employee 1 earned 40.00 until the raise on 10 February, so January was paid at 40.00
+        jdbcTemplate.update("INSERT INTO historia_zmian_wynagrodzen (id_pracownik, stare_wynagr, nowe_wynagr, data) " +
+                "VALUES (1, 40.00, 50.00, ?)", LocalDate.of(2026, 2, 10));
+
+        addHours(1, LocalDate.of(2026, 1, 12), 8, true);
+        addHours(1, LocalDate.of(2026, 2, 16), 10, true);
+        addHours(2, LocalDate.of(2026, 1, 13), 8, true);
+        addHours(2, LocalDate.of(2026, 2, 17), 4, true);
+        addHours(2, LocalDate.of(2026, 2, 18), 6, false);
+        addHours(3, LocalDate.of(2026, 1, 14), 8, true);
+        addHours(3, LocalDate.of(2026, 3, 2), 8, true);
+
+        // One employee per partition, so the snapshot is loaded in several parallel parts
+        service = new PayrollSimulationService(new JdbcPayrollSimulationRepository(jdbcTemplate),
+                new DataSourceTransactionManager(dataSource), 2, 1);
+    }
+
+    @Test
+    void comparesScenarioWithHistoricalRatesPerDepartment() {
+        PayrollSimulationResultDto result = service.simulate(new PayrollSimulationRequestDto(
+                YearMonth.of(2026, 1), YearMonth.of(2026, 2),
+                Map.of(2L, new BigDecimal("35.00")),
+                Map.of(2L, new BigDecimal("10"))));
+
+        assertEquals(3, result.getEmployees());
+        assertEquals(5, result.getWorkEntries());
+
+        DepartmentPayrollDeltaDto hr = result.getDepartments().get(0);
+        assertEquals("HR", hr.getDepartmentName());
+        assertEquals(new BigDecimal("360.00"), hr.getBaselineTotal());
+        assertEquals(new BigDecimal("420.00"), hr.getScenarioTotal());
+        assertEquals(new BigDecimal("60.00"), hr.getDelta());
+
+        // 8 h at 40.00 + 10 h at 50.00 + 8 h at 20.00, then the same with a 10% raise
+        DepartmentPayrollDeltaDto it = result.getDepartments().get(1);
+        assertEquals("IT", it.getDepartmentName());
+        assertEquals(2, it.getEmployees());
+        assertEquals(new BigDecimal("980.00"), it.getBaselineTotal());
+        assertEquals(new BigDecimal("1078.00"), it.getScenarioTotal());
+
+        assertEquals(new BigDecimal("158.00"), result.getDelta());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM historia_wyplat", Integer.class));
+    }
+
+    @Test
+    void rejectsReversedRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(new PayrollSimulationRequestDto(
+                YearMonth.of(2026, 2), YearMonth.of(2026, 1), null, null)));
+    }
+
+    private void addHours(long employeeId, LocalDate date, int hours, boolean approved) {
+        jdbcTemplate.update("INSERT INTO rejestracja_godzin_pracy (id_pracownik, data, godzina_rozpoczecia, godzina_zakonczenia, zatwierdzenie) " +
+                "VALUES (?, ?, ?, ?, ?)", employeeId, date, LocalTime.of(8, 0), LocalTime.of(8 + hours, 0), approved);
+    }
+}
@@ -0,0 +1,131 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import com.project_agh.payrollmanagementsystem.TestDatabase;
+import com.project_agh.payrollmanagementsystem.repositories.jdbc.JdbcPayslipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that {@link PayslipService} generates the payslips of a payout run, serves them from
+ * disk without rendering them again, only to the employee the payout belongs to, and no longer
+ * once the payout has been deleted, whichever instance deleted it.
+ */
+class PayslipServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2025, 11);
+
+    @TempDir
+    Path directory;
+
+    private JdbcTemplate jdbcTemplate;
+    private PayslipService payslipService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(TestDatabase.create("payslips"));
+        jdbcTemplate.update("INSERT INTO dzial (id_dzial, nazwa) VALUES (1, 'Księgowość')");
+        jdbcTemplate.update("INSERT INTO stanowisko (id_stanowisko, nazwa) VALUES (1, 'Główny specjalista')");
+        jdbcTemplate.update("INSERT INTO typ_wyplaty (id_typ_wyplaty, nazwa) VALUES (1, 'Wynagrodzenie')");
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, email, id_dzial, id_stanowisko) " +
+                "VALUES (1, 'Łukasz', 'Wiśniewski', 'lukasz@firma.pl', 1, 1)");
+        jdbcTemplate.update("INSERT INTO pracownik (id_pracownik, imie, nazwisko, email, id_dzial, id_stanowisko) " +
+                "VALUES (2, 'Anna', 'Nowak', 'anna@firma.pl', NULL, NULL)");
+
+        payslipService = new PayslipService(new JdbcPayslipRepository(jdbcTemplate), directory.toString(),
+                "Firma (Płace) Sp. z o.o.", 2, true);
+    }
+
+    @Test
+    void servesPayslipsOfRunFromDisk() throws Exception {
+        addPayout(1, 1, "4200.05", AutoPayoutService.payoutDescription(PERIOD.atDay(1)));
+        addPayout(2, 2, "3100.50", AutoPayoutService.payoutDescription(PERIOD.atDay(1)));
+        addPayout(3, 1, "4000.00", AutoPayoutService.payoutDescription(PERIOD.minusMonths(1).atDay(1)));
+
+        assertEquals(2, payslipService.generatePeriod(PERIOD));
+        // Payday requests only check that the payout still exists, the payslip data is not read again
+        jdbcTemplate.execute("DROP TABLE pracownik");
+
+        PayslipService.Payslip payslip = payslipService.find(1, 1).orElseThrow();
+        byte[] pdf = Files.readAllBytes(payslip.file());
+        String text = new String(pdf, StandardCharsets.ISO_8859_1);
+        assertTrue(text.startsWith("%PDF-1.4"));
+        assertTrue(text.endsWith("%%EOF\n"));
+        int startxref = Integer.parseInt(text.substring(text.lastIndexOf("startxref\n") + 10, text.lastIndexOf("\n%%EOF")));
+        assertTrue(text.startsWith("xref", startxref));
+        // Polish letters at their Windows-1250 codes, parentheses escaped
+        assertTrue(text.contains(new String("(\u0141ukasz Wi\u015Bniewski)".getBytes("windows-1250"), StandardCharsets.ISO_8859_1)));
+        assertTrue(text.contains("(Firma \\(P\u00B3ace\\) Sp. z o.o.)"));
+        assertTrue(text.contains("(4 200,05 PLN)"));
+        assertTrue(text.contains("/Differences [ 165 /Aogonek 185 /aogonek"));
+        assertEquals(payslip.file().getFileName().toString(), payslip.hash() + ".pdf");
+
+        assertTrue(payslipService.find(2, 1).isEmpty());
+        assertTrue(payslipService.find(2, 2).isPresent());
+    }
+
+    @Test
+    void rendersMissingPayslipsOnDemandAndEvictsDeletedOnes() throws Exception {
+        addPayout(1, 1, "4200.05", AutoPayoutService.payoutDescription(PERIOD.atDay(1)));
+        addPayout(2, 1, "500.00", "Premia");
+
+        // Not part of any run, rendered on the first request
+        PayslipService.Payslip bonus = payslipService.find(2, 1).orElseThrow();
+        assertTrue(payslipService.find(2, 2).isEmpty());
+
+        // Rendering again gives the same content and file
+        PayslipService.Payslip first = payslipService.find(1, 1).orElseThrow();
+        assertEquals(1, payslipService.generatePeriod(PERIOD));
+        assertEquals(first, payslipService.find(1, 1).orElseThrow());
+        assertNotEquals(first.hash(), bonus.hash());
+
+        jdbcTemplate.update("UPDATE historia_wyplat SET wyplata = 4300.00 WHERE id_wyplata = 1");
+        payslipService.generatePeriod(PERIOD);
+        PayslipService.Payslip corrected = payslipService.find(1, 1).orElseThrow();
+        assertNotEquals(first.hash(), corrected.hash());
+        assertTrue(new String(Files.readAllBytes(corrected.file()), StandardCharsets.ISO_8859_1).contains("(4 300,00 PLN)"));
+
+        jdbcTemplate.update("DELETE FROM historia_wyplat WHERE id_wyplata = 2");
+        payslipService.evict(List.of(2L));
+        assertTrue(payslipService.find(2, 1).isEmpty());
+    }
+
+    @Test
+    void stopsServingPayslipOfPayoutDeletedThroughAnotherInstance() throws Exception {
+        addPayout(1, 1, "4200.05", AutoPayoutService.payoutDescription(PERIOD.atDay(1)));
+        addPayout(2, 1, "500.00", "Premia");
+        PayslipService otherInstance = new PayslipService(new JdbcPayslipRepository(jdbcTemplate),
+                Files.createDirectory(directory.resolve("other")).toString(), "", 2, true);
+
+        assertEquals(1, payslipService.generatePeriod(PERIOD));
+        assertEquals(1, otherInstance.generatePeriod(PERIOD));
+        assertTrue(payslipService.find(2, 1).isPresent());
+        assertTrue(otherInstance.find(2, 1).isPresent());
+
+        // Deleted and evicted by the other instance only
+        jdbcTemplate.update("DELETE FROM historia_wyplat WHERE id_wyplata IN (1, 2)");
+        otherInstance.evict(List.of(1L, 2L));
+
+        assertTrue(payslipService.find(1, 1).isEmpty());
+        assertTrue(payslipService.find(2, 1).isEmpty());
+        assertTrue(otherInstance.find(1, 1).isEmpty());
+    }
+
+    private void addPayout(long id, long userId, String amount, String description) {
+        jdbcTemplate.update("INSERT INTO historia_wyplat (id_wyplata, id_pracownik, data, wyplata, opis, id_typ_wyplaty) " +
+                "VALUES (?, ?, TIMESTAMP '2025-12-01 01:00:00', ?, ?, 1)",
+                id, userId, new BigDecimal(amount), description);
+    }
+}
@@ -0,0 +1,78 @@
+package com.project_agh.payrollmanagementsystem.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies the CSV parsing of {@link WorkHoursImportService}: delimiter detection, quoted fields
+ * and the column aliases accepted in the header.
+ */
+class WorkHoursImportServiceTest {
+
+    @Test
+    void detectsDelimiterFromHeader() {
+        assertEquals('\t', WorkHoursImportService.detectDelimiter("email\tdate\tstart_time"));
+        assertEquals(';', WorkHoursImportService.detectDelimiter("email;date;start_time"));
+        assertEquals(',', WorkHoursImportService.detectDelimiter("email,date,start_time"));
+        // A comma in the header wins over semicolons, e.g. inside a column name
+        assertEquals(',', WorkHoursImportService.detectDelimiter("email,date,\"start;time\""));
+    }
+
+    @Test
+    void splitsPlainLine() {
+        assertEquals(List.of("jan@firma.pl", "2026-03-02", "", "08:00"),
+                WorkHoursImportService.splitLine("jan@firma.pl,2026-03-02,,08:00", ','));
+        assertEquals(List.of("jan@firma.pl", "uwagi, bez cudzysłowu", ""),
+                WorkHoursImportService.splitLine("jan@firma.pl;uwagi, bez cudzysłowu;", ';'));
+    }
+
+    @Test
+    void keepsDelimitersInsideQuotes() {
+        assertEquals(List.of("1", "Spotkanie, potem wdrożenie", "2"),
+                WorkHoursImportService.splitLine("1,\"Spotkanie, potem wdrożenie\",2", ','));
+        assertEquals(List.of("1", "a;b", ""),
+                WorkHoursImportService.splitLine("1;\"a;b\";\"\"", ';'));
+    }
+
+    @Test
+    void unescapesDoubledQuotes() {
+        assertEquals(List.of("1", "Projekt \"Kasa\", etap 2"),
+                WorkHoursImportService.splitLine("1,\"Projekt \"\"Kasa\"\", etap 2\"", ','));
+        assertEquals(List.of("\""),
+                WorkHoursImportService.splitLine("\"\"\"\"", ','));
+    }
+
+    @Test
+    void resolvesColumnAliasesCaseInsensitively() {
+        Map<String, Integer> columns = WorkHoursImportService.resolveColumns(WorkHoursImportService.splitLine(
+                "Komentarz;ID_PRACOWNIK;data;godzina_rozpoczecia;godzina_zakonczenia;id_typ_pracy", ';'));
+
+        assertEquals(0, columns.get("comment"));
+        assertEquals(1, columns.get("employee"));
+        assertEquals(2, columns.get("date"));
+        assertEquals(3, columns.get("start"));
+        assertEquals(4, columns.get("end"));
+        assertEquals(5, columns.get("workType"));
+        assertFalse(columns.containsKey("project"));
+
+        // Surrounding spaces and quotes around header names are ignored
+        columns = WorkHoursImportService.resolveColumns(WorkHoursImportService.splitLine(
+                "\"email\", date , start , end ,work_type_id,project_id", ','));
+        assertEquals(0, columns.get("employee"));
+        assertEquals(5, columns.get("project"));
+    }
+
+    @Test
+    void rejectsHeaderWithoutRequiredColumns() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+                WorkHoursImportService.resolveColumns(List.of("email", "data", "komentarz")));
+
+        assertEquals("Brak wymaganych kolumn w nagłówku: start_time, end_time, work_type_id", e.getMessage());
+    }
+}
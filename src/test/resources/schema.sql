@@ -0,0 +1,137 @@
+-- Tables of the payroll database for the JDBC tests, created by TestDatabase in an H2 database
+-- running in PostgreSQL mode. Columns and types follow the production schema (SERIAL keys are
+-- identity columns, TIME and TIMESTAMP keep microseconds like PostgreSQL); foreign keys are left
+-- out, so that each test inserts only the rows it reads.
+
+CREATE TABLE rola (
+    id_rola             INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nazwa               VARCHAR(50)
+);
+
+CREATE TABLE stanowisko (
+    id_stanowisko       INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nazwa               TEXT,
+    opis                TEXT
+);
+
+CREATE TABLE dzial (
+    id_dzial            INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nazwa               TEXT,
+    opis                TEXT
+);
+
+CREATE TABLE typ_pracy (
+    id_typ_pracy        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nazwa               TEXT,
+    opis                TEXT
+);
+
+CREATE TABLE projekt (
+    id_projekt          INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nazwa               TEXT,
+    opis                TEXT,
+    data_rozpoczecia    DATE,
+    data_zakonczenia    DATE
+);
+
+CREATE TABLE typ_wyplaty (
+    id_typ_wyplaty      INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nazwa               TEXT,
+    opis                TEXT
+);
+
+CREATE TABLE status_wyplaty (
+    id_status_wyplaty   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nazwa               TEXT,
+    opis                TEXT
+);
+
+CREATE TABLE pracownik (
+    id_pracownik        INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    imie                VARCHAR(50),
+    nazwisko            VARCHAR(50),
+    id_stanowisko       INTEGER,
+    id_rola             INTEGER,
+    id_dzial            INTEGER,
+    wynagrodzenie_pln_g NUMERIC(10, 2),
+    email               VARCHAR(100) UNIQUE,
+    haslo_hash          VARCHAR(255),
+    data_zatrudnienia   DATE,
+    data_zwolnienia     DATE,
+    aktywny             BOOLEAN,
+    telefon             VARCHAR(20),
+    konto_bankowe       VARCHAR(34)
+);
+
+CREATE TABLE pracownik_projekt (
+    id_pracownik        INTEGER,
+    id_projekt          INTEGER,
+    rola_w_projekcie    TEXT,
+    data_przypisania    DATE,
+    PRIMARY KEY (id_pracownik, id_projekt)
+);
+
+CREATE TABLE rejestracja_godzin_pracy (
+    id_rejestracji      INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id_pracownik        INTEGER,
+    data                DATE,
+    godzina_rozpoczecia TIME(6),
+    godzina_zakonczenia TIME(6),
+    id_typ_pracy        INTEGER,
+    id_projekt          INTEGER,
+    komentarz           TEXT,
+    zatwierdzenie       BOOLEAN DEFAULT FALSE
+);
+
+CREATE TABLE historia_wyplat (
+    id_wyplata          INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id_pracownik        INTEGER,
+    data                TIMESTAMP(6),
+    wyplata             NUMERIC(12, 2),
+    id_status_wyplaty   INTEGER,
+    opis                TEXT,
+    id_typ_wyplaty      INTEGER
+);
+
+CREATE TABLE historia_zmian_wynagrodzen (
+    id_zmiany_wynagrodzenia INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id_pracownik        INTEGER,
+    stare_wynagr        NUMERIC(10, 2),
+    nowe_wynagr         NUMERIC(10, 2),
+    data                DATE,
+    opis                TEXT
+);
+
+-- The production view also formats the day of the week, the week range and the worked time;
+-- the work hours mappers leave those fields empty when the columns are missing.
+CREATE VIEW widok_godzin_pracy AS
+SELECT r.*,
+       t.nazwa AS typ_nazwa,
+       p.nazwa AS projekt_nazwa
+FROM rejestracja_godzin_pracy r
+LEFT JOIN typ_pracy t ON t.id_typ_pracy = r.id_typ_pracy
+LEFT JOIN projekt p ON p.id_projekt = r.id_projekt;
+
+-- db/payout_run_ledger.sql
+CREATE TABLE przebieg_wyplat (
+    id_przebiegu        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    okres_od            DATE        NOT NULL,
+    okres_do            DATE        NOT NULL,
+    silnik              VARCHAR(20) NOT NULL,
+    status              VARCHAR(20) NOT NULL,
+    liczba_wyplat       INT         NOT NULL DEFAULT 0,
+    rozpoczeto          TIMESTAMP   NOT NULL,
+    zakonczono          TIMESTAMP,
+    ostatni_checkpoint  TIMESTAMP,
+    blad                TEXT,
+    CONSTRAINT uq_przebieg_wyplat_okres UNIQUE (okres_od, okres_do)
+);
+
+CREATE TABLE przebieg_wyplat_checkpoint (
+    id_checkpoint       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id_przebiegu        BIGINT    NOT NULL,
+    od_pracownika       BIGINT    NOT NULL,
+    do_pracownika       BIGINT    NOT NULL,
+    liczba_wyplat       INT       NOT NULL,
+    zapisano            TIMESTAMP NOT NULL
+);